@@ -34,6 +34,9 @@ public class Configuration {
     @Value("${census.bulk.update.topic}")
     private String censusBulkUpdateTopic;
 
+    @Value("${census.bulk.create.topic}")
+    private String censusBulkCreateTopic;
+
     @Value("${plan.facility.update.topic}")
     private String planFcailityUpdateTopic;
 
@@ -73,6 +76,9 @@ public class Configuration {
     @Value("${workflow.send.back.actions}")
     private List<String> wfSendBackActions;
 
+    @Value("${business.service.cache.ttl.ms:900000}")
+    private Long businessServiceCacheTtlMs;
+
     //SMSNotification
     @Value("${egov.sms.notification.topic}")
     private String smsNotificationTopic;
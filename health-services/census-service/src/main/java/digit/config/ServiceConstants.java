@@ -23,6 +23,10 @@ public class ServiceConstants {
 
     public static final String ERROR_WHILE_FETCHING_BUSINESS_SERVICE_DETAILS = "Exception occurred while fetching business service details: ";
 
+    public static final String ERROR_WHILE_CREATING_CENSUS_FOR_BOUNDARY = "Exception occurred while creating census of bulk create request for boundary: ";
+
+    public static final String WORKFLOW_ACTION_INITIATE = "INITIATE";
+
     public static final String RES_MSG_ID = "uief87324";
     public static final String SUCCESSFUL = "successful";
     public static final String FAILED = "failed";
@@ -46,6 +50,7 @@ public class ServiceConstants {
     public static final String CITIZEN_LOWER = "Citizen";
     public static final String USER = "user";
     public static final String PIPE_REGEX = "\\|";
+    public static final String PIPE = "|";
     public static final String FACILITY_ID_FIELD = "facilityId";
     public static final String FACILITY_NAME_FIELD = "facilityName";
 
@@ -2,8 +2,12 @@ package digit.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import digit.service.CensusService;
+import digit.web.models.BulkCensusCreateRequest;
+import digit.web.models.BulkCensusRequest;
+import digit.web.models.Census;
 import digit.web.models.CensusRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.models.Workflow;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
@@ -11,6 +15,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.Map;
 
+import static digit.config.ServiceConstants.WORKFLOW_ACTION_INITIATE;
+
 @Component
 @Slf4j
 public class ResourceCensusConsumer {
@@ -34,4 +40,39 @@ public class ResourceCensusConsumer {
             log.error("Error in resource census consumer", exception);
         }
     }
+
+    @KafkaListener(topics = {"${resource.config.consumer.census.bulk.create.topic}"})
+    public void listenBulk(Map<String, Object> consumerRecord, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        try {
+            BulkCensusCreateRequest bulkCensusCreateRequest = mapper.convertValue(consumerRecord, BulkCensusCreateRequest.class);
+            censusService.bulkCreate(toBulkCensusRequest(bulkCensusCreateRequest));
+        } catch (Exception exception) {
+            log.error("Error in resource census bulk create consumer", exception);
+        }
+    }
+
+    /**
+     * Builds the census records of a bulk create request from the fields shared by all of them and the fields of
+     * each record.
+     *
+     * @param request The bulk create request published by the resource generator.
+     * @return The bulk census request holding the census records to create.
+     */
+    private BulkCensusRequest toBulkCensusRequest(BulkCensusCreateRequest request) {
+        return BulkCensusRequest.builder()
+                .requestInfo(request.getRequestInfo())
+                .census(request.getCensus().stream().map(censusCreateDTO -> Census.builder()
+                        .tenantId(request.getTenantId())
+                        .hierarchyType(request.getHierarchyType())
+                        .source(request.getSource())
+                        .boundaryCode(censusCreateDTO.getBoundaryCode())
+                        .type(Census.TypeEnum.PEOPLE)
+                        .totalPopulation(censusCreateDTO.getTotalPopulation())
+                        .additionalFields(censusCreateDTO.getAdditionalFields())
+                        .facilityAssigned(Boolean.FALSE)
+                        .partnerAssignmentValidationEnabled(Boolean.FALSE)
+                        .workflow(Workflow.builder().action(WORKFLOW_ACTION_INITIATE).build())
+                        .build()).toList())
+                .build();
+    }
 }
@@ -15,6 +15,8 @@ public interface CensusRepository {
 
     public void bulkUpdate(BulkCensusRequest request);
 
+    public void bulkCreate(BulkCensusRequest request, List<Census> previousCensus);
+
     public Integer count(CensusSearchCriteria censusSearchCriteria);
 
     public Map<String, Integer> statusCount(CensusSearchRequest censusSearchRequest);
@@ -9,9 +9,13 @@ import digit.repository.rowmapper.StatusCountRowMapper;
 import digit.util.CommonUtil;
 import digit.web.models.*;
 import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.models.AuditDetails;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 
@@ -178,6 +182,114 @@ public class CensusRepositoryImpl implements CensusRepository {
         producer.push(config.getCensusBulkUpdateTopic(), request);
     }
 
+    /**
+     * Saves the census records of a bulk create request with one batched insert per table, ending the timeframe of
+     * the previous census records of their boundaries in the same transaction. Once the transaction commits, the
+     * created records are pushed once for the downstream consumers of created census records, and the previous
+     * records are pushed as a bulk update.
+     *
+     * @param request        The bulk request containing the census records.
+     * @param previousCensus The previous census records of the boundaries, with their effectiveTo set.
+     */
+    @Override
+    @Transactional
+    public void bulkCreate(BulkCensusRequest request, List<Census> previousCensus) {
+        List<Object[]> censusRows = new ArrayList<>();
+        List<Object[]> populationByDemographicsRows = new ArrayList<>();
+        List<Object[]> additionalFieldRows = new ArrayList<>();
+
+        // Prepare rows for bulk insert, child rows carry the audit details of their census
+        request.getCensus().forEach(census -> {
+            AuditDetails auditDetails = census.getAuditDetails();
+            censusRows.add(new Object[] {
+                    census.getId(),
+                    census.getTenantId(),
+                    census.getHierarchyType(),
+                    census.getBoundaryCode(),
+                    census.getType().toString(),
+                    census.getTotalPopulation(),
+                    census.getEffectiveFrom(),
+                    census.getEffectiveTo(),
+                    census.getSource(),
+                    census.getStatus(),
+                    !CollectionUtils.isEmpty(census.getAssignee()) ? String.join(",", census.getAssignee()) : null,
+                    census.getFacilityAssigned(),
+                    census.getBoundaryAncestralPath().get(0),
+                    commonUtil.convertToPgObject(census.getAdditionalDetails()),
+                    auditDetails.getCreatedBy(),
+                    auditDetails.getCreatedTime(),
+                    auditDetails.getLastModifiedBy(),
+                    auditDetails.getLastModifiedTime()
+            });
+
+            if (!CollectionUtils.isEmpty(census.getPopulationByDemographics())) {
+                census.getPopulationByDemographics().forEach(populationByDemographic -> populationByDemographicsRows.add(new Object[] {
+                        populationByDemographic.getId(),
+                        census.getId(),
+                        !ObjectUtils.isEmpty(populationByDemographic.getDemographicVariable()) ? populationByDemographic.getDemographicVariable().toString() : null,
+                        commonUtil.convertToPgObject(populationByDemographic.getPopulationDistribution()),
+                        auditDetails.getCreatedBy(),
+                        auditDetails.getCreatedTime(),
+                        auditDetails.getLastModifiedBy(),
+                        auditDetails.getLastModifiedTime()
+                }));
+            }
+
+            if (!CollectionUtils.isEmpty(census.getAdditionalFields())) {
+                census.getAdditionalFields().forEach(additionalField -> additionalFieldRows.add(new Object[] {
+                        additionalField.getId(),
+                        census.getId(),
+                        additionalField.getKey(),
+                        additionalField.getValue(),
+                        additionalField.getShowOnUi(),
+                        additionalField.getEditable(),
+                        additionalField.getOrder()
+                }));
+            }
+        });
+
+        // End the timeframe of the previous census records
+        if (!CollectionUtils.isEmpty(previousCensus))
+            jdbcTemplate.batchUpdate(queryBuilder.getCensusEffectiveToUpdateQuery(), previousCensus.stream()
+                    .map(census -> new Object[] {census.getEffectiveTo(), census.getId()})
+                    .toList());
+
+        // Perform batch inserts, census records first
+        jdbcTemplate.batchUpdate(queryBuilder.getCensusInsertQuery(), censusRows);
+        if (!CollectionUtils.isEmpty(populationByDemographicsRows))
+            jdbcTemplate.batchUpdate(queryBuilder.getPopulationByDemographicsInsertQuery(), populationByDemographicsRows);
+        if (!CollectionUtils.isEmpty(additionalFieldRows))
+            jdbcTemplate.batchUpdate(queryBuilder.getAdditionalFieldInsertQuery(), additionalFieldRows);
+
+        // Emit the created records as one message, in the shape of the bulk update, only after they are saved
+        pushAfterCommit(config.getCensusBulkCreateTopic(), request);
+        if (!CollectionUtils.isEmpty(previousCensus))
+            pushAfterCommit(config.getCensusBulkUpdateTopic(), BulkCensusRequest.builder()
+                    .requestInfo(request.getRequestInfo())
+                    .census(previousCensus)
+                    .build());
+    }
+
+    /**
+     * Pushes the value once the current transaction commits, so that consumers never see records whose write is
+     * rolled back. Pushes right away when there is no transaction.
+     *
+     * @param topic The topic to push to.
+     * @param value The value to push.
+     */
+    private void pushAfterCommit(String topic, Object value) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            producer.push(topic, value);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                producer.push(topic, value);
+            }
+        });
+    }
+
     /**
      * Converts the CensusRequest to a data transfer object (DTO)
      *
@@ -39,8 +39,16 @@ public class CensusQueryBuilder {
 
     private static final String CENSUS_STATUS_COUNT_QUERY = "SELECT COUNT(id) as census_status_count, status as census_status FROM (SELECT id, status FROM census {INTERNAL_QUERY}) as census_status_map GROUP BY census_status";
 
+    private static final String CENSUS_INSERT_QUERY = "INSERT INTO census (id, tenant_id, hierarchy_type, boundary_code, type, total_population, effective_from, effective_to, source, status, assignee, facility_assigned, boundary_ancestral_path, additional_details, created_by, created_time, last_modified_by, last_modified_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String POPULATION_BY_DEMOGRAPHICS_INSERT_QUERY = "INSERT INTO population_by_demographics (id, census_id, demographic_variable, population_distribution, created_by, created_time, last_modified_by, last_modified_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ADDITIONAL_FIELD_INSERT_QUERY = "INSERT INTO additional_field (id, census_id, \"key\", \"value\", show_on_ui, editable, \"order\") VALUES (?, ?, ?, ?, ?, ?, ?)";
+
     private static final String BULK_CENSUS_UPDATE_QUERY = "UPDATE census SET status = ?, assignee = ?, last_modified_by = ?, last_modified_time = ?, additional_details = ?, facility_assigned = ? WHERE id = ?";
 
+    private static final String CENSUS_EFFECTIVE_TO_UPDATE_QUERY = "UPDATE census SET effective_to = ? WHERE id = ?";
+
     /**
      * Constructs a SQL query string for searching Census records based on the provided search criteria.
      * Also adds an ORDER BY clause and handles pagination.
@@ -165,15 +173,13 @@ public class CensusQueryBuilder {
 
         if (!ObjectUtils.isEmpty(criteria.getAssignee())) {
             queryUtil.addClauseIfRequired(builder, preparedStmtList);
-            builder.append(" ARRAY [ ").append(queryUtil.createQuery(Collections.singleton(criteria.getAssignee()).size())).append(" ]").append("::text[] ");
-            builder.append(" && string_to_array(assignee, ',') ");
+            builder.append(" assignee_ids && ARRAY [ ").append(queryUtil.createQuery(Collections.singleton(criteria.getAssignee()).size())).append(" ]").append("::text[] ");
             queryUtil.addToPreparedStatement(preparedStmtList, Collections.singleton(criteria.getAssignee()));
         }
 
         if (!CollectionUtils.isEmpty(criteria.getJurisdiction())) {
             queryUtil.addClauseIfRequired(builder, preparedStmtList);
-            builder.append(" ARRAY [ ").append(queryUtil.createQuery(criteria.getJurisdiction().size())).append(" ]").append("::text[] ");
-            builder.append(" && string_to_array(boundary_ancestral_path, '|') ");
+            builder.append(" boundary_ancestral_path_codes && ARRAY [ ").append(queryUtil.createQuery(criteria.getJurisdiction().size())).append(" ]").append("::text[] ");
             queryUtil.addToPreparedStatement(preparedStmtList, criteria.getJurisdiction());
         }
 
@@ -196,6 +202,22 @@ public class CensusQueryBuilder {
         return BULK_CENSUS_UPDATE_QUERY;
     }
 
+    public String getCensusEffectiveToUpdateQuery() {
+        return CENSUS_EFFECTIVE_TO_UPDATE_QUERY;
+    }
+
+    public String getCensusInsertQuery() {
+        return CENSUS_INSERT_QUERY;
+    }
+
+    public String getPopulationByDemographicsInsertQuery() {
+        return POPULATION_BY_DEMOGRAPHICS_INSERT_QUERY;
+    }
+
+    public String getAdditionalFieldInsertQuery() {
+        return ADDITIONAL_FIELD_INSERT_QUERY;
+    }
+
     /**
      * This method appends pagination i.e. limit and offset to the query.
      *
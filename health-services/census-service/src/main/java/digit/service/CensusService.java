@@ -5,16 +5,28 @@ import digit.service.enrichment.CensusEnrichment;
 import digit.service.enrichment.CensusTimeframeEnrichment;
 import digit.service.validator.CensusValidator;
 import digit.service.workflow.WorkflowService;
+import digit.util.BusinessServiceUtil;
 import digit.util.ResponseInfoFactory;
 import digit.web.models.BulkCensusRequest;
+import digit.web.models.Census;
 import digit.web.models.CensusRequest;
 import digit.web.models.CensusResponse;
 import digit.web.models.CensusSearchRequest;
+import digit.web.models.RequestInfoWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.workflow.BusinessService;
+import org.egov.common.contract.workflow.BusinessServiceResponse;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+
+import static digit.config.ServiceConstants.ERROR_WHILE_CREATING_CENSUS_FOR_BOUNDARY;
 
 @Service
+@Slf4j
 public class CensusService {
 
     private ResponseInfoFactory responseInfoFactory;
@@ -29,13 +41,16 @@ public class CensusService {
 
     private WorkflowService workflow;
 
-    public CensusService(ResponseInfoFactory responseInfoFactory, CensusRepository repository, CensusValidator validator, CensusEnrichment enrichment, CensusTimeframeEnrichment timeframeEnrichment, WorkflowService workflow) {
+    private BusinessServiceUtil businessServiceUtil;
+
+    public CensusService(ResponseInfoFactory responseInfoFactory, CensusRepository repository, CensusValidator validator, CensusEnrichment enrichment, CensusTimeframeEnrichment timeframeEnrichment, WorkflowService workflow, BusinessServiceUtil businessServiceUtil) {
         this.responseInfoFactory = responseInfoFactory;
         this.repository = repository;
         this.validator = validator;
         this.enrichment = enrichment;
         this.timeframeEnrichment = timeframeEnrichment;
         this.workflow = workflow;
+        this.businessServiceUtil = businessServiceUtil;
     }
 
     /**
@@ -108,6 +123,51 @@ public class CensusService {
                 .build();
     }
 
+    /**
+     * Creates the census records of a bulk create request, such as the records published by the resource generator.
+     * Records failing validation are left out, and the valid ones are transitioned with one workflow call and
+     * saved with batched inserts.
+     *
+     * @param request The bulk request containing the census records.
+     * @return The created census response.
+     */
+    public CensusResponse bulkCreate(BulkCensusRequest request) {
+        List<Census> validCensus = new ArrayList<>();
+
+        request.getCensus().forEach(census -> {
+            CensusRequest censusRequest = CensusRequest.builder()
+                    .requestInfo(request.getRequestInfo())
+                    .census(census)
+                    .build();
+            try {
+                // Validate and enrich census record of the bulk create request
+                validator.validateCreate(censusRequest);
+                enrichment.enrichCreate(censusRequest);
+
+                validCensus.add(census);
+            } catch (Exception exception) {
+                log.error(ERROR_WHILE_CREATING_CENSUS_FOR_BOUNDARY + census.getBoundaryCode(), exception);
+            }
+        });
+        request.setCensus(validCensus);
+
+        if (!CollectionUtils.isEmpty(validCensus)) {
+            // Enrich timeframe for previous census of all the boundaries at once
+            List<Census> previousCensus = timeframeEnrichment.enrichPreviousTimeframe(request);
+
+            // Call workflow bulk transition API for status update
+            workflow.invokeWorkflowForBulkCreate(request);
+
+            // Delegate bulk creation request to repository
+            repository.bulkCreate(request, previousCensus);
+        }
+
+        return CensusResponse.builder()
+                .census(request.getCensus())
+                .responseInfo(responseInfoFactory.createResponseInfoFromRequestInfo(request.getRequestInfo(), true))
+                .build();
+    }
+
     public CensusResponse bulkUpdate(BulkCensusRequest request) {
 
         // Validate census bulk update request
@@ -124,4 +184,21 @@ public class CensusService {
                 .responseInfo(responseInfoFactory.createResponseInfoFromRequestInfo(request.getRequestInfo(), true))
                 .build();
     }
+
+    /**
+     * Reloads the cached definition of a workflow business service, such as after its states change.
+     *
+     * @param request         The request info of the caller.
+     * @param tenantId        The tenant of the business service.
+     * @param businessService The business service code.
+     * @return The reloaded business service response.
+     */
+    public BusinessServiceResponse refreshBusinessService(RequestInfoWrapper request, String tenantId, String businessService) {
+        BusinessService refreshed = businessServiceUtil.refreshBusinessService(request.getRequestInfo(), businessService, tenantId);
+
+        return BusinessServiceResponse.builder()
+                .businessServices(Collections.singletonList(refreshed))
+                .responseInfo(responseInfoFactory.createResponseInfoFromRequestInfo(request.getRequestInfo(), true))
+                .build();
+    }
 }
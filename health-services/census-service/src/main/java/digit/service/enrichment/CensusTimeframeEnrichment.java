@@ -1,14 +1,19 @@
 package digit.service.enrichment;
 
 import digit.repository.CensusRepository;
+import digit.web.models.BulkCensusRequest;
 import digit.web.models.Census;
 import digit.web.models.CensusRequest;
 import digit.web.models.CensusSearchCriteria;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 public class CensusTimeframeEnrichment {
@@ -36,6 +41,60 @@ public class CensusTimeframeEnrichment {
         }
     }
 
+    /**
+     * Enriches the effectiveTo of the previous census records for the boundaries of a bulk create request. The
+     * previous records are searched once per tenant for all the boundaries, instead of once per census record, and
+     * are returned to be updated along with the creation of the new records.
+     *
+     * @param request The bulk census request, with its census records enriched for create.
+     * @return The previous census records with their effectiveTo set.
+     */
+    public List<Census> enrichPreviousTimeframe(BulkCensusRequest request) {
+        // Created time of the new census records by tenant and boundary
+        Map<String, Map<String, Long>> createdTimeByTenant = new HashMap<>();
+        request.getCensus().forEach(census -> createdTimeByTenant
+                .computeIfAbsent(census.getTenantId(), tenantId -> new HashMap<>())
+                .put(census.getBoundaryCode(), census.getAuditDetails().getCreatedTime()));
+
+        List<Census> previousCensusList = new ArrayList<>();
+        createdTimeByTenant.forEach((tenantId, createdTimeByBoundary) -> {
+            searchPreviousCensus(tenantId, new ArrayList<>(createdTimeByBoundary.keySet())).forEach(censusData -> {
+                censusData.setEffectiveTo(createdTimeByBoundary.get(censusData.getBoundaryCode()));
+                previousCensusList.add(censusData);
+            });
+        });
+
+        return previousCensusList;
+    }
+
+    /**
+     * Searches the census records of the boundaries still in effect, one page of as many records as boundaries at
+     * a time.
+     *
+     * @param tenantId      The tenant of the census records.
+     * @param boundaryCodes The boundaries to search the census records of.
+     * @return The census records still in effect.
+     */
+    private List<Census> searchPreviousCensus(String tenantId, List<String> boundaryCodes) {
+        CensusSearchCriteria searchCriteria = CensusSearchCriteria.builder()
+                .tenantId(tenantId)
+                .areaCodes(boundaryCodes)
+                .effectiveTo(0L)
+                .offset(0)
+                .limit(boundaryCodes.size())
+                .build();
+
+        Map<String, Census> censusById = new LinkedHashMap<>();
+        List<Census> page;
+        do {
+            page = repository.search(searchCriteria);
+            page.forEach(census -> censusById.putIfAbsent(census.getId(), census));
+            searchCriteria.setOffset(searchCriteria.getOffset() + searchCriteria.getLimit());
+        } while (page.size() == searchCriteria.getLimit());
+
+        return new ArrayList<>(censusById.values());
+    }
+
     /**
      * Updates the timeframe of the previous census records.
      *
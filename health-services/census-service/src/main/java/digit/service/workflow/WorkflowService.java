@@ -172,7 +172,66 @@ public class WorkflowService {
      */
     public ProcessInstanceRequest createWorkflowRequest(CensusRequest censusRequest) {
         Census census = censusRequest.getCensus();
+        ProcessInstance processInstance = createProcessInstance(census, getAssigneeForAutoAssignment(census, censusRequest.getRequestInfo()));
 
+        log.info("Process Instance assignes - " + processInstance.getAssignes());
+        return ProcessInstanceRequest.builder()
+                .requestInfo(censusRequest.getRequestInfo())
+                .processInstances(Collections.singletonList(processInstance))
+                .build();
+    }
+
+    /**
+     * Integrates the census records of a bulk create request with the workflow in one bulk transition.
+     * Unlike a bulk update, the assignee is resolved for each census record since the records belong to different
+     * boundaries, and it is looked up once for the records sharing the same parent boundaries.
+     *
+     * @param request The request containing the census records to integrate with the workflow.
+     */
+    public void invokeWorkflowForBulkCreate(BulkCensusRequest request) {
+        List<Census> censusList = request.getCensus().stream()
+                .filter(census -> !ObjectUtils.isEmpty(census.getWorkflow()))
+                .toList();
+        if (censusList.isEmpty())
+            return;
+
+        Map<String, List<String>> assigneeByParentBoundaries = new HashMap<>();
+        List<ProcessInstance> processInstanceList = new ArrayList<>();
+        for (Census census : censusList) {
+            String assignmentKey = getAutoAssignmentKey(census);
+            if (!assigneeByParentBoundaries.containsKey(assignmentKey))
+                assigneeByParentBoundaries.put(assignmentKey, getAssigneeForAutoAssignment(census, request.getRequestInfo()));
+
+            processInstanceList.add(createProcessInstance(census, assigneeByParentBoundaries.get(assignmentKey)));
+        }
+
+        ProcessInstanceResponse processInstanceResponse = callWorkflowTransition(ProcessInstanceRequest.builder()
+                .requestInfo(request.getRequestInfo())
+                .processInstances(processInstanceList)
+                .build());
+
+        // Setting the status back to each census record from its process instance
+        Map<String, String> statusByCensusId = processInstanceResponse.getProcessInstances().stream()
+                .collect(Collectors.toMap(ProcessInstance::getBusinessId, processInstance -> processInstance.getState().getState(),
+                        (first, second) -> second));
+        censusList.forEach(census -> {
+            census.setStatus(statusByCensusId.get(census.getId()));
+
+            // Enrich audit details after auto assignment is complete
+            census.setAuditDetails(AuditDetailsEnrichmentUtil
+                    .prepareAuditDetails(census.getAuditDetails(), request.getRequestInfo(), Boolean.FALSE));
+        });
+    }
+
+    /**
+     * Creates the process instance of a census record, assigning it to the auto assigned employees,
+     * or to its last modifier for send back actions.
+     *
+     * @param census   The census record to create a process instance for.
+     * @param assignee The auto assigned employees.
+     * @return The process instance of the census record.
+     */
+    private ProcessInstance createProcessInstance(Census census, List<String> assignee) {
         // Create process instance object from census
         ProcessInstance processInstance = ProcessInstance.builder()
                 .businessId(census.getId())
@@ -184,9 +243,6 @@ public class WorkflowService {
                 .documents(census.getWorkflow().getDocuments())
                 .build();
 
-        // Perform auto assignment
-        List<String> assignee = getAssigneeForAutoAssignment(census, censusRequest.getRequestInfo());
-
         if (config.getWfSendBackActions().contains(census.getWorkflow().getAction())) {
             assignee = Collections.singletonList(census.getAuditDetails().getLastModifiedBy());
         }
@@ -200,11 +256,16 @@ public class WorkflowService {
         // Enrich user for process instance
         enrichAssignesInProcessInstance(processInstance, census.getWorkflow());
 
-        log.info("Process Instance assignes - " + processInstance.getAssignes());
-        return ProcessInstanceRequest.builder()
-                .requestInfo(censusRequest.getRequestInfo())
-                .processInstances(Collections.singletonList(processInstance))
-                .build();
+        return processInstance;
+    }
+
+    // Everything the auto assignment of a census record depends on: its ancestral path without the boundary itself,
+    // the source, the action and, for intermediate actions, the jurisdiction of the assignee
+    private String getAutoAssignmentKey(Census census) {
+        String boundaryAncestralPath = census.getBoundaryAncestralPath().get(0);
+        return String.join(PIPE, census.getTenantId(), census.getSource(), census.getWorkflow().getAction(),
+                boundaryAncestralPath.substring(0, Math.max(0, boundaryAncestralPath.lastIndexOf(PIPE))),
+                String.valueOf(census.getAssigneeJurisdiction()));
     }
 
     /**
@@ -0,0 +1,119 @@
+package digit.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.workflow.BusinessService;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of workflow business service definitions.
+ * <p>
+ * Entries are reloaded once {@code timeToLiveInMillis} has passed since they were loaded; a time to live of zero
+ * disables caching. Concurrent lookups of a missing or expired entry wait for a single load instead of each calling
+ * the workflow service, and an expired entry is kept if reloading it fails.
+ */
+@Slf4j
+public class BusinessServiceCache {
+
+    private final long timeToLiveInMillis;
+
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<BusinessService>> loading = new ConcurrentHashMap<>();
+
+    public BusinessServiceCache(long timeToLiveInMillis) {
+        this(timeToLiveInMillis, System::currentTimeMillis);
+    }
+
+    BusinessServiceCache(long timeToLiveInMillis, LongSupplier clock) {
+        this.timeToLiveInMillis = timeToLiveInMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the business service of a key, loading it if it is not cached or has expired.
+     *
+     * @param key    The key of the business service.
+     * @param loader Loads the business service.
+     * @return The business service.
+     */
+    public BusinessService get(String key, Supplier<BusinessService> loader) {
+        Entry entry = entries.get(key);
+        if (entry != null && clock.getAsLong() - entry.loadedAt <= timeToLiveInMillis) {
+            return entry.value;
+        }
+        try {
+            return load(key, loader);
+        } catch (RuntimeException exception) {
+            if (entry == null) {
+                throw exception;
+            }
+            log.warn("Could not reload {}, keeping the cached value", key, exception);
+            return entry.value;
+        }
+    }
+
+    /**
+     * Reloads the business service of a key, replacing the cached one once it is loaded; the cached one is kept if
+     * reloading it fails.
+     *
+     * @param key    The key of the business service.
+     * @param loader Loads the business service.
+     * @return The reloaded business service.
+     */
+    public BusinessService refresh(String key, Supplier<BusinessService> loader) {
+        return load(key, loader);
+    }
+
+    // loads the value once for all the threads looking it up at the same time
+    private BusinessService load(String key, Supplier<BusinessService> loader) {
+        CompletableFuture<BusinessService> future = new CompletableFuture<>();
+        CompletableFuture<BusinessService> existing = loading.putIfAbsent(key, future);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            BusinessService value = loader.get();
+            if (timeToLiveInMillis > 0) {
+                entries.put(key, new Entry(value, clock.getAsLong()));
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    private static BusinessService join(CompletableFuture<BusinessService> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private static final class Entry {
+
+        private final BusinessService value;
+
+        private final long loadedAt;
+
+        private Entry(BusinessService value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
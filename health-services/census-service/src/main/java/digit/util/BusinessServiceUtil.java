@@ -1,7 +1,7 @@
 package digit.util;
 
 import digit.config.Configuration;
-import digit.models.coremodels.RequestInfoWrapper;
+import digit.web.models.RequestInfoWrapper;
 import lombok.extern.slf4j.Slf4j;
 import org.egov.common.contract.request.RequestInfo;
 import org.egov.common.contract.workflow.BusinessService;
@@ -24,13 +24,17 @@ public class BusinessServiceUtil {
 
     private Configuration config;
 
+    private BusinessServiceCache businessServiceCache;
+
     public BusinessServiceUtil(RestTemplate restTemplate, Configuration configs) {
         this.restTemplate = restTemplate;
         this.config = configs;
+        this.businessServiceCache = new BusinessServiceCache(configs.getBusinessServiceCacheTtlMs());
     }
 
     /**
-     * This method fetches business service details for the given tenant id and business service.
+     * This method fetches business service details for the given tenant id and business service,
+     * from the business service cache if they were loaded within its ttl.
      *
      * @param requestInfo     the request info from request.
      * @param businessService businessService whose details are to be searched.
@@ -38,6 +42,23 @@ public class BusinessServiceUtil {
      * @return returns the business service response for the given tenant id and business service.
      */
     public BusinessService fetchBusinessService(RequestInfo requestInfo, String businessService, String tenantId) {
+        return businessServiceCache.get(businessServiceCacheKey(tenantId, businessService), () -> searchBusinessService(requestInfo, businessService, tenantId));
+    }
+
+    /**
+     * This method reloads business service details for the given tenant id and business service from the workflow
+     * service, replacing the cached details.
+     *
+     * @param requestInfo     the request info from request.
+     * @param businessService businessService whose details are to be reloaded.
+     * @param tenantId        tenantId from request.
+     * @return returns the reloaded business service for the given tenant id and business service.
+     */
+    public BusinessService refreshBusinessService(RequestInfo requestInfo, String businessService, String tenantId) {
+        return businessServiceCache.refresh(businessServiceCacheKey(tenantId, businessService), () -> searchBusinessService(requestInfo, businessService, tenantId));
+    }
+
+    private BusinessService searchBusinessService(RequestInfo requestInfo, String businessService, String tenantId) {
 
         // Get business service uri
         Map<String, String> uriParameters = new HashMap<>();
@@ -60,6 +81,10 @@ public class BusinessServiceUtil {
         return businessServiceResponse.getBusinessServices().get(0);
     }
 
+    private String businessServiceCacheKey(String tenantId, String businessService) {
+        return tenantId + "|" + businessService;
+    }
+
     /**
      * This method creates business service uri with query parameters
      *
@@ -5,16 +5,19 @@ import digit.web.models.BulkCensusRequest;
 import digit.web.models.CensusRequest;
 import digit.web.models.CensusResponse;
 import digit.web.models.CensusSearchRequest;
+import digit.web.models.RequestInfoWrapper;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
+import org.egov.common.contract.workflow.BusinessServiceResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 
 
 @Controller
@@ -73,4 +76,18 @@ public class CensusController {
         CensusResponse response = censusService.bulkUpdate(body);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    /**
+     * Request handler for reloading a cached workflow business service definition
+     *
+     * @param body
+     * @param tenantId
+     * @param businessService
+     * @return
+     */
+    @RequestMapping(value = "/businessservice/_refresh", method = RequestMethod.POST)
+    public ResponseEntity<BusinessServiceResponse> refreshBusinessService(@Parameter(in = ParameterIn.DEFAULT, description = "", schema = @Schema()) @Valid @RequestBody RequestInfoWrapper body, @RequestParam String tenantId, @RequestParam String businessService) {
+        BusinessServiceResponse response = censusService.refreshBusinessService(body, tenantId, businessService);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 }
@@ -0,0 +1,49 @@
+package digit.web.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.egov.common.contract.request.RequestInfo;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * BulkCensusCreateRequest carries the census records created from the file of a plan configuration, sending the
+ * fields shared by all of them once.
+ */
+@Validated
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkCensusCreateRequest {
+
+    @JsonProperty("RequestInfo")
+    @Valid
+    private RequestInfo requestInfo = null;
+
+    @JsonProperty("tenantId")
+    @NotNull
+    private String tenantId = null;
+
+    @JsonProperty("hierarchyType")
+    @NotNull
+    private String hierarchyType = null;
+
+    @JsonProperty("source")
+    @NotNull
+    private String source = null;
+
+    @JsonProperty("Census")
+    @Valid
+    @NotNull
+    @NotEmpty
+    private List<CensusCreateDTO> census = null;
+
+}
@@ -0,0 +1,37 @@
+package digit.web.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * CensusCreateDTO holds the fields of a census record of a bulk create request that differ from one boundary to
+ * the other.
+ */
+@Validated
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CensusCreateDTO {
+
+    @JsonProperty("boundaryCode")
+    @NotNull
+    private String boundaryCode = null;
+
+    @JsonProperty("totalPopulation")
+    @NotNull
+    private Long totalPopulation = null;
+
+    @JsonProperty("additionalFields")
+    @Valid
+    private List<AdditionalField> additionalFields = null;
+
+}
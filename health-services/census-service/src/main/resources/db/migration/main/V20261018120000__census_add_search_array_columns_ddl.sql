@@ -0,0 +1,8 @@
+-- Stored array forms of the pipe separated ancestral path and the comma separated assignees, kept up to date by
+-- postgres on every insert and update so that jurisdiction and assignee searches can use GIN indexes
+ALTER TABLE census ADD COLUMN IF NOT EXISTS boundary_ancestral_path_codes TEXT[] GENERATED ALWAYS AS (string_to_array(boundary_ancestral_path, '|')) STORED;
+ALTER TABLE census ADD COLUMN IF NOT EXISTS assignee_ids TEXT[] GENERATED ALWAYS AS (string_to_array(assignee, ',')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_census_boundary_ancestral_path_codes ON census USING GIN (boundary_ancestral_path_codes);
+CREATE INDEX IF NOT EXISTS idx_census_assignee_ids ON census USING GIN (assignee_ids);
+CREATE INDEX IF NOT EXISTS idx_census_source ON census (source);
@@ -0,0 +1,183 @@
+package digit.repository.impl;
+
+import digit.config.Configuration;
+import digit.kafka.Producer;
+import digit.repository.querybuilder.CensusQueryBuilder;
+import digit.repository.rowmapper.CensusRowMapper;
+import digit.repository.rowmapper.StatusCountRowMapper;
+import digit.util.CommonUtil;
+import digit.web.models.AdditionalField;
+import digit.web.models.BulkCensusRequest;
+import digit.web.models.Census;
+import org.egov.common.contract.models.AuditDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CensusRepositoryImplTest {
+
+    private static final String EFFECTIVE_TO_UPDATE = "UPDATE census SET effective_to";
+
+    private static final String CENSUS_INSERT = "INSERT INTO census";
+
+    private static final String POPULATION_INSERT = "INSERT INTO population_by_demographics";
+
+    private static final String ADDITIONAL_FIELD_INSERT = "INSERT INTO census_additional_field";
+
+    @Mock
+    private Producer producer;
+
+    @Mock
+    private Configuration config;
+
+    @Mock
+    private CensusQueryBuilder queryBuilder;
+
+    @Mock
+    private CensusRowMapper censusRowMapper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StatusCountRowMapper statusCountRowMapper;
+
+    @Mock
+    private CommonUtil commonUtil;
+
+    private CensusRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CensusRepositoryImpl(producer, config, queryBuilder, censusRowMapper, jdbcTemplate,
+                statusCountRowMapper, commonUtil);
+        lenient().when(queryBuilder.getCensusEffectiveToUpdateQuery()).thenReturn(EFFECTIVE_TO_UPDATE);
+        lenient().when(queryBuilder.getCensusInsertQuery()).thenReturn(CENSUS_INSERT);
+        lenient().when(queryBuilder.getPopulationByDemographicsInsertQuery()).thenReturn(POPULATION_INSERT);
+        lenient().when(queryBuilder.getAdditionalFieldInsertQuery()).thenReturn(ADDITIONAL_FIELD_INSERT);
+        lenient().when(config.getCensusCreateTopic()).thenReturn("census-create-topic");
+        lenient().when(config.getCensusBulkCreateTopic()).thenReturn("census-bulk-create-topic");
+        lenient().when(config.getCensusBulkUpdateTopic()).thenReturn("census-bulk-update-topic");
+    }
+
+    @Test
+    @DisplayName("should end the previous records and insert the new ones with one batch per table that has rows")
+    void shouldBatchUpdatePreviousAndInsertNewCensus() {
+        Census previous = census("previous", "B1", null);
+        previous.setEffectiveTo(100L);
+
+        repository.bulkCreate(request(census("census-1", "B1", "households"), census("census-2", "B2", null)),
+                Collections.singletonList(previous));
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        ArgumentCaptor<List<Object[]>> updateRows = rowsCaptor();
+        ArgumentCaptor<List<Object[]>> censusRows = rowsCaptor();
+        ArgumentCaptor<List<Object[]>> additionalFieldRows = rowsCaptor();
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(EFFECTIVE_TO_UPDATE), updateRows.capture());
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(CENSUS_INSERT), censusRows.capture());
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(ADDITIONAL_FIELD_INSERT), additionalFieldRows.capture());
+        verify(jdbcTemplate, never()).batchUpdate(eq(POPULATION_INSERT), anyList());
+
+        assertEquals(1, updateRows.getValue().size());
+        assertEquals(Arrays.asList(100L, "previous"), Arrays.asList(updateRows.getValue().get(0)));
+        assertEquals(Arrays.asList("census-1", "census-2"), censusRows.getValue().stream()
+                .map(row -> row[0]).collect(Collectors.toList()));
+        assertEquals(Collections.singletonList("census-1"), additionalFieldRows.getValue().stream()
+                .map(row -> row[1]).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("should publish the created records once, as the whole batch, and the previous records once")
+    void shouldPublishCreatedCensusOnceAndPreviousCensus() {
+        Census previous = census("previous", "B1", null);
+        BulkCensusRequest request = request(census("census-1", "B1", null), census("census-2", "B2", null));
+
+        repository.bulkCreate(request, Collections.singletonList(previous));
+
+        verify(producer).push("census-bulk-create-topic", request);
+        ArgumentCaptor<Object> updated = ArgumentCaptor.forClass(Object.class);
+        verify(producer).push(eq("census-bulk-update-topic"), updated.capture());
+        assertEquals(Collections.singletonList(previous), ((BulkCensusRequest) updated.getValue()).getCensus());
+        verify(producer, never()).push(eq("census-create-topic"), any());
+    }
+
+    @Test
+    @DisplayName("should neither update nor publish previous records when no boundary had one")
+    void shouldSkipPreviousCensusWhenThereIsNone() {
+        BulkCensusRequest request = request(census("census-1", "B1", null));
+
+        repository.bulkCreate(request, Collections.emptyList());
+
+        verify(jdbcTemplate, never()).batchUpdate(eq(EFFECTIVE_TO_UPDATE), anyList());
+        verify(producer, never()).push(eq("census-bulk-update-topic"), any());
+        verify(producer).push("census-bulk-create-topic", request);
+    }
+
+    @Test
+    @DisplayName("should publish the created and previous records only after the transaction commits")
+    void shouldPublishAfterCommit() {
+        BulkCensusRequest request = request(census("census-1", "B1", null));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repository.bulkCreate(request, Collections.singletonList(census("previous", "B1", null)));
+
+            verify(producer, never()).push(any(), any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(producer).push("census-bulk-create-topic", request);
+            verify(producer).push(eq("census-bulk-update-topic"), any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Object[]>> rowsCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static BulkCensusRequest request(Census... census) {
+        return BulkCensusRequest.builder().census(Arrays.asList(census)).build();
+    }
+
+    private static Census census(String id, String boundaryCode, String additionalFieldKey) {
+        return Census.builder()
+                .id(id)
+                .tenantId("mz")
+                .hierarchyType("ADMIN")
+                .boundaryCode(boundaryCode)
+                .type(Census.TypeEnum.PEOPLE)
+                .totalPopulation(1000L)
+                .source("plan-configuration")
+                .status("VALIDATED")
+                .boundaryAncestralPath(Collections.singletonList("ROOT|" + boundaryCode))
+                .additionalFields(additionalFieldKey == null ? null : Collections.singletonList(AdditionalField.builder()
+                        .id(id + "-field").key(additionalFieldKey).value(BigDecimal.TEN).build()))
+                .auditDetails(AuditDetails.builder().createdBy("user").createdTime(100L)
+                        .lastModifiedBy("user").lastModifiedTime(100L).build())
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package digit.service;
+
+import digit.repository.CensusRepository;
+import digit.service.enrichment.CensusEnrichment;
+import digit.service.enrichment.CensusTimeframeEnrichment;
+import digit.service.validator.CensusValidator;
+import digit.service.workflow.WorkflowService;
+import digit.util.BusinessServiceUtil;
+import digit.util.ResponseInfoFactory;
+import digit.web.models.BulkCensusRequest;
+import digit.web.models.Census;
+import digit.web.models.CensusResponse;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CensusServiceTest {
+
+    @Mock
+    private CensusRepository repository;
+
+    @Mock
+    private CensusValidator validator;
+
+    @Mock
+    private CensusEnrichment enrichment;
+
+    @Mock
+    private CensusTimeframeEnrichment timeframeEnrichment;
+
+    @Mock
+    private WorkflowService workflow;
+
+    @Mock
+    private BusinessServiceUtil businessServiceUtil;
+
+    private CensusService censusService;
+
+    @BeforeEach
+    void setUp() {
+        censusService = new CensusService(new ResponseInfoFactory(), repository, validator, enrichment,
+                timeframeEnrichment, workflow, businessServiceUtil);
+    }
+
+    @Test
+    @DisplayName("should leave out invalid records and create the valid ones with one timeframe search, workflow call and insert")
+    void shouldCreateValidCensusInOneBatch() {
+        Census valid = Census.builder().id("valid").boundaryCode("B1").build();
+        Census invalid = Census.builder().id("invalid").boundaryCode("B2").build();
+        Census otherValid = Census.builder().id("other-valid").boundaryCode("B3").build();
+        BulkCensusRequest request = request(valid, invalid, otherValid);
+        lenient().doThrow(new CustomException("INVALID_BOUNDARY", "invalid boundary")).when(validator)
+                .validateCreate(argThat(censusRequest -> censusRequest.getCensus() == invalid));
+        List<Census> previousCensus = Collections.singletonList(Census.builder().id("previous").build());
+        when(timeframeEnrichment.enrichPreviousTimeframe(request)).thenReturn(previousCensus);
+
+        CensusResponse response = censusService.bulkCreate(request);
+
+        assertEquals(Arrays.asList(valid, otherValid), response.getCensus());
+        verify(enrichment, times(2)).enrichCreate(any());
+        InOrder inOrder = inOrder(timeframeEnrichment, workflow, repository);
+        inOrder.verify(timeframeEnrichment).enrichPreviousTimeframe(request);
+        inOrder.verify(workflow).invokeWorkflowForBulkCreate(request);
+        inOrder.verify(repository).bulkCreate(request, previousCensus);
+        verify(repository, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("should not search previous records, call the workflow or insert when no record is valid")
+    void shouldSkipCreationWhenNoCensusIsValid() {
+        BulkCensusRequest request = request(Census.builder().id("invalid").boundaryCode("B1").build());
+        doThrow(new CustomException("INVALID_BOUNDARY", "invalid boundary")).when(validator).validateCreate(any());
+
+        CensusResponse response = censusService.bulkCreate(request);
+
+        assertTrue(response.getCensus().isEmpty());
+        verify(timeframeEnrichment, never()).enrichPreviousTimeframe(any(BulkCensusRequest.class));
+        verify(workflow, never()).invokeWorkflowForBulkCreate(any());
+        verify(repository, never()).bulkCreate(any(), any());
+    }
+
+    private static BulkCensusRequest request(Census... census) {
+        return BulkCensusRequest.builder().census(new ArrayList<>(Arrays.asList(census))).build();
+    }
+}
@@ -0,0 +1,90 @@
+package digit.service.enrichment;
+
+import digit.repository.CensusRepository;
+import digit.web.models.BulkCensusRequest;
+import digit.web.models.Census;
+import digit.web.models.CensusSearchCriteria;
+import org.egov.common.contract.models.AuditDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CensusTimeframeEnrichmentTest {
+
+    @Mock
+    private CensusRepository repository;
+
+    private CensusTimeframeEnrichment timeframeEnrichment;
+
+    @BeforeEach
+    void setUp() {
+        timeframeEnrichment = new CensusTimeframeEnrichment(repository);
+    }
+
+    @Test
+    @DisplayName("should search the previous records of all boundaries of a tenant page by page and end them at the new record")
+    void shouldEndPreviousCensusOfAllBoundaries() {
+        List<CensusSearchCriteria> searches = new ArrayList<>();
+        when(repository.search(any())).thenAnswer(invocation -> {
+            CensusSearchCriteria criteria = invocation.getArgument(0);
+            searches.add(CensusSearchCriteria.builder().tenantId(criteria.getTenantId())
+                    .areaCodes(criteria.getAreaCodes()).offset(criteria.getOffset()).limit(criteria.getLimit())
+                    .build());
+            // the first page is full, the second one repeats a record and ends the search
+            if (criteria.getOffset() == 0) {
+                return Arrays.asList(previous("p1", "B1"), previous("p2", "B2"));
+            }
+            return Collections.singletonList(previous("p2", "B2"));
+        });
+
+        List<Census> previousCensus = timeframeEnrichment.enrichPreviousTimeframe(BulkCensusRequest.builder()
+                .census(Arrays.asList(created("B1", 100L), created("B2", 200L))).build());
+
+        assertEquals(Arrays.asList("p1:100", "p2:200"), previousCensus.stream()
+                .map(census -> census.getId() + ":" + census.getEffectiveTo()).collect(Collectors.toList()));
+        assertEquals(2, searches.size());
+        assertEquals(Arrays.asList(0, 2), searches.stream().map(CensusSearchCriteria::getOffset)
+                .collect(Collectors.toList()));
+        assertEquals(2, searches.get(0).getLimit());
+        assertEquals(2, searches.get(0).getAreaCodes().size());
+        verify(repository, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("should search once per tenant and return nothing when no boundary has a previous record")
+    void shouldReturnNothingWithoutPreviousCensus() {
+        when(repository.search(any())).thenReturn(Collections.emptyList());
+
+        List<Census> previousCensus = timeframeEnrichment.enrichPreviousTimeframe(BulkCensusRequest.builder()
+                .census(Arrays.asList(created("B1", 100L), created("B2", 100L))).build());
+
+        assertEquals(Collections.emptyList(), previousCensus);
+        verify(repository, times(1)).search(any());
+    }
+
+    private static Census created(String boundaryCode, long createdTime) {
+        return Census.builder().tenantId("mz").boundaryCode(boundaryCode)
+                .auditDetails(AuditDetails.builder().createdTime(createdTime).build()).build();
+    }
+
+    private static Census previous(String id, String boundaryCode) {
+        return Census.builder().id(id).tenantId("mz").boundaryCode(boundaryCode).build();
+    }
+}
@@ -0,0 +1,159 @@
+package digit.util;
+
+import org.egov.common.contract.workflow.BusinessService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BusinessServiceCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1000L);
+
+    @Test
+    @DisplayName("should load a value once and reload it only after its time to live")
+    void shouldReloadOnlyAfterTheTimeToLive() {
+        BusinessServiceCache cache = new BusinessServiceCache(100L, now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("value-1", name(cache.get("key", () -> businessService("value-" + loads.incrementAndGet()))));
+        now.addAndGet(100L);
+        assertEquals("value-1", name(cache.get("key", () -> businessService("value-" + loads.incrementAndGet()))));
+        now.addAndGet(1L);
+        assertEquals("value-2", name(cache.get("key", () -> businessService("value-" + loads.incrementAndGet()))));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("should load the value on every lookup when the time to live is zero")
+    void shouldNotCacheWithZeroTimeToLive() {
+        BusinessServiceCache cache = new BusinessServiceCache(0L, now::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("key", () -> businessService("value-" + loads.incrementAndGet()));
+        cache.get("key", () -> businessService("value-" + loads.incrementAndGet()));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("should share a single load between concurrent lookups of a missing key")
+    void shouldShareASingleLoad() throws Exception {
+        BusinessServiceCache cache = new BusinessServiceCache(60000L);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Future<BusinessService> first = executorService.submit(() -> cache.get("key", () -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                await(releaseLoad);
+                return businessService("value");
+            }));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            List<Future<BusinessService>> others = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                others.add(executorService.submit(
+                        () -> cache.get("key", () -> businessService("other-" + loads.incrementAndGet()))));
+            }
+            // the other lookups are waiting for the load in progress
+            Thread.sleep(100L);
+            releaseLoad.countDown();
+
+            assertEquals("value", name(first.get(5, TimeUnit.SECONDS)));
+            for (Future<BusinessService> other : others) {
+                assertEquals("value", name(other.get(5, TimeUnit.SECONDS)));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            releaseLoad.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should keep the expired value when reloading it fails")
+    void shouldKeepTheExpiredValueWhenReloadingFails() {
+        BusinessServiceCache cache = new BusinessServiceCache(100L, now::get);
+        cache.get("key", () -> businessService("value"));
+        now.addAndGet(101L);
+
+        BusinessService value = cache.get("key", () -> {
+            throw new IllegalStateException("workflow service down");
+        });
+
+        assertEquals("value", name(value));
+        assertEquals("reloaded", name(cache.get("key", () -> businessService("reloaded"))));
+    }
+
+    @Test
+    @DisplayName("should fail the lookup of a missing key whose load fails and load it again next time")
+    void shouldFailWhenNothingIsCached() {
+        BusinessServiceCache cache = new BusinessServiceCache(100L, now::get);
+        IllegalStateException failure = new IllegalStateException("workflow service down");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> cache.get("key", () -> {
+                    throw failure;
+                }));
+
+        assertSame(failure, exception);
+        assertEquals("value", name(cache.get("key", () -> businessService("value"))));
+    }
+
+    @Test
+    @DisplayName("should replace a live value on refresh and serve the refreshed value")
+    void shouldReplaceTheValueOnRefresh() {
+        BusinessServiceCache cache = new BusinessServiceCache(60000L, now::get);
+        cache.get("key", () -> businessService("value"));
+
+        assertEquals("refreshed", name(cache.refresh("key", () -> businessService("refreshed"))));
+        assertEquals("refreshed", name(cache.get("key", () -> businessService("reloaded"))));
+        assertEquals("value", name(cache.get("other-key", () -> businessService("value"))));
+    }
+
+    @Test
+    @DisplayName("should fail a refresh whose load fails and keep serving the cached value")
+    void shouldKeepTheCachedValueWhenRefreshFails() {
+        BusinessServiceCache cache = new BusinessServiceCache(60000L, now::get);
+        cache.get("key", () -> businessService("value"));
+
+        assertThrows(IllegalStateException.class, () -> cache.refresh("key", () -> {
+            throw new IllegalStateException("workflow service down");
+        }));
+
+        assertEquals("value", name(cache.get("key", () -> businessService("reloaded"))));
+    }
+
+    private static BusinessService businessService(String name) {
+        return BusinessService.builder().businessService(name).build();
+    }
+
+    private static String name(BusinessService businessService) {
+        return businessService.getBusinessService();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package digit.web.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digit.config.Configuration;
+import digit.repository.CensusRepository;
+import digit.service.CensusService;
+import digit.service.enrichment.CensusEnrichment;
+import digit.service.enrichment.CensusTimeframeEnrichment;
+import digit.service.validator.CensusValidator;
+import digit.service.workflow.WorkflowService;
+import digit.util.BusinessServiceUtil;
+import digit.util.CommonUtil;
+import digit.util.ResponseInfoFactory;
+import jakarta.servlet.ServletException;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.contract.workflow.BusinessService;
+import org.egov.common.contract.workflow.BusinessServiceResponse;
+import org.egov.common.contract.workflow.State;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessServiceRefreshTest {
+
+    private static final String BUSINESS_SERVICE = "CENSUS";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private CensusRepository repository;
+
+    @Mock
+    private CensusValidator validator;
+
+    @Mock
+    private CensusEnrichment enrichment;
+
+    @Mock
+    private CensusTimeframeEnrichment timeframeEnrichment;
+
+    @Mock
+    private WorkflowService workflow;
+
+    private CommonUtil commonUtil;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        Configuration config = new Configuration();
+        config.setWfHost("http://workflow");
+        config.setBusinessServiceSearchEndpoint("/businessservice/_search");
+        config.setBusinessServiceCacheTtlMs(900000L);
+        BusinessServiceUtil businessServiceUtil = new BusinessServiceUtil(restTemplate, config);
+        commonUtil = new CommonUtil(new ObjectMapper(), businessServiceUtil);
+        CensusService censusService = new CensusService(new ResponseInfoFactory(), repository, validator, enrichment,
+                timeframeEnrichment, workflow, businessServiceUtil);
+        mockMvc = MockMvcBuilders.standaloneSetup(new CensusController(censusService)).build();
+    }
+
+    @Test
+    @DisplayName("should serve the states of a business service from the cache within its ttl")
+    void shouldServeStatesFromTheCache() {
+        when(restTemplate.postForObject(anyString(), any(), eq(BusinessServiceResponse.class), anyMap()))
+                .thenReturn(response("VALIDATED", "APPROVED"));
+
+        commonUtil.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz");
+        List<String> states = commonUtil.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz");
+
+        assertEquals(Arrays.asList("VALIDATED", "APPROVED"), states);
+        verify(restTemplate, times(1)).postForObject(anyString(), any(), eq(BusinessServiceResponse.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("should reload a cached business service on refresh and serve the reloaded states")
+    void shouldReloadTheBusinessServiceOnRefresh() throws Exception {
+        when(restTemplate.postForObject(anyString(), any(), eq(BusinessServiceResponse.class), anyMap()))
+                .thenReturn(response("VALIDATED", "APPROVED"), response("VALIDATED", "PENDING", "APPROVED"));
+        commonUtil.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz");
+
+        mockMvc.perform(post("/businessservice/_refresh")
+                        .param("tenantId", "mz")
+                        .param("businessService", BUSINESS_SERVICE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"RequestInfo\":{\"apiId\":\"census-service\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.BusinessServices[0].states.length()").value(3));
+
+        assertEquals(Arrays.asList("VALIDATED", "PENDING", "APPROVED"),
+                commonUtil.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz"));
+        verify(restTemplate, times(2)).postForObject(anyString(), any(), eq(BusinessServiceResponse.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("should keep serving the cached states when a refresh finds no business service")
+    void shouldKeepTheCachedStatesWhenRefreshFails() throws Exception {
+        when(restTemplate.postForObject(anyString(), any(), eq(BusinessServiceResponse.class), anyMap()))
+                .thenReturn(response("VALIDATED", "APPROVED"), new BusinessServiceResponse());
+        commonUtil.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz");
+
+        // without the tracer exception handler the failed refresh surfaces as a servlet exception
+        ServletException exception = assertThrows(ServletException.class,
+                () -> mockMvc.perform(post("/businessservice/_refresh")
+                        .param("tenantId", "mz")
+                        .param("businessService", BUSINESS_SERVICE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"RequestInfo\":{\"apiId\":\"census-service\"}}")));
+
+        assertInstanceOf(CustomException.class, exception.getCause());
+        assertEquals(Arrays.asList("VALIDATED", "APPROVED"),
+                commonUtil.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz"));
+        verify(restTemplate, times(2)).postForObject(anyString(), any(), eq(BusinessServiceResponse.class), anyMap());
+    }
+
+    private static BusinessServiceResponse response(String... states) {
+        BusinessService businessService = BusinessService.builder()
+                .businessService(BUSINESS_SERVICE)
+                .states(Arrays.stream(states).map(state -> State.builder().state(state).build())
+                        .collect(Collectors.toList()))
+                .build();
+        return BusinessServiceResponse.builder().businessServices(List.of(businessService)).build();
+    }
+}
@@ -24,7 +24,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static org.egov.common.utils.CommonUtils.constructTotalCountCTEAndReturnResult;
 import static org.egov.common.utils.CommonUtils.getIdMethod;
 
 @Repository
@@ -91,7 +90,7 @@ public class FacilityRepository extends GenericRepository<Facility> {
         paramsMap.put("isDeleted", includeDeleted);
         paramsMap.put("lastModifiedTime", lastChangedSince);
 
-        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(query, paramsMap);
 
         query = query + " LIMIT :limit OFFSET :offset";
         paramsMap.put("limit", limit);
@@ -11,6 +11,7 @@ import org.egov.common.models.facility.FacilityBulkRequest;
 import org.egov.common.models.facility.FacilityRequest;
 import org.egov.common.models.facility.FacilitySearchRequest;
 import org.egov.common.models.project.ProjectBeneficiary;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.facility.config.FacilityConfiguration;
 import org.egov.facility.repository.FacilityRepository;
@@ -21,6 +22,7 @@ import org.egov.facility.validator.FNonExistentValidator;
 import org.egov.facility.validator.FNullIdValidator;
 import org.egov.facility.validator.FRowVersionValidator;
 import org.egov.facility.validator.FUniqueEntityValidator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ReflectionUtils;
 
@@ -72,6 +74,9 @@ public class FacilityService {
             validator -> validator.getClass().equals(FNonExistentValidator.class)
             || validator.getClass().equals(FNullIdValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     public FacilityService(FacilityRepository facilityRepository, 
                            List<Validator<FacilityBulkRequest, Facility>> validators, 
                            FacilityConfiguration configuration, 
@@ -95,7 +100,7 @@ public class FacilityService {
 
         Tuple<List<Facility>, Map<Facility, ErrorDetails>> tuple = validate(validators,
                 isApplicableForCreate, request, SET_FACILITIES, GET_FACILITIES, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
         Map<Facility, ErrorDetails> errorDetailsMap = tuple.getY();
         List<Facility> validEntities = tuple.getX();
         try {
@@ -126,7 +131,7 @@ public class FacilityService {
         log.info("starting update method for facility");
         Tuple<List<Facility>, Map<Facility, ErrorDetails>> tuple = validate(validators,
                 isApplicableForUpdate, request, SET_FACILITIES, GET_FACILITIES, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
         Map<Facility, ErrorDetails> errorDetailsMap = tuple.getY();
         List<Facility> validEntities = tuple.getX();
         try {
@@ -157,7 +162,7 @@ public class FacilityService {
         log.info("starting delete method for facility");
         Tuple<List<Facility>, Map<Facility, ErrorDetails>> tuple = validate(validators,
                 isApplicableForDelete, request, SET_FACILITIES, GET_FACILITIES, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
         Map<Facility, ErrorDetails> errorDetailsMap = tuple.getY();
         List<Facility> validEntities = tuple.getX();
         try {
@@ -18,13 +18,13 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static org.egov.common.utils.CommonUtils.constructTotalCountCTEAndReturnResult;
 import static org.egov.common.utils.CommonUtils.getIdMethod;
 
 @Repository
@@ -78,7 +78,7 @@ public class HouseholdMemberRepository extends GenericRepository<HouseholdMember
 
         queryBuilder.append(" ORDER BY id ASC ");
 
-        Long totalCount = constructTotalCountCTEAndReturnResult(queryBuilder.toString(), paramsMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(queryBuilder.toString(), paramsMap);
 
         queryBuilder.append(" LIMIT :limit OFFSET :offset");
         paramsMap.put("limit", limit);
@@ -89,6 +89,21 @@ public class HouseholdMemberRepository extends GenericRepository<HouseholdMember
         return SearchResponse.<HouseholdMember>builder().totalCount(totalCount).response(householdMembers).build();
     }
 
+    /**
+     * Finds all members of the given households in one pass.
+     *
+     * @param householdIds     the household ids
+     * @param tenantId         the tenant id
+     * @param lastChangedSince the last changed since time
+     * @param includeDeleted   whether deleted members should be included
+     * @return the household members ordered by id
+     */
+    public List<HouseholdMember> findByHouseholdIds(List<String> householdIds, String tenantId,
+                                                    Long lastChangedSince, Boolean includeDeleted) {
+        return findByParentIds("SELECT * FROM household_member", null, "householdId", householdIds,
+                Collections.emptyMap(), tenantId, lastChangedSince, includeDeleted);
+    }
+
     public SearchResponse<HouseholdMember> findById(List<String> ids, String columnName, Boolean includeDeleted) {
         List<HouseholdMember> objFound = findInCache(ids).stream()
                 .filter(entity -> entity.getIsDeleted().equals(includeDeleted))
@@ -133,7 +148,7 @@ public class HouseholdMemberRepository extends GenericRepository<HouseholdMember
         Map<String, Object> paramMap = new HashMap();
         paramMap.put("householdId", householdId);
 
-        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(query, paramMap);
 
         List<HouseholdMember> householdMembers = this.namedParameterJdbcTemplate.query(query, paramMap, this.rowMapper);
 
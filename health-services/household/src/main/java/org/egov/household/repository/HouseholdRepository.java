@@ -5,6 +5,7 @@ import org.egov.common.data.query.builder.GenericQueryBuilder;
 import org.egov.common.data.query.builder.QueryFieldChecker;
 import org.egov.common.data.query.builder.SelectQueryBuilder;
 import org.egov.common.data.query.exception.QueryBuilderException;
+import org.egov.common.data.query.pagination.KeysetCursor;
 import org.egov.common.data.repository.GenericRepository;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.household.Household;
@@ -25,7 +26,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static org.egov.common.utils.CommonUtils.constructTotalCountCTEAndReturnResult;
 import static org.egov.common.utils.CommonUtils.getIdMethod;
 
 @Repository
@@ -67,7 +67,7 @@ public class HouseholdRepository extends GenericRepository<Household> {
         Map<String, Object> paramMap = new HashMap();
         paramMap.put("ids", ids);
 
-        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(query, paramMap);
 
         objFound.addAll(this.namedParameterJdbcTemplate.query(query, paramMap, this.rowMapper));
         putInCache(objFound);
@@ -75,6 +75,23 @@ public class HouseholdRepository extends GenericRepository<Household> {
     }
 
     public SearchResponse<Household> find(HouseholdSearch searchObject, Integer limit, Integer offset, String tenantId, Long lastChangedSince, Boolean includeDeleted) {
+        return find(searchObject, limit, offset, tenantId, lastChangedSince, includeDeleted, null);
+    }
+
+    /**
+     * Searches households, using keyset pagination over (lastModifiedTime, id) instead of offset when a cursor is passed.
+     *
+     * @param searchObject     the household search criteria
+     * @param limit            the page size
+     * @param offset           the offset, ignored when a cursor is passed
+     * @param tenantId         the tenant id
+     * @param lastChangedSince the last changed since time
+     * @param includeDeleted   whether deleted households should be included
+     * @param cursor           the cursor returned with the previous page, may be null
+     * @return the households with total count and the cursor for the next page
+     */
+    public SearchResponse<Household> find(HouseholdSearch searchObject, Integer limit, Integer offset, String tenantId, Long lastChangedSince, Boolean includeDeleted, String cursor) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
         String query = "SELECT *, a.id as aid,a.tenantid as atenantid, a.clientreferenceid as aclientreferenceid";
         query += " FROM household h LEFT JOIN address a ON h.addressid = a.id";
         Map<String, Object> paramsMap = new HashMap<>();
@@ -104,13 +121,18 @@ public class HouseholdRepository extends GenericRepository<Household> {
         paramsMap.put("isDeleted", includeDeleted);
         paramsMap.put("lastModifiedTime", lastChangedSince);
 
-        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(query, paramsMap);
 
-        query = query + "ORDER BY h.id ASC LIMIT :limit OFFSET :offset";
+        if (keysetCursor == null) {
+            query = query + "ORDER BY h.id ASC LIMIT :limit OFFSET :offset";
+            paramsMap.put("offset", offset);
+        } else {
+            query = query + keysetCursor.toPredicate("h", paramsMap) + KeysetCursor.orderBy("h") + "LIMIT :limit";
+        }
         paramsMap.put("limit", limit);
-        paramsMap.put("offset", offset);
         List<Household> households = this.namedParameterJdbcTemplate.query(query, paramsMap, this.rowMapper);
-        return SearchResponse.<Household>builder().totalCount(totalCount).response(households).build();
+        return SearchResponse.<Household>builder().totalCount(totalCount).response(households)
+                .nextCursor(keysetCursor == null ? null : nextCursor(households, limit)).build();
     }
 
     /**
@@ -155,7 +177,7 @@ public class HouseholdRepository extends GenericRepository<Household> {
         paramsMap.put("isDeleted", includeDeleted);
         paramsMap.put("distance", searchObject.getSearchRadius());
         query = query + " ORDER BY distance ASC";
-        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(query, paramsMap);
         query = query + " LIMIT :limit OFFSET :offset ";
         paramsMap.put("limit", limit);
         paramsMap.put("offset", offset);
@@ -12,12 +12,14 @@ import org.egov.common.data.query.exception.QueryBuilderException;
 import org.egov.common.ds.Tuple;
 import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.common.models.ErrorDetails;
+import org.egov.common.models.core.ParentIdSearch;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.household.HouseholdMember;
 import org.egov.common.models.household.HouseholdMemberBulkRequest;
 import org.egov.common.models.household.HouseholdMemberRequest;
 import org.egov.common.models.household.HouseholdMemberSearch;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.household.config.HouseholdMemberConfiguration;
 import org.egov.household.household.member.validators.HmExistentEntityValidator;
@@ -84,6 +86,9 @@ public class HouseholdMemberService {
             validator.getClass().equals(HmNullIdValidator.class)
                     || validator.getClass().equals(HmNonExistentEntityValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     @Autowired
     public HouseholdMemberService(HouseholdMemberRepository householdMemberRepository,
                                   HouseholdMemberConfiguration householdMemberConfiguration,
@@ -168,6 +173,16 @@ public class HouseholdMemberService {
         }
     }
 
+    public SearchResponse<HouseholdMember> searchByHouseholdIds(ParentIdSearch parentIdSearch, String tenantId,
+                                                                Long lastChangedSince, Boolean includeDeleted) {
+        log.info("received request to search members of {} households", parentIdSearch.getParentIds().size());
+        List<HouseholdMember> householdMembers = householdMemberRepository.findByHouseholdIds(
+                parentIdSearch.getParentIds(), tenantId, lastChangedSince, includeDeleted);
+        log.info("found {} household members", householdMembers.size());
+        return SearchResponse.<HouseholdMember>builder().response(householdMembers)
+                .totalCount((long) householdMembers.size()).build();
+    }
+
     public List<HouseholdMember> update(HouseholdMemberRequest householdMemberRequest) {
         log.info("starting update of household member for single request");
         HouseholdMemberBulkRequest householdMemberBulkRequest = HouseholdMemberBulkRequest.builder()
@@ -247,7 +262,7 @@ public class HouseholdMemberService {
         log.info("validating request for household members");
         Map<HouseholdMember, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 isApplicable, request,
-                SET_HOUSEHOLD_MEMBERS);
+                SET_HOUSEHOLD_MEMBERS, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             log.info("errors found in the request for household members");
             throw new CustomException(VALIDATION_ERROR, errorDetailsMap.values().toString());
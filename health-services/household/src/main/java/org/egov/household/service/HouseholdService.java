@@ -11,6 +11,7 @@ import org.egov.common.models.household.HouseholdBulkRequest;
 import org.egov.common.models.household.HouseholdRequest;
 import org.egov.common.service.IdGenService;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.household.config.HouseholdConfiguration;
 import org.egov.household.repository.HouseholdRepository;
@@ -75,6 +76,9 @@ public class HouseholdService {
                     || validator.getClass().equals(HNonExistentEntityValidator.class)
                     || validator.getClass().equals(HRowVersionValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     @Autowired
     public HouseholdService(HouseholdRepository householdRepository, IdGenService idGenService,
                             HouseholdConfiguration householdConfiguration, List<Validator<HouseholdBulkRequest, Household>> validators, HouseholdEnrichmentService enrichmentService) {
@@ -120,6 +124,11 @@ public class HouseholdService {
 
     public SearchResponse<Household> search(HouseholdSearch householdSearch, Integer limit, Integer offset, String tenantId,
                                             Long lastChangedSince, Boolean includeDeleted) {
+        return search(householdSearch, limit, offset, tenantId, lastChangedSince, includeDeleted, null);
+    }
+
+    public SearchResponse<Household> search(HouseholdSearch householdSearch, Integer limit, Integer offset, String tenantId,
+                                            Long lastChangedSince, Boolean includeDeleted, String cursor) {
 
         String idFieldName = getIdFieldName(householdSearch);
         if (isSearchByIdOnly(householdSearch, idFieldName)) {
@@ -141,7 +150,7 @@ public class HouseholdService {
             if(Boolean.TRUE.equals(isProximityBasedSearch(householdSearch))) {
                 searchResponse = householdRepository.findByRadius(householdSearch, limit, offset, tenantId, includeDeleted);
             } else {
-                searchResponse = householdRepository.find(householdSearch, limit, offset, tenantId, lastChangedSince, includeDeleted);
+                searchResponse = householdRepository.find(householdSearch, limit, offset, tenantId, lastChangedSince, includeDeleted, cursor);
             }
             log.info("households found for search, size: {}", searchResponse.getResponse().size());
             return searchResponse;
@@ -235,7 +244,7 @@ public class HouseholdService {
         log.info("validating the request for households");
         Map<Household, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 applicableValidators, request,
-                SET_HOUSEHOLDS);
+                SET_HOUSEHOLDS, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             log.error("validation error occurred. Error details: {}", errorDetailsMap.values().toString());
             throw new CustomException(VALIDATION_ERROR, errorDetailsMap.values().toString());
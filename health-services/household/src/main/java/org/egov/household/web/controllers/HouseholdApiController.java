@@ -8,6 +8,7 @@ import io.swagger.annotations.ApiParam;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.egov.common.contract.response.ResponseInfo;
+import org.egov.common.models.core.ParentIdSearchRequest;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.core.URLParams;
 import org.egov.common.models.household.Household;
@@ -118,6 +119,28 @@ public class HouseholdApiController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @RequestMapping(value = "/member/v1/bulk/_search", method = RequestMethod.POST)
+    public ResponseEntity<HouseholdMemberBulkResponse> householdMemberV1BulkSearchPost(
+            @RequestParam(value = "tenantId") String tenantId,
+            @RequestParam(value = "lastChangedSince", required = false) Long lastChangedSince,
+            @RequestParam(value = "includeDeleted", required = false, defaultValue = "false") Boolean includeDeleted,
+            @ApiParam(value = "Ids of the households whose members should be returned.", required = true) @Valid @RequestBody ParentIdSearchRequest parentIdSearchRequest
+    ) {
+        SearchResponse<HouseholdMember> searchResponse = householdMemberService.searchByHouseholdIds(
+                parentIdSearchRequest.getParentIdSearch(),
+                tenantId,
+                lastChangedSince,
+                includeDeleted
+        );
+        HouseholdMemberBulkResponse response = HouseholdMemberBulkResponse.builder().responseInfo(ResponseInfoFactory
+                                                .createResponseInfo(parentIdSearchRequest.getRequestInfo(), true))
+                                                .householdMembers(searchResponse.getResponse())
+                                                .totalCount(searchResponse.getTotalCount())
+                                                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @RequestMapping(value = "/member/v1/bulk/_update", method = RequestMethod.POST)
     public ResponseEntity<ResponseInfo> householdMemberV1BulkUpdatePost(@ApiParam(value = "Capture linkage of Household to Member.", required = true) @Valid @RequestBody HouseholdMemberBulkRequest householdMemberBulkRequest, @ApiParam(value = "Client can specify if the resource in request body needs to be sent back in the response. This is being used to limit amount of data that needs to flow back from the server to the client in low bandwidth scenarios. Server will always send the server generated id for validated requests.", defaultValue = "true") @Valid @RequestParam(value = "echoResource", required = false, defaultValue = "true") Boolean echoResource) {
         householdMemberBulkRequest.getRequestInfo().setApiId(httpServletRequest.getRequestURI());
@@ -214,7 +237,8 @@ public class HouseholdApiController {
                 urlParams.getOffset(),
                 urlParams.getTenantId(),
                 urlParams.getLastChangedSince(),
-                urlParams.getIncludeDeleted()
+                urlParams.getIncludeDeleted(),
+                urlParams.getCursor()
         );
         HouseholdBulkResponse response = HouseholdBulkResponse.builder()
                 .responseInfo(
@@ -222,6 +246,7 @@ public class HouseholdApiController {
                                 request.getRequestInfo(), true
                         )
                 ).totalCount(searchResponse.getTotalCount())
+                .nextCursor(searchResponse.getNextCursor())
                 .households(searchResponse.getResponse()).build();
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
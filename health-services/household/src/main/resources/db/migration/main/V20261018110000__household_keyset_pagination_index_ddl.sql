@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_household_tenantid_lastmodifiedtime_id ON household(tenantId, lastModifiedTime, id);
@@ -76,7 +76,7 @@ class HouseholdFindTest {
                 .household(HouseholdSearch.builder().id(Collections.singletonList("someid"))
                         .clientReferenceId(Collections.singletonList("some-id")).build()).build();
         when(householdRepository.find(any(HouseholdSearch.class), anyInt(),
-                anyInt(), anyString(), anyLong(), anyBoolean())).thenReturn(SearchResponse.<Household>builder().build());
+                anyInt(), anyString(), anyLong(), anyBoolean(), any())).thenReturn(SearchResponse.<Household>builder().build());
 
         householdService.search(householdSearchRequest.getHousehold(), 10, 0,
                 "default", 0L, false);
@@ -93,13 +93,13 @@ class HouseholdFindTest {
                 .household(HouseholdSearch.builder().id(Collections.singletonList("someid"))
                         .clientReferenceId(Collections.singletonList("some-id")).build()).build();
         when(householdRepository.find(any(HouseholdSearch.class), anyInt(),
-                anyInt(), anyString(), anyLong(), anyBoolean())).thenReturn(SearchResponse.<Household>builder().build());
+                anyInt(), anyString(), anyLong(), anyBoolean(), any())).thenReturn(SearchResponse.<Household>builder().build());
 
         householdService.search(householdSearchRequest.getHousehold(), 10, 0,
                 "default", 0L, false);
 
         verify(householdRepository, times(1))
                 .find(any(HouseholdSearch.class), anyInt(),
-                        anyInt(), anyString(), anyLong(), anyBoolean());
+                        anyInt(), anyString(), anyLong(), anyBoolean(), any());
     }
 }
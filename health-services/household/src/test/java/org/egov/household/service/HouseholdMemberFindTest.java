@@ -2,6 +2,7 @@ package org.egov.household.service;
 
 import org.egov.common.data.query.exception.QueryBuilderException;
 import org.egov.common.helper.RequestInfoTestBuilder;
+import org.egov.common.models.core.ParentIdSearch;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.household.HouseholdMember;
 import org.egov.household.repository.HouseholdMemberRepository;
@@ -14,8 +15,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -89,4 +92,18 @@ class HouseholdMemberFindTest {
                         anyInt(), anyString(), anyLong(), anyBoolean());
     }
 
+    @Test
+    @DisplayName("should find household members of all parent ids in one repository call")
+    void shouldFindHouseholdMembersOfAllParentIdsInOneRepositoryCall() {
+        ParentIdSearch parentIdSearch = ParentIdSearch.builder()
+                .parentIds(Arrays.asList("some-parent-id", "other-parent-id")).build();
+        when(householdMemberRepository.findByHouseholdIds(eq(parentIdSearch.getParentIds()), eq("default"), eq(100L), eq(false)))
+                .thenReturn(Collections.singletonList(HouseholdMember.builder().id("some-id").build()));
+
+        SearchResponse<HouseholdMember> searchResponse = householdMemberService.searchByHouseholdIds(parentIdSearch, "default", 100L, false);
+
+        assertEquals(1, searchResponse.getResponse().size());
+        assertEquals(1L, searchResponse.getTotalCount());
+        verify(householdMemberRepository).findByHouseholdIds(parentIdSearch.getParentIds(), "default", 100L, false);
+    }
 }
@@ -71,7 +71,7 @@ class HouseholdApiControllerTest {
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .household(HouseholdSearchTestBuilder.builder().withHouseholdSearch().build()).build();
         when(householdService.search(any(HouseholdSearch.class), anyInt(),
-                anyInt(), anyString(), any(), any())).thenReturn(SearchResponse.<Household>builder().build());
+                anyInt(), anyString(), any(), any(), any())).thenReturn(SearchResponse.<Household>builder().build());
 
         mockMvc.perform(post("/v1/_search?limit=10&offset=0&tenantId=default").contentType(MediaType
                         .APPLICATION_JSON).content(objectMapper.writeValueAsString(householdSearchRequest)))
@@ -85,7 +85,7 @@ class HouseholdApiControllerTest {
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .household(HouseholdSearch.builder().build()).build();
         when(householdService.search(any(HouseholdSearch.class), anyInt(),
-                anyInt(), anyString(), anyLong(), anyBoolean())).thenReturn(SearchResponse.<Household>builder().build());
+                anyInt(), anyString(), anyLong(), anyBoolean(), any())).thenReturn(SearchResponse.<Household>builder().build());
 
         mockMvc.perform(post("/v1/_search?limit=10&offset=0").contentType(MediaType
                         .APPLICATION_JSON).content(objectMapper.writeValueAsString(householdSearchRequest)))
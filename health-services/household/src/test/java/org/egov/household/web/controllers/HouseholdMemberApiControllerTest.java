@@ -2,6 +2,8 @@ package org.egov.household.web.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.egov.common.helper.RequestInfoTestBuilder;
+import org.egov.common.models.core.ParentIdSearch;
+import org.egov.common.models.core.ParentIdSearchRequest;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.household.HouseholdMember;
 import org.egov.common.models.household.HouseholdMemberRequest;
@@ -30,8 +32,13 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -136,4 +143,49 @@ class HouseholdMemberApiControllerTest {
                 .andExpect(status().isAccepted());
     }
 
+    @Test
+    @DisplayName("should return all household members of the parent ids in one bulk search")
+    void shouldHouseholdMemberBulkSearchPassIfParentIdsArePresent() throws Exception {
+        ParentIdSearchRequest parentIdSearchRequest = ParentIdSearchRequest.builder()
+                .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
+                .parentIdSearch(ParentIdSearch.builder().parentIds(Collections.singletonList("some-parent-id")).build())
+                .build();
+        when(householdMemberService.searchByHouseholdIds(any(ParentIdSearch.class), eq("default"), isNull(), eq(false)))
+                .thenReturn(SearchResponse.<HouseholdMember>builder().response(Collections.emptyList()).totalCount(0L).build());
+
+        mockMvc.perform(post("/member/v1/bulk/_search?tenantId=default").contentType(MediaType
+                        .APPLICATION_JSON).content(objectMapper.writeValueAsString(parentIdSearchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.TotalCount").value(0));
+
+        verify(householdMemberService).searchByHouseholdIds(any(ParentIdSearch.class), eq("default"), isNull(), eq(false));
+    }
+
+    @Test
+    @DisplayName("should fail household member bulk search if no parent ids are passed")
+    void shouldHouseholdMemberBulkSearchFailIfParentIdsAreEmpty() throws Exception {
+        ParentIdSearchRequest parentIdSearchRequest = ParentIdSearchRequest.builder()
+                .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
+                .parentIdSearch(ParentIdSearch.builder().parentIds(Collections.emptyList()).build())
+                .build();
+
+        mockMvc.perform(post("/member/v1/bulk/_search?tenantId=default").contentType(MediaType
+                        .APPLICATION_JSON).content(objectMapper.writeValueAsString(parentIdSearchRequest)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(householdMemberService);
+    }
+
+    @Test
+    @DisplayName("should fail household member bulk search if tenant id is missing")
+    void shouldHouseholdMemberBulkSearchFailIfTenantIdIsMissing() throws Exception {
+        ParentIdSearchRequest parentIdSearchRequest = ParentIdSearchRequest.builder()
+                .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
+                .parentIdSearch(ParentIdSearch.builder().parentIds(Collections.singletonList("some-parent-id")).build())
+                .build();
+
+        mockMvc.perform(post("/member/v1/bulk/_search").contentType(MediaType
+                        .APPLICATION_JSON).content(objectMapper.writeValueAsString(parentIdSearchRequest)))
+                .andExpect(status().isBadRequest());
+    }
 }
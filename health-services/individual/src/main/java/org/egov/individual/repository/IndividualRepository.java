@@ -35,7 +35,6 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ReflectionUtils;
 
-import static org.egov.common.utils.CommonUtils.constructTotalCountCTEAndReturnResult;
 import static org.egov.common.utils.CommonUtils.getIdMethod;
 
 @Repository
@@ -80,7 +79,7 @@ public class IndividualRepository extends GenericRepository<Individual> {
                 includeDeleted), idColumn);
         Map<String, Object> paramMap = new HashMap<>();
         paramMap.put("ids", ids);
-        Long totalCount = constructTotalCountCTEAndReturnResult(individualQuery, paramMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(individualQuery, paramMap);
         List<Individual> individuals = this.namedParameterJdbcTemplate
                 .query(individualQuery, paramMap, this.rowMapper);
         enrichIndividuals(individuals, includeDeleted);
@@ -99,7 +98,7 @@ public class IndividualRepository extends GenericRepository<Individual> {
         }
         if (searchObject.getIdentifier() == null) {
             String queryWithoutLimit = query.replace("ORDER BY createdtime DESC LIMIT :limit OFFSET :offset", "");
-            Long totalCount = constructTotalCountCTEAndReturnResult(queryWithoutLimit, paramsMap, this.namedParameterJdbcTemplate);
+            Long totalCount = countTotal(queryWithoutLimit, paramsMap);
             List<Individual> individuals = this.namedParameterJdbcTemplate.query(query, paramsMap, this.rowMapper);
             if (!individuals.isEmpty()) {
                 enrichIndividuals(individuals, includeDeleted);
@@ -117,15 +116,8 @@ public class IndividualRepository extends GenericRepository<Individual> {
                 List<Individual> individuals = this.namedParameterJdbcTemplate.query(query,
                         paramsMap, this.rowMapper);
                 if (!individuals.isEmpty()) {
-                    individuals.forEach(individual -> {
-                        individual.setIdentifiers(identifiers);
-                        List<Address> addresses = getAddressForIndividual(individual.getId(), includeDeleted);
-                        individual.setAddress(addresses);
-                        Map<String, Object> indServerGenIdParamMap = new HashMap<>();
-                        indServerGenIdParamMap.put("individualId", individual.getId());
-                        indServerGenIdParamMap.put("isDeleted", includeDeleted);
-                        enrichSkills(includeDeleted, individual, indServerGenIdParamMap);
-                    });
+                    individuals.forEach(individual -> individual.setIdentifiers(identifiers));
+                    enrichAddressesAndSkills(individuals, includeDeleted);
                 }
                 return SearchResponse.<Individual>builder().response(individuals).build();
             }
@@ -161,20 +153,13 @@ public class IndividualRepository extends GenericRepository<Individual> {
                 }
                 query = query + " ORDER BY distance ASC ";
                 paramsMap.put("distance", searchObject.getSearchRadius());
-                Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+                Long totalCount = countTotal(query, paramsMap);
                 query = query + "LIMIT :limit OFFSET :offset";
                 List<Individual> individuals = this.namedParameterJdbcTemplate.query(query,
                         paramsMap, this.rowMapper);
                 if (!individuals.isEmpty()) {
-                    individuals.forEach(individual -> {
-                        individual.setIdentifiers(identifiers);
-                        List<Address> addresses = getAddressForIndividual(individual.getId(), includeDeleted);
-                        individual.setAddress(addresses);
-                        Map<String, Object> indServerGenIdParamMap = new HashMap<>();
-                        indServerGenIdParamMap.put("individualId", individual.getId());
-                        indServerGenIdParamMap.put("isDeleted", includeDeleted);
-                        enrichSkills(includeDeleted, individual, indServerGenIdParamMap);
-                    });
+                    individuals.forEach(individual -> individual.setIdentifiers(identifiers));
+                    enrichAddressesAndSkills(individuals, includeDeleted);
                 }
                 return SearchResponse.<Individual>builder().totalCount(totalCount).response(individuals).build();
             }
@@ -188,7 +173,7 @@ public class IndividualRepository extends GenericRepository<Individual> {
             query = query + " ORDER BY distance ASC ";
             paramsMap.put("distance", searchObject.getSearchRadius());
 
-            Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+            Long totalCount = countTotal(query, paramsMap);
 
             query = query + "LIMIT :limit OFFSET :offset";
             List<Individual> individuals = this.namedParameterJdbcTemplate.query(query,
@@ -206,14 +191,6 @@ public class IndividualRepository extends GenericRepository<Individual> {
         return searchObject.getLatitude() != null && searchObject.getLongitude() != null && searchObject.getSearchRadius() != null;
     }
 
-    private void enrichSkills(Boolean includeDeleted, Individual individual, Map<String, Object> indServerGenIdParamMap) {
-        String individualSkillQuery = getQuery("SELECT * FROM individual_skill WHERE individualId =:individualId",
-                includeDeleted);
-        List<Skill> skills = this.namedParameterJdbcTemplate.query(individualSkillQuery, indServerGenIdParamMap,
-                new SkillRowMapper());
-        individual.setSkills(skills);
-    }
-
     private String getQueryForIndividual(IndividualSearch searchObject, Integer limit, Integer offset,
                                          String tenantId, Long lastChangedSince,
                                          Boolean includeDeleted, Map<String, Object> paramsMap) {
@@ -311,42 +288,73 @@ public class IndividualRepository extends GenericRepository<Individual> {
         return GenericQueryBuilder.generateQuery(identifierQuery, identifierWhereFields).toString();
     }
 
-    private List<Address> getAddressForIndividual(String individualId, Boolean includeDeleted) {
+    private Map<String, List<Address>> getAddressesByIndividualId(List<String> individualIds, Boolean includeDeleted) {
         String addressQuery = getQuery("SELECT a.*, ia.individualId, ia.addressId, ia.createdBy, ia.lastModifiedBy, ia.createdTime, ia.lastModifiedTime, ia.isDeleted" +
                 " FROM (" +
                 "    SELECT individualId, addressId, type, createdBy, lastModifiedBy, createdTime, lastModifiedTime, isDeleted, " +
                 "           ROW_NUMBER() OVER (PARTITION BY individualId, type ORDER BY lastModifiedTime DESC) AS rn" +
                 "    FROM individual_address" +
-                "    WHERE individualId = :individualId" +
+                "    WHERE individualId IN (:individualIds)" +
                 " ) AS ia" +
                 " JOIN address AS a ON ia.addressId = a.id" +
                 " WHERE ia.rn = 1 ", includeDeleted, "ia");
-        Map<String, Object> indServerGenIdParamMap = new HashMap<>();
-        indServerGenIdParamMap.put("individualId", individualId);
-        indServerGenIdParamMap.put("isDeleted", includeDeleted);
         return this.namedParameterJdbcTemplate
-                .query(addressQuery, indServerGenIdParamMap, new AddressRowMapper());
+                .query(addressQuery, getIndividualIdsParamMap(individualIds, includeDeleted), new AddressRowMapper())
+                .stream().collect(Collectors.groupingBy(Address::getIndividualId));
+    }
+
+    private Map<String, List<Identifier>> getIdentifiersByIndividualId(List<String> individualIds, Boolean includeDeleted) {
+        String individualIdentifierQuery = getQuery("SELECT * FROM individual_identifier ii WHERE ii.individualId IN (:individualIds)",
+                includeDeleted);
+        return this.namedParameterJdbcTemplate
+                .query(individualIdentifierQuery, getIndividualIdsParamMap(individualIds, includeDeleted),
+                        new IdentifierRowMapper())
+                .stream().collect(Collectors.groupingBy(Identifier::getIndividualId));
+    }
+
+    private Map<String, List<Skill>> getSkillsByIndividualId(List<String> individualIds, Boolean includeDeleted) {
+        String individualSkillQuery = getQuery("SELECT * FROM individual_skill WHERE individualId IN (:individualIds)",
+                includeDeleted);
+        return this.namedParameterJdbcTemplate
+                .query(individualSkillQuery, getIndividualIdsParamMap(individualIds, includeDeleted), new SkillRowMapper())
+                .stream().collect(Collectors.groupingBy(Skill::getIndividualId));
+    }
+
+    private Map<String, Object> getIndividualIdsParamMap(List<String> individualIds, Boolean includeDeleted) {
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("individualIds", individualIds);
+        paramMap.put("isDeleted", includeDeleted);
+        return paramMap;
+    }
+
+    private List<String> getIndividualIds(List<Individual> individuals) {
+        return individuals.stream().map(Individual::getId).distinct().collect(Collectors.toList());
     }
 
+    /**
+     * Loads the addresses, identifiers and skills of the whole page with one query each
+     * instead of one set of queries per individual.
+     */
     private void enrichIndividuals(List<Individual> individuals, Boolean includeDeleted) {
         if (!individuals.isEmpty()) {
-            individuals.forEach(individual -> {
-                Map<String, Object> indServerGenIdParamMap = new HashMap<>();
-                indServerGenIdParamMap.put("individualId", individual.getId());
-                indServerGenIdParamMap.put("isDeleted", includeDeleted);
-                List<Address> addresses = getAddressForIndividual(individual.getId(), includeDeleted);
-                String individualIdentifierQuery = getQuery("SELECT * FROM individual_identifier ii WHERE ii.individualId =:individualId",
-                        includeDeleted);
-                List<Identifier> identifiers = this.namedParameterJdbcTemplate
-                        .query(individualIdentifierQuery, indServerGenIdParamMap,
-                                new IdentifierRowMapper());
-                enrichSkills(includeDeleted, individual, indServerGenIdParamMap);
-                individual.setAddress(addresses);
-                individual.setIdentifiers(identifiers);
-            });
+            Map<String, List<Identifier>> identifiers = getIdentifiersByIndividualId(getIndividualIds(individuals),
+                    includeDeleted);
+            individuals.forEach(individual -> individual.setIdentifiers(
+                    identifiers.getOrDefault(individual.getId(), new ArrayList<>())));
+            enrichAddressesAndSkills(individuals, includeDeleted);
         }
     }
 
+    private void enrichAddressesAndSkills(List<Individual> individuals, Boolean includeDeleted) {
+        List<String> individualIds = getIndividualIds(individuals);
+        Map<String, List<Address>> addresses = getAddressesByIndividualId(individualIds, includeDeleted);
+        Map<String, List<Skill>> skills = getSkillsByIndividualId(individualIds, includeDeleted);
+        individuals.forEach(individual -> {
+            individual.setAddress(addresses.getOrDefault(individual.getId(), new ArrayList<>()));
+            individual.setSkills(skills.getOrDefault(individual.getId(), new ArrayList<>()));
+        });
+    }
+
     private String getQuery(String baseQuery, Boolean includeDeleted) {
         return getQuery(baseQuery, includeDeleted, null);
     }
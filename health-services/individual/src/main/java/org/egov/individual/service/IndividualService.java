@@ -28,6 +28,7 @@ import org.egov.common.models.individual.IndividualSearch;
 import org.egov.common.models.project.ApiOperation;
 import org.egov.common.models.user.UserRequest;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.individual.config.IndividualProperties;
 import org.egov.individual.repository.IndividualRepository;
@@ -107,6 +108,9 @@ public class IndividualService {
             validator.getClass().equals(NullIdValidator.class)
                     || validator.getClass().equals(NonExistentEntityValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     @Autowired
     public IndividualService(IndividualRepository individualRepository,
                              List<Validator<IndividualBulkRequest, Individual>> validators,
@@ -173,7 +177,7 @@ public class IndividualService {
         log.info("validating request");
         Map<Individual, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 isApplicableForCreate, request,
-                SET_INDIVIDUALS);
+                SET_INDIVIDUALS, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             Set<String> hashset = new HashSet<>();
             for (Map.Entry<Individual, ErrorDetails> entry : errorDetailsMap.entrySet()) {
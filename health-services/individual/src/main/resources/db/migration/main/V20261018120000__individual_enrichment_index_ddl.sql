@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_individual_address_individualId_type_lastModifiedTime ON INDIVIDUAL_ADDRESS (individualId, type, lastModifiedTime DESC);
+CREATE INDEX IF NOT EXISTS idx_individual_skill_individualId ON INDIVIDUAL_SKILL (individualId);
@@ -2,6 +2,7 @@ package org.egov.individual.repository;
 
 import org.egov.common.data.query.builder.SelectQueryBuilder;
 import org.egov.common.data.query.exception.QueryBuilderException;
+import org.egov.common.models.individual.Address;
 import org.egov.common.models.individual.Identifier;
 import org.egov.common.models.individual.Individual;
 import org.egov.individual.helper.IndividualSearchTestBuilder;
@@ -9,6 +10,7 @@ import org.egov.individual.helper.IndividualTestBuilder;
 import org.egov.individual.repository.rowmapper.AddressRowMapper;
 import org.egov.individual.repository.rowmapper.IdentifierRowMapper;
 import org.egov.individual.repository.rowmapper.IndividualRowMapper;
+import org.egov.individual.repository.rowmapper.SkillRowMapper;
 import org.egov.common.models.individual.IndividualSearch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,7 +27,10 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -190,4 +195,43 @@ class IndividualRepositoryTest {
         verify(namedParameterJdbcTemplate, times(1)).query(anyString(),
                 anyMap(), any(AddressRowMapper.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should enrich the whole page with one address, identifier and skill query")
+    void shouldEnrichWholePageWithOneQueryPerSubEntity() throws QueryBuilderException {
+        IndividualSearch individualSearch = IndividualSearchTestBuilder.builder()
+                .byGender()
+                .build();
+        List<Individual> individuals = Arrays.asList(
+                IndividualTestBuilder.builder().withId("some-id").build(),
+                IndividualTestBuilder.builder().withId("other-id").build(),
+                IndividualTestBuilder.builder().withId("another-id").build());
+
+        when(namedParameterJdbcTemplate.query(anyString(), anyMap(), any(IndividualRowMapper.class)))
+                .thenReturn(individuals);
+        when(namedParameterJdbcTemplate.query(anyString(), anyMap(), any(ResultSetExtractor.class))).thenReturn(3L);
+        when(namedParameterJdbcTemplate.query(anyString(), anyMap(), any(AddressRowMapper.class)))
+                .thenReturn(Arrays.asList(Address.builder().id("some-address-id").individualId("some-id").build(),
+                        Address.builder().id("other-address-id").individualId("other-id").build()));
+        when(namedParameterJdbcTemplate.query(anyString(), anyMap(), any(IdentifierRowMapper.class)))
+                .thenReturn(Collections.singletonList(Identifier.builder()
+                        .identifierId("some-identifier-id")
+                        .individualId("other-id")
+                        .build()));
+
+        individualRepository.find(individualSearch, 3, 0, "default", null, false);
+
+        verify(namedParameterJdbcTemplate, times(1))
+                .query(anyString(), anyMap(), any(AddressRowMapper.class));
+        verify(namedParameterJdbcTemplate, times(1))
+                .query(anyString(), anyMap(), any(IdentifierRowMapper.class));
+        verify(namedParameterJdbcTemplate, times(1))
+                .query(anyString(), anyMap(), any(SkillRowMapper.class));
+        assertEquals("some-address-id", individuals.get(0).getAddress().get(0).getId());
+        assertEquals("other-address-id", individuals.get(1).getAddress().get(0).getId());
+        assertTrue(individuals.get(2).getAddress().isEmpty());
+        assertEquals("some-identifier-id", individuals.get(1).getIdentifiers().get(0).getIdentifierId());
+        assertTrue(individuals.get(0).getIdentifiers().isEmpty());
+        assertTrue(individuals.get(2).getSkills().isEmpty());
+    }
+}
@@ -0,0 +1,140 @@
+package org.egov.individual.repository;
+
+import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.individual.Address;
+import org.egov.common.models.individual.Identifier;
+import org.egov.common.models.individual.Individual;
+import org.egov.common.models.individual.IndividualSearch;
+import org.egov.common.models.individual.Skill;
+import org.egov.individual.repository.rowmapper.AddressRowMapper;
+import org.egov.individual.repository.rowmapper.IdentifierRowMapper;
+import org.egov.individual.repository.rowmapper.IndividualRowMapper;
+import org.egov.individual.repository.rowmapper.SkillRowMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the latency of an individual search, including address, identifier and skill enrichment,
+ * for page sizes from 10 to 5000 rows.
+ * <p>
+ * The database is replaced by a template that answers every query after a fixed simulated round trip,
+ * so the curve reflects the number of round trips the repository makes rather than the query plans.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.egov.individual.repository.IndividualSearchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndividualSearchBenchmark {
+
+    @Param({"10", "100", "500", "1000", "5000"})
+    private int rows;
+
+    @Param({"500"})
+    private long roundTripMicros;
+
+    private IndividualRepository individualRepository;
+
+    private SimulatedJdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setUp() {
+        jdbcTemplate = new SimulatedJdbcTemplate(rows, TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        individualRepository = new IndividualRepository(null, jdbcTemplate, null, null,
+                new IndividualRowMapper());
+    }
+
+    @Benchmark
+    public SearchResponse<Individual> search() {
+        return individualRepository.find(IndividualSearch.builder().build(), rows, 0, "default",
+                null, false);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IndividualSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    /**
+     * Returns synthetic rows for the queries issued by {@link IndividualRepository} after parking
+     * for one simulated round trip per query.
+     */
+    static class SimulatedJdbcTemplate extends NamedParameterJdbcTemplate {
+
+        private final int rows;
+
+        private final long roundTripNanos;
+
+        SimulatedJdbcTemplate(int rows, long roundTripNanos) {
+            super(new JdbcTemplate());
+            this.rows = rows;
+            this.roundTripNanos = roundTripNanos;
+        }
+
+        @Override
+        public <T> T query(String sql, Map<String, ?> paramMap, ResultSetExtractor<T> rse) {
+            roundTrip();
+            return (T) Long.valueOf(rows);
+        }
+
+        @Override
+        public <T> List<T> query(String sql, Map<String, ?> paramMap, RowMapper<T> rowMapper) {
+            roundTrip();
+            if (rowMapper instanceof IndividualRowMapper) {
+                return (List<T>) IntStream.range(0, rows)
+                        .mapToObj(i -> Individual.builder().id("individual-" + i).tenantId("default").build())
+                        .collect(Collectors.toCollection(ArrayList::new));
+            }
+            if (rowMapper instanceof AddressRowMapper) {
+                return (List<T>) perIndividual(paramMap, id -> Address.builder().individualId(id).build());
+            }
+            if (rowMapper instanceof IdentifierRowMapper) {
+                return (List<T>) perIndividual(paramMap, id -> Identifier.builder().individualId(id).build());
+            }
+            if (rowMapper instanceof SkillRowMapper) {
+                return (List<T>) perIndividual(paramMap, id -> Skill.builder().individualId(id).build());
+            }
+            return Collections.emptyList();
+        }
+
+        private <T> List<T> perIndividual(Map<String, ?> paramMap, Function<String, T> factory) {
+            Object ids = paramMap.containsKey("individualIds") ? paramMap.get("individualIds")
+                    : Collections.singletonList(paramMap.get("individualId"));
+            return ((List<?>) ids).stream().map(id -> factory.apply((String) id)).collect(Collectors.toList());
+        }
+
+        private void roundTrip() {
+            LockSupport.parkNanos(roundTripNanos);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.egov.common.data.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Redis cache that stores one key per entity instead of one hash per table.
+ * <p>
+ * Keys are laid out as {@code <prefix>:<table>:<id>}, each with its own TTL, so entries expire
+ * independently and a write never extends the lifetime of unrelated entries. The TTL is
+ * spread with a random jitter so that entries written together do not all expire at the same
+ * instant. Optionally, the number of entries per table is bounded: every write is recorded in a
+ * per-table sorted set scored by expiry time and the entries closest to expiry are evicted first
+ * once the bound is exceeded.
+ *
+ * @param <T> The type of entity cached.
+ */
+@Slf4j
+public class KeyedRedisCache<T> {
+
+    private static final String KEY_SEPARATOR = ":";
+
+    private static final String INDEX_SUFFIX = "__index";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final String keyPrefix;
+
+    private final long timeToLiveInSeconds;
+
+    private final int ttlJitterPercent;
+
+    private final long maxEntries;
+
+    public KeyedRedisCache(RedisTemplate<String, Object> redisTemplate, String keyPrefix, String tableName,
+                           long timeToLiveInSeconds, int ttlJitterPercent, long maxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix + KEY_SEPARATOR + tableName.trim().split("\\s+")[0];
+        this.timeToLiveInSeconds = timeToLiveInSeconds;
+        this.ttlJitterPercent = Math.max(0, Math.min(ttlJitterPercent, 100));
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Fetches entities for the given ids with a single MGET.
+     *
+     * @param ids The ids to look up.
+     * @return The entities found keyed by id, misses are skipped.
+     */
+    public Map<String, T> multiGet(Collection<String> ids) {
+        List<String> idsToFind = ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        Map<String, T> found = new HashMap<>();
+        if (idsToFind.isEmpty()) {
+            return found;
+        }
+        List<Object> values = redisTemplate.opsForValue()
+                .multiGet(idsToFind.stream().map(this::key).collect(Collectors.toList()));
+        if (values == null) {
+            return found;
+        }
+        for (int i = 0; i < Math.min(idsToFind.size(), values.size()); i++) {
+            if (values.get(i) != null) {
+                found.put(idsToFind.get(i), (T) values.get(i));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Writes all entities in one pipeline, each under its own key with its own TTL.
+     *
+     * @param entities The entities keyed by id.
+     */
+    public void multiSet(Map<String, T> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return;
+        }
+        String indexKey = indexKey();
+        long now = System.currentTimeMillis();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                entities.forEach((id, entity) -> {
+                    long ttl = ttlWithJitter();
+                    String key = key(id);
+                    ops.opsForValue().set(key, entity, ttl, TimeUnit.SECONDS);
+                    if (maxEntries > 0) {
+                        ops.opsForZSet().add(indexKey, key, now + TimeUnit.SECONDS.toMillis(ttl));
+                    }
+                });
+                if (maxEntries > 0) {
+                    // drop index entries whose keys redis has already expired
+                    ops.opsForZSet().removeRangeByScore(indexKey, 0, now);
+                    ops.expire(indexKey, timeToLiveInSeconds * 2, TimeUnit.SECONDS);
+                }
+                return null;
+            }
+        });
+        if (maxEntries > 0) {
+            evictOverflow(indexKey);
+        }
+    }
+
+    /**
+     * Removes entities from the cache.
+     *
+     * @param ids The ids to remove.
+     */
+    public void evict(Collection<String> ids) {
+        List<String> keys = ids.stream().filter(Objects::nonNull)
+                .map(this::key).collect(Collectors.toList());
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(keys);
+        if (maxEntries > 0) {
+            redisTemplate.opsForZSet().remove(indexKey(), keys.toArray());
+        }
+    }
+
+    private void evictOverflow(String indexKey) {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(indexKey);
+            if (size == null || size <= maxEntries) {
+                return;
+            }
+            Set<Object> overflow = redisTemplate.opsForZSet().range(indexKey, 0, size - maxEntries - 1);
+            if (overflow == null || overflow.isEmpty()) {
+                return;
+            }
+            List<String> keys = overflow.stream().map(String::valueOf).collect(Collectors.toList());
+            redisTemplate.delete(keys);
+            redisTemplate.opsForZSet().remove(indexKey, overflow.toArray());
+            log.info("Evicted {} entries from {}", keys.size(), keyPrefix);
+        } catch (Exception exception) {
+            log.warn("Error while evicting from cache: {}", ExceptionUtils.getStackTrace(exception));
+        }
+    }
+
+    private long ttlWithJitter() {
+        long jitter = timeToLiveInSeconds * ttlJitterPercent / 100;
+        if (jitter <= 0) {
+            return timeToLiveInSeconds;
+        }
+        return timeToLiveInSeconds - jitter + ThreadLocalRandom.current().nextLong(2 * jitter + 1);
+    }
+
+    private String indexKey() {
+        return keyPrefix + KEY_SEPARATOR + INDEX_SUFFIX;
+    }
+
+    String key(String id) {
+        return keyPrefix + KEY_SEPARATOR + id;
+    }
+}
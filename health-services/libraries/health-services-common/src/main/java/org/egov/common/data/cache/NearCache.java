@@ -0,0 +1,79 @@
+package org.egov.common.data.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded in-process cache used as the first tier in front of Redis.
+ * <p>
+ * Entries are evicted in least recently used order once {@code maxSize} is reached and are
+ * treated as absent once {@code timeToLiveInMillis} has passed since they were written.
+ *
+ * @param <T> The type of entity cached.
+ */
+public class NearCache<T> {
+
+    private final long timeToLiveInMillis;
+
+    private final Map<String, Entry<T>> entries;
+
+    public NearCache(int maxSize, long timeToLiveInMillis) {
+        this.timeToLiveInMillis = timeToLiveInMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the live entries for the given ids.
+     *
+     * @param ids The ids to look up.
+     * @return The entities found keyed by id.
+     */
+    public synchronized Map<String, T> getAll(Collection<String> ids) {
+        Map<String, T> found = new HashMap<>();
+        long now = System.currentTimeMillis();
+        for (String id : ids) {
+            Entry<T> entry = entries.get(id);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.expiresAt < now) {
+                entries.remove(id);
+            } else {
+                found.put(id, entry.value);
+            }
+        }
+        return found;
+    }
+
+    public synchronized void putAll(Map<String, T> values) {
+        long expiresAt = System.currentTimeMillis() + timeToLiveInMillis;
+        values.forEach((id, value) -> entries.put(id, new Entry<>(value, expiresAt)));
+    }
+
+    public synchronized void invalidate(Collection<String> ids) {
+        ids.forEach(entries::remove);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<T> {
+
+        private final T value;
+
+        private final long expiresAt;
+
+        private Entry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
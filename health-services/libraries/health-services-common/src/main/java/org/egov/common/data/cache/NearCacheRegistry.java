@@ -0,0 +1,155 @@
+package org.egov.common.data.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the in-process near caches of every {@link org.egov.common.data.repository.GenericRepository}
+ * and keeps them coherent across replicas.
+ * <p>
+ * Every write through the repository updates the local near cache and publishes the written ids on a
+ * Redis channel. Other replicas drop those ids from their near cache so the next read goes to Redis.
+ * Near caching is enabled only when {@code spring.cache.near.enabled=true}; when
+ * {@code spring.cache.near.tables} is set, only the listed tables get a near cache.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.cache.near.enabled", havingValue = "true")
+public class NearCacheRegistry {
+
+    private static final String MESSAGE_SEPARATOR = "|";
+
+    private static final String ID_SEPARATOR = ",";
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, NearCache<?>> nearCaches = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Value("${spring.cache.near.max-size:10000}")
+    private int defaultMaxSize;
+
+    @Value("${spring.cache.near.time-to-live-ms:30000}")
+    private long defaultTimeToLiveInMillis;
+
+    @Value("#{${spring.cache.near.max-size-per-table:{:}}}")
+    private Map<String, Integer> maxSizePerTable;
+
+    @Value("#{${spring.cache.near.time-to-live-ms-per-table:{:}}}")
+    private Map<String, Long> timeToLivePerTable;
+
+    @Value("${spring.cache.near.tables:}")
+    private Set<String> tables;
+
+    @Value("${spring.cache.near.invalidation-channel:health-near-cache-invalidation}")
+    private String invalidationChannel;
+
+    @Autowired
+    public NearCacheRegistry(RedisTemplate<String, Object> redisTemplate,
+                             RedisConnectionFactory redisConnectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.redisConnectionFactory = redisConnectionFactory;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactory);
+        listenerContainer.addMessageListener(this::onInvalidation, new ChannelTopic(invalidationChannel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Subscribed to near cache invalidation channel {}", invalidationChannel);
+    }
+
+    @PreDestroy
+    public void unsubscribe() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * Returns the near cache for a table, creating it on first use.
+     *
+     * @param tableName The table name the repository is bound to.
+     * @return The near cache, or null if near caching is disabled for the table.
+     */
+    public <T> NearCache<T> getNearCache(String tableName) {
+        String table = normalise(tableName);
+        if (table == null || (!tables.isEmpty() && !tables.contains(table))) {
+            return null;
+        }
+        return (NearCache<T>) nearCaches.computeIfAbsent(table, t -> new NearCache<T>(
+                maxSizePerTable.getOrDefault(t, defaultMaxSize),
+                timeToLivePerTable.getOrDefault(t, defaultTimeToLiveInMillis)));
+    }
+
+    /**
+     * Updates the local near cache with written entities and asks other replicas to drop them.
+     *
+     * @param tableName The table name the repository is bound to.
+     * @param written   The written entities keyed by cache key.
+     */
+    public <T> void onWrite(String tableName, Map<String, T> written) {
+        NearCache<T> nearCache = getNearCache(tableName);
+        if (nearCache == null || written.isEmpty()) {
+            return;
+        }
+        nearCache.putAll(written);
+        publishInvalidation(normalise(tableName), written.keySet());
+    }
+
+    private void publishInvalidation(String table, Collection<String> ids) {
+        String payload = String.join(MESSAGE_SEPARATOR, instanceId, table, String.join(ID_SEPARATOR, ids));
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection
+                    .publish(invalidationChannel.getBytes(StandardCharsets.UTF_8),
+                            payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception exception) {
+            log.warn("Error while publishing near cache invalidation for {}: {}", table, exception.getMessage());
+        }
+    }
+
+    private void onInvalidation(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        NearCache<?> nearCache = nearCaches.get(parts[1]);
+        if (nearCache != null) {
+            List<String> ids = Arrays.stream(parts[2].split(ID_SEPARATOR)).collect(Collectors.toList());
+            nearCache.invalidate(ids);
+            log.debug("Invalidated {} near cache entries of {}", ids.size(), parts[1]);
+        }
+    }
+
+    private static String normalise(String tableName) {
+        return tableName == null ? null : tableName.trim().split("\\s+")[0];
+    }
+}
@@ -0,0 +1,80 @@
+package org.egov.common.data.query.count;
+
+import org.egov.common.models.core.TotalCountMode;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Holds the total count mode asked for by the search being served on the current thread.
+ * <p>
+ * The mode is set by {@link TotalCountFilter} from the {@code totalCountMode} request parameter so that every
+ * repository computing a total count picks it up without it being passed through each layer. The mode is bound to
+ * the request thread only: work handed to an executor must be wrapped with {@link #wrap(Supplier)} or run on an
+ * executor from {@link #propagating(Executor)}, which set the mode of the submitting thread for the task and clear it
+ * afterwards.
+ */
+public final class TotalCountContext {
+
+    private static final ThreadLocal<TotalCountMode> CURRENT_MODE = new ThreadLocal<>();
+
+    private TotalCountContext() {
+    }
+
+    /**
+     * Returns the mode asked for on the current thread, or null if the service default applies.
+     */
+    public static TotalCountMode getMode() {
+        return CURRENT_MODE.get();
+    }
+
+    public static void setMode(TotalCountMode mode) {
+        if (mode == null) {
+            CURRENT_MODE.remove();
+        } else {
+            CURRENT_MODE.set(mode);
+        }
+    }
+
+    public static void clear() {
+        CURRENT_MODE.remove();
+    }
+
+    /**
+     * Wraps work so that it runs with the mode of the calling thread, restoring the mode of the running thread after.
+     *
+     * @param work The work to run on another thread.
+     * @return The wrapped work.
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> work) {
+        TotalCountMode mode = CURRENT_MODE.get();
+        return () -> {
+            TotalCountMode previous = CURRENT_MODE.get();
+            setMode(mode);
+            try {
+                return work.get();
+            } finally {
+                setMode(previous);
+            }
+        };
+    }
+
+    /**
+     * Returns an executor running every task with the mode of the thread creating the executor.
+     *
+     * @param executor The executor to run the tasks on.
+     * @return The propagating executor.
+     */
+    public static Executor propagating(Executor executor) {
+        TotalCountMode mode = CURRENT_MODE.get();
+        return command -> executor.execute(() -> {
+            TotalCountMode previous = CURRENT_MODE.get();
+            setMode(mode);
+            try {
+                command.run();
+            } finally {
+                setMode(previous);
+            }
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package org.egov.common.data.query.count;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.models.core.TotalCountMode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the {@code totalCountMode} request parameter to {@link TotalCountContext} for the duration of the request.
+ */
+@Slf4j
+@Component
+public class TotalCountFilter extends OncePerRequestFilter {
+
+    public static final String TOTAL_COUNT_MODE_PARAM = "totalCountMode";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String mode = request.getParameter(TOTAL_COUNT_MODE_PARAM);
+        try {
+            if (mode != null && !mode.isEmpty()) {
+                TotalCountContext.setMode(TotalCountMode.valueOf(mode.toUpperCase()));
+            }
+        } catch (IllegalArgumentException exception) {
+            log.warn("Ignoring invalid {}: {}", TOTAL_COUNT_MODE_PARAM, mode);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TotalCountContext.clear();
+        }
+    }
+}
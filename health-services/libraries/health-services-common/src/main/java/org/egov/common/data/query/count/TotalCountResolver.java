@@ -0,0 +1,138 @@
+package org.egov.common.data.query.count;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.models.core.TotalCountMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Computes the total count of a search query according to the {@link TotalCountMode} of the current request, or the
+ * service default {@code search.total-count.default-mode} when the request does not ask for one.
+ */
+@Slf4j
+@Component
+public class TotalCountResolver {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final TotalCountMode defaultMode;
+
+    private final long cacheTimeToLiveInMillis;
+
+    private final Map<String, CachedCount> countCache;
+
+    public TotalCountResolver(@Value("${search.total-count.default-mode:EXACT}") TotalCountMode defaultMode,
+                              @Value("${search.total-count.cache.time-to-live-ms:30000}") long cacheTimeToLiveInMillis,
+                              @Value("${search.total-count.cache.max-size:1000}") int cacheMaxSize) {
+        this.defaultMode = defaultMode == null ? TotalCountMode.EXACT : defaultMode;
+        this.cacheTimeToLiveInMillis = cacheTimeToLiveInMillis;
+        this.countCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+                return size() > cacheMaxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the total count of rows the query matches, or null when counting is disabled.
+     *
+     * @param query                      The search query without pagination.
+     * @param paramsMap                  The params of the query.
+     * @param namedParameterJdbcTemplate The template to run the count with.
+     * @return The total count, or null for {@link TotalCountMode#NONE}.
+     */
+    public Long count(String query, Map<String, Object> paramsMap,
+                      NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        TotalCountMode mode = TotalCountContext.getMode();
+        switch (mode == null ? defaultMode : mode) {
+            case NONE:
+                return null;
+            case ESTIMATED:
+                return estimatedCount(query, paramsMap, namedParameterJdbcTemplate);
+            case CACHED:
+                return cachedCount(query, paramsMap, namedParameterJdbcTemplate);
+            default:
+                return exactCount(query, paramsMap, namedParameterJdbcTemplate);
+        }
+    }
+
+    /**
+     * Counts the rows the query matches exactly.
+     */
+    public static Long exactCount(String query, Map<String, Object> paramsMap,
+                           NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        String cteQuery = "WITH result_cte AS ("+query+"), totalCount_cte AS (SELECT COUNT(*) AS totalRows FROM result_cte) select * from totalCount_cte";
+        return namedParameterJdbcTemplate.query(cteQuery, paramsMap, resultSet -> {
+            if(resultSet.next())
+                return resultSet.getLong("totalRows");
+            else
+                return 0L;
+        });
+    }
+
+    // Planner row estimate of the query, falls back to an exact count if the plan cannot be read
+    static Long estimatedCount(String query, Map<String, Object> paramsMap,
+                               NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        try {
+            String plan = namedParameterJdbcTemplate.query("EXPLAIN (FORMAT JSON) " + query, paramsMap,
+                    resultSet -> resultSet.next() ? resultSet.getString(1) : null);
+            JsonNode planRows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            if (planRows.isNumber()) {
+                return planRows.asLong();
+            }
+        } catch (Exception exception) {
+            log.warn("Could not estimate total count, counting exactly: {}", exception.getMessage());
+        }
+        return exactCount(query, paramsMap, namedParameterJdbcTemplate);
+    }
+
+    Long cachedCount(String query, Map<String, Object> paramsMap,
+                            NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        String key = cacheKey(query, paramsMap);
+        long now = System.currentTimeMillis();
+        synchronized (countCache) {
+            CachedCount cachedCount = countCache.get(key);
+            if (cachedCount != null && cachedCount.expiresAt > now) {
+                return cachedCount.count;
+            }
+        }
+        Long count = exactCount(query, paramsMap, namedParameterJdbcTemplate);
+        synchronized (countCache) {
+            countCache.put(key, new CachedCount(count, now + cacheTimeToLiveInMillis));
+        }
+        return count;
+    }
+
+    // Whitespace-insensitive query text plus params in a stable order, array params rendered by their values
+    private static String cacheKey(String query, Map<String, Object> paramsMap) {
+        String normalisedQuery = query.trim().replaceAll("\\s+", " ");
+        if (paramsMap == null) {
+            return normalisedQuery + "|";
+        }
+        StringBuilder key = new StringBuilder(normalisedQuery).append('|');
+        new TreeMap<>(paramsMap).forEach((name, value) -> key.append(name).append('=')
+                .append(Arrays.deepToString(new Object[] {value})).append(','));
+        return key.toString();
+    }
+
+    private static final class CachedCount {
+
+        private final Long count;
+
+        private final long expiresAt;
+
+        private CachedCount(Long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.egov.common.data.query.pagination;
+
+import lombok.Getter;
+import org.egov.tracer.model.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Opaque cursor for keyset (seek) pagination over {@code (lastModifiedTime, id)}.
+ * <p>
+ * Instead of skipping {@code offset} rows, the next page is fetched with
+ * {@code WHERE (lastModifiedTime, id) > (:cursorLastModifiedTime, :cursorId)} ordered by the same columns,
+ * so every page costs the same as the first one when {@code (lastModifiedTime, id)} is indexed.
+ * Clients start keyset pagination by passing {@value #START} as the cursor and then pass the returned
+ * next cursor until it is null.
+ */
+@Getter
+public class KeysetCursor {
+
+    public static final String START = "start";
+
+    public static final String CURSOR_LAST_MODIFIED_TIME = "cursorLastModifiedTime";
+
+    public static final String CURSOR_ID = "cursorId";
+
+    private static final String SEPARATOR = "|";
+
+    private final Long lastModifiedTime;
+
+    private final String id;
+
+    private KeysetCursor(Long lastModifiedTime, String id) {
+        this.lastModifiedTime = lastModifiedTime;
+        this.id = id;
+    }
+
+    /**
+     * Encodes the position of a record into an opaque cursor.
+     *
+     * @param lastModifiedTime The last modified time of the record.
+     * @param id               The id of the record.
+     * @return The encoded cursor.
+     */
+    public static String encode(Long lastModifiedTime, String id) {
+        String raw = (lastModifiedTime == null ? 0L : lastModifiedTime) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode(Long, String)}.
+     *
+     * @param cursor The encoded cursor.
+     * @return The decoded cursor, or null if no cursor was passed.
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        if (START.equals(cursor)) {
+            return new KeysetCursor(null, null);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(Long.parseLong(raw.substring(0, index)), raw.substring(index + 1));
+        } catch (RuntimeException exception) {
+            throw new CustomException("INVALID_CURSOR", "Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Returns the predicate that seeks past this cursor and puts its parameters in the params map.
+     *
+     * @param alias     The table alias to qualify the columns with, may be empty.
+     * @param paramsMap The params map of the query.
+     * @return The predicate starting with AND, or an empty string for the first page.
+     */
+    public String toPredicate(String alias, Map<String, Object> paramsMap) {
+        if (id == null) {
+            return "";
+        }
+        paramsMap.put(CURSOR_LAST_MODIFIED_TIME, lastModifiedTime);
+        paramsMap.put(CURSOR_ID, id);
+        return String.format("AND (%1$slastModifiedTime, %1$sid) > (:%2$s, :%3$s) ",
+                qualifier(alias), CURSOR_LAST_MODIFIED_TIME, CURSOR_ID);
+    }
+
+    /**
+     * Returns the ORDER BY clause matching the keyset columns.
+     *
+     * @param alias The table alias to qualify the columns with, may be empty.
+     * @return The ORDER BY clause.
+     */
+    public static String orderBy(String alias) {
+        return String.format("ORDER BY %1$slastModifiedTime ASC, %1$sid ASC ", qualifier(alias));
+    }
+
+    /**
+     * Builds the cursor for the page after the given one.
+     *
+     * @param page                   The records of the current page in keyset order.
+     * @param limit                  The page size requested.
+     * @param lastModifiedTimeMapper Extracts the last modified time of a record.
+     * @param idMapper               Extracts the id of a record.
+     * @return The next cursor, or null if the page is the last one.
+     */
+    public static <T> String next(List<T> page, Integer limit, Function<T, Long> lastModifiedTimeMapper,
+                                  Function<T, String> idMapper) {
+        if (page == null || page.isEmpty() || limit == null || page.size() < limit) {
+            return null;
+        }
+        T last = page.get(page.size() - 1);
+        return encode(lastModifiedTimeMapper.apply(last), idMapper.apply(last));
+    }
+
+    private static String qualifier(String alias) {
+        return alias == null || alias.isEmpty() ? "" : alias + ".";
+    }
+}
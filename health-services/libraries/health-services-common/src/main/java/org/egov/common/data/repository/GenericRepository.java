@@ -1,11 +1,19 @@
 package org.egov.common.data.repository;
 
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.egov.common.contract.models.AuditDetails;
+import org.egov.common.data.cache.KeyedRedisCache;
+import org.egov.common.data.cache.NearCache;
+import org.egov.common.data.cache.NearCacheRegistry;
+import org.egov.common.data.query.count.TotalCountResolver;
 import org.egov.common.data.query.builder.SelectQueryBuilder;
 import org.egov.common.data.query.exception.QueryBuilderException;
+import org.egov.common.data.query.pagination.KeysetCursor;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.producer.Producer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -37,6 +45,11 @@ import static org.egov.common.utils.CommonUtils.getObjClass;
 @Slf4j
 public abstract class GenericRepository<T> {
 
+    /**
+     * The most parent ids matched by one query of {@link #findByParentIds}.
+     */
+    public static final int PARENT_IDS_PAGE_SIZE = 500;
+
     protected final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     protected final Producer producer;
@@ -52,6 +65,26 @@ public abstract class GenericRepository<T> {
     @Value("${spring.cache.redis.time-to-live:60}")
     private String timeToLive;
 
+    @Value("${spring.cache.redis.keyed.enabled:false}")
+    private boolean keyedCacheEnabled;
+
+    @Value("${spring.cache.redis.keyed.prefix:health}")
+    private String keyedCachePrefix;
+
+    @Value("${spring.cache.redis.keyed.ttl-jitter-percent:10}")
+    private int keyedCacheTtlJitterPercent;
+
+    @Value("${spring.cache.redis.keyed.max-entries-per-table:0}")
+    private long keyedCacheMaxEntries;
+
+    private volatile KeyedRedisCache<T> keyedRedisCache;
+
+    @Autowired(required = false)
+    private NearCacheRegistry nearCacheRegistry;
+
+    @Autowired(required = false)
+    private TotalCountResolver totalCountResolver;
+
     protected GenericRepository(Producer producer, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
                                 RedisTemplate<String, Object> redisTemplate,
                                 SelectQueryBuilder selectQueryBuilder, RowMapper<T> rowMapper,
@@ -75,30 +108,54 @@ public abstract class GenericRepository<T> {
     }
 
     /**
-     * Finds entities by their IDs with an option to include deleted entities.
+     * Finds entities in cache by their IDs.
      *
-     * @param ids            The list of IDs to search for.
-     * @param includeDeleted Flag to include deleted entities in the search result.
-     * @return A list of entities found by the given IDs.
+     * @param ids The list of IDs to search for.
+     * @return A list of entities found in cache.
      */
     protected List<T> findInCache(List<String> ids) {
-        ArrayList<T> objFound = new ArrayList<>();
-        Collection<Object> collection = ids.stream().filter(Objects::nonNull)
+        List<String> idsToFind = ids.stream().filter(Objects::nonNull).distinct()
                 .collect(Collectors.toList());
+        ArrayList<T> objFound = new ArrayList<>();
+        NearCache<T> nearCache = getNearCache();
+        if (nearCache != null) {
+            Map<String, T> objFromNearCache = nearCache.getAll(idsToFind);
+            objFound.addAll(objFromNearCache.values());
+            idsToFind.removeAll(objFromNearCache.keySet());
+            if (idsToFind.isEmpty()) {
+                log.info("Near cache hit, {} items found", objFound.size());
+                recordCacheLookup(objFound.size(), 0);
+                return objFound;
+            }
+        }
         log.info("Searching in cache");
-        List<Object> objFromCache = redisTemplate.opsForHash()
-                .multiGet(tableName, collection).stream().filter(Objects::nonNull).collect(Collectors.toList());
+        Map<String, T> objFromCache = keyedCacheEnabled
+                ? getKeyedRedisCache().multiGet(idsToFind)
+                : findInHash(idsToFind);
         if (!objFromCache.isEmpty()) {
-            if (objFromCache.size() == 1 && objFromCache.contains(null)) {
-                log.info("Cache miss");
-            } else {
-                log.info("Cache hit, {} items found", objFromCache.size());
-                objFound = (ArrayList<T>) objFromCache.stream().map(Object.class::cast)
-                        .collect(Collectors.toList());
+            log.info("Cache hit, {} items found", objFromCache.size());
+            objFound.addAll(objFromCache.values());
+            if (nearCache != null) {
+                nearCache.putAll(objFromCache);
             }
         } else {
             log.info("Cache miss");
         }
+        recordCacheLookup(objFound.size(), idsToFind.size() - objFromCache.size());
+        return objFound;
+    }
+
+    private Map<String, T> findInHash(List<String> ids) {
+        Map<String, T> objFound = new HashMap<>();
+        List<Object> objFromCache = redisTemplate.opsForHash().multiGet(tableName, new ArrayList<>(ids));
+        if (objFromCache == null) {
+            return objFound;
+        }
+        for (int i = 0; i < Math.min(ids.size(), objFromCache.size()); i++) {
+            if (objFromCache.get(i) != null) {
+                objFound.put(ids.get(i), (T) objFromCache.get(i));
+            }
+        }
         return objFound;
     }
 
@@ -202,14 +259,44 @@ public abstract class GenericRepository<T> {
                                         obj -> obj,
                                         // in case of duplicates pick the latter
                                         (obj1, obj2) -> obj2));
-                redisTemplate.opsForHash().putAll(tableName, objMap);
-                redisTemplate.expire(tableName, Long.parseLong(timeToLive), TimeUnit.SECONDS);
+                if (keyedCacheEnabled) {
+                    getKeyedRedisCache().multiSet(objMap);
+                } else {
+                    redisTemplate.opsForHash().putAll(tableName, objMap);
+                    redisTemplate.expire(tableName, Long.parseLong(timeToLive), TimeUnit.SECONDS);
+                }
+                if (nearCacheRegistry != null) {
+                    nearCacheRegistry.onWrite(tableName, objMap);
+                }
             }
         } catch (Exception exception) {
             log.warn("Error while saving to cache: {}", ExceptionUtils.getStackTrace(exception));
         }
     }
 
+    private NearCache<T> getNearCache() {
+        return nearCacheRegistry == null ? null : nearCacheRegistry.getNearCache(tableName);
+    }
+
+    private KeyedRedisCache<T> getKeyedRedisCache() {
+        if (keyedRedisCache == null) {
+            synchronized (this) {
+                if (keyedRedisCache == null) {
+                    keyedRedisCache = new KeyedRedisCache<>(redisTemplate, keyedCachePrefix, tableName,
+                            Long.parseLong(timeToLive), keyedCacheTtlJitterPercent, keyedCacheMaxEntries);
+                }
+            }
+        }
+        return keyedRedisCache;
+    }
+
+    // Record cache hits and misses per table
+    private void recordCacheLookup(int hits, int misses) {
+        String table = tableName == null ? "unknown" : tableName.trim().split("\\s+")[0];
+        Metrics.counter("health.cache.lookups", "table", table, "result", "hit").increment(hits);
+        Metrics.counter("health.cache.lookups", "table", table, "result", "miss").increment(Math.max(misses, 0));
+    }
+
     /**
      * Puts objects in cache.
      *
@@ -256,32 +343,59 @@ public abstract class GenericRepository<T> {
                                            String tenantId,
                                            Long lastChangedSince,
                                            Boolean includeDeleted) throws QueryBuilderException {
-        String query = selectQueryBuilder.build(searchObject, tableName);
-        query += " AND tenantId=:tenantId ";
-        if (query.contains(tableName + " AND")) {
-            query = query.replace(tableName + " AND", tableName + " WHERE");
-        }
-        if (Boolean.FALSE.equals(includeDeleted)) {
-            query += "AND isDeleted=:isDeleted ";
-        }
-        if (lastChangedSince != null) {
-            query += "AND lastModifiedTime>=:lastModifiedTime ";
-        }
-        query += "ORDER BY id ASC";
+        return findWithCount(searchObject, limit, offset, tenantId, lastChangedSince, includeDeleted, null);
+    }
+
+    /**
+     * Finds entities based on search criteria, also returns the count of entities found.
+     * When a cursor is passed, keyset pagination over (lastModifiedTime, id) is used instead of offset
+     * and the cursor for the next page is returned.
+     *
+     * @param searchObject     The object containing search criteria.
+     * @param limit            The maximum number of entities to return.
+     * @param offset           The offset for pagination, ignored when a cursor is passed.
+     * @param tenantId         The tenant ID to filter entities.
+     * @param lastChangedSince The timestamp for last modified entities.
+     * @param includeDeleted   Flag to include deleted entities in the search result.
+     * @param cursor           The keyset cursor returned by the previous page, may be null.
+     * @return A list of entities found based on the search criteria with total count.
+     * @throws QueryBuilderException If an error occurs while building the query.
+     */
+    public SearchResponse<T> findWithCount(Object searchObject,
+                                           Integer limit,
+                                           Integer offset,
+                                           String tenantId,
+                                           Long lastChangedSince,
+                                           Boolean includeDeleted,
+                                           String cursor) throws QueryBuilderException {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        String query = buildSearchQuery(searchObject, lastChangedSince, includeDeleted);
         Map<String, Object> paramsMap = selectQueryBuilder.getParamsMap();
         paramsMap.put("tenantId", tenantId);
         paramsMap.put("isDeleted", includeDeleted);
         paramsMap.put("lastModifiedTime", lastChangedSince);
 
-        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, namedParameterJdbcTemplate);
-
-        query += " LIMIT :limit OFFSET :offset";
-        paramsMap.put("limit", limit);
-        paramsMap.put("offset", offset);
+        Long totalCount = countTotal(query + "ORDER BY id ASC", paramsMap);
 
+        query = appendPagination(query, keysetCursor, paramsMap, limit, offset);
         List<T> resultantList = namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
 
-        return SearchResponse.<T>builder().response(resultantList).totalCount(totalCount).build();
+        return SearchResponse.<T>builder().response(resultantList).totalCount(totalCount)
+                .nextCursor(keysetCursor == null ? null : nextCursor(resultantList, limit)).build();
+    }
+
+    /**
+     * Counts the rows a search query matches, according to the total count mode of the request.
+     *
+     * @param query     The search query without pagination.
+     * @param paramsMap The params of the query.
+     * @return The total count, or null when the request asked for no count.
+     */
+    protected Long countTotal(String query, Map<String, Object> paramsMap) {
+        if (totalCountResolver == null) {
+            return constructTotalCountCTEAndReturnResult(query, paramsMap, namedParameterJdbcTemplate);
+        }
+        return totalCountResolver.count(query, paramsMap, namedParameterJdbcTemplate);
     }
 
     /**
@@ -302,6 +416,40 @@ public abstract class GenericRepository<T> {
                         String tenantId,
                         Long lastChangedSince,
                         Boolean includeDeleted) throws QueryBuilderException {
+        return find(searchObject, limit, offset, tenantId, lastChangedSince, includeDeleted, null);
+    }
+
+    /**
+     * Finds entities based on search criteria, using keyset pagination when a cursor is passed.
+     *
+     * @param searchObject     The object containing search criteria.
+     * @param limit            The maximum number of entities to return.
+     * @param offset           The offset for pagination, ignored when a cursor is passed.
+     * @param tenantId         The tenant ID to filter entities.
+     * @param lastChangedSince The timestamp for last modified entities.
+     * @param includeDeleted   Flag to include deleted entities in the search result.
+     * @param cursor           The keyset cursor returned by the previous page, may be null.
+     * @return A list of entities found based on the search criteria.
+     * @throws QueryBuilderException If an error occurs while building the query.
+     */
+    public List<T> find(Object searchObject,
+                        Integer limit,
+                        Integer offset,
+                        String tenantId,
+                        Long lastChangedSince,
+                        Boolean includeDeleted,
+                        String cursor) throws QueryBuilderException {
+        String query = buildSearchQuery(searchObject, lastChangedSince, includeDeleted);
+        Map<String, Object> paramsMap = selectQueryBuilder.getParamsMap();
+        paramsMap.put("tenantId", tenantId);
+        paramsMap.put("isDeleted", includeDeleted);
+        paramsMap.put("lastModifiedTime", lastChangedSince);
+        query = appendPagination(query, KeysetCursor.decode(cursor), paramsMap, limit, offset);
+        return namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
+    }
+
+    private String buildSearchQuery(Object searchObject, Long lastChangedSince,
+                                    Boolean includeDeleted) throws QueryBuilderException {
         String query = selectQueryBuilder.build(searchObject, tableName);
         query += " AND tenantId=:tenantId ";
         if (query.contains(tableName + " AND")) {
@@ -313,14 +461,96 @@ public abstract class GenericRepository<T> {
         if (lastChangedSince != null) {
             query += "AND lastModifiedTime>=:lastModifiedTime ";
         }
-        query += "ORDER BY id ASC LIMIT :limit OFFSET :offset";
-        Map<String, Object> paramsMap = selectQueryBuilder.getParamsMap();
-        paramsMap.put("tenantId", tenantId);
-        paramsMap.put("isDeleted", includeDeleted);
-        paramsMap.put("lastModifiedTime", lastChangedSince);
+        return query;
+    }
+
+    // Offset pagination ordered by id, or keyset pagination ordered by (lastModifiedTime, id) when a cursor is passed
+    private String appendPagination(String query, KeysetCursor keysetCursor, Map<String, Object> paramsMap,
+                                    Integer limit, Integer offset) {
         paramsMap.put("limit", limit);
-        paramsMap.put("offset", offset);
-        return namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
+        if (keysetCursor == null) {
+            paramsMap.put("offset", offset);
+            return query + "ORDER BY id ASC LIMIT :limit OFFSET :offset";
+        }
+        return query + keysetCursor.toPredicate(null, paramsMap) + KeysetCursor.orderBy(null) + "LIMIT :limit";
+    }
+
+    /**
+     * Builds the keyset cursor for the page after the given one.
+     *
+     * @param page  The entities of the current page ordered by (lastModifiedTime, id).
+     * @param limit The page size requested.
+     * @return The next cursor, or null if the page is the last one.
+     */
+    protected String nextCursor(List<T> page, Integer limit) {
+        if (page == null || page.isEmpty()) {
+            return null;
+        }
+        Method idMethod = getIdMethod(page, "id");
+        Method auditDetailsMethod = getMethod("getAuditDetails", getObjClass(page));
+        return KeysetCursor.next(page, limit, entity -> {
+            AuditDetails auditDetails = (AuditDetails) ReflectionUtils.invokeMethod(auditDetailsMethod, entity);
+            return auditDetails == null ? null : auditDetails.getLastModifiedTime();
+        }, entity -> (String) ReflectionUtils.invokeMethod(idMethod, entity));
+    }
+
+    /**
+     * Finds all entities whose parent column matches any of the given parent ids.
+     * <p>
+     * The parent ids are bound as one array and matched with {@code = ANY(:parentIds)}, so the statement
+     * stays the same however many ids are passed, unlike an IN list with one placeholder per id. The ids are
+     * paged through {@link #PARENT_IDS_PAGE_SIZE} at a time so that no single query matches an unbounded
+     * number of parents.
+     *
+     * @param selectQuery      The select and from clauses, e.g. "SELECT * FROM household_member".
+     * @param alias            The alias of the table the filtered columns belong to, may be null.
+     * @param parentColumn     The column holding the parent id.
+     * @param parentIds        The parent ids to match.
+     * @param filters          Additional equality filters keyed by column, null values are ignored.
+     * @param tenantId         The tenant id.
+     * @param lastChangedSince Only entities modified since this time are returned, may be null.
+     * @param includeDeleted   Whether soft deleted entities should be included.
+     * @return The matching entities, ordered by id within each page of parent ids.
+     */
+    protected List<T> findByParentIds(String selectQuery, String alias, String parentColumn,
+                                      Collection<String> parentIds, Map<String, Object> filters,
+                                      String tenantId, Long lastChangedSince, Boolean includeDeleted) {
+        if (parentIds == null || parentIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String qualifier = alias == null || alias.isEmpty() ? "" : alias + ".";
+        Map<String, Object> paramsMap = new HashMap<>();
+        StringBuilder query = new StringBuilder(selectQuery)
+                .append(" WHERE ").append(qualifier).append(parentColumn).append(" = ANY(:parentIds) ")
+                .append("AND ").append(qualifier).append("tenantId=:tenantId ");
+        paramsMap.put("tenantId", tenantId);
+
+        filters.forEach((column, value) -> {
+            if (value != null) {
+                query.append("AND ").append(qualifier).append(column).append("=:").append(column).append(" ");
+                paramsMap.put(column, value);
+            }
+        });
+        if (Boolean.FALSE.equals(includeDeleted)) {
+            query.append("AND ").append(qualifier).append("isDeleted=false ");
+        }
+        if (lastChangedSince != null) {
+            query.append("AND ").append(qualifier).append("lastModifiedTime>=:lastModifiedTime ");
+            paramsMap.put("lastModifiedTime", lastChangedSince);
+        }
+        query.append("ORDER BY ").append(qualifier).append("id ASC");
+
+        List<String> distinctParentIds = parentIds.stream().filter(Objects::nonNull).distinct()
+                .collect(Collectors.toList());
+        List<T> entities = new ArrayList<>();
+        for (int from = 0; from < distinctParentIds.size(); from += PARENT_IDS_PAGE_SIZE) {
+            List<String> page = distinctParentIds.subList(from,
+                    Math.min(from + PARENT_IDS_PAGE_SIZE, distinctParentIds.size()));
+            Map<String, Object> pageParamsMap = new HashMap<>(paramsMap);
+            pageParamsMap.put("parentIds", page.toArray(new String[0]));
+            entities.addAll(namedParameterJdbcTemplate.query(query.toString(), pageParamsMap, rowMapper));
+        }
+        return entities;
     }
 
     /**
@@ -0,0 +1,192 @@
+package org.egov.common.http.client.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Loads related entities by id from another service, batching and memoising the lookups.
+ * <p>
+ * Ids are first registered, from every validator that needs them, and are then fetched together on the first
+ * load for their tenant: duplicates are dropped, ids already looked up are skipped and the remaining ones are
+ * sent in chunks of at most {@code maxBatchSize}. Results, including ids that were not found, are remembered
+ * for the lifetime of the loader, which is one request when the loader is obtained from a
+ * {@link BatchLoaderContext}.
+ *
+ * @param <V> The type of entity loaded.
+ */
+@Slf4j
+public class BatchLoader<V> {
+
+    private final String name;
+
+    private final BiFunction<String, List<String>, Map<String, V>> batchFunction;
+
+    private final int maxBatchSize;
+
+    private final Map<String, Set<String>> pending = new HashMap<>();
+
+    private final Map<String, Set<String>> attempted = new HashMap<>();
+
+    private final Map<String, Map<String, V>> loaded = new HashMap<>();
+
+    private final Map<String, Map<String, CompletableFuture<Void>>> inFlight = new HashMap<>();
+
+    /**
+     * @param name          The name of the loader, used in logs.
+     * @param batchFunction Fetches the entities of a tenant for a chunk of ids and returns the ones found keyed by id.
+     * @param maxBatchSize  The maximum number of ids sent in one call.
+     */
+    public BatchLoader(String name, BiFunction<String, List<String>, Map<String, V>> batchFunction, int maxBatchSize) {
+        this.name = name;
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * Creates a loader from a function returning a list of entities, keyed by the given key mapper.
+     *
+     * @param name         The name of the loader, used in logs.
+     * @param fetch        Fetches the entities of a tenant for a chunk of ids.
+     * @param keyMapper    Extracts the id the entities are looked up by.
+     * @param maxBatchSize The maximum number of ids sent in one call.
+     * @return The loader.
+     */
+    public static <V> BatchLoader<V> of(String name, BiFunction<String, List<String>, List<V>> fetch,
+                                        Function<V, String> keyMapper, int maxBatchSize) {
+        return new BatchLoader<>(name, (tenantId, ids) -> {
+            Map<String, V> found = new HashMap<>();
+            List<V> entities = fetch.apply(tenantId, ids);
+            if (entities != null) {
+                entities.stream().filter(entity -> keyMapper.apply(entity) != null)
+                        .forEach(entity -> found.putIfAbsent(keyMapper.apply(entity), entity));
+            }
+            return found;
+        }, maxBatchSize);
+    }
+
+    /**
+     * Registers ids to be fetched with the next load for the tenant, without fetching them yet.
+     *
+     * @param tenantId The tenant id.
+     * @param ids      The ids to register, nulls are ignored.
+     */
+    public synchronized void register(String tenantId, Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        Set<String> alreadyAttempted = attempted.getOrDefault(tenantId, Set.of());
+        Set<String> tenantPending = pending.computeIfAbsent(tenantId, key -> new LinkedHashSet<>());
+        ids.stream().filter(Objects::nonNull).filter(id -> !alreadyAttempted.contains(id))
+                .forEach(tenantPending::add);
+    }
+
+    /**
+     * Returns the entities for the given ids, fetching every id registered for the tenant that was not
+     * looked up yet. The fetch runs outside the lock of the loader, ids already being fetched by another
+     * caller are waited for instead of being fetched again.
+     *
+     * @param tenantId The tenant id.
+     * @param ids      The ids to look up.
+     * @return The entities found keyed by id, ids that do not exist are absent.
+     */
+    public Map<String, V> loadMany(String tenantId, Collection<String> ids) {
+        List<List<String>> chunks;
+        List<CompletableFuture<Void>> ownFutures = new ArrayList<>();
+        Set<CompletableFuture<Void>> othersFutures = new LinkedHashSet<>();
+        synchronized (this) {
+            register(tenantId, ids);
+            chunks = claimPending(tenantId, ownFutures);
+            Map<String, CompletableFuture<Void>> tenantInFlight = inFlight.getOrDefault(tenantId, Map.of());
+            ids.stream().filter(Objects::nonNull).map(tenantInFlight::get).filter(Objects::nonNull)
+                    .filter(future -> !ownFutures.contains(future))
+                    .forEach(othersFutures::add);
+        }
+        fetch(tenantId, chunks, ownFutures);
+        othersFutures.forEach(BatchLoader::await);
+        synchronized (this) {
+            Map<String, V> tenantLoaded = loaded.getOrDefault(tenantId, Map.of());
+            Map<String, V> result = new LinkedHashMap<>();
+            ids.stream().filter(Objects::nonNull).filter(tenantLoaded::containsKey)
+                    .forEach(id -> result.put(id, tenantLoaded.get(id)));
+            return result;
+        }
+    }
+
+    // splits the pending ids nobody is fetching yet into chunks and marks them in flight, one future per chunk
+    private List<List<String>> claimPending(String tenantId, List<CompletableFuture<Void>> futures) {
+        Set<String> tenantPending = pending.getOrDefault(tenantId, Set.of());
+        Map<String, CompletableFuture<Void>> tenantInFlight =
+                inFlight.computeIfAbsent(tenantId, key -> new HashMap<>());
+        List<String> unclaimed = tenantPending.stream().filter(id -> !tenantInFlight.containsKey(id))
+                .collect(Collectors.toList());
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < unclaimed.size(); from += maxBatchSize) {
+            List<String> chunk = new ArrayList<>(unclaimed.subList(from,
+                    Math.min(unclaimed.size(), from + maxBatchSize)));
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            chunk.forEach(id -> tenantInFlight.put(id, future));
+            chunks.add(chunk);
+            futures.add(future);
+        }
+        return chunks;
+    }
+
+    private void fetch(String tenantId, List<List<String>> chunks, List<CompletableFuture<Void>> futures) {
+        for (int i = 0; i < chunks.size(); i++) {
+            List<String> chunk = chunks.get(i);
+            log.debug("loading {} {} for tenant {}", chunk.size(), name, tenantId);
+            Map<String, V> found;
+            try {
+                found = batchFunction.apply(tenantId, new ArrayList<>(chunk));
+            } catch (RuntimeException exception) {
+                // the failed chunk and the ones after it stay pending and are fetched again on the next load
+                release(tenantId, chunks.subList(i, chunks.size()), futures.subList(i, futures.size()), exception);
+                throw exception;
+            }
+            synchronized (this) {
+                pending.getOrDefault(tenantId, new HashSet<>()).removeAll(chunk);
+                attempted.computeIfAbsent(tenantId, key -> new HashSet<>()).addAll(chunk);
+                if (found != null) {
+                    loaded.computeIfAbsent(tenantId, key -> new HashMap<>()).putAll(found);
+                }
+                inFlight.getOrDefault(tenantId, new HashMap<>()).keySet().removeAll(chunk);
+            }
+            futures.get(i).complete(null);
+        }
+    }
+
+    private void release(String tenantId, List<List<String>> chunks, List<CompletableFuture<Void>> futures,
+                         RuntimeException exception) {
+        synchronized (this) {
+            Map<String, CompletableFuture<Void>> tenantInFlight = inFlight.getOrDefault(tenantId, new HashMap<>());
+            chunks.forEach(chunk -> tenantInFlight.keySet().removeAll(chunk));
+        }
+        futures.forEach(future -> future.completeExceptionally(exception));
+    }
+
+    private static void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+}
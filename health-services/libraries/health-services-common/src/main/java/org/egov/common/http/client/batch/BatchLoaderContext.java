@@ -0,0 +1,81 @@
+package org.egov.common.http.client.batch;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the {@link BatchLoader}s of the request being processed on the current thread.
+ * <p>
+ * {@link org.egov.common.utils.CommonUtils#validate} opens a context around the validators of a request, so every
+ * validator asking for a loader by the same name shares one instance and therefore one batched, memoised lookup.
+ * Outside an open context a fresh loader is returned on every call.
+ */
+public final class BatchLoaderContext {
+
+    private static final ThreadLocal<BatchLoaderContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, BatchLoader<?>> loaders = new ConcurrentHashMap<>();
+
+    private BatchLoaderContext() {
+    }
+
+    /**
+     * Runs the work within a new context, or within the current one if a context is already open.
+     *
+     * @param work The work to run.
+     * @return The result of the work.
+     */
+    public static <T> T run(Supplier<T> work) {
+        BatchLoaderContext current = CURRENT.get();
+        return runWith(current != null ? current : new BatchLoaderContext(), work);
+    }
+
+    /**
+     * Runs the work within the given context, used to share the loaders of a request with other threads.
+     *
+     * @param context The context to run in, may be null to run without a context.
+     * @param work    The work to run.
+     * @return The result of the work.
+     */
+    public static <T> T runWith(BatchLoaderContext context, Supplier<T> work) {
+        BatchLoaderContext previous = CURRENT.get();
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return The context open on the current thread, or null.
+     */
+    public static BatchLoaderContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns the loader registered under the name in the current context, creating it on first use.
+     *
+     * @param name    The name of the loader, one per target service and lookup key.
+     * @param factory Creates the loader.
+     * @return The loader.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> BatchLoader<V> loader(String name, Supplier<BatchLoader<V>> factory) {
+        BatchLoaderContext current = CURRENT.get();
+        if (current == null) {
+            return factory.get();
+        }
+        return (BatchLoader<V>) current.loaders.computeIfAbsent(name, key -> factory.get());
+    }
+}
@@ -0,0 +1,44 @@
+package org.egov.common.http.client.batch;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Base class of the per-service components handing out request-scoped {@link BatchLoader}s for the entities of
+ * other services. Subclasses declare one method per loader and fetch the entities over http.
+ */
+public abstract class RelatedEntityLoaderSupport {
+
+    /**
+     * Returns the loader of the current {@link BatchLoaderContext} registered under the name, creating it on first
+     * use.
+     *
+     * @param name      The name of the loader, one per target service and lookup key.
+     * @param fetch     Fetches the entities of a tenant for a chunk of ids.
+     * @param keyMapper Extracts the id the entities are looked up by.
+     * @return The loader.
+     */
+    protected <V> BatchLoader<V> loader(String name, BiFunction<String, List<String>, List<V>> fetch,
+                                        Function<V, String> keyMapper) {
+        return BatchLoaderContext.loader(name, () -> BatchLoader.of(name, fetch, keyMapper, getMaxBatchSize()));
+    }
+
+    /**
+     * Builds the url of a search fetching one chunk of ids.
+     *
+     * @param host      The host of the target service.
+     * @param searchUrl The search endpoint.
+     * @param limit     The number of ids searched.
+     * @param tenantId  The tenant id.
+     * @return The url.
+     */
+    protected static StringBuilder searchUrl(String host, String searchUrl, int limit, String tenantId) {
+        return new StringBuilder(host + searchUrl + "?limit=" + limit + "&offset=0&tenantId=" + tenantId);
+    }
+
+    /**
+     * @return The maximum number of ids sent in one search.
+     */
+    protected abstract int getMaxBatchSize();
+}
@@ -26,12 +26,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.egov.common.contract.models.AuditDetails;
 import lombok.extern.slf4j.Slf4j;
 import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.data.query.count.TotalCountResolver;
 import org.egov.common.ds.Tuple;
 import org.egov.common.error.handler.ErrorHandler;
+import org.egov.common.http.client.batch.BatchLoaderContext;
 import org.egov.common.models.ApiDetails;
 import org.egov.common.models.Error;
 import org.egov.common.models.ErrorDetails;
 import org.egov.common.models.core.URLParams;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.tracer.model.CustomException;
 import org.egov.tracer.model.ErrorDetail;
@@ -883,9 +886,32 @@ public class CommonUtils {
                                                                  Predicate<Validator<R, T>> applicableValidators,
                                                                  R request, String setPayloadMethodName,
                                                                  String getPayloadMethodName, String errorCode, boolean isBulk) {
+        return validate(validators, applicableValidators, request, setPayloadMethodName, getPayloadMethodName,
+                errorCode, isBulk, null);
+    }
+
+    /**
+     * Validate and return the consolidated errorDetailsMap based on all the validations.
+     *
+     * @param validators is the list of validators
+     * @param applicableValidators is a predicate defining the validators to apply
+     * @param request is the request body
+     * @param setPayloadMethodName is a setter method available on the request body
+     * @param getPayloadMethodName is a getter method available on the request body
+     * @param errorCode is error code for the exception
+     * @param concurrentValidation runs validators of the same order concurrently, may be null
+     * @return a map of payload vs errorDetails object
+     * @param <T> is the type of payload
+     * @param <R> is the type of request
+     */
+    public static <T, R> Tuple<List<T>, Map<T, ErrorDetails>> validate(List<Validator<R, T>> validators,
+                                                                 Predicate<Validator<R, T>> applicableValidators,
+                                                                 R request, String setPayloadMethodName,
+                                                                 String getPayloadMethodName, String errorCode, boolean isBulk,
+                                                                 ConcurrentValidation concurrentValidation) {
         Map<T, ErrorDetails> errorDetailsMap = validate(validators,
                 applicableValidators, request,
-                setPayloadMethodName);
+                setPayloadMethodName, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             throw new CustomException(errorCode, errorDetailsMap.values().toString());
         }
@@ -897,6 +923,8 @@ public class CommonUtils {
 
     /**
      * Validate and return the consolidated errorDetailsMap based on all the validations.
+     * The validators share one {@link BatchLoaderContext} and are all primed before the first one runs,
+     * so lookups in other services are batched across validators and made once per request.
      *
      * @param validators is the list of validators
      * @param applicableValidators is a predicate defining the validators to apply
@@ -910,12 +938,42 @@ public class CommonUtils {
                                                        Predicate<Validator<R, T>> applicableValidators,
                                                        R request,
                                                        String setPayloadMethodName) {
-        Map<T, ErrorDetails> errorDetailsMap = new HashMap<>();
-        validators.stream().filter(applicableValidators)
-                .map(validator -> validator.validate(request))
-                .forEach(e -> populateErrorDetails(request, errorDetailsMap, e,
-                        setPayloadMethodName));
-        return errorDetailsMap;
+        return validate(validators, applicableValidators, request, setPayloadMethodName, null);
+    }
+
+    /**
+     * Validate and return the consolidated errorDetailsMap based on all the validations.
+     * The validators share one {@link BatchLoaderContext} and are all primed before the first one runs,
+     * so lookups in other services are batched across validators and made once per request.
+     * When the {@link ConcurrentValidation} of the service is enabled, validators sharing an order value run
+     * concurrently, their errors are still merged in the order of the validators.
+     *
+     * @param validators is the list of validators
+     * @param applicableValidators is a predicate defining the validators to apply
+     * @param request is the request body
+     * @param setPayloadMethodName is a setter method available on the request body
+     * @param concurrentValidation runs validators of the same order concurrently, may be null
+     * @return a map of payload vs errorDetails object
+     * @param <T> is the type of payload
+     * @param <R> is the type of request
+     */
+    public static <T, R> Map<T, ErrorDetails> validate(List<Validator<R, T>> validators,
+                                                       Predicate<Validator<R, T>> applicableValidators,
+                                                       R request,
+                                                       String setPayloadMethodName,
+                                                       ConcurrentValidation concurrentValidation) {
+        return BatchLoaderContext.run(() -> {
+            Map<T, ErrorDetails> errorDetailsMap = new HashMap<>();
+            List<Validator<R, T>> applicable = validators.stream().filter(applicableValidators)
+                    .collect(Collectors.toList());
+            applicable.forEach(validator -> validator.prime(request));
+            List<Map<T, List<Error>>> errorMaps = concurrentValidation != null && concurrentValidation.isEnabled()
+                    ? concurrentValidation.validate(applicable, request)
+                    : applicable.stream().map(validator -> validator.validate(request)).collect(Collectors.toList());
+            errorMaps.forEach(e -> populateErrorDetails(request, errorDetailsMap, e,
+                    setPayloadMethodName));
+            return errorDetailsMap;
+        });
     }
 
     /**
@@ -1109,8 +1167,11 @@ public class CommonUtils {
      */
     public static <T> void populateErrorDetails(T payload, Error error,
                                   Map<T, List<Error>> errorDetailsMap) {
-        ReflectionUtils.invokeMethod(getMethod("setHasErrors", payload.getClass()),
-                payload, Boolean.TRUE);
+        // validators of a concurrent stage leave the flag to be set once the whole stage has finished
+        if (!ConcurrentValidation.isDeferringErrorMarks()) {
+            ReflectionUtils.invokeMethod(getMethod("setHasErrors", payload.getClass()),
+                    payload, Boolean.TRUE);
+        }
         if (errorDetailsMap.containsKey(payload)) {
             errorDetailsMap.get(payload).add(error);
         } else {
@@ -1140,20 +1201,16 @@ public class CommonUtils {
     }
 
     /**
-     * Construct a Common Table Expression that returns total count if there is any otherwise return 0L
+     * Construct a Common Table Expression that returns total count if there is any otherwise return 0L.
+     * Repositories count through {@link org.egov.common.data.repository.GenericRepository#countTotal} instead, which
+     * honours the total count mode of the request, see {@link TotalCountResolver}.
      * @param query
      * @param paramsMap
      * @param namedParameterJdbcTemplate
      * @return
      */
     public static Long constructTotalCountCTEAndReturnResult(String query, Map<String, Object> paramsMap, final NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
-        String cteQuery = "WITH result_cte AS ("+query+"), totalCount_cte AS (SELECT COUNT(*) AS totalRows FROM result_cte) select * from totalCount_cte";
-        return namedParameterJdbcTemplate.query(cteQuery, paramsMap, resultSet -> {
-            if(resultSet.next())
-                return resultSet.getLong("totalRows");
-            else
-                return 0L;
-        });
+        return TotalCountResolver.exactCount(query, paramsMap, namedParameterJdbcTemplate);
     }
 
 }
@@ -0,0 +1,205 @@
+package org.egov.common.validator;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.data.query.count.TotalCountContext;
+import org.egov.common.http.client.batch.BatchLoaderContext;
+import org.egov.common.models.Error;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the validators of a request in stages, one stage per {@link org.springframework.core.annotation.Order} value.
+ * <p>
+ * Stages run one after the other in the order the validators are given in, so a validator still sees the errors
+ * recorded by validators with a lower order. Validators sharing an order value are treated as independent and run
+ * concurrently on a bounded pool owned by this bean, the caller thread running the first of them.
+ * <p>
+ * All validators of a stage see the entities as they were when the stage started: while a stage runs,
+ * {@link org.egov.common.utils.CommonUtils#populateErrorDetails(Object, Error, Map)} only records errors, and the
+ * entities are flagged with {@code hasErrors} on the caller thread once every validator of the stage has finished.
+ * The error maps are returned in the order of the validators, whatever order they finished in. Concurrent validation
+ * is off by default and is switched on with {@code validation.concurrent.enabled}.
+ */
+@Slf4j
+@Component
+public class ConcurrentValidation {
+
+    private static final ThreadLocal<Boolean> DEFERRING_ERROR_MARKS = new ThreadLocal<>();
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param enabled    Whether validators of the same order run concurrently.
+     * @param maxThreads The maximum number of pool threads, the caller thread comes on top of these.
+     * @param queueSize  The number of validators that can wait for a thread before the caller runs them itself.
+     */
+    public ConcurrentValidation(@Value("${validation.concurrent.enabled:false}") boolean enabled,
+                                @Value("${validation.concurrent.max-threads:8}") int maxThreads,
+                                @Value("${validation.concurrent.queue-size:64}") int queueSize) {
+        if (enabled) {
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueSize), runnable -> {
+                        Thread thread = new Thread(runnable, "validator-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+        } else {
+            executor = null;
+        }
+        log.info("concurrent validation {}", enabled ? "enabled with " + maxThreads + " threads" : "disabled");
+    }
+
+    public boolean isEnabled() {
+        return executor != null && !executor.isShutdown();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Whether the current thread runs a validator of a concurrent stage, whose error flags are set after the stage.
+     */
+    public static boolean isDeferringErrorMarks() {
+        return Boolean.TRUE.equals(DEFERRING_ERROR_MARKS.get());
+    }
+
+    /**
+     * Validates the request with the validators, running validators of the same order concurrently.
+     *
+     * @param validators The applicable validators, sorted by their order.
+     * @param request    The request to validate.
+     * @return The error map of every validator, in the order of the validators.
+     */
+    public <R, T> List<Map<T, List<Error>>> validate(List<Validator<R, T>> validators, R request) {
+        List<Map<T, List<Error>>> errorMaps = new ArrayList<>(validators.size());
+        for (List<Validator<R, T>> stage : getStages(validators)) {
+            errorMaps.addAll(validateStage(stage, request));
+        }
+        return errorMaps;
+    }
+
+    static <R, T> List<List<Validator<R, T>>> getStages(List<Validator<R, T>> validators) {
+        List<List<Validator<R, T>>> stages = new ArrayList<>();
+        Integer stageOrder = null;
+        for (Validator<R, T> validator : validators) {
+            int order = getOrder(validator);
+            if (stages.isEmpty() || stageOrder != order) {
+                stages.add(new ArrayList<>());
+                stageOrder = order;
+            }
+            stages.get(stages.size() - 1).add(validator);
+        }
+        return stages;
+    }
+
+    private static int getOrder(Validator<?, ?> validator) {
+        if (validator instanceof Ordered) {
+            return ((Ordered) validator).getOrder();
+        }
+        return OrderUtils.getOrder(validator.getClass(), Ordered.LOWEST_PRECEDENCE);
+    }
+
+    private <R, T> List<Map<T, List<Error>>> validateStage(List<Validator<R, T>> stage, R request) {
+        List<Map<T, List<Error>>> errorMaps = new ArrayList<>(stage.size());
+        if (stage.size() == 1 || !isEnabled()) {
+            stage.forEach(validator -> errorMaps.add(validator.validate(request)));
+            return errorMaps;
+        }
+
+        BatchLoaderContext batchLoaderContext = BatchLoaderContext.current();
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        DEFERRING_ERROR_MARKS.set(Boolean.TRUE);
+        try {
+            List<Future<Map<T, List<Error>>>> futures = new ArrayList<>(stage.size() - 1);
+            for (Validator<R, T> validator : stage.subList(1, stage.size())) {
+                Supplier<Map<T, List<Error>>> work = TotalCountContext.wrap(() -> validator.validate(request));
+                futures.add(executor.submit(() -> withContext(batchLoaderContext, mdcContext, work)));
+            }
+            errorMaps.add(stage.get(0).validate(request));
+            for (Future<Map<T, List<Error>>> future : futures) {
+                errorMaps.add(await(future));
+            }
+        } finally {
+            DEFERRING_ERROR_MARKS.remove();
+        }
+        errorMaps.forEach(ConcurrentValidation::markErrors);
+        return errorMaps;
+    }
+
+    // runs the validator with the batch loaders and logging context of the request thread
+    private static <T> T withContext(BatchLoaderContext batchLoaderContext, Map<String, String> mdcContext,
+                                     Supplier<T> work) {
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        Boolean previousDeferring = DEFERRING_ERROR_MARKS.get();
+        if (mdcContext != null) {
+            MDC.setContextMap(mdcContext);
+        }
+        DEFERRING_ERROR_MARKS.set(Boolean.TRUE);
+        try {
+            return BatchLoaderContext.runWith(batchLoaderContext, work);
+        } finally {
+            if (previousDeferring == null) {
+                DEFERRING_ERROR_MARKS.remove();
+            }
+            if (previous != null) {
+                MDC.setContextMap(previous);
+            } else {
+                MDC.clear();
+            }
+        }
+    }
+
+    // flags the entities of a finished stage, which the validators of the stage only recorded errors for
+    private static <T> void markErrors(Map<T, List<Error>> errorMap) {
+        if (errorMap == null) {
+            return;
+        }
+        errorMap.keySet().forEach(payload -> {
+            Method setHasErrors = ReflectionUtils.findMethod(payload.getClass(), "setHasErrors", Boolean.class);
+            if (setHasErrors != null) {
+                ReflectionUtils.invokeMethod(setHasErrors, payload, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for a validator", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof java.lang.Error) {
+                throw (java.lang.Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
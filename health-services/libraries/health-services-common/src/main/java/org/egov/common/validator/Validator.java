@@ -7,4 +7,14 @@ import java.util.Map;
 
 public interface Validator<R, T> {
     Map<T, List<Error>> validate(R r);
+
+    /**
+     * Registers the ids this validator will look up in other services with the request's
+     * {@link org.egov.common.http.client.batch.BatchLoader}s, before any validator runs, so that lookups
+     * shared by several validators are fetched in one batched call.
+     *
+     * @param r The request being validated.
+     */
+    default void prime(R r) {
+    }
 }
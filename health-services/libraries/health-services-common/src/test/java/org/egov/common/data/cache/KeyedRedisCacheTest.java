@@ -0,0 +1,79 @@
+package org.egov.common.data.cache;
+
+import org.egov.common.helpers.SomeObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KeyedRedisCacheTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private KeyedRedisCache<SomeObject> keyedRedisCache;
+
+    @BeforeEach
+    void setUp() {
+        keyedRedisCache = new KeyedRedisCache<>(redisTemplate, "health", "some_table st", 60, 10, 0);
+    }
+
+    @Test
+    @DisplayName("should build one key per entity using the table name without alias")
+    void shouldBuildOneKeyPerEntity() {
+        assertEquals("health:some_table:some-id", keyedRedisCache.key("some-id"));
+    }
+
+    @Test
+    @DisplayName("should fetch all keys with a single multi get and skip misses")
+    void shouldFetchAllKeysWithSingleMultiGet() {
+        SomeObject someObject = SomeObject.builder().id("some-id").build();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(Arrays.asList("health:some_table:some-id", "health:some_table:other-id")))
+                .thenReturn(Arrays.asList(someObject, null));
+
+        Map<String, SomeObject> result = keyedRedisCache.multiGet(Arrays.asList("some-id", "other-id", "some-id"));
+
+        assertEquals(1, result.size());
+        assertEquals(someObject, result.get("some-id"));
+        verify(valueOperations, times(1)).multiGet(any());
+    }
+
+    @Test
+    @DisplayName("should not call redis when there are no ids")
+    void shouldNotCallRedisWhenThereAreNoIds() {
+        Map<String, SomeObject> result = keyedRedisCache.multiGet(Collections.singletonList(null));
+
+        assertTrue(result.isEmpty());
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("should write all entities in one pipeline")
+    void shouldWriteAllEntitiesInOnePipeline() {
+        keyedRedisCache.multiSet(Collections.singletonMap("some-id", SomeObject.builder().id("some-id").build()));
+
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+}
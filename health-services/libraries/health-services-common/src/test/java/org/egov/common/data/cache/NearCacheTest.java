@@ -0,0 +1,61 @@
+package org.egov.common.data.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearCacheTest {
+
+    @Test
+    @DisplayName("should return only the ids present in the near cache")
+    void shouldReturnOnlyTheIdsPresent() {
+        NearCache<String> nearCache = new NearCache<>(10, 60000);
+        nearCache.putAll(Collections.singletonMap("some-id", "some-value"));
+
+        Map<String, String> result = nearCache.getAll(Arrays.asList("some-id", "other-id"));
+
+        assertEquals(1, result.size());
+        assertEquals("some-value", result.get("some-id"));
+    }
+
+    @Test
+    @DisplayName("should evict the least recently used entry when full")
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        NearCache<String> nearCache = new NearCache<>(2, 60000);
+        Map<String, String> values = new HashMap<>();
+        values.put("first", "1");
+        values.put("second", "2");
+        nearCache.putAll(values);
+        nearCache.getAll(Collections.singletonList("first"));
+        nearCache.putAll(Collections.singletonMap("third", "3"));
+
+        assertEquals(2, nearCache.size());
+        assertTrue(nearCache.getAll(Collections.singletonList("second")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should treat expired entries as absent")
+    void shouldTreatExpiredEntriesAsAbsent() {
+        NearCache<String> nearCache = new NearCache<>(10, -1);
+        nearCache.putAll(Collections.singletonMap("some-id", "some-value"));
+
+        assertTrue(nearCache.getAll(Collections.singletonList("some-id")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should drop invalidated entries")
+    void shouldDropInvalidatedEntries() {
+        NearCache<String> nearCache = new NearCache<>(10, 60000);
+        nearCache.putAll(Collections.singletonMap("some-id", "some-value"));
+        nearCache.invalidate(Collections.singletonList("some-id"));
+
+        assertEquals(0, nearCache.size());
+    }
+}
@@ -0,0 +1,135 @@
+package org.egov.common.data.query.count;
+
+import org.egov.common.models.core.TotalCountMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TotalCountResolverTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final Map<String, Object> paramsMap = Collections.singletonMap("tenantId", "default");
+
+    private final TotalCountResolver totalCountResolver = new TotalCountResolver(TotalCountMode.EXACT, 30000L, 1000);
+
+    @AfterEach
+    void tearDown() {
+        TotalCountContext.clear();
+    }
+
+    @Test
+    @DisplayName("should not run a count query when total count mode is none")
+    void shouldNotCountWhenModeIsNone() {
+        TotalCountContext.setMode(TotalCountMode.NONE);
+
+        assertNull(totalCountResolver.count("SELECT * FROM some_table", paramsMap, namedParameterJdbcTemplate));
+        verify(namedParameterJdbcTemplate, never()).query(any(String.class), anyMap(), any(ResultSetExtractor.class));
+    }
+
+    @Test
+    @DisplayName("should count exactly by default")
+    void shouldCountExactlyByDefault() {
+        when(namedParameterJdbcTemplate.query(startsWith("WITH result_cte"), anyMap(), any(ResultSetExtractor.class)))
+                .thenReturn(5L);
+
+        assertEquals(5L, totalCountResolver.count("SELECT * FROM some_table", paramsMap, namedParameterJdbcTemplate));
+    }
+
+    @Test
+    @DisplayName("should reuse the cached count for the same normalised query and params")
+    void shouldReuseCachedCount() {
+        TotalCountContext.setMode(TotalCountMode.CACHED);
+        when(namedParameterJdbcTemplate.query(startsWith("WITH result_cte"), anyMap(), any(ResultSetExtractor.class)))
+                .thenReturn(7L);
+
+        totalCountResolver.count("SELECT * FROM cached_table WHERE tenantId=:tenantId", paramsMap,
+                namedParameterJdbcTemplate);
+        Long count = totalCountResolver.count("SELECT *   FROM cached_table\nWHERE tenantId=:tenantId", paramsMap,
+                namedParameterJdbcTemplate);
+
+        assertEquals(7L, count);
+        verify(namedParameterJdbcTemplate, times(1)).query(any(String.class), anyMap(), any(ResultSetExtractor.class));
+    }
+
+    @Test
+    @DisplayName("should key cached counts by the values of array params")
+    void shouldKeyCachedCountByArrayParamValues() {
+        TotalCountContext.setMode(TotalCountMode.CACHED);
+        when(namedParameterJdbcTemplate.query(startsWith("WITH result_cte"), anyMap(), any(ResultSetExtractor.class)))
+                .thenReturn(3L, 4L);
+        String query = "SELECT * FROM cached_table WHERE id = ANY(:ids)";
+
+        Long first = totalCountResolver.count(query, Collections.singletonMap("ids", new String[] {"a", "b"}),
+                namedParameterJdbcTemplate);
+        Long same = totalCountResolver.count(query, Collections.singletonMap("ids", new String[] {"a", "b"}),
+                namedParameterJdbcTemplate);
+        Long other = totalCountResolver.count(query, Collections.singletonMap("ids", new String[] {"c"}),
+                namedParameterJdbcTemplate);
+
+        assertEquals(3L, first);
+        assertEquals(3L, same);
+        assertEquals(4L, other);
+        verify(namedParameterJdbcTemplate, times(2)).query(any(String.class), anyMap(), any(ResultSetExtractor.class));
+    }
+
+    @Test
+    @DisplayName("should use the planner estimate when total count mode is estimated")
+    void shouldUsePlannerEstimate() {
+        TotalCountContext.setMode(TotalCountMode.ESTIMATED);
+        when(namedParameterJdbcTemplate.query(startsWith("EXPLAIN"), anyMap(), any(ResultSetExtractor.class)))
+                .thenReturn("[{\"Plan\": {\"Node Type\": \"Seq Scan\", \"Plan Rows\": 1234}}]");
+
+        assertEquals(1234L, totalCountResolver.count("SELECT * FROM some_table", paramsMap, namedParameterJdbcTemplate));
+    }
+
+    @Test
+    @DisplayName("should use the configured default mode when the request does not ask for one")
+    void shouldUseConfiguredDefaultMode() {
+        TotalCountResolver noCountResolver = new TotalCountResolver(TotalCountMode.NONE, 30000L, 1000);
+
+        assertNull(noCountResolver.count("SELECT * FROM some_table", paramsMap, namedParameterJdbcTemplate));
+        verify(namedParameterJdbcTemplate, never()).query(any(String.class), anyMap(), any(ResultSetExtractor.class));
+    }
+
+    @Test
+    @DisplayName("should carry the mode of the submitting thread onto executor threads and clear it after")
+    void shouldPropagateModeToExecutorThreads() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            TotalCountContext.setMode(TotalCountMode.NONE);
+            Supplier<TotalCountMode> wrapped = TotalCountContext.wrap(TotalCountContext::getMode);
+
+            assertEquals(TotalCountMode.NONE, CompletableFuture.supplyAsync(wrapped, executorService).get());
+            assertEquals(TotalCountMode.NONE, CompletableFuture.supplyAsync(TotalCountContext::getMode,
+                    TotalCountContext.propagating(executorService)).get());
+            assertNull(CompletableFuture.supplyAsync(TotalCountContext::getMode, executorService).get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.egov.common.data.query.pagination;
+
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("should decode an encoded cursor")
+    void shouldDecodeAnEncodedCursor() {
+        KeysetCursor keysetCursor = KeysetCursor.decode(KeysetCursor.encode(1700000000000L, "some-id"));
+
+        assertEquals(1700000000000L, keysetCursor.getLastModifiedTime());
+        assertEquals("some-id", keysetCursor.getId());
+    }
+
+    @Test
+    @DisplayName("should build seek predicate and put cursor params")
+    void shouldBuildSeekPredicate() {
+        Map<String, Object> paramsMap = new HashMap<>();
+
+        String predicate = KeysetCursor.decode(KeysetCursor.encode(10L, "some-id")).toPredicate("h", paramsMap);
+
+        assertEquals("AND (h.lastModifiedTime, h.id) > (:cursorLastModifiedTime, :cursorId) ", predicate);
+        assertEquals(10L, paramsMap.get(KeysetCursor.CURSOR_LAST_MODIFIED_TIME));
+        assertEquals("some-id", paramsMap.get(KeysetCursor.CURSOR_ID));
+    }
+
+    @Test
+    @DisplayName("should not add a predicate for the first page")
+    void shouldNotAddPredicateForFirstPage() {
+        Map<String, Object> paramsMap = new HashMap<>();
+
+        assertEquals("", KeysetCursor.decode(KeysetCursor.START).toPredicate(null, paramsMap));
+        assertTrue(paramsMap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should return next cursor only for a full page")
+    void shouldReturnNextCursorOnlyForFullPage() {
+        List<String> page = Arrays.asList("a", "b");
+
+        assertNull(KeysetCursor.next(page, 3, value -> 1L, Function.identity()));
+        assertEquals("b", KeysetCursor.decode(KeysetCursor.next(page, 2, value -> 1L, Function.identity())).getId());
+    }
+
+    @Test
+    @DisplayName("should throw for a malformed cursor")
+    void shouldThrowForMalformedCursor() {
+        assertThrows(CustomException.class, () -> KeysetCursor.decode("not-a-cursor"));
+    }
+}
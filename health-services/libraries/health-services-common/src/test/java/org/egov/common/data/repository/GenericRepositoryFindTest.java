@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,16 +22,24 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -148,4 +157,57 @@ class GenericRepositoryFindTest {
 
         assertEquals(idsFound.size(), 4);
     }
+
+    @Test
+    @DisplayName("should find children of all parent ids with a single array parameter")
+    void shouldFindChildrenOfAllParentIdsWithASingleArrayParameter() {
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Map<String, Object>> paramsCaptor = ArgumentCaptor.forClass(Map.class);
+        when(namedParameterJdbcTemplate.query(queryCaptor.capture(), paramsCaptor.capture(), any(RowMapper.class)))
+                .thenReturn(someObjects);
+        Map<String, Object> filters = new HashMap<>();
+        filters.put("otherField", "other-field");
+        filters.put("unusedField", null);
+
+        List<SomeObject> result = someRepository.findByParentIds("SELECT * FROM some_table st", "st", "parentId",
+                Arrays.asList("parent-1", "parent-2", "parent-1"), filters, "default", 100L, false);
+
+        assertEquals(2, result.size());
+        assertEquals("SELECT * FROM some_table st WHERE st.parentId = ANY(:parentIds) AND st.tenantId=:tenantId "
+                + "AND st.otherField=:otherField AND st.isDeleted=false AND st.lastModifiedTime>=:lastModifiedTime "
+                + "ORDER BY st.id ASC", queryCaptor.getValue());
+        assertArrayEquals(new String[]{"parent-1", "parent-2"}, (String[]) paramsCaptor.getValue().get("parentIds"));
+        assertFalse(paramsCaptor.getValue().containsKey("unusedField"));
+    }
+
+    @Test
+    @DisplayName("should not query when no parent ids are passed")
+    void shouldNotQueryWhenNoParentIdsArePassed() {
+        List<SomeObject> result = someRepository.findByParentIds("SELECT * FROM some_table", null, "parentId",
+                Collections.emptyList(), Collections.emptyMap(), "default", null, false);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(namedParameterJdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("should page through parent ids when there are more than fit in one query")
+    void shouldPageThroughParentIds() {
+        ArgumentCaptor<Map<String, Object>> paramsCaptor = ArgumentCaptor.forClass(Map.class);
+        when(namedParameterJdbcTemplate.query(anyString(), paramsCaptor.capture(), any(RowMapper.class)))
+                .thenReturn(someObjects);
+        List<String> parentIds = IntStream.range(0, GenericRepository.PARENT_IDS_PAGE_SIZE * 2 + 1)
+                .mapToObj(index -> "parent-" + index).collect(Collectors.toList());
+
+        List<SomeObject> result = someRepository.findByParentIds("SELECT * FROM some_table", null, "parentId",
+                parentIds, Collections.emptyMap(), "default", null, false);
+
+        verify(namedParameterJdbcTemplate, times(3)).query(anyString(), anyMap(), any(RowMapper.class));
+        assertEquals(someObjects.size() * 3, result.size());
+        List<Map<String, Object>> pages = paramsCaptor.getAllValues();
+        assertEquals(GenericRepository.PARENT_IDS_PAGE_SIZE, ((String[]) pages.get(0).get("parentIds")).length);
+        assertEquals(GenericRepository.PARENT_IDS_PAGE_SIZE, ((String[]) pages.get(1).get("parentIds")).length);
+        assertArrayEquals(new String[]{"parent-" + GenericRepository.PARENT_IDS_PAGE_SIZE * 2},
+                (String[]) pages.get(2).get("parentIds"));
+    }
 }
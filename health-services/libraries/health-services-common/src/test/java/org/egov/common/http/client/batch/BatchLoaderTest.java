@@ -0,0 +1,158 @@
+package org.egov.common.http.client.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchLoaderTest {
+
+    private final List<List<String>> calls = new ArrayList<>();
+
+    private BatchLoader<String> loader(int maxBatchSize) {
+        return BatchLoader.of("things", (tenantId, ids) -> {
+            calls.add(ids);
+            return ids.stream().filter(id -> !id.startsWith("missing")).map(id -> tenantId + ":" + id)
+                    .collect(Collectors.toList());
+        }, value -> value.substring(value.indexOf(':') + 1), maxBatchSize);
+    }
+
+    @Test
+    @DisplayName("should fetch ids registered by every caller in one de-duplicated call")
+    void shouldFetchRegisteredIdsInOneDeduplicatedCall() {
+        BatchLoader<String> loader = loader(100);
+        loader.register("default", Arrays.asList("a", "b", null));
+        loader.register("default", Arrays.asList("b", "c", "missing-1"));
+
+        Map<String, String> first = loader.loadMany("default", Arrays.asList("a", "missing-1"));
+        Map<String, String> second = loader.loadMany("default", Arrays.asList("b", "c", "missing-1"));
+
+        assertEquals(1, calls.size());
+        assertEquals(Arrays.asList("a", "b", "c", "missing-1"), calls.get(0));
+        assertEquals(Collections.singletonMap("a", "default:a"), first);
+        assertEquals(Arrays.asList("b", "c"), new ArrayList<>(second.keySet()));
+    }
+
+    @Test
+    @DisplayName("should fetch each tenant separately and split large id sets into batches")
+    void shouldFetchEachTenantSeparatelyInBatches() {
+        BatchLoader<String> loader = loader(2);
+
+        loader.loadMany("t1", Arrays.asList("a", "b", "c"));
+        Map<String, String> result = loader.loadMany("t2", Collections.singletonList("a"));
+
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("c"),
+                Collections.singletonList("a")), calls);
+        assertEquals("t2:a", result.get("a"));
+    }
+
+    @Test
+    @DisplayName("should retry ids of a failed batch on the next load")
+    void shouldRetryIdsOfAFailedBatch() {
+        List<String> failures = new ArrayList<>(Collections.singletonList("fail"));
+        BatchLoader<String> loader = BatchLoader.of("things", (tenantId, ids) -> {
+            calls.add(ids);
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException(failures.remove(0));
+            }
+            return ids;
+        }, Function.identity(), 10);
+
+        assertThrows(IllegalStateException.class, () -> loader.loadMany("default", Collections.singletonList("a")));
+        Map<String, String> result = loader.loadMany("default", Collections.singletonList("a"));
+
+        assertEquals(2, calls.size());
+        assertTrue(result.containsKey("a"));
+    }
+
+    @Test
+    @DisplayName("should keep the ids of a failed batch and of the batches after it pending")
+    void shouldKeepIdsOfFailedAndLaterBatchesPending() {
+        List<String> failures = new ArrayList<>(Collections.singletonList("b"));
+        BatchLoader<String> loader = BatchLoader.of("things", (tenantId, ids) -> {
+            calls.add(ids);
+            if (ids.stream().anyMatch(failures::remove)) {
+                throw new IllegalStateException("failed");
+            }
+            return ids;
+        }, Function.identity(), 1);
+
+        assertThrows(IllegalStateException.class, () -> loader.loadMany("default", Arrays.asList("a", "b", "c")));
+        Map<String, String> result = loader.loadMany("default", Collections.singletonList("c"));
+
+        assertEquals(Arrays.asList(Collections.singletonList("a"), Collections.singletonList("b"),
+                Collections.singletonList("b"), Collections.singletonList("c")), calls);
+        assertEquals(Collections.singletonMap("c", "c"), result);
+    }
+
+    @Test
+    @DisplayName("should not hold the loader while fetching")
+    void shouldNotHoldTheLoaderWhileFetching() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BatchLoader<String> loader = BatchLoader.of("things", (tenantId, ids) -> {
+            if ("t1".equals(tenantId)) {
+                fetching.countDown();
+                await(release);
+            }
+            return ids;
+        }, Function.identity(), 10);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Map<String, String>> slow =
+                    executor.submit(() -> loader.loadMany("t1", Collections.singletonList("a")));
+            assertTrue(fetching.await(5, TimeUnit.SECONDS));
+
+            Map<String, String> fast = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> loader.loadMany("t2", Collections.singletonList("b")));
+            release.countDown();
+
+            assertEquals(Collections.singletonMap("b", "b"), fast);
+            assertEquals(Collections.singletonMap("a", "a"), slow.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should share loaders by name within a context only")
+    void shouldShareLoadersByNameWithinAContext() {
+        BatchLoaderContext.run(() -> {
+            BatchLoader<String> first = BatchLoaderContext.loader("things", () -> loader(10));
+            BatchLoader<String> nested = BatchLoaderContext.run(() -> BatchLoaderContext.loader("things", () -> loader(10)));
+            assertSame(first, nested);
+            return null;
+        });
+
+        assertNotSame(BatchLoaderContext.loader("things", () -> loader(10)),
+                BatchLoaderContext.loader("things", () -> loader(10)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.egov.common.validator;
+
+import org.egov.common.http.client.batch.BatchLoaderContext;
+import org.egov.common.models.Error;
+import org.egov.common.utils.CommonUtils;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentValidationTest {
+
+    private static final CountDownLatch firstStageLatch = new CountDownLatch(2);
+
+    private static final AtomicBoolean firstStageDone = new AtomicBoolean();
+
+    private ConcurrentValidation concurrentValidation;
+
+    @BeforeEach
+    void setUp() {
+        concurrentValidation = new ConcurrentValidation(true, 2, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        concurrentValidation.shutdown();
+    }
+
+    @Test
+    @DisplayName("should group validators into stages by their order")
+    void shouldGroupValidatorsIntoStagesByOrder() {
+        List<Validator<String, String>> validators = Arrays.asList(new FirstStageA(), new FirstStageB(),
+                new SecondStage());
+
+        List<List<Validator<String, String>>> stages = ConcurrentValidation.getStages(validators);
+
+        assertEquals(2, stages.size());
+        assertEquals(2, stages.get(0).size());
+        assertEquals(1, stages.get(1).size());
+    }
+
+    @Test
+    @DisplayName("should run validators of the same order concurrently and later stages after them")
+    void shouldRunSameOrderConcurrentlyAndStagesInSequence() {
+        List<Validator<String, String>> validators = Arrays.asList(new FirstStageA(), new FirstStageB(),
+                new SecondStage());
+
+        List<Map<String, List<Error>>> errorMaps = concurrentValidation.validate(validators, "request");
+
+        assertEquals(Arrays.asList("a", "b", "second"), errorMaps.stream()
+                .map(errorMap -> errorMap.get("request").get(0).getErrorCode())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("should rethrow the exception of a validator run on the pool")
+    void shouldRethrowExceptionOfPooledValidator() {
+        Validator<String, String> failing = request -> {
+            throw new CustomException("FAILED", "failed");
+        };
+        List<Validator<String, String>> validators = Arrays.asList(request -> Collections.emptyMap(), failing);
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> concurrentValidation.validate(validators, "request"));
+        assertEquals("FAILED", exception.getCode());
+    }
+
+    @Test
+    @DisplayName("should share the batch loader context of the request with pooled validators")
+    void shouldShareBatchLoaderContextWithPooledValidators() {
+        AtomicReference<BatchLoaderContext> seen = new AtomicReference<>();
+        List<Validator<String, String>> validators = new ArrayList<>();
+        validators.add(request -> Collections.emptyMap());
+        validators.add(request -> {
+            seen.set(BatchLoaderContext.current());
+            return Collections.emptyMap();
+        });
+
+        BatchLoaderContext context = BatchLoaderContext.run(() -> {
+            concurrentValidation.validate(validators, "request");
+            return BatchLoaderContext.current();
+        });
+
+        assertSame(context, seen.get());
+    }
+
+    @Test
+    @DisplayName("should let validators of a stage see the entities as they were when the stage started")
+    void shouldMarkErrorsOnlyAfterTheStageHasFinished() {
+        Payload payload = new Payload();
+        CountDownLatch recorded = new CountDownLatch(1);
+        AtomicReference<Boolean> seenByPeer = new AtomicReference<>();
+        AtomicReference<Boolean> seenByNextStage = new AtomicReference<>();
+        Validator<Payload, Payload> rejecting = new OrderedValidator(1, request -> {
+            Map<Payload, List<Error>> errors = new HashMap<>();
+            CommonUtils.populateErrorDetails(request, Error.builder().errorCode("REJECTED").build(), errors);
+            recorded.countDown();
+            return errors;
+        });
+        Validator<Payload, Payload> peer = new OrderedValidator(1, request -> {
+            try {
+                assertTrue(recorded.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            seenByPeer.set(request.getHasErrors());
+            return Collections.emptyMap();
+        });
+        Validator<Payload, Payload> nextStage = new OrderedValidator(2, request -> {
+            seenByNextStage.set(request.getHasErrors());
+            return Collections.emptyMap();
+        });
+
+        concurrentValidation.validate(Arrays.asList(rejecting, peer, nextStage), payload);
+
+        assertFalse(seenByPeer.get());
+        assertTrue(seenByNextStage.get());
+        assertTrue(payload.getHasErrors());
+    }
+
+    @Test
+    @DisplayName("should validate one by one when concurrent validation is disabled")
+    void shouldValidateSequentiallyWhenDisabled() {
+        ConcurrentValidation disabled = new ConcurrentValidation(false, 2, 4);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        List<Validator<String, String>> validators = Arrays.asList(request -> Collections.emptyMap(), request -> {
+            threadName.set(Thread.currentThread().getName());
+            return Collections.emptyMap();
+        });
+
+        disabled.validate(validators, "request");
+
+        assertFalse(disabled.isEnabled());
+        assertEquals(Thread.currentThread().getName(), threadName.get());
+    }
+
+    private static Map<String, List<Error>> error(String request, String code) {
+        return Collections.singletonMap(request, Collections.singletonList(Error.builder().errorCode(code).build()));
+    }
+
+    // both wait for each other, so they only finish if they run at the same time
+    private static Map<String, List<Error>> awaitPeer(String request, String code) {
+        firstStageLatch.countDown();
+        try {
+            assertTrue(firstStageLatch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return error(request, code);
+    }
+
+    @Order(1)
+    static class FirstStageA implements Validator<String, String> {
+        @Override
+        public Map<String, List<Error>> validate(String request) {
+            return awaitPeer(request, "a");
+        }
+    }
+
+    @Order(1)
+    static class FirstStageB implements Validator<String, String> {
+        @Override
+        public Map<String, List<Error>> validate(String request) {
+            Map<String, List<Error>> errors = awaitPeer(request, "b");
+            firstStageDone.set(true);
+            return errors;
+        }
+    }
+
+    @Order(2)
+    static class SecondStage implements Validator<String, String> {
+        @Override
+        public Map<String, List<Error>> validate(String request) {
+            assertTrue(firstStageDone.get());
+            return error(request, "second");
+        }
+    }
+
+    static class OrderedValidator implements Validator<Payload, Payload>, Ordered {
+
+        private final int order;
+
+        private final Validator<Payload, Payload> delegate;
+
+        OrderedValidator(int order, Validator<Payload, Payload> delegate) {
+            this.order = order;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Map<Payload, List<Error>> validate(Payload request) {
+            return delegate.validate(request);
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+    }
+
+    static class Payload {
+
+        private Boolean hasErrors = Boolean.FALSE;
+
+        public Boolean getHasErrors() {
+            return hasErrors;
+        }
+
+        public void setHasErrors(Boolean hasErrors) {
+            this.hasErrors = hasErrors;
+        }
+    }
+}
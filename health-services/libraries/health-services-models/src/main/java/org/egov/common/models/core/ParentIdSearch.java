@@ -0,0 +1,38 @@
+package org.egov.common.models.core;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Search criteria for fetching all child records of a set of parent records in one pass,
+ * e.g. the members of a list of households.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ParentIdSearch {
+
+    /**
+     * The ids of the parent records whose children should be returned, at most 1000 per request.
+     */
+    @NotNull
+    @Size(min = 1, max = 1000)
+    @JsonProperty("parentIds")
+    private List<String> parentIds;
+
+    /**
+     * Restricts the children to a single project, where the child records carry one.
+     */
+    @JsonProperty("projectId")
+    private String projectId;
+}
@@ -30,6 +30,9 @@ public class SearchResponse<E> {
     @Builder.Default
     private List<E> response = new ArrayList<>();
 
+    @JsonProperty("NextCursor")
+    private String nextCursor;
+
     public Long getTotalCount() {
         if(totalCount == null)
             totalCount = (long) response.size();
@@ -0,0 +1,27 @@
+package org.egov.common.models.core;
+
+/**
+ * How search APIs compute the total count returned next to a page of results.
+ */
+public enum TotalCountMode {
+
+    /**
+     * Do not count, the total count is the size of the returned page.
+     */
+    NONE,
+
+    /**
+     * Count every matching row.
+     */
+    EXACT,
+
+    /**
+     * Use the query planner's row estimate.
+     */
+    ESTIMATED,
+
+    /**
+     * Count every matching row and reuse the result for identical searches for a short period.
+     */
+    CACHED
+}
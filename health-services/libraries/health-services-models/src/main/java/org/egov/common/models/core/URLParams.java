@@ -61,6 +61,19 @@ public class URLParams {
     @JsonProperty("includeDeleted")
     private Boolean includeDeleted = Boolean.FALSE;
 
+    /**
+     * Opaque keyset cursor returned as nextCursor by a previous search.
+     * When present, results continue after the last record of the previous page and offset is ignored.
+     */
+    @JsonProperty("cursor")
+    private String cursor;
+
+    /**
+     * How the total count should be computed, defaults to the service's configured mode when absent.
+     */
+    @JsonProperty("totalCountMode")
+    private TotalCountMode totalCountMode;
+
     /**
      * Sets the URL parameters from the given URLParams object.
      * This method allows updating the current URLParams instance with values from another instance.
@@ -82,6 +95,12 @@ public class URLParams {
 
         // Update includeDeleted if provided in the input URLParams
         if (urlParams.getIncludeDeleted() != null) this.includeDeleted = urlParams.getIncludeDeleted();
+
+        // Update cursor if provided in the input URLParams
+        if (urlParams.getCursor() != null) this.cursor = urlParams.getCursor();
+
+        // Update totalCountMode if provided in the input URLParams
+        if (urlParams.getTotalCountMode() != null) this.totalCountMode = urlParams.getTotalCountMode();
     }
 
 }
@@ -40,6 +40,9 @@ public class HouseholdBulkResponse {
     @Builder.Default
     private Long totalCount = 0L;
 
+    @JsonProperty("NextCursor")
+    private String nextCursor;
+
     public HouseholdBulkResponse addHouseholdItem(Household householdItem) {
         if (this.households == null) {
             this.households = new ArrayList<>();
@@ -37,6 +37,9 @@ public class TaskBulkResponse {
     @Builder.Default
     private Long totalCount = 0L;
 
+    @JsonProperty("NextCursor")
+    private String nextCursor;
+
     @JsonProperty("Tasks")
     @NotNull
     @Valid
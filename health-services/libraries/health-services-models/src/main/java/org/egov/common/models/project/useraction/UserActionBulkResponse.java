@@ -44,6 +44,12 @@ public class UserActionBulkResponse {
     @Builder.Default
     private Long totalCount = 0L;
 
+    /**
+     * Keyset cursor to fetch the next page of user actions, null when there are no more records.
+     */
+    @JsonProperty("NextCursor")
+    private String nextCursor;
+
     /**
      * A list of UserAction objects that are part of the bulk response.
      * This field is mandatory and must be valid.
@@ -37,5 +37,9 @@ public class DownsyncCriteria {
 	private Long totalCount;
 
 	private String householdId;
+
+	private String cursor;
+
+	private String nextCursor;
 }
 
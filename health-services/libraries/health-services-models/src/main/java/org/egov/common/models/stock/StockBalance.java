@@ -0,0 +1,40 @@
+package org.egov.common.models.stock;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The quantity of a product variant on hand at a facility, maintained by the stock service from the stock
+ * transactions recorded by the facility.
+ */
+@Validated
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StockBalance {
+
+    @JsonProperty("tenantId")
+    private String tenantId = null;
+
+    @JsonProperty("facilityId")
+    private String facilityId = null;
+
+    @JsonProperty("productVariantId")
+    private String productVariantId = null;
+
+    /**
+     * The quantity received less the quantity dispatched by the facility.
+     */
+    @JsonProperty("balance")
+    private Long balance = null;
+
+    @JsonProperty("lastModifiedTime")
+    private Long lastModifiedTime = null;
+}
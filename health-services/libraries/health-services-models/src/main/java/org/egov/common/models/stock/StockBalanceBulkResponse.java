@@ -0,0 +1,41 @@
+package org.egov.common.models.stock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Represents a bulk response for stock balances, containing response metadata and a list of balances.
+ */
+@Validated
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StockBalanceBulkResponse {
+
+    @JsonProperty("ResponseInfo")
+    @NotNull
+    @Valid
+    private org.egov.common.contract.response.ResponseInfo responseInfo = null;
+
+    @JsonProperty("StockBalance")
+    @Valid
+    @Builder.Default
+    private List<StockBalance> stockBalance = new ArrayList<>();
+
+    @JsonProperty("TotalCount")
+    @Valid
+    @Builder.Default
+    private Long totalCount = 0L;
+}
@@ -0,0 +1,35 @@
+package org.egov.common.models.stock;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * StockBalanceSearch
+ */
+@Validated
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StockBalanceSearch {
+
+    @JsonProperty("facilityId")
+    private List<String> facilityId = null;
+
+    @JsonProperty("productVariantId")
+    private List<String> productVariantId = null;
+
+    /**
+     * The epoch millisecond time to find the balances at, the current balances being searched if it is not given.
+     */
+    @JsonProperty("asOf")
+    private Long asOf = null;
+}
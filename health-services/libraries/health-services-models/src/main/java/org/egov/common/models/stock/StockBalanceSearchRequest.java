@@ -0,0 +1,33 @@
+package org.egov.common.models.stock;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * StockBalanceSearchRequest
+ */
+@Validated
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StockBalanceSearchRequest {
+
+    @JsonProperty("RequestInfo")
+    @NotNull
+    @Valid
+    private org.egov.common.contract.request.RequestInfo requestInfo = null;
+
+    @JsonProperty("StockBalance")
+    @NotNull
+    @Valid
+    private StockBalanceSearch stockBalance = null;
+}
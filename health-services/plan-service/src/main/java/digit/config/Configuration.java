@@ -81,6 +81,9 @@ public class Configuration {
     @Value("${plan.bulk.update.topic}")
     private String planBulkUpdateTopic;
 
+    @Value("${plan.bulk.create.topic}")
+    private String planBulkCreateTopic;
+
     @Value("${plan.facility.create.topic}")
     private String planFacilityCreateTopic;
 
@@ -126,4 +129,7 @@ public class Configuration {
     @Value("${workflow.send.back.actions}")
     private List<String> wfSendBackActions;
 
+    @Value("${business.service.cache.ttl.ms:900000}")
+    private Long businessServiceCacheTtlMs;
+
 }
@@ -24,6 +24,10 @@ public class ServiceConstants {
 
     public static final String ERROR_WHILE_FETCHING_DATA_FROM_HRMS = "Exception occurred while fetching employee from hrms: ";
 
+    public static final String ERROR_WHILE_VALIDATING_PLAN_FOR_LOCALITY = "Exception occurred while validating plan of bulk create request for locality: ";
+
+    public static final String WORKFLOW_ACTION_INITIATE = "INITIATE";
+
     public static final String RES_MSG_ID = "uief87324";
     public static final String SUCCESSFUL = "successful";
     public static final String FAILED = "failed";
@@ -243,6 +247,8 @@ public class ServiceConstants {
 
     public static final String PIPE_REGEX = "\\|";
 
+    public static final String PIPE = "|";
+
     public static final String FILTER_CODE = "$.*.code";
 
     public static final String FILTER_ID = "$.*.id";
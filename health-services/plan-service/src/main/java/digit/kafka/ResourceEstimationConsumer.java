@@ -1,7 +1,9 @@
 package digit.kafka;
 
+import java.util.ArrayList;
 import java.util.Map;
 
+import org.egov.common.contract.models.Workflow;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
@@ -10,29 +12,73 @@ import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import digit.service.PlanService;
+import digit.web.models.BulkPlanCreateRequest;
+import digit.web.models.BulkPlanRequest;
+import digit.web.models.Plan;
 import digit.web.models.PlanRequest;
+import digit.web.models.Resource;
 import lombok.extern.slf4j.Slf4j;
 
+import static digit.config.ServiceConstants.WORKFLOW_ACTION_INITIATE;
+
 @Component
 @Slf4j
 public class ResourceEstimationConsumer {
 
     private ObjectMapper objectMapper;
-    
+
     private PlanService planService;
-    
+
     public ResourceEstimationConsumer(ObjectMapper objectMapper, PlanService planService) {
         this.objectMapper = objectMapper;
         this.planService = planService;
     }
-	
-	@KafkaListener(topics = {"${resource.config.consumer.plan.create.topic}"})
+
+    @KafkaListener(topics = {"${resource.config.consumer.plan.create.topic}"})
     public void listen(Map<String, Object> consumerRecord, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
         try {
-        	PlanRequest planRequest = objectMapper.convertValue(consumerRecord, PlanRequest.class);
-        	planService.createPlan(planRequest);
+            PlanRequest planRequest = objectMapper.convertValue(consumerRecord, PlanRequest.class);
+            planService.createPlan(planRequest);
         } catch (Exception exception) {
             log.error("Error in plan consumer", exception);
         }
     }
+
+    @KafkaListener(topics = {"${resource.config.consumer.plan.bulk.create.topic}"})
+    public void listenBulk(Map<String, Object> consumerRecord, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        try {
+            BulkPlanCreateRequest bulkPlanCreateRequest = objectMapper.convertValue(consumerRecord, BulkPlanCreateRequest.class);
+            planService.bulkCreate(toBulkPlanRequest(bulkPlanCreateRequest));
+        } catch (Exception exception) {
+            log.error("Error in plan bulk create consumer", exception);
+        }
+    }
+
+    /**
+     * Builds the plans of a bulk create request from the fields shared by all of them and the fields of each plan.
+     *
+     * @param request The bulk create request published by the resource generator.
+     * @return The bulk plan request holding the plans to create.
+     */
+    private BulkPlanRequest toBulkPlanRequest(BulkPlanCreateRequest request) {
+        return BulkPlanRequest.builder()
+                .requestInfo(request.getRequestInfo())
+                .plans(request.getPlans().stream().map(planCreateDTO -> Plan.builder()
+                        .tenantId(request.getTenantId())
+                        .campaignId(request.getCampaignId())
+                        .planConfigurationId(request.getPlanConfigurationId())
+                        .locality(planCreateDTO.getLocality())
+                        .resources(planCreateDTO.getResources() == null ? new ArrayList<>() : planCreateDTO.getResources().entrySet().stream()
+                                .map(resource -> Resource.builder()
+                                        .resourceType(resource.getKey())
+                                        .estimatedNumber(resource.getValue())
+                                        .build())
+                                .toList())
+                        .activities(new ArrayList<>())
+                        .targets(new ArrayList<>())
+                        .additionalDetails(planCreateDTO.getAdditionalDetails())
+                        .workflow(Workflow.builder().action(WORKFLOW_ACTION_INITIATE).build())
+                        .build()).toList())
+                .build();
+    }
 }
@@ -17,4 +17,6 @@ public interface PlanRepository {
     public Map<String, Integer> statusCount(PlanSearchRequest planSearchRequest);
 
     public void bulkUpdate(BulkPlanRequest body);
+
+    public void bulkCreate(BulkPlanRequest body);
 }
@@ -7,11 +7,16 @@ import digit.repository.querybuilder.PlanQueryBuilder;
 import digit.repository.rowmapper.PlanRowMapper;
 import digit.repository.rowmapper.PlanStatusCountRowMapper;
 import digit.service.workflow.WorkflowService;
+import digit.util.QueryUtil;
 import digit.web.models.*;
 import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.models.AuditDetails;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 
@@ -39,8 +44,11 @@ public class PlanRepositoryImpl implements PlanRepository {
 
     private WorkflowService workflowService;
 
+    private QueryUtil queryUtil;
+
     public PlanRepositoryImpl(Producer producer, PlanQueryBuilder planQueryBuilder, PlanRowMapper planRowMapper,
-                              JdbcTemplate jdbcTemplate, Configuration config, PlanStatusCountRowMapper statusCountRowMapper, WorkflowService workflowService) {
+                              JdbcTemplate jdbcTemplate, Configuration config, PlanStatusCountRowMapper statusCountRowMapper, WorkflowService workflowService,
+                              QueryUtil queryUtil) {
         this.producer = producer;
         this.planQueryBuilder = planQueryBuilder;
         this.planRowMapper = planRowMapper;
@@ -48,6 +56,7 @@ public class PlanRepositoryImpl implements PlanRepository {
         this.config = config;
         this.statusCountRowMapper = statusCountRowMapper;
         this.workflowService = workflowService;
+        this.queryUtil = queryUtil;
     }
 
     /**
@@ -131,6 +140,130 @@ public class PlanRepositoryImpl implements PlanRepository {
         producer.push(config.getPlanBulkUpdateTopic(), body);
     }
 
+    /**
+     * This method saves the plans of a bulk create request with one batched insert per table and, once the
+     * transaction commits, emits the whole batch once for the downstream consumers of created plans.
+     * @param body
+     */
+    @Override
+    @Transactional
+    public void bulkCreate(BulkPlanRequest body) {
+        List<Object[]> planRows = new ArrayList<>();
+        List<Object[]> activityRows = new ArrayList<>();
+        List<Object[]> conditionRows = new ArrayList<>();
+        List<Object[]> resourceRows = new ArrayList<>();
+        List<Object[]> targetRows = new ArrayList<>();
+        List<Object[]> additionalFieldRows = new ArrayList<>();
+
+        // Prepare rows for bulk insert, child rows carry the audit details of their plan
+        body.getPlans().forEach(plan -> {
+            AuditDetails auditDetails = plan.getAuditDetails();
+            planRows.add(new Object[] {
+                    plan.getId(),
+                    plan.getTenantId(),
+                    plan.getLocality(),
+                    plan.getCampaignId(),
+                    plan.getPlanConfigurationId(),
+                    plan.getBoundaryAncestralPath(),
+                    plan.getStatus(),
+                    !CollectionUtils.isEmpty(plan.getAssignee()) ? String.join(",", plan.getAssignee()) : null,
+                    queryUtil.convertToPgObject(plan.getAdditionalDetails()),
+                    auditDetails.getCreatedBy(),
+                    auditDetails.getCreatedTime(),
+                    auditDetails.getLastModifiedBy(),
+                    auditDetails.getLastModifiedTime()
+            });
+
+            if (!CollectionUtils.isEmpty(plan.getActivities())) {
+                plan.getActivities().forEach(activity -> {
+                    activityRows.add(new Object[] {
+                            activity.getId(),
+                            activity.getCode(),
+                            activity.getDescription(),
+                            activity.getPlannedStartDate(),
+                            activity.getPlannedEndDate(),
+                            !CollectionUtils.isEmpty(activity.getDependencies()) ? String.join(",", activity.getDependencies()) : null,
+                            plan.getId(),
+                            auditDetails.getCreatedBy(),
+                            auditDetails.getCreatedTime(),
+                            auditDetails.getLastModifiedBy(),
+                            auditDetails.getLastModifiedTime()
+                    });
+
+                    if (!CollectionUtils.isEmpty(activity.getConditions())) {
+                        activity.getConditions().forEach(condition -> conditionRows.add(new Object[] {
+                                condition.getId(),
+                                condition.getEntity(),
+                                condition.getEntityProperty(),
+                                condition.getExpression(),
+                                activity.getId(),
+                                auditDetails.getCreatedBy(),
+                                auditDetails.getCreatedTime(),
+                                auditDetails.getLastModifiedBy(),
+                                auditDetails.getLastModifiedTime()
+                        }));
+                    }
+                });
+            }
+
+            if (!CollectionUtils.isEmpty(plan.getResources())) {
+                plan.getResources().forEach(resource -> resourceRows.add(new Object[] {
+                        resource.getId(),
+                        resource.getResourceType(),
+                        resource.getEstimatedNumber(),
+                        plan.getId(),
+                        resource.getActivityCode(),
+                        auditDetails.getCreatedBy(),
+                        auditDetails.getCreatedTime(),
+                        auditDetails.getLastModifiedBy(),
+                        auditDetails.getLastModifiedTime()
+                }));
+            }
+
+            if (!CollectionUtils.isEmpty(plan.getTargets())) {
+                plan.getTargets().forEach(target -> {
+                    MetricDetail metricDetail = target.getMetricDetail();
+                    targetRows.add(new Object[] {
+                            target.getId(),
+                            target.getMetric(),
+                            !ObjectUtils.isEmpty(metricDetail) ? metricDetail.getMetricValue() : null,
+                            !ObjectUtils.isEmpty(metricDetail) && !ObjectUtils.isEmpty(metricDetail.getMetricComparator()) ? metricDetail.getMetricComparator().toString() : null,
+                            !ObjectUtils.isEmpty(metricDetail) ? metricDetail.getMetricUnit() : null,
+                            plan.getId(),
+                            target.getActivityCode(),
+                            auditDetails.getCreatedBy(),
+                            auditDetails.getCreatedTime(),
+                            auditDetails.getLastModifiedBy(),
+                            auditDetails.getLastModifiedTime()
+                    });
+                });
+            }
+
+            if (!CollectionUtils.isEmpty(plan.getAdditionalFields())) {
+                plan.getAdditionalFields().forEach(additionalField -> additionalFieldRows.add(new Object[] {
+                        additionalField.getId(),
+                        plan.getId(),
+                        additionalField.getKey(),
+                        additionalField.getValue(),
+                        additionalField.getShowOnUi(),
+                        additionalField.getEditable(),
+                        additionalField.getOrder()
+                }));
+            }
+        });
+
+        // Perform batch inserts, parents first
+        jdbcTemplate.batchUpdate(planQueryBuilder.getPlanInsertQuery(), planRows);
+        batchInsert(planQueryBuilder.getPlanActivityInsertQuery(), activityRows);
+        batchInsert(planQueryBuilder.getPlanActivityConditionInsertQuery(), conditionRows);
+        batchInsert(planQueryBuilder.getPlanResourceInsertQuery(), resourceRows);
+        batchInsert(planQueryBuilder.getPlanTargetInsertQuery(), targetRows);
+        batchInsert(planQueryBuilder.getPlanAdditionalFieldInsertQuery(), additionalFieldRows);
+
+        // Emit the created plans as one message, in the shape of the bulk update, only after they are saved
+        pushAfterCommit(config.getPlanBulkCreateTopic(), body);
+    }
+
     /**
      * Counts the number of plans based on the provided search criteria.
      * @param planSearchCriteria The search criteria for filtering plans.
@@ -143,6 +276,36 @@ public class PlanRepositoryImpl implements PlanRepository {
         return jdbcTemplate.queryForObject(query, preparedStmtList.toArray(), Integer.class);
     }
 
+    /**
+     * Helper method to batch insert the provided rows, if any.
+     * @param query
+     * @param rows
+     */
+    private void batchInsert(String query, List<Object[]> rows) {
+        if (!CollectionUtils.isEmpty(rows)) {
+            jdbcTemplate.batchUpdate(query, rows);
+        }
+    }
+
+    /**
+     * Helper method to push the value once the current transaction commits, so that consumers never see records
+     * whose insert is rolled back. Pushes right away when there is no transaction.
+     * @param topic
+     * @param value
+     */
+    private void pushAfterCommit(String topic, Object value) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            producer.push(topic, value);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                producer.push(topic, value);
+            }
+        });
+    }
+
     /**
      * Helper method to query database for plan ids based on the provided search criteria.
      * @param planSearchCriteria
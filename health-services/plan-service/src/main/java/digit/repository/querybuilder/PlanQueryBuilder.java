@@ -41,12 +41,48 @@ public class PlanQueryBuilder {
 
     private static final String BULK_PLAN_UPDATE_QUERY = "UPDATE plan SET status = ?, assignee = ?, last_modified_by = ?, last_modified_time = ? WHERE id = ?";
 
+    private static final String PLAN_INSERT_QUERY = "INSERT INTO plan (id, tenant_id, locality, campaign_id, plan_configuration_id, boundary_ancestral_path, status, assignee, additional_details, created_by, created_time, last_modified_by, last_modified_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String PLAN_ACTIVITY_INSERT_QUERY = "INSERT INTO plan_activity (id, code, description, planned_start_date, planned_end_date, dependencies, plan_id, created_by, created_time, last_modified_by, last_modified_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String PLAN_ACTIVITY_CONDITION_INSERT_QUERY = "INSERT INTO plan_activity_condition (id, entity, entity_property, expression, activity_id, created_by, created_time, last_modified_by, last_modified_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String PLAN_RESOURCE_INSERT_QUERY = "INSERT INTO plan_resource (id, resource_type, estimated_number, plan_id, activity_code, created_by, created_time, last_modified_by, last_modified_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String PLAN_TARGET_INSERT_QUERY = "INSERT INTO plan_target (id, metric, metric_value, metric_comparator, metric_unit, plan_id, activity_code, created_by, created_time, last_modified_by, last_modified_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String PLAN_ADDITIONAL_FIELD_INSERT_QUERY = "INSERT INTO plan_additional_field (id, plan_id, \"key\", \"value\", show_on_ui, editable, \"order\") VALUES (?, ?, ?, ?, ?, ?, ?)";
+
     private static final String PLAN_SEARCH_QUERY_ORDER_BY_CLAUSE = " order by plan.last_modified_time desc ";
 
     private static final String PLAN_SEARCH_QUERY_COUNT_WRAPPER = "SELECT COUNT(id) AS total_count FROM ( ";
 
     private static final String PLAN_STATUS_COUNT_QUERY = "SELECT COUNT(id) as plan_status_count, status FROM (SELECT id, status FROM plan {INTERNAL_QUERY}) as plan_status_map GROUP BY status";
 
+    public String getPlanInsertQuery() {
+        return PLAN_INSERT_QUERY;
+    }
+
+    public String getPlanActivityInsertQuery() {
+        return PLAN_ACTIVITY_INSERT_QUERY;
+    }
+
+    public String getPlanActivityConditionInsertQuery() {
+        return PLAN_ACTIVITY_CONDITION_INSERT_QUERY;
+    }
+
+    public String getPlanResourceInsertQuery() {
+        return PLAN_RESOURCE_INSERT_QUERY;
+    }
+
+    public String getPlanTargetInsertQuery() {
+        return PLAN_TARGET_INSERT_QUERY;
+    }
+
+    public String getPlanAdditionalFieldInsertQuery() {
+        return PLAN_ADDITIONAL_FIELD_INSERT_QUERY;
+    }
+
     public String getPlanQuery(List<String> ids, List<Object> preparedStmtList) {
         return buildPlanQuery(ids, preparedStmtList);
     }
@@ -151,18 +187,15 @@ public class PlanQueryBuilder {
 
         if (!ObjectUtils.isEmpty(planSearchCriteria.getAssignee())) {
             queryUtil.addClauseIfRequired(builder, preparedStmtList);
-            builder.append(" ARRAY [ ").append(queryUtil.createQuery(Collections.singleton(planSearchCriteria.getAssignee()).size())).append(" ]").append("::text[] ");
-            builder.append(" && string_to_array(assignee, ',') ");
+            builder.append(" assignee_ids && ARRAY [ ").append(queryUtil.createQuery(Collections.singleton(planSearchCriteria.getAssignee()).size())).append(" ]").append("::text[] ");
             queryUtil.addToPreparedStatement(preparedStmtList, Collections.singleton(planSearchCriteria.getAssignee()));
         }
 
         if (!CollectionUtils.isEmpty(planSearchCriteria.getJurisdiction())) {
             queryUtil.addClauseIfRequired(builder, preparedStmtList);
-            builder.append(" ARRAY [ ")
+            builder.append(" boundary_ancestral_path_codes && ARRAY [ ")
                     .append(queryUtil.createQuery(planSearchCriteria.getJurisdiction().size()))
                     .append(" ]::text[] ");
-
-            builder.append(" && string_to_array(boundary_ancestral_path, '|') ");
             queryUtil.addToPreparedStatement(preparedStmtList, planSearchCriteria.getJurisdiction());
         }
 
@@ -3,8 +3,11 @@ package digit.service;
 import digit.repository.PlanRepository;
 import digit.service.workflow.WorkflowService;
 import digit.web.models.*;
+import org.egov.common.contract.workflow.BusinessService;
+import org.egov.common.contract.workflow.BusinessServiceResponse;
 import org.egov.common.utils.ResponseInfoUtil;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
 
 import java.util.Collections;
 import java.util.List;
@@ -53,6 +56,38 @@ public class PlanService {
                 .build();
     }
 
+    /**
+     * This method processes bulk create requests for plans, such as the plans estimated by the resource generator.
+     * Plans failing validation are left out, and the valid ones are transitioned with one workflow call and
+     * saved with batched inserts.
+     * @param bulkPlanRequest
+     * @return
+     */
+    public PlanResponse bulkCreate(BulkPlanRequest bulkPlanRequest) {
+        // Validate plans of the bulk create request, keeping the valid ones
+        bulkPlanRequest.setPlans(planValidator.validateBulkPlanCreate(bulkPlanRequest));
+
+        if (!CollectionUtils.isEmpty(bulkPlanRequest.getPlans())) {
+            // Enrich plans of the bulk create request
+            bulkPlanRequest.getPlans().forEach(plan -> planEnricher.enrichPlanCreate(PlanRequest.builder()
+                    .requestInfo(bulkPlanRequest.getRequestInfo())
+                    .plan(plan)
+                    .build()));
+
+            // Call workflow bulk transition API for status update
+            workflowService.invokeWorkflowForBulkCreate(bulkPlanRequest);
+
+            // Delegate bulk creation request to repository
+            planRepository.bulkCreate(bulkPlanRequest);
+        }
+
+        // Build and return response back to controller
+        return PlanResponse.builder()
+                .responseInfo(ResponseInfoUtil.createResponseInfoFromRequestInfo(bulkPlanRequest.getRequestInfo(), Boolean.TRUE))
+                .plan(bulkPlanRequest.getPlans())
+                .build();
+    }
+
     /**
      * This method processes the requests that come for searching plans.
      * @param body
@@ -125,4 +160,20 @@ public class PlanService {
                 .plan(bulkPlanRequest.getPlans())
                 .build();
     }
+
+    /**
+     * This method reloads the cached definition of a workflow business service, such as after its states change.
+     * @param body
+     * @param tenantId
+     * @param businessService
+     * @return
+     */
+    public BusinessServiceResponse refreshBusinessService(RequestInfoWrapper body, String tenantId, String businessService) {
+        BusinessService refreshed = workflowService.refreshBusinessService(body.getRequestInfo(), businessService, tenantId);
+
+        return BusinessServiceResponse.builder()
+                .responseInfo(ResponseInfoUtil.createResponseInfoFromRequestInfo(body.getRequestInfo(), Boolean.TRUE))
+                .businessServices(Collections.singletonList(refreshed))
+                .build();
+    }
 }
@@ -13,6 +13,7 @@ import digit.web.models.boundary.BoundarySearchResponse;
 import digit.web.models.boundary.BoundaryTypeHierarchyResponse;
 import digit.web.models.boundary.HierarchyRelation;
 import digit.web.models.projectFactory.CampaignResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.egov.common.utils.MultiStateInstanceUtil;
 import org.egov.tracer.model.CustomException;
 import org.springframework.stereotype.Component;
@@ -24,6 +25,7 @@ import java.util.stream.Collectors;
 
 import static digit.config.ServiceConstants.*;
 
+@Slf4j
 @Component
 public class PlanValidator {
 
@@ -69,6 +71,44 @@ public class PlanValidator {
         String rootTenantId = centralInstanceUtil.getStateLevelTenant(request.getPlan().getTenantId());
         Object mdmsData = mdmsUtil.fetchMdmsData(request.getRequestInfo(), rootTenantId);
         CampaignResponse campaignResponse = campaignUtil.fetchCampaignData(request.getRequestInfo(), request.getPlan().getCampaignId(), rootTenantId);
+
+        validatePlanCreate(request, mdmsData, campaignResponse, new HashSet<>());
+    }
+
+    /**
+     * This method performs business validations on the plans of a bulk create request. The MDMS data and the
+     * campaign are fetched once per tenant and campaign, and the plan configuration is checked once per id, instead
+     * of once per plan. A plan failing validation is logged and left out instead of failing the other plans.
+     *
+     * @param bulkPlanRequest the bulk create request
+     * @return the plans that passed validation
+     */
+    public List<Plan> validateBulkPlanCreate(BulkPlanRequest bulkPlanRequest) {
+        Map<String, Object> mdmsDataByTenant = new HashMap<>();
+        Map<String, CampaignResponse> campaignResponseByCampaign = new HashMap<>();
+        Set<String> existingPlanConfigurationIds = new HashSet<>();
+        List<Plan> validPlans = new ArrayList<>();
+
+        for (Plan plan : bulkPlanRequest.getPlans()) {
+            PlanRequest request = PlanRequest.builder().requestInfo(bulkPlanRequest.getRequestInfo()).plan(plan).build();
+            try {
+                String rootTenantId = centralInstanceUtil.getStateLevelTenant(plan.getTenantId());
+                Object mdmsData = mdmsDataByTenant.computeIfAbsent(rootTenantId,
+                        tenantId -> mdmsUtil.fetchMdmsData(bulkPlanRequest.getRequestInfo(), tenantId));
+                CampaignResponse campaignResponse = campaignResponseByCampaign.computeIfAbsent(rootTenantId + PIPE + plan.getCampaignId(),
+                        key -> campaignUtil.fetchCampaignData(bulkPlanRequest.getRequestInfo(), plan.getCampaignId(), rootTenantId));
+
+                validatePlanCreate(request, mdmsData, campaignResponse, existingPlanConfigurationIds);
+                validPlans.add(plan);
+            } catch (Exception e) {
+                log.error(ERROR_WHILE_VALIDATING_PLAN_FOR_LOCALITY + plan.getLocality(), e);
+            }
+        }
+
+        return validPlans;
+    }
+
+    private void validatePlanCreate(PlanRequest request, Object mdmsData, CampaignResponse campaignResponse, Set<String> existingPlanConfigurationIds) {
         BoundarySearchResponse boundarySearchResponse = boundaryUtil.fetchBoundaryData(request.getRequestInfo(), request.getPlan().getLocality(), request.getPlan().getTenantId(), campaignResponse.getCampaignDetails().get(0).getHierarchyType(), Boolean.TRUE, Boolean.FALSE);
 
         //TODO: remove after setting the flag in consumer
@@ -80,8 +120,11 @@ public class PlanValidator {
         // Validate activities
         validateActivities(request);
 
-        // Validate plan configuration existence
-        validatePlanConfigurationExistence(request);
+        // Validate plan configuration existence, once for all the plans of the same plan configuration
+        if (!existingPlanConfigurationIds.contains(request.getPlan().getPlanConfigurationId())) {
+            validatePlanConfigurationExistence(request);
+            existingPlanConfigurationIds.add(request.getPlan().getPlanConfigurationId());
+        }
 
         // Validate resources
         validateResources(request);
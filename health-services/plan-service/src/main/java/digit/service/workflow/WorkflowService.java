@@ -5,6 +5,7 @@ import digit.config.Configuration;
 import digit.repository.ServiceRequestRepository;
 import digit.service.PlanEmployeeService;
 import digit.service.validator.PlanConfigurationValidator;
+import digit.util.BusinessServiceCache;
 import digit.util.CommonUtil;
 import digit.web.models.*;
 import lombok.extern.slf4j.Slf4j;
@@ -43,6 +44,8 @@ public class WorkflowService {
 
     private RestTemplate restTemplate;
 
+    private BusinessServiceCache businessServiceCache;
+
     public WorkflowService(ServiceRequestRepository serviceRequestRepository, Configuration config, ObjectMapper mapper, CommonUtil commonUtil, PlanEmployeeService planEmployeeService, PlanConfigurationValidator planConfigurationValidator, RestTemplate restTemplate) {
         this.serviceRequestRepository = serviceRequestRepository;
         this.config = config;
@@ -51,6 +54,7 @@ public class WorkflowService {
         this.planEmployeeService = planEmployeeService;
         this.planConfigurationValidator = planConfigurationValidator;
         this.restTemplate = restTemplate;
+        this.businessServiceCache = new BusinessServiceCache(config.getBusinessServiceCacheTtlMs());
     }
 
     /**
@@ -145,6 +149,66 @@ public class WorkflowService {
      */
     public ProcessInstanceRequest createWorkflowRequest(PlanRequest planRequest) {
         Plan plan = planRequest.getPlan();
+        ProcessInstance processInstance = createProcessInstance(plan, getAssigneeForAutoAssignment(plan, planRequest.getRequestInfo()));
+
+        log.info("Process Instance assignes - " + processInstance.getAssignes());
+        return ProcessInstanceRequest.builder()
+                .requestInfo(planRequest.getRequestInfo())
+                .processInstances(Collections.singletonList(processInstance))
+                .build();
+    }
+
+    /**
+     * Integrates the plans of a bulk create request with the workflow in one bulk transition.
+     * Unlike a bulk update, the assignee is resolved for each plan since the plans belong to different localities,
+     * and it is looked up once for the plans sharing the same parent boundaries.
+     *
+     * @param bulkPlanRequest The request containing the plans to integrate with the workflow.
+     */
+    public void invokeWorkflowForBulkCreate(BulkPlanRequest bulkPlanRequest) {
+        List<Plan> plans = bulkPlanRequest.getPlans().stream()
+                .filter(plan -> !ObjectUtils.isEmpty(plan.getWorkflow()))
+                .toList();
+        if (plans.isEmpty())
+            return;
+
+        Map<String, List<String>> assigneeByParentBoundaries = new HashMap<>();
+        List<ProcessInstance> processInstanceList = new ArrayList<>();
+        for (Plan plan : plans) {
+            String assignmentKey = getAutoAssignmentKey(plan);
+            if (!assigneeByParentBoundaries.containsKey(assignmentKey))
+                assigneeByParentBoundaries.put(assignmentKey, getAssigneeForAutoAssignment(plan, bulkPlanRequest.getRequestInfo()));
+
+            processInstanceList.add(createProcessInstance(plan, assigneeByParentBoundaries.get(assignmentKey)));
+        }
+
+        ProcessInstanceResponse processInstanceResponse = callWorkflowTransition(ProcessInstanceRequest.builder()
+                .requestInfo(bulkPlanRequest.getRequestInfo())
+                .processInstances(processInstanceList)
+                .build());
+
+        // Setting the status back to each plan from the process instance of the plan
+        Map<String, String> statusByPlanId = processInstanceResponse.getProcessInstances().stream()
+                .collect(Collectors.toMap(ProcessInstance::getBusinessId, processInstance -> processInstance.getState().getState(),
+                        (first, second) -> second));
+        plans.forEach(plan -> {
+            plan.setStatus(statusByPlanId.get(plan.getId()));
+
+            // Enrich audit details after auto assignment is complete
+            plan.setAuditDetails(AuditDetailsEnrichmentUtil
+                    .prepareAuditDetails(plan.getAuditDetails(), bulkPlanRequest.getRequestInfo(), Boolean.FALSE));
+        });
+    }
+
+    /**
+     * Creates the process instance of a plan, assigning it to the auto assigned employees,
+     * or to its last modifier for send back actions.
+     *
+     * @param plan     The plan to create a process instance for.
+     * @param assignee The auto assigned employees.
+     * @return The process instance of the plan.
+     */
+    private ProcessInstance createProcessInstance(Plan plan, List<String> assignee) {
         ProcessInstance processInstance = ProcessInstance.builder()
                 .businessId(plan.getId())
                 .tenantId(plan.getTenantId())
@@ -155,8 +219,6 @@ public class WorkflowService {
                 .documents(plan.getWorkflow().getDocuments())
                 .build();
 
-        List<String> assignee = getAssigneeForAutoAssignment(plan, planRequest.getRequestInfo());
-
         // Set assignees for send back actions
         if (config.getWfSendBackActions().contains(plan.getWorkflow().getAction())) {
             assignee = Collections.singletonList(plan.getAuditDetails().getLastModifiedBy());
@@ -170,11 +232,16 @@ public class WorkflowService {
 
         enrichAssignesInProcessInstance(processInstance, plan.getWorkflow());
 
-        log.info("Process Instance assignes - " + processInstance.getAssignes());
-        return ProcessInstanceRequest.builder()
-                .requestInfo(planRequest.getRequestInfo())
-                .processInstances(Collections.singletonList(processInstance))
-                .build();
+        return processInstance;
+    }
+
+    // Everything the auto assignment of a plan depends on: its ancestral path without the locality itself, the plan
+    // configuration, the action and, for intermediate actions, the jurisdiction of the assignee
+    private String getAutoAssignmentKey(Plan plan) {
+        String boundaryAncestralPath = plan.getBoundaryAncestralPath();
+        return String.join(PIPE, plan.getTenantId(), plan.getPlanConfigurationId(), plan.getWorkflow().getAction(),
+                boundaryAncestralPath.substring(0, Math.max(0, boundaryAncestralPath.lastIndexOf(PIPE))),
+                String.valueOf(plan.getAssigneeJurisdiction()));
     }
 
     /**
@@ -380,7 +447,8 @@ public class WorkflowService {
     }
 
     /**
-     * This method fetches business service details for the given tenant id and business service.
+     * This method fetches business service details for the given tenant id and business service,
+     * from the business service cache if they were loaded within its ttl.
      *
      * @param requestInfo     the request info from request.
      * @param businessService businessService whose details are to be searched.
@@ -388,6 +456,23 @@ public class WorkflowService {
      * @return returns the business service response for the given tenant id and business service.
      */
     public BusinessService fetchBusinessService(RequestInfo requestInfo, String businessService, String tenantId) {
+        return businessServiceCache.get(businessServiceCacheKey(tenantId, businessService), () -> searchBusinessService(requestInfo, businessService, tenantId));
+    }
+
+    /**
+     * This method reloads business service details for the given tenant id and business service from the workflow
+     * service, replacing the cached details.
+     *
+     * @param requestInfo     the request info from request.
+     * @param businessService businessService whose details are to be reloaded.
+     * @param tenantId        tenantId from request.
+     * @return returns the reloaded business service for the given tenant id and business service.
+     */
+    public BusinessService refreshBusinessService(RequestInfo requestInfo, String businessService, String tenantId) {
+        return businessServiceCache.refresh(businessServiceCacheKey(tenantId, businessService), () -> searchBusinessService(requestInfo, businessService, tenantId));
+    }
+
+    private BusinessService searchBusinessService(RequestInfo requestInfo, String businessService, String tenantId) {
 
         // Get business service uri
         Map<String, String> uriParameters = new HashMap<>();
@@ -410,6 +495,10 @@ public class WorkflowService {
         return businessServiceResponse.getBusinessServices().get(0);
     }
 
+    private String businessServiceCacheKey(String tenantId, String businessService) {
+        return tenantId + "|" + businessService;
+    }
+
     /**
      * This method creates business service uri with query parameters
      *
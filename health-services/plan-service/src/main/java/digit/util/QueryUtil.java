@@ -1,5 +1,6 @@
 package digit.util;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 
 import java.io.IOException;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.stream.IntStream;
 
@@ -243,4 +245,22 @@ public class QueryUtil {
         }
         return additionalDetail;
     }
+
+    /**
+     * This method is used to convert an object into a jsonb PostgreSQL object
+     *
+     * @param additionalDetails the object to be converted
+     * @return returns a PGobject of jsonb type
+     */
+    public PGobject convertToPgObject(Object additionalDetails) {
+        PGobject pGobject = new PGobject();
+
+        try {
+            pGobject.setType("jsonb");
+            pGobject.setValue(objectMapper.writeValueAsString(additionalDetails));
+        } catch (JsonProcessingException | SQLException e) {
+            throw new CustomException("PARSING_ERROR", "Failed to convert additionalDetails object to jsonb");
+        }
+        return pGobject;
+    }
 }
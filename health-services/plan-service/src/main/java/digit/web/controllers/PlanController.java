@@ -4,6 +4,7 @@ package digit.web.controllers;
 import digit.service.PlanService;
 import digit.web.models.*;
 import jakarta.validation.Valid;
+import org.egov.common.contract.workflow.BusinessServiceResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -11,6 +12,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 
 @Validated
@@ -68,4 +70,17 @@ public class PlanController {
         return ResponseEntity.status(HttpStatus.CREATED).body(planResponse);
     }
 
+    /**
+     * Request handler for reloading a cached workflow business service definition
+     * @param body
+     * @param tenantId
+     * @param businessService
+     * @return
+     */
+    @RequestMapping(value = "/businessservice/_refresh", method = RequestMethod.POST)
+    public ResponseEntity<BusinessServiceResponse> refreshBusinessService(@Valid @RequestBody RequestInfoWrapper body, @RequestParam String tenantId, @RequestParam String businessService) {
+        BusinessServiceResponse businessServiceResponse = planService.refreshBusinessService(body, tenantId, businessService);
+        return ResponseEntity.status(HttpStatus.OK).body(businessServiceResponse);
+    }
+
 }
@@ -0,0 +1,51 @@
+package digit.web.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.egov.common.contract.request.RequestInfo;
+import org.springframework.validation.annotation.Validated;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import lombok.Data;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * BulkPlanCreateRequest carries the plans estimated for the localities of a plan configuration, sending the fields
+ * shared by all of them once.
+ */
+@Validated
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkPlanCreateRequest {
+
+    @JsonProperty("RequestInfo")
+    @Valid
+    private RequestInfo requestInfo = null;
+
+    @JsonProperty("tenantId")
+    @NotNull
+    @Size(min = 2, max = 64)
+    private String tenantId = null;
+
+    @JsonProperty("campaignId")
+    @Size(max = 64)
+    private String campaignId = null;
+
+    @JsonProperty("planConfigurationId")
+    @Size(max = 64)
+    private String planConfigurationId = null;
+
+    @JsonProperty("Plans")
+    @Valid
+    @NotNull
+    @NotEmpty
+    private List<PlanCreateDTO> plans = null;
+
+}
@@ -0,0 +1,35 @@
+package digit.web.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Size;
+import org.springframework.validation.annotation.Validated;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import lombok.Data;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * PlanCreateDTO holds the fields of a plan of a bulk create request that differ from one locality to the other,
+ * with the estimated number of each resource keyed by resource type.
+ */
+@Validated
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PlanCreateDTO {
+
+    @JsonProperty("locality")
+    @Size(min = 1, max = 64)
+    private String locality = null;
+
+    @JsonProperty("resources")
+    private Map<String, BigDecimal> resources = null;
+
+    @JsonProperty("additionalDetails")
+    private Object additionalDetails = null;
+
+}
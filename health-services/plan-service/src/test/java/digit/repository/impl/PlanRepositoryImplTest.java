@@ -0,0 +1,175 @@
+package digit.repository.impl;
+
+import digit.config.Configuration;
+import digit.kafka.Producer;
+import digit.repository.querybuilder.PlanQueryBuilder;
+import digit.repository.rowmapper.PlanRowMapper;
+import digit.repository.rowmapper.PlanStatusCountRowMapper;
+import digit.service.workflow.WorkflowService;
+import digit.util.QueryUtil;
+import digit.web.models.AdditionalField;
+import digit.web.models.BulkPlanRequest;
+import digit.web.models.Plan;
+import digit.web.models.Resource;
+import org.egov.common.contract.models.AuditDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PlanRepositoryImplTest {
+
+    private static final String PLAN_INSERT = "INSERT INTO plan";
+
+    private static final String RESOURCE_INSERT = "INSERT INTO plan_resource";
+
+    private static final String ADDITIONAL_FIELD_INSERT = "INSERT INTO plan_additional_field";
+
+    private static final String ACTIVITY_INSERT = "INSERT INTO plan_activity";
+
+    private static final String TARGET_INSERT = "INSERT INTO plan_target";
+
+    @Mock
+    private Producer producer;
+
+    @Mock
+    private PlanQueryBuilder planQueryBuilder;
+
+    @Mock
+    private PlanRowMapper planRowMapper;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Configuration config;
+
+    @Mock
+    private PlanStatusCountRowMapper statusCountRowMapper;
+
+    @Mock
+    private WorkflowService workflowService;
+
+    @Mock
+    private QueryUtil queryUtil;
+
+    private PlanRepositoryImpl planRepository;
+
+    @BeforeEach
+    void setUp() {
+        planRepository = new PlanRepositoryImpl(producer, planQueryBuilder, planRowMapper, jdbcTemplate, config,
+                statusCountRowMapper, workflowService, queryUtil);
+        lenient().when(planQueryBuilder.getPlanInsertQuery()).thenReturn(PLAN_INSERT);
+        lenient().when(planQueryBuilder.getPlanActivityInsertQuery()).thenReturn(ACTIVITY_INSERT);
+        lenient().when(planQueryBuilder.getPlanActivityConditionInsertQuery()).thenReturn("INSERT INTO plan_activity_condition");
+        lenient().when(planQueryBuilder.getPlanResourceInsertQuery()).thenReturn(RESOURCE_INSERT);
+        lenient().when(planQueryBuilder.getPlanTargetInsertQuery()).thenReturn(TARGET_INSERT);
+        lenient().when(planQueryBuilder.getPlanAdditionalFieldInsertQuery()).thenReturn(ADDITIONAL_FIELD_INSERT);
+        lenient().when(config.getPlanCreateTopic()).thenReturn("save-plan");
+        lenient().when(config.getPlanBulkCreateTopic()).thenReturn("bulk-save-plan");
+    }
+
+    @Test
+    @DisplayName("should insert the plans before their children with one batch per table that has rows")
+    void shouldBatchInsertPlansAndTheirChildren() {
+        planRepository.bulkCreate(request(plan("plan-1", 2, true), plan("plan-2", 1, false)));
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        ArgumentCaptor<List<Object[]>> planRows = rowsCaptor();
+        ArgumentCaptor<List<Object[]>> resourceRows = rowsCaptor();
+        ArgumentCaptor<List<Object[]>> additionalFieldRows = rowsCaptor();
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(PLAN_INSERT), planRows.capture());
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(RESOURCE_INSERT), resourceRows.capture());
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(ADDITIONAL_FIELD_INSERT), additionalFieldRows.capture());
+        verify(jdbcTemplate, never()).batchUpdate(eq(ACTIVITY_INSERT), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(eq(TARGET_INSERT), anyList());
+
+        assertEquals(Arrays.asList("plan-1", "plan-2"), planRows.getValue().stream()
+                .map(row -> row[0]).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("plan-1", "plan-1", "plan-2"), resourceRows.getValue().stream()
+                .map(row -> row[3]).collect(Collectors.toList()));
+        assertEquals(Collections.singletonList("plan-1"), additionalFieldRows.getValue().stream()
+                .map(row -> row[1]).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("should publish the created plans once, as the whole batch, on the bulk create topic")
+    void shouldPublishCreatedPlansOnceOnTheBulkCreateTopic() {
+        BulkPlanRequest request = request(plan("plan-1", 2, true), plan("plan-2", 1, false));
+
+        planRepository.bulkCreate(request);
+
+        verify(producer).push("bulk-save-plan", request);
+        verify(producer, never()).push(eq("save-plan"), any());
+    }
+
+    @Test
+    @DisplayName("should publish the created plans only after the transaction commits")
+    void shouldPublishCreatedPlansAfterCommit() {
+        BulkPlanRequest request = request(plan("plan-1", 2, true));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            planRepository.bulkCreate(request);
+
+            verify(producer, never()).push(any(), any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(producer).push("bulk-save-plan", request);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Object[]>> rowsCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static BulkPlanRequest request(Plan... plans) {
+        return BulkPlanRequest.builder().plans(Arrays.asList(plans)).build();
+    }
+
+    private static Plan plan(String id, int resourceCount, boolean withAdditionalField) {
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < resourceCount; i++) {
+            resources.add(Resource.builder().id(id + "-resource-" + i).resourceType("NETS_" + i)
+                    .estimatedNumber(BigDecimal.TEN).build());
+        }
+        return Plan.builder()
+                .id(id)
+                .tenantId("mz")
+                .locality("LOCALITY_" + id)
+                .campaignId("campaign")
+                .planConfigurationId("plan-configuration")
+                .status("DRAFT")
+                .resources(resources)
+                .additionalFields(withAdditionalField ? Collections.singletonList(AdditionalField.builder()
+                        .id(id + "-field").key("households").value(BigDecimal.ONE).build()) : null)
+                .auditDetails(AuditDetails.builder().createdBy("user").createdTime(1L)
+                        .lastModifiedBy("user").lastModifiedTime(1L).build())
+                .build();
+    }
+}
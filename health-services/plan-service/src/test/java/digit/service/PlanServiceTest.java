@@ -0,0 +1,93 @@
+package digit.service;
+
+import digit.repository.PlanRepository;
+import digit.service.workflow.WorkflowService;
+import digit.web.models.BulkPlanRequest;
+import digit.web.models.Plan;
+import digit.web.models.PlanRequest;
+import digit.web.models.PlanResponse;
+import org.egov.common.contract.request.RequestInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PlanServiceTest {
+
+    @Mock
+    private PlanValidator planValidator;
+
+    @Mock
+    private PlanEnricher planEnricher;
+
+    @Mock
+    private PlanRepository planRepository;
+
+    @Mock
+    private WorkflowService workflowService;
+
+    private PlanService planService;
+
+    @BeforeEach
+    void setUp() {
+        planService = new PlanService(planValidator, planEnricher, planRepository, workflowService);
+    }
+
+    @Test
+    @DisplayName("should enrich the valid plans and hand them to the workflow and the repository once")
+    void shouldCreateValidPlansInOneBatch() {
+        Plan valid = Plan.builder().id("valid").build();
+        Plan otherValid = Plan.builder().id("other-valid").build();
+        BulkPlanRequest request = request(valid, Plan.builder().id("invalid").build(), otherValid);
+        when(planValidator.validateBulkPlanCreate(request)).thenReturn(Arrays.asList(valid, otherValid));
+
+        PlanResponse response = planService.bulkCreate(request);
+
+        assertEquals(Arrays.asList(valid, otherValid), response.getPlan());
+        verify(planEnricher, times(2)).enrichPlanCreate(any(PlanRequest.class));
+        verify(planEnricher).enrichPlanCreate(argThat(planRequest -> planRequest.getPlan() == otherValid));
+        InOrder inOrder = inOrder(workflowService, planRepository);
+        inOrder.verify(workflowService).invokeWorkflowForBulkCreate(argThat(bulk ->
+                bulk.getPlans().equals(Arrays.asList(valid, otherValid))));
+        inOrder.verify(planRepository).bulkCreate(request);
+    }
+
+    @Test
+    @DisplayName("should not call the workflow or the repository when no plan is valid")
+    void shouldSkipCreationWhenNoPlanIsValid() {
+        BulkPlanRequest request = request(Plan.builder().id("invalid").build());
+        when(planValidator.validateBulkPlanCreate(request)).thenReturn(Collections.emptyList());
+
+        PlanResponse response = planService.bulkCreate(request);
+
+        assertTrue(response.getPlan().isEmpty());
+        verify(planEnricher, never()).enrichPlanCreate(any());
+        verify(workflowService, never()).invokeWorkflowForBulkCreate(any());
+        verify(planRepository, never()).bulkCreate(any());
+    }
+
+    private static BulkPlanRequest request(Plan... plans) {
+        return BulkPlanRequest.builder()
+                .requestInfo(RequestInfo.builder().build())
+                .plans(new ArrayList<>(Arrays.asList(plans)))
+                .build();
+    }
+}
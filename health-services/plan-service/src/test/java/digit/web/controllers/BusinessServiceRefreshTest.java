@@ -0,0 +1,148 @@
+package digit.web.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digit.config.Configuration;
+import digit.repository.PlanRepository;
+import digit.repository.ServiceRequestRepository;
+import digit.service.PlanEmployeeService;
+import digit.service.PlanEnricher;
+import digit.service.PlanService;
+import digit.service.PlanValidator;
+import digit.service.validator.PlanConfigurationValidator;
+import digit.service.workflow.WorkflowService;
+import digit.util.CommonUtil;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.contract.workflow.BusinessService;
+import org.egov.common.contract.workflow.BusinessServiceResponse;
+import org.egov.common.contract.workflow.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessServiceRefreshTest {
+
+    private static final String BUSINESS_SERVICE = "PLAN_ESTIMATION";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private PlanValidator planValidator;
+
+    @Mock
+    private PlanEnricher planEnricher;
+
+    @Mock
+    private PlanRepository planRepository;
+
+    @Mock
+    private ServiceRequestRepository serviceRequestRepository;
+
+    @Mock
+    private CommonUtil commonUtil;
+
+    @Mock
+    private PlanEmployeeService planEmployeeService;
+
+    @Mock
+    private PlanConfigurationValidator planConfigurationValidator;
+
+    private WorkflowService workflowService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        Configuration config = new Configuration();
+        config.setWfHost("http://workflow");
+        config.setBusinessServiceSearchEndpoint("/businessservice/_search");
+        config.setBusinessServiceCacheTtlMs(900000L);
+        workflowService = new WorkflowService(serviceRequestRepository, config, new ObjectMapper(), commonUtil,
+                planEmployeeService, planConfigurationValidator, restTemplate);
+        PlanService planService = new PlanService(planValidator, planEnricher, planRepository, workflowService);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PlanController(planService)).build();
+    }
+
+    @Test
+    @DisplayName("should serve the states of a business service from the cache within its ttl")
+    void shouldServeStatesFromTheCache() {
+        when(restTemplate.postForObject(anyString(), any(), eq(BusinessServiceResponse.class), anyMap()))
+                .thenReturn(response("DRAFT", "APPROVED"));
+
+        workflowService.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz");
+        List<String> states = workflowService.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz");
+
+        assertEquals(Arrays.asList("DRAFT", "APPROVED"), states);
+        verify(restTemplate, times(1)).postForObject(anyString(), any(), eq(BusinessServiceResponse.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("should reload a cached business service on refresh and serve the reloaded states")
+    void shouldReloadTheBusinessServiceOnRefresh() throws Exception {
+        when(restTemplate.postForObject(anyString(), any(), eq(BusinessServiceResponse.class), anyMap()))
+                .thenReturn(response("DRAFT", "APPROVED"), response("DRAFT", "VALIDATED", "APPROVED"));
+        workflowService.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz");
+
+        mockMvc.perform(post("/plan/businessservice/_refresh")
+                        .param("tenantId", "mz")
+                        .param("businessService", BUSINESS_SERVICE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"RequestInfo\":{\"apiId\":\"plan-service\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.BusinessServices[0].states.length()").value(3));
+
+        assertEquals(Arrays.asList("DRAFT", "VALIDATED", "APPROVED"),
+                workflowService.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz"));
+        verify(restTemplate, times(2)).postForObject(anyString(), any(), eq(BusinessServiceResponse.class),
+                argThat((Map<String, ?> uriParameters) -> "mz".equals(uriParameters.get("tenantId"))
+                        && BUSINESS_SERVICE.equals(uriParameters.get("businessService"))));
+    }
+
+    @Test
+    @DisplayName("should cache the business services of each tenant separately")
+    void shouldCacheEachTenantSeparately() {
+        when(restTemplate.postForObject(anyString(), any(), eq(BusinessServiceResponse.class), anyMap()))
+                .thenReturn(response("DRAFT"), response("DRAFT", "APPROVED"));
+
+        List<String> first = workflowService.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "mz");
+        List<String> second = workflowService.getStatusFromBusinessService(new RequestInfo(), BUSINESS_SERVICE, "ke");
+
+        assertEquals(List.of("DRAFT"), first);
+        assertEquals(Arrays.asList("DRAFT", "APPROVED"), second);
+    }
+
+    private static BusinessServiceResponse response(String... states) {
+        BusinessService businessService = BusinessService.builder()
+                .businessService(BUSINESS_SERVICE)
+                .states(Arrays.stream(states).map(state -> State.builder().state(state).build())
+                        .collect(Collectors.toList()))
+                .build();
+        return BusinessServiceResponse.builder().businessServices(List.of(businessService)).build();
+    }
+}
@@ -12,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.egov.common.data.query.builder.GenericQueryBuilder;
 import org.egov.common.data.query.builder.QueryFieldChecker;
 import org.egov.common.data.query.builder.SelectQueryBuilder;
+import org.egov.common.data.query.pagination.KeysetCursor;
 import org.egov.common.data.repository.GenericRepository;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.core.URLParams;
@@ -46,10 +47,12 @@ public class LocationCaptureRepository extends GenericRepository<UserAction> {
      *
      * @param searchObject The search criteria for user locations.
      * @param urlParams    The URL parameters including pagination and filtering information.
-     * @return A SearchResponse containing the list of user locations and the total count.
+     *                     When a cursor is present, keyset pagination over (lastModifiedTime, id) replaces offset.
+     * @return A SearchResponse containing the list of user locations, the total count and the next cursor.
      */
     public SearchResponse<UserAction> find(UserActionSearch searchObject, URLParams urlParams) {
         log.info("Executing find with searchObject: {} and urlParams: {}", searchObject, urlParams);
+        KeysetCursor keysetCursor = KeysetCursor.decode(urlParams.getCursor());
 
         String query = selectQuery + "";
 
@@ -73,17 +76,22 @@ public class LocationCaptureRepository extends GenericRepository<UserAction> {
 
         try {
             log.debug("Executing query to fetch total count");
-            Long totalCount = CommonUtils.constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+            Long totalCount = countTotal(query, paramsMap);
 
-            query = query + " ORDER BY ul.id ASC LIMIT :limit OFFSET :offset";
+            if (keysetCursor == null) {
+                query = query + " ORDER BY ul.id ASC LIMIT :limit OFFSET :offset";
+                paramsMap.put("offset", urlParams.getOffset());
+            } else {
+                query = query + keysetCursor.toPredicate("ul", paramsMap) + KeysetCursor.orderBy("ul") + "LIMIT :limit";
+            }
             paramsMap.put("limit", urlParams.getLimit());
-            paramsMap.put("offset", urlParams.getOffset());
 
             log.debug("Executing query to fetch user locations: {}", query);
             List<UserAction> locationCaptureList = this.namedParameterJdbcTemplate.query(query, paramsMap, this.rowMapper);
 
             log.info("Successfully fetched user locations: {}", locationCaptureList.size());
-            return SearchResponse.<UserAction>builder().response(locationCaptureList).totalCount(totalCount).build();
+            return SearchResponse.<UserAction>builder().response(locationCaptureList).totalCount(totalCount)
+                    .nextCursor(keysetCursor == null ? null : nextCursor(locationCaptureList, urlParams.getLimit())).build();
         } catch (Exception e) {
             log.error("Failed to execute query for finding user locations", e);
             return SearchResponse.<UserAction>builder().response(Collections.emptyList()).totalCount(0L).build();
@@ -25,7 +25,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static org.egov.common.utils.CommonUtils.constructTotalCountCTEAndReturnResult;
 import static org.egov.common.utils.CommonUtils.getIdMethod;
 
 @Repository
@@ -77,7 +76,7 @@ public class ProjectBeneficiaryRepository extends GenericRepository<ProjectBenef
 
         queryBuilder.append(" ORDER BY id ASC ");
 
-        Long totalCount = constructTotalCountCTEAndReturnResult(queryBuilder.toString(), paramsMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(queryBuilder.toString(), paramsMap);
 
         queryBuilder.append(" LIMIT :limit OFFSET :offset");
         paramsMap.put("limit", limit);
@@ -88,6 +87,25 @@ public class ProjectBeneficiaryRepository extends GenericRepository<ProjectBenef
         return SearchResponse.<ProjectBeneficiary>builder().totalCount(totalCount).response(projectBeneficiaries).build();
     }
 
+    /**
+     * Finds all project beneficiaries of the given beneficiaries, e.g. households or individuals, in one pass.
+     *
+     * @param beneficiaryClientReferenceIds the client reference ids of the beneficiaries
+     * @param projectId                     the project id, may be null
+     * @param tenantId                      the tenant id
+     * @param lastChangedSince              the last changed since time
+     * @param includeDeleted                whether deleted project beneficiaries should be included
+     * @return the project beneficiaries ordered by id
+     */
+    public List<ProjectBeneficiary> findByBeneficiaryClientReferenceIds(List<String> beneficiaryClientReferenceIds,
+                                                                        String projectId, String tenantId,
+                                                                        Long lastChangedSince, Boolean includeDeleted) {
+        Map<String, Object> filters = new HashMap<>();
+        filters.put("projectId", projectId);
+        return findByParentIds("SELECT * FROM project_beneficiary", null, "beneficiaryClientReferenceId",
+                beneficiaryClientReferenceIds, filters, tenantId, lastChangedSince, includeDeleted);
+    }
+
     public SearchResponse<ProjectBeneficiary> findById(List<String> ids, String columnName, Boolean includeDeleted) {
         List<ProjectBeneficiary> objFound = findInCache(ids);
         if (!includeDeleted) {
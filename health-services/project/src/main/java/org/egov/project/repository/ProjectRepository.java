@@ -28,7 +28,12 @@ import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -207,7 +212,7 @@ public class ProjectRepository extends GenericRepository<Project> {
 
     /* Separates preceding project ids from project hierarchy, adds them in list and fetches data using those project ids */
     private List<Project> getProjectAncestors(List<Project> projects) {
-        List<String> ancestorIds = new ArrayList<>();
+        Set<String> ancestorIds = new LinkedHashSet<>();
         List<Project> ancestors = null;
 
         // Get project Id of ancestor projects from project Hierarchy
@@ -220,7 +225,7 @@ public class ProjectRepository extends GenericRepository<Project> {
         //Fetch projects based on ancestor project Ids
         if (ancestorIds.size() > 0) {
             List<Object> preparedStmtListAncestors = new ArrayList<>();
-            ancestors = getProjectsBasedOnProjectIds(ancestorIds, preparedStmtListAncestors);
+            ancestors = getProjectsBasedOnProjectIds(new ArrayList<>(ancestorIds), preparedStmtListAncestors);
             log.info("Fetched ancestor projects");
         }
 
@@ -237,66 +242,118 @@ public class ProjectRepository extends GenericRepository<Project> {
         return getProjectsDescendantsBasedOnProjectIds(projectIds, preparedStmtListDescendants);
     }
 
-    /* Constructs Project Objects with fetched projects, targets and documents using Project id and return list of Projects */
-    private List<Project> buildProjectSearchResult(List<Project> projects, List<Target> targets, List<Document> documents, List<Project> ancestors, List<Project> descendants) {
+    /* Constructs Project Objects with fetched projects, targets and documents using Project id and return list of Projects.
+     * Targets, documents, ancestors and descendants are grouped by project id once, so that the result is assembled in time linear in its size */
+    List<Project> buildProjectSearchResult(List<Project> projects, List<Target> targets, List<Document> documents, List<Project> ancestors, List<Project> descendants) {
+        Map<String, List<Target>> targetsByProjectId = groupTargetsByProjectId(targets);
+        Map<String, List<Document>> documentsByProjectId = groupDocumentsByProjectId(documents);
+
+        //Add target and document to ancestor and descendant projects once, however many projects they are related to
+        Map<String, Project> ancestorsById = new HashMap<>();
+        if (ancestors != null) {
+            for (Project ancestor: ancestors) {
+                addTargetToProject(ancestor, targetsByProjectId);
+                addDocumentToProject(ancestor, documentsByProjectId);
+                ancestorsById.putIfAbsent(ancestor.getId(), ancestor);
+            }
+        }
+        Map<String, List<Project>> descendantsByHierarchyId = Collections.emptyMap();
+        if (descendants != null) {
+            for (Project descendant: descendants) {
+                addTargetToProject(descendant, targetsByProjectId);
+                addDocumentToProject(descendant, documentsByProjectId);
+            }
+            descendantsByHierarchyId = indexByHierarchyIds(descendants);
+        }
+
         for (Project project: projects) {
-            log.info("Constructing project object for project " + project.getId());
-            if (targets != null && targets.size() > 0) {
-                log.info("Adding Targets to project " + project.getId());
-                addTargetToProject(project, targets);
+            log.debug("Constructing project object for project {}", project.getId());
+            if (targets != null && !targets.isEmpty()) {
+                addTargetToProject(project, targetsByProjectId);
             }
-            if (documents != null && documents.size() > 0) {
-                log.info("Adding Documents to project " + project.getId());
-                addDocumentToProject(project, documents);
+            if (documents != null && !documents.isEmpty()) {
+                addDocumentToProject(project, documentsByProjectId);
             }
-            if (ancestors != null && !ancestors.isEmpty() && StringUtils.isNotBlank(project.getParent())) {
-                log.info("Adding ancestors to project " + project.getId());
-                addAncestorsToProjectSearchResult(project, ancestors, targets, documents);
+            if (!ancestorsById.isEmpty() && StringUtils.isNotBlank(project.getParent())) {
+                addAncestorsToProjectSearchResult(project, ancestorsById);
             }
-            if (descendants != null && !descendants.isEmpty()) {
-                log.info("Adding descendants to project " + project.getId());
-                addDescendantsToProjectSearchResult(project, descendants, targets, documents);
+            if (descendantsByHierarchyId.containsKey(project.getId())) {
+                addDescendantsToProjectSearchResult(project, descendantsByHierarchyId.get(project.getId()));
             }
-            log.info("Constructed project object for project " + project.getId());
         }
+        log.info("Constructed {} project objects", projects.size());
         return projects;
     }
 
-    /* Add Targets to projects based on projectId and targets list passed */
-    private void addTargetToProject(Project project, List<Target> targets) {
-        project.setTargets(new ArrayList<>());
-        for (Target target: targets) {
-            if (target.getProjectid().equals(project.getId()) && !target.getIsDeleted() && project.getTargets().stream().noneMatch(t -> t.getId().equals(target.getId()))) {
-                project.getTargets().add(target);
+    /* Groups targets by project id, leaving out deleted targets and keeping the first target fetched for each target id */
+    private Map<String, List<Target>> groupTargetsByProjectId(List<Target> targets) {
+        Map<String, Map<String, Target>> targetsByProjectId = new HashMap<>();
+        if (targets != null) {
+            for (Target target: targets) {
+                if (!Boolean.TRUE.equals(target.getIsDeleted())) {
+                    targetsByProjectId.computeIfAbsent(target.getProjectid(), id -> new LinkedHashMap<>()).putIfAbsent(target.getId(), target);
+                }
             }
         }
+        return targetsByProjectId.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new ArrayList<>(entry.getValue().values())));
     }
 
-    /* Add Documents to projects based on projectId and documents list passed */
-    private void addDocumentToProject(Project project, List<Document> documents) {
-        project.setDocuments(new ArrayList<>());
-        for (Document document: documents) {
-            if (document.getProjectid().equals(project.getId())
-                    && (document.getStatus() == null || document.getStatus() != null && !document.getStatus().equals("INACTIVE"))
-                    && project.getDocuments().stream().noneMatch(t -> t.getId().equals(document.getId()))) {
-                project.getDocuments().add(document);
+    /* Groups documents by project id, leaving out inactive documents and keeping the first document fetched for each document id */
+    private Map<String, List<Document>> groupDocumentsByProjectId(List<Document> documents) {
+        Map<String, Map<String, Document>> documentsByProjectId = new HashMap<>();
+        if (documents != null) {
+            for (Document document: documents) {
+                if (!"INACTIVE".equals(document.getStatus())) {
+                    documentsByProjectId.computeIfAbsent(document.getProjectid(), id -> new LinkedHashMap<>()).putIfAbsent(document.getId(), document);
+                }
             }
         }
+        return documentsByProjectId.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new ArrayList<>(entry.getValue().values())));
+    }
+
+    /* Add Targets to projects based on projectId and targets grouped by project id */
+    private void addTargetToProject(Project project, Map<String, List<Target>> targetsByProjectId) {
+        project.setTargets(new ArrayList<>(targetsByProjectId.getOrDefault(project.getId(), Collections.emptyList())));
+    }
+
+    /* Add Documents to projects based on projectId and documents grouped by project id */
+    private void addDocumentToProject(Project project, Map<String, List<Document>> documentsByProjectId) {
+        project.setDocuments(new ArrayList<>(documentsByProjectId.getOrDefault(project.getId(), Collections.emptyList())));
     }
 
 
-    /* Adds ancestors to Project based on project and ancestors list  */
-    private void addAncestorsToProjectSearchResult(Project project, List<Project> ancestors, List<Target> targets, List<Document> documents) {
-        List<Project> currentProjectAncestors = ancestors.stream().filter(a -> (project.getProjectHierarchy().contains(a.getId())
-                && !project.getId().equals(a.getId()))).collect(Collectors.toList());
-        //Add target and document to ancestor projects using targets and documents list
-        for (Project ancestor: currentProjectAncestors) {
-            addTargetToProject(ancestor, targets);
-            addDocumentToProject(ancestor, documents);
-            log.info("Targets and Documents mapped to ancestor projects");
+    /* Indexes projects by each id of their project hierarchy, keeping the order of the projects in the list passed */
+    private Map<String, List<Project>> indexByHierarchyIds(List<Project> projects) {
+        Map<String, List<Project>> projectsByHierarchyId = new HashMap<>();
+        for (Project project: projects) {
+            for (String hierarchyId: getHierarchyIds(project)) {
+                projectsByHierarchyId.computeIfAbsent(hierarchyId, id -> new ArrayList<>()).add(project);
+            }
+        }
+        return projectsByHierarchyId;
+    }
+
+    /* Returns the ids of the projects in the project hierarchy of a project, the project itself included */
+    private Set<String> getHierarchyIds(Project project) {
+        if (StringUtils.isBlank(project.getProjectHierarchy())) {
+            return Collections.emptySet();
+        }
+        return new LinkedHashSet<>(Arrays.asList(project.getProjectHierarchy().split("\\.")));
+    }
+
+    /* Adds ancestors to Project based on project and ancestors by id, in the order of the project hierarchy */
+    private void addAncestorsToProjectSearchResult(Project project, Map<String, Project> ancestorsById) {
+        List<Project> currentProjectAncestors = new ArrayList<>();
+        for (String hierarchyId: getHierarchyIds(project)) {
+            Project ancestor = ancestorsById.get(hierarchyId);
+            if (ancestor != null && !project.getId().equals(ancestor.getId())) {
+                currentProjectAncestors.add(ancestor);
+            }
         }
         project.setAncestors(currentProjectAncestors);
-        log.info("Ancestors set for project " + project.getId());
+        log.debug("Ancestors set for project {}", project.getId());
 
         /* The below code returns Project ancestors with tree structure. If project hierarchy A.B.C, "ancestor" field of project C will contain project B
          * "ancestor" field of project B will contain project A and so on. For this to work, change type of "ancestor" to Project instead of List<Project>.
@@ -311,20 +368,13 @@ public class ProjectRepository extends GenericRepository<Project> {
 //        }
     }
 
-    /* Adds ancestors to Project based on project and descendants list  */
-    private void addDescendantsToProjectSearchResult(Project project, List<Project> descendants, List<Target> targets, List<Document> documents) {
+    /* Adds descendants to Project based on project and the descendants whose project hierarchy contains the project id */
+    private void addDescendantsToProjectSearchResult(Project project, List<Project> descendants) {
         List<Project> subProjects = descendants.stream().filter(d -> StringUtils.isNotBlank(d.getParent())
-                && d.getProjectHierarchy().contains(project.getId())
                 && !d.getId().equals(project.getId())).collect(Collectors.toList());
-        //Add target and document to descendants projects using targets and documents list
-        for (Project ancestor: subProjects) {
-            addTargetToProject(ancestor, targets);
-            addDocumentToProject(ancestor, documents);
-            log.info("Targets and Documents mapped to descendant projects");
-        }
         if (!subProjects.isEmpty()) {
             project.setDescendants(subProjects);
-            log.info("Descendants set for project " + project.getId());
+            log.debug("Descendants set for project {}", project.getId());
         }
 
         /* The below code returns Project descendants with tree structure. If project hierarchy A.B.C and A.D, "descendants" field of project A will contain project B and project D
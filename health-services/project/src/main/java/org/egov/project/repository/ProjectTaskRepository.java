@@ -13,6 +13,7 @@ import org.egov.common.data.query.builder.GenericQueryBuilder;
 import org.egov.common.data.query.builder.QueryFieldChecker;
 import org.egov.common.data.query.builder.SelectQueryBuilder;
 import org.egov.common.data.query.exception.QueryBuilderException;
+import org.egov.common.data.query.pagination.KeysetCursor;
 import org.egov.common.data.repository.GenericRepository;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.project.Task;
@@ -48,6 +49,25 @@ public class ProjectTaskRepository extends GenericRepository<Task> {
 
     public SearchResponse<Task> find(TaskSearch searchObject, Integer limit, Integer offset, String tenantId,
                            Long lastChangedSince, Boolean includeDeleted) throws QueryBuilderException {
+        return find(searchObject, limit, offset, tenantId, lastChangedSince, includeDeleted, null);
+    }
+
+    /**
+     * Searches tasks, using keyset pagination over (lastModifiedTime, id) instead of offset when a cursor is passed.
+     *
+     * @param searchObject     the task search criteria
+     * @param limit            the page size
+     * @param offset           the offset, ignored when a cursor is passed
+     * @param tenantId         the tenant id
+     * @param lastChangedSince the last changed since time
+     * @param includeDeleted   whether deleted tasks should be included
+     * @param cursor           the cursor returned with the previous page, may be null
+     * @return the tasks with total count and the cursor for the next page
+     * @throws QueryBuilderException if the query cannot be built
+     */
+    public SearchResponse<Task> find(TaskSearch searchObject, Integer limit, Integer offset, String tenantId,
+                           Long lastChangedSince, Boolean includeDeleted, String cursor) throws QueryBuilderException {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
         String query = "SELECT *, a.id as aid,a.tenantid as atenantid, a.clientreferenceid as aclientreferenceid FROM project_task pt  LEFT JOIN address a ON pt.addressid = a.id";
         Map<String, Object> paramsMap = new HashMap<>();
         List<String> whereFields = GenericQueryBuilder.getFieldsWithCondition(searchObject,
@@ -72,16 +92,43 @@ public class ProjectTaskRepository extends GenericRepository<Task> {
         paramsMap.put("isDeleted", includeDeleted);
         paramsMap.put("lastModifiedTime", lastChangedSince);
 
-        Long totalCount = CommonUtils.constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(query, paramsMap);
 
-        query = query + "ORDER BY pt.id ASC LIMIT :limit OFFSET :offset";
+        if (keysetCursor == null) {
+            query = query + "ORDER BY pt.id ASC LIMIT :limit OFFSET :offset";
+            paramsMap.put("offset", offset);
+        } else {
+            query = query + keysetCursor.toPredicate("pt", paramsMap) + KeysetCursor.orderBy("pt") + "LIMIT :limit";
+        }
         paramsMap.put("limit", limit);
-        paramsMap.put("offset", offset);
 
         List<Task> taskList = this.namedParameterJdbcTemplate.query(query, paramsMap, this.rowMapper);
         fetchAndSetTaskResource(taskList);
 
-        return SearchResponse.<Task>builder().response(taskList).totalCount(totalCount).build();
+        return SearchResponse.<Task>builder().response(taskList).totalCount(totalCount)
+                .nextCursor(keysetCursor == null ? null : nextCursor(taskList, limit)).build();
+    }
+
+    /**
+     * Finds all tasks of the given project beneficiaries, with their resources, in one pass.
+     *
+     * @param beneficiaryClientReferenceIds the client reference ids of the project beneficiaries
+     * @param projectId                     the project id, may be null
+     * @param tenantId                      the tenant id
+     * @param lastChangedSince              the last changed since time
+     * @param includeDeleted                whether deleted tasks should be included
+     * @return the tasks ordered by id
+     */
+    public List<Task> findByProjectBeneficiaryClientReferenceIds(List<String> beneficiaryClientReferenceIds,
+                                                                 String projectId, String tenantId,
+                                                                 Long lastChangedSince, Boolean includeDeleted) {
+        String query = "SELECT *, a.id as aid,a.tenantid as atenantid, a.clientreferenceid as aclientreferenceid FROM project_task pt LEFT JOIN address a ON pt.addressid = a.id";
+        Map<String, Object> filters = new HashMap<>();
+        filters.put("projectId", projectId);
+        List<Task> taskList = findByParentIds(query, "pt", "projectBeneficiaryClientReferenceId",
+                beneficiaryClientReferenceIds, filters, tenantId, lastChangedSince, includeDeleted);
+        fetchAndSetTaskResource(taskList);
+        return taskList;
     }
 
     private void fetchAndSetTaskResource(List<Task> taskList) {
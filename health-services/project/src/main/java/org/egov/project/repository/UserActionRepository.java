@@ -77,7 +77,7 @@ public class UserActionRepository extends GenericRepository<UserAction> {
 
         try {
             log.debug("Executing query to fetch total count");
-            Long totalCount = CommonUtils.constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+            Long totalCount = countTotal(query, paramsMap);
 
             query = query + " ORDER BY ua.id ASC LIMIT :limit OFFSET :offset";
             paramsMap.put("limit", urlParams.getLimit());
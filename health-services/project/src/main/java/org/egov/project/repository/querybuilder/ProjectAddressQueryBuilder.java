@@ -74,12 +74,12 @@ public class ProjectAddressQueryBuilder {
 
             /*
             * If isAncestorProjectId is set to true, Then either id equals to project id or projectHierarchy
-            *  should have id of the project
+            *  should have id of the project, matched on the indexed ids of the project hierarchy
              */
             if (isAncestorProjectId && StringUtils.isNotBlank(project.getId())) {
                 addClauseIfRequired(preparedStmtList, queryBuilder);
-                queryBuilder.append(" ( prj.projectHierarchy LIKE ? OR prj.id =? ) ");
-                preparedStmtList.add('%' + project.getId() + '%');
+                queryBuilder.append(" ( prj.projectHierarchyIds @> ARRAY [ ? ]::text[] OR prj.id =? ) ");
+                preparedStmtList.add(project.getId());
                 preparedStmtList.add(project.getId());
             } else if (StringUtils.isNotBlank(project.getId())) {
                 addClauseIfRequired(preparedStmtList, queryBuilder);
@@ -378,15 +378,15 @@ public class ProjectAddressQueryBuilder {
         preparedStmtList.addAll(ids);
     }
 
-    /* Returns query to search for projects where project_hierarchy contains project Ids */
+    /* Returns query to search for projects where project_hierarchy contains project Ids, using the indexed ids of the project hierarchy */
     public String getProjectDescendantsSearchQueryBasedOnIds(List<String> projectIds, List<Object> preparedStmtListDescendants) {
         StringBuilder queryBuilder = new StringBuilder(FETCH_PROJECT_ADDRESS_QUERY);
-        for (String projectId : projectIds) {
+        if (!projectIds.isEmpty()) {
             addConditionalClause(preparedStmtListDescendants, queryBuilder);
-            queryBuilder.append(" ( prj.projectHierarchy LIKE ? )");
-            preparedStmtListDescendants.add('%' + projectId + '%');
+            queryBuilder.append(" prj.projectHierarchyIds && ARRAY [ ").append(createQuery(projectIds)).append(" ]::text[] ");
+            addToPreparedStatement(preparedStmtListDescendants, projectIds);
         }
-        
+
         return queryBuilder.toString();
     }
     
@@ -19,6 +19,7 @@ import org.egov.common.models.project.useraction.UserActionSearch;
 import org.egov.common.models.project.useraction.UserActionSearchRequest;
 import org.egov.common.service.IdGenService;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.LocationCaptureRepository;
@@ -66,6 +67,9 @@ public class LocationCaptureService {
                     || validator.getClass().equals(UaExistentEntityValidator.class)
                     || validator.getClass().equals(UaBoundaryValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     /**
      * Constructor for injecting dependencies into the LocationCaptureService.
      *
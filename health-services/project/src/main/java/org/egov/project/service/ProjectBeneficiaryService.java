@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.egov.common.ds.Tuple;
 import org.egov.common.models.ErrorDetails;
+import org.egov.common.models.core.ParentIdSearch;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.project.BeneficiaryBulkRequest;
 import org.egov.common.models.project.BeneficiaryRequest;
@@ -17,6 +18,7 @@ import org.egov.common.models.project.BeneficiarySearchRequest;
 import org.egov.common.models.project.ProjectBeneficiary;
 import org.egov.common.service.IdGenService;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectBeneficiaryRepository;
@@ -87,6 +89,9 @@ public class ProjectBeneficiaryService {
             validator.getClass().equals(PbNullIdValidator.class)
                     || validator.getClass().equals(PbNonExistentEntityValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     @Autowired
     public ProjectBeneficiaryService(
             IdGenService idGenService,
@@ -201,6 +206,20 @@ public class ProjectBeneficiaryService {
                 limit, offset, tenantId, lastChangedSince, includeDeleted);
     }
 
+    public SearchResponse<ProjectBeneficiary> searchByBeneficiaryClientReferenceIds(ParentIdSearch parentIdSearch,
+                                                                                    String tenantId,
+                                                                                    Long lastChangedSince,
+                                                                                    Boolean includeDeleted) {
+        log.info("received request to search project beneficiaries of {} beneficiaries",
+                parentIdSearch.getParentIds().size());
+        List<ProjectBeneficiary> projectBeneficiaries = projectBeneficiaryRepository
+                .findByBeneficiaryClientReferenceIds(parentIdSearch.getParentIds(), parentIdSearch.getProjectId(),
+                        tenantId, lastChangedSince, includeDeleted);
+        log.info("found {} project beneficiaries", projectBeneficiaries.size());
+        return SearchResponse.<ProjectBeneficiary>builder().response(projectBeneficiaries)
+                .totalCount((long) projectBeneficiaries.size()).build();
+    }
+
     public List<ProjectBeneficiary> delete(BeneficiaryRequest beneficiaryRequest) {
         log.info("received request to delete a project beneficiary");
         BeneficiaryBulkRequest bulkRequest = BeneficiaryBulkRequest.builder().requestInfo(beneficiaryRequest.getRequestInfo())
@@ -246,7 +265,7 @@ public class ProjectBeneficiaryService {
         log.info("validating request");
         Map<ProjectBeneficiary, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 isApplicable, request,
-                SET_PROJECT_BENEFICIARIES);
+                SET_PROJECT_BENEFICIARIES, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             log.error("validation error occurred. error details: {}", errorDetailsMap.values().toString());
             throw new CustomException(VALIDATION_ERROR, errorDetailsMap.values().toString());
@@ -18,6 +18,7 @@ import org.egov.common.models.project.ProjectFacilitySearchRequest;
 import org.egov.common.service.IdGenService;
 import org.egov.common.service.UserService;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectFacilityRepository;
@@ -81,6 +82,9 @@ public class ProjectFacilityService {
             validator.getClass().equals(PfNullIdValidator.class)
                     || validator.getClass().equals(PfNonExistentEntityValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     @Autowired
     public ProjectFacilityService(
             IdGenService idGenService,
@@ -204,7 +208,7 @@ public class ProjectFacilityService {
         log.info("validating request");
         Map<ProjectFacility, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 applicableValidators, request,
-                SET_PROJECT_FACILITIES);
+                SET_PROJECT_FACILITIES, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             log.error("validation error occurred. error details: {}", errorDetailsMap.values().toString());
             throw new CustomException(VALIDATION_ERROR, errorDetailsMap.values().toString());
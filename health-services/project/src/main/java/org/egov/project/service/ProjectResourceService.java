@@ -9,6 +9,7 @@ import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.project.ProjectResource;
 import org.egov.common.models.project.ProjectResourceBulkRequest;
 import org.egov.common.models.project.ProjectResourceRequest;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectResourceRepository;
@@ -22,6 +23,7 @@ import org.egov.project.validator.resource.PrRowVersionValidator;
 import org.egov.project.validator.resource.PrUniqueCombinationValidator;
 import org.egov.project.validator.resource.PrUniqueEntityValidator;
 import org.egov.common.models.project.ProjectResourceSearchRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ReflectionUtils;
 
@@ -76,6 +78,9 @@ public class ProjectResourceService {
             validator.getClass().equals(PrNonExistentEntityValidator.class)
                     ||validator.getClass().equals(PrNullIdValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     public ProjectResourceService(List<Validator<ProjectResourceBulkRequest, ProjectResource>> validators, ProjectResourceRepository projectResourceRepository, ProjectConfiguration projectConfiguration, ProjectResourceEnrichmentService enrichmentService) {
         this.validators = validators;
         this.projectResourceRepository = projectResourceRepository;
@@ -95,7 +100,7 @@ public class ProjectResourceService {
         log.info("received request to create bulk project resource");
         Tuple<List<ProjectResource>, Map<ProjectResource, ErrorDetails>> tuple = validate(validators,
                 isApplicableForCreate, request, SET_PROJECT_RESOURCE, GET_PROJECT_RESOURCE, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
 
         Map<ProjectResource, ErrorDetails> errorDetailsMap = tuple.getY();
         List<ProjectResource> validEntities = tuple.getX();
@@ -128,7 +133,7 @@ public class ProjectResourceService {
         log.info("received request to update bulk project resource");
         Tuple<List<ProjectResource>, Map<ProjectResource, ErrorDetails>> tuple = validate(validators,
                 isApplicableForUpdate, request, SET_PROJECT_RESOURCE, GET_PROJECT_RESOURCE, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
 
         Map<ProjectResource, ErrorDetails> errorDetailsMap = tuple.getY();
         List<ProjectResource> validEntities = tuple.getX();
@@ -161,7 +166,7 @@ public class ProjectResourceService {
         log.info("received request to delete bulk project resource");
         Tuple<List<ProjectResource>, Map<ProjectResource, ErrorDetails>> tuple = validate(validators,
                 isApplicableForDelete, request, SET_PROJECT_RESOURCE, GET_PROJECT_RESOURCE, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
 
         Map<ProjectResource, ErrorDetails> errorDetailsMap = tuple.getY();
         List<ProjectResource> validEntities = tuple.getX();
@@ -12,6 +12,7 @@ import org.egov.common.producer.Producer;
 import org.egov.common.service.IdGenService;
 import org.egov.common.service.UserService;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectStaffRepository;
@@ -84,6 +85,9 @@ public class ProjectStaffService {
             validator.getClass().equals(PsNullIdValidator.class)
                     || validator.getClass().equals(PsNonExistentEntityValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     @Autowired
     public ProjectStaffService(
             IdGenService idGenService,
@@ -212,7 +216,7 @@ public class ProjectStaffService {
         log.info("validating request");
         Map<ProjectStaff, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 applicableValidators, request,
-                SET_STAFF);
+                SET_STAFF, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             log.error("validation error occurred. error details: {}", errorDetailsMap.values().toString());
             throw new CustomException(VALIDATION_ERROR, errorDetailsMap.values().toString());
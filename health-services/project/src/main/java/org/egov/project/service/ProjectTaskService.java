@@ -12,6 +12,7 @@ import org.egov.common.data.query.exception.QueryBuilderException;
 import org.egov.common.ds.Tuple;
 import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.common.models.ErrorDetails;
+import org.egov.common.models.core.ParentIdSearch;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkRequest;
@@ -19,6 +20,7 @@ import org.egov.common.models.project.TaskRequest;
 import org.egov.common.models.project.TaskSearch;
 import org.egov.common.service.IdGenService;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectBeneficiaryRepository;
@@ -38,6 +40,7 @@ import org.egov.project.validator.task.PtRowVersionValidator;
 import org.egov.project.validator.task.PtUniqueEntityValidator;
 import org.egov.project.validator.task.PtUniqueSubEntityValidator;
 import org.egov.tracer.model.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ReflectionUtils;
 
@@ -99,6 +102,9 @@ public class ProjectTaskService {
 
     private final List<Validator<TaskBulkRequest, Task>> validators;
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     public ProjectTaskService(IdGenService idGenService, ProjectRepository projectRepository,
                               ServiceRequestClient serviceRequestClient,
                               ProjectTaskRepository projectTaskRepository,
@@ -213,7 +219,7 @@ public class ProjectTaskService {
         log.info("validating request");
         Map<Task, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 applicableValidators, request,
-                SET_TASKS);
+                SET_TASKS, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             throw new CustomException(VALIDATION_ERROR, errorDetailsMap.values().toString());
         }
@@ -224,6 +230,11 @@ public class ProjectTaskService {
 
     public SearchResponse<Task> search(TaskSearch taskSearch, Integer limit, Integer offset, String tenantId,
                                  Long lastChangedSince, Boolean includeDeleted) {
+        return search(taskSearch, limit, offset, tenantId, lastChangedSince, includeDeleted, null);
+    }
+
+    public SearchResponse<Task> search(TaskSearch taskSearch, Integer limit, Integer offset, String tenantId,
+                                 Long lastChangedSince, Boolean includeDeleted, String cursor) {
 
         log.info("received request to search project task");
 
@@ -246,13 +257,26 @@ public class ProjectTaskService {
         try {
             log.info("searching project beneficiaries using criteria");
             return projectTaskRepository.find(taskSearch, limit, offset,
-                    tenantId, lastChangedSince, includeDeleted);
+                    tenantId, lastChangedSince, includeDeleted, cursor);
         } catch (QueryBuilderException e) {
             log.error("error in building query", ExceptionUtils.getStackTrace(e));
             throw new CustomException("ERROR_IN_QUERY", e.getMessage());
         }
     }
 
+    public SearchResponse<Task> searchByProjectBeneficiaryClientReferenceIds(ParentIdSearch parentIdSearch,
+                                                                           String tenantId,
+                                                                           Long lastChangedSince,
+                                                                           Boolean includeDeleted) {
+        log.info("received request to search project tasks of {} project beneficiaries",
+                parentIdSearch.getParentIds().size());
+        List<Task> tasks = projectTaskRepository.findByProjectBeneficiaryClientReferenceIds(
+                parentIdSearch.getParentIds(), parentIdSearch.getProjectId(), tenantId, lastChangedSince,
+                includeDeleted);
+        log.info("found {} project tasks", tasks.size());
+        return SearchResponse.<Task>builder().response(tasks).totalCount((long) tasks.size()).build();
+    }
+
     public void putInCache(List<Task> tasks) {
         log.info("putting {} project tasks in cache", tasks.size());
         projectTaskRepository.putInCache(tasks);
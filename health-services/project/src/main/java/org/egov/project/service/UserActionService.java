@@ -20,6 +20,7 @@ import org.egov.common.models.project.useraction.UserActionSearch;
 import org.egov.common.models.project.useraction.UserActionSearchRequest;
 import org.egov.common.service.IdGenService;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.UserActionRepository;
@@ -72,6 +73,9 @@ public class UserActionService {
                     || validator.getClass().equals(UaBoundaryValidator.class);
 
     // Constructor for dependency injection
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     @Autowired
     public UserActionService(
             IdGenService idGenService,
@@ -156,7 +160,7 @@ public class UserActionService {
         // Validate the request using the applicable validators
         Map<UserAction, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 applicableValidators, request,
-                SET_USER_ACTION);
+                SET_USER_ACTION, concurrentValidation);
 
         // Throw exception if there are validation errors and it's not a bulk request
         if (!errorDetailsMap.isEmpty() && !isBulk) {
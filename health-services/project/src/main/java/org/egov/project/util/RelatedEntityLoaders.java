@@ -0,0 +1,114 @@
+package org.egov.project.util;
+
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.contract.request.User;
+import org.egov.common.contract.user.UserSearchRequest;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.http.client.batch.BatchLoader;
+import org.egov.common.http.client.batch.RelatedEntityLoaderSupport;
+import org.egov.common.models.facility.Facility;
+import org.egov.common.models.facility.FacilityBulkResponse;
+import org.egov.common.models.facility.FacilitySearch;
+import org.egov.common.models.facility.FacilitySearchRequest;
+import org.egov.common.models.individual.Individual;
+import org.egov.common.models.individual.IndividualBulkResponse;
+import org.egov.common.models.individual.IndividualSearch;
+import org.egov.common.models.individual.IndividualSearchRequest;
+import org.egov.common.models.product.ProductVariant;
+import org.egov.common.models.product.ProductVariantResponse;
+import org.egov.common.models.product.ProductVariantSearch;
+import org.egov.common.models.product.ProductVariantSearchRequest;
+import org.egov.common.service.UserService;
+import org.egov.project.config.ProjectConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Request-scoped {@link BatchLoader}s for the entities of other services the project validators look up.
+ * Validators of the same request asking for the same loader share its batched, memoised lookups.
+ */
+@Component
+public class RelatedEntityLoaders extends RelatedEntityLoaderSupport {
+
+    private static final String PRODUCT_VARIANTS = "product-variants";
+
+    private static final String FACILITIES = "facilities";
+
+    private static final String INDIVIDUALS = "individuals";
+
+    private static final String USERS = "users";
+
+    private final ServiceRequestClient serviceRequestClient;
+
+    private final ProjectConfiguration projectConfiguration;
+
+    private final UserService userService;
+
+    @Autowired
+    public RelatedEntityLoaders(ServiceRequestClient serviceRequestClient, ProjectConfiguration projectConfiguration,
+                                UserService userService) {
+        this.serviceRequestClient = serviceRequestClient;
+        this.projectConfiguration = projectConfiguration;
+        this.userService = userService;
+    }
+
+    public BatchLoader<ProductVariant> productVariants(RequestInfo requestInfo) {
+        return loader(PRODUCT_VARIANTS, (tenantId, ids) -> searchProductVariants(tenantId, ids, requestInfo),
+                ProductVariant::getId);
+    }
+
+    public BatchLoader<Facility> facilities(RequestInfo requestInfo) {
+        return loader(FACILITIES, (tenantId, ids) -> searchFacilities(tenantId, ids, requestInfo), Facility::getId);
+    }
+
+    public BatchLoader<Individual> individuals(RequestInfo requestInfo) {
+        return loader(INDIVIDUALS, (tenantId, ids) -> searchIndividuals(tenantId, ids, requestInfo),
+                Individual::getId);
+    }
+
+    public BatchLoader<User> users() {
+        return loader(USERS, this::searchUsers, User::getUuid);
+    }
+
+    private List<ProductVariant> searchProductVariants(String tenantId, List<String> ids, RequestInfo requestInfo) {
+        ProductVariantSearchRequest request = ProductVariantSearchRequest.builder()
+                .productVariant(ProductVariantSearch.builder().id(ids).build())
+                .requestInfo(requestInfo).build();
+        StringBuilder url = searchUrl(projectConfiguration.getProductHost(),
+                projectConfiguration.getProductVariantSearchUrl(), ids.size(), tenantId);
+        return serviceRequestClient.fetchResult(url, request, ProductVariantResponse.class).getProductVariant();
+    }
+
+    private List<Facility> searchFacilities(String tenantId, List<String> ids, RequestInfo requestInfo) {
+        FacilitySearchRequest request = FacilitySearchRequest.builder()
+                .facility(FacilitySearch.builder().id(ids).build())
+                .requestInfo(requestInfo).build();
+        StringBuilder url = searchUrl(projectConfiguration.getFacilityServiceHost(),
+                projectConfiguration.getFacilityServiceSearchUrl(), ids.size(), tenantId);
+        return serviceRequestClient.fetchResult(url, request, FacilityBulkResponse.class).getFacilities();
+    }
+
+    private List<Individual> searchIndividuals(String tenantId, List<String> ids, RequestInfo requestInfo) {
+        IndividualSearchRequest request = IndividualSearchRequest.builder()
+                // assuming this is "id" field of the individual payload
+                .individual(IndividualSearch.builder().id(ids).build())
+                .requestInfo(requestInfo).build();
+        StringBuilder url = searchUrl(projectConfiguration.getIndividualServiceHost(),
+                projectConfiguration.getIndividualServiceSearchUrl(), ids.size(), tenantId);
+        return serviceRequestClient.fetchResult(url, request, IndividualBulkResponse.class).getIndividual();
+    }
+
+    private List<User> searchUsers(String tenantId, List<String> uuids) {
+        UserSearchRequest userSearchRequest = new UserSearchRequest();
+        userSearchRequest.setTenantId(tenantId);
+        userSearchRequest.setUuid(uuids);
+        return userService.search(userSearchRequest);
+    }
+
+    @Override
+    protected int getMaxBatchSize() {
+        return Integer.parseInt(projectConfiguration.getSearchApiLimit());
+    }
+}
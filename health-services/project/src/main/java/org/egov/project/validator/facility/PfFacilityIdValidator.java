@@ -3,16 +3,11 @@ package org.egov.project.validator.facility;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.egov.common.contract.request.RequestInfo;
-import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.common.models.Error;
-import org.egov.common.models.facility.Facility;
-import org.egov.common.models.facility.FacilityBulkResponse;
-import org.egov.common.models.facility.FacilitySearch;
-import org.egov.common.models.facility.FacilitySearchRequest;
 import org.egov.common.models.project.ProjectFacility;
 import org.egov.common.models.project.ProjectFacilityBulkRequest;
 import org.egov.common.validator.Validator;
-import org.egov.project.config.ProjectConfiguration;
+import org.egov.project.util.RelatedEntityLoaders;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -38,13 +33,21 @@ import static org.egov.project.Constants.GET_FACILITY_ID;
 @Slf4j
 public class PfFacilityIdValidator implements Validator<ProjectFacilityBulkRequest, ProjectFacility> {
 
-    private final ServiceRequestClient serviceRequestClient;
+    private final RelatedEntityLoaders relatedEntityLoaders;
 
-    private final ProjectConfiguration projectConfiguration;
+    public PfFacilityIdValidator(RelatedEntityLoaders relatedEntityLoaders) {
+        this.relatedEntityLoaders = relatedEntityLoaders;
+    }
 
-    public PfFacilityIdValidator(ServiceRequestClient serviceRequestClient, ProjectConfiguration projectConfiguration) {
-        this.serviceRequestClient = serviceRequestClient;
-        this.projectConfiguration = projectConfiguration;
+    @Override
+    public void prime(ProjectFacilityBulkRequest request) {
+        List<ProjectFacility> validEntities = request.getProjectFacilities().stream()
+                .filter(notHavingErrors())
+                .collect(Collectors.toList());
+        if (!validEntities.isEmpty()) {
+            relatedEntityLoaders.facilities(request.getRequestInfo()).register(getTenantId(validEntities),
+                    validEntities.stream().map(ProjectFacility::getFacilityId).collect(Collectors.toList()));
+        }
     }
 
     @Override
@@ -83,21 +86,9 @@ public class PfFacilityIdValidator implements Validator<ProjectFacilityBulkReque
                                              String tenantId,
                                              Map<ProjectFacility, List<Error>> errorDetailsMap,
                                              RequestInfo requestInfo) {
-
-        FacilitySearchRequest facilitySearchRequest = FacilitySearchRequest.builder()
-                .facility(FacilitySearch.builder().id(entityIds).build())
-                .requestInfo(requestInfo)
-                .build();
-
         try {
-            FacilityBulkResponse response = serviceRequestClient.fetchResult(
-                    new StringBuilder(projectConfiguration.getFacilityServiceHost()
-                            + projectConfiguration.getFacilityServiceSearchUrl()
-                            + "?limit=" + projectConfiguration.getSearchApiLimit()
-                            + "&offset=0&tenantId=" + tenantId),
-                    facilitySearchRequest,
-                    FacilityBulkResponse.class);
-            return response.getFacilities().stream().map(Facility::getId).collect(Collectors.toList());
+            return new ArrayList<>(relatedEntityLoaders.facilities(requestInfo)
+                    .loadMany(tenantId, entityIds).keySet());
         } catch (Exception e) {
             log.error("error while fetching facility list", ExceptionUtils.getStackTrace(e));
             projectFacilities.forEach(b -> {
@@ -1,19 +1,12 @@
 package org.egov.project.validator.resource;
 
 import lombok.extern.slf4j.Slf4j;
-import org.egov.common.contract.request.RequestInfo;
-import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.common.models.Error;
-import org.egov.common.models.product.ProductVariant;
-import org.egov.common.models.product.ProductVariantResponse;
-import org.egov.common.models.product.ProductVariantSearch;
-import org.egov.common.models.product.ProductVariantSearchRequest;
 import org.egov.common.models.project.ProjectResource;
 import org.egov.common.models.project.ProjectResourceBulkRequest;
 import org.egov.common.validator.Validator;
-import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectRepository;
-import org.egov.tracer.model.CustomException;
+import org.egov.project.util.RelatedEntityLoaders;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -38,17 +31,23 @@ public class PrProductVariantIdValidator implements Validator<ProjectResourceBul
 
     private final ProjectRepository projectRepository;
 
-    private final ServiceRequestClient serviceRequestClient;
-
-    private final ProjectConfiguration projectConfiguration;
+    private final RelatedEntityLoaders relatedEntityLoaders;
 
     @Autowired
-    public PrProductVariantIdValidator(ProjectRepository projectRepository, ServiceRequestClient serviceRequestClient, ProjectConfiguration projectConfiguration) {
+    public PrProductVariantIdValidator(ProjectRepository projectRepository, RelatedEntityLoaders relatedEntityLoaders) {
         this.projectRepository = projectRepository;
-        this.serviceRequestClient = serviceRequestClient;
-        this.projectConfiguration = projectConfiguration;
+        this.relatedEntityLoaders = relatedEntityLoaders;
     }
 
+    @Override
+    public void prime(ProjectResourceBulkRequest request) {
+        List<ProjectResource> entities = request.getProjectResource().stream()
+                .filter(notHavingErrors()).collect(Collectors.toList());
+        if (!entities.isEmpty()) {
+            relatedEntityLoaders.productVariants(request.getRequestInfo())
+                    .register(getTenantId(entities), getProductVariantIds(entities));
+        }
+    }
 
     @Override
     public Map<ProjectResource, List<Error>> validate(ProjectResourceBulkRequest request) {
@@ -57,15 +56,12 @@ public class PrProductVariantIdValidator implements Validator<ProjectResourceBul
         List<ProjectResource> entities = request.getProjectResource().stream()
                 .filter(notHavingErrors()).collect(Collectors.toList());
         if (!entities.isEmpty()) {
-            Set<String> productVariantIds = entities.stream().map(pr -> pr.getResource().getProductVariantId())
-                    .collect(Collectors.toSet());
+            Set<String> productVariantIds = getProductVariantIds(entities);
             Map<String, List<ProjectResource>> prMap = getProductVariantMap(entities);
 
             try {
-                List<String> validProductVariantsIds = checkIfProductVariantExist(productVariantIds,
-                        getTenantId(entities),
-                        request.getRequestInfo())
-                        .stream().map(ProductVariant::getId).collect(Collectors.toList());
+                Set<String> validProductVariantsIds = relatedEntityLoaders.productVariants(request.getRequestInfo())
+                        .loadMany(getTenantId(entities), productVariantIds).keySet();
                 productVariantIds.forEach(id -> {
                     if (!validProductVariantsIds.contains(id)) {
                         Error error = getErrorForNonExistentRelatedEntity(id);
@@ -84,6 +80,11 @@ public class PrProductVariantIdValidator implements Validator<ProjectResourceBul
         return errorDetailsMap;
     }
 
+    private Set<String> getProductVariantIds(List<ProjectResource> entities) {
+        return entities.stream().map(pr -> pr.getResource().getProductVariantId())
+                .collect(Collectors.toSet());
+    }
+
     private Map<String, List<ProjectResource>> getProductVariantMap(List<ProjectResource> entities) {
        return entities.stream().collect(
                 Collectors.toMap(
@@ -99,25 +100,4 @@ public class PrProductVariantIdValidator implements Validator<ProjectResourceBul
                         }
                 ));
     }
-
-    private List<ProductVariant> checkIfProductVariantExist(Set<String> pvIds, String tenantId, RequestInfo requestInfo) {
-
-        List<String> productVariantIds = new ArrayList<>(pvIds);
-        ProductVariantSearch productVariantSearch = ProductVariantSearch.builder()
-                .id(productVariantIds).build();
-        ProductVariantSearchRequest request = ProductVariantSearchRequest.builder().productVariant(productVariantSearch)
-                .requestInfo(requestInfo).build();
-        StringBuilder url = new StringBuilder(projectConfiguration.getProductHost()
-                + projectConfiguration.getProductVariantSearchUrl()
-                + "?limit=" + productVariantIds.size() + "&offset=0&tenantId=" + tenantId);
-        ProductVariantResponse response;
-        try {
-            response = serviceRequestClient.fetchResult(url, request, ProductVariantResponse.class);
-        } catch (Exception e) {
-            throw new CustomException("PRODUCT_VARIANT",
-                    String.format("Something went wrong: %s", e.getMessage()));
-        }
-        return response.getProductVariant();
-    }
 }
-
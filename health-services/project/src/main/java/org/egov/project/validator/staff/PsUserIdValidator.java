@@ -1,26 +1,21 @@
 package org.egov.project.validator.staff;
 
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.egov.common.contract.request.User;
-import org.egov.common.contract.user.UserSearchRequest;
-import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.http.client.batch.BatchLoader;
 import org.egov.common.models.Error;
-import org.egov.common.models.individual.Individual;
-import org.egov.common.models.individual.IndividualBulkResponse;
-import org.egov.common.models.individual.IndividualSearch;
-import org.egov.common.models.individual.IndividualSearchRequest;
 import org.egov.common.models.project.ProjectStaff;
 import org.egov.common.models.project.ProjectStaffBulkRequest;
-import org.egov.common.service.UserService;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
+import org.egov.project.util.RelatedEntityLoaders;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -39,18 +34,23 @@ import static org.egov.project.Constants.GET_USER_ID;
 @Slf4j
 public class PsUserIdValidator implements Validator<ProjectStaffBulkRequest, ProjectStaff> {
 
-    private final UserService userService;
-
     private final ProjectConfiguration projectConfiguration;
 
-    private final ServiceRequestClient serviceRequestClient;
+    private final RelatedEntityLoaders relatedEntityLoaders;
 
-    public PsUserIdValidator(UserService userService,
-                             ProjectConfiguration projectConfiguration,
-                             ServiceRequestClient serviceRequestClient) {
-        this.userService = userService;
+    public PsUserIdValidator(ProjectConfiguration projectConfiguration,
+                             RelatedEntityLoaders relatedEntityLoaders) {
         this.projectConfiguration = projectConfiguration;
-        this.serviceRequestClient = serviceRequestClient;
+        this.relatedEntityLoaders = relatedEntityLoaders;
+    }
+
+    @Override
+    public void prime(ProjectStaffBulkRequest request) {
+        List<String> userIds = getUserIds(request.getProjectStaff());
+        BatchLoader<?> userLoader = getUserLoader(request);
+        if (!userIds.isEmpty() && userLoader != null) {
+            userLoader.register(getTenantId(request.getProjectStaff()), userIds);
+        }
     }
 
     @Override
@@ -59,40 +59,16 @@ public class PsUserIdValidator implements Validator<ProjectStaffBulkRequest, Pro
         List<ProjectStaff> entities = request.getProjectStaff();
         Map<ProjectStaff, List<Error>> errorDetailsMap = new HashMap<>();
 
-        List<String> userIds = entities.stream()
-                .filter(notHavingErrors())
-                .map(ProjectStaff::getUserId).distinct().collect(Collectors.toList());
+        List<String> userIds = getUserIds(entities);
         final String tenantId = getTenantId(entities);
         Map<String, ProjectStaff> uMap = getIdToObjMap(entities,
                 getMethod(GET_USER_ID, getObjClass(entities)));
         if (!userIds.isEmpty()) {
-            List<String> validUserIds = new ArrayList<>();
+            Set<String> validUserIds = new HashSet<>();
             try {
-                if ("egov-user".equalsIgnoreCase(projectConfiguration.getEgovUserIdValidator())) {
-                    UserSearchRequest userSearchRequest = new UserSearchRequest();
-                    userSearchRequest.setTenantId(tenantId);
-                    userSearchRequest.setUuid(userIds);
-                    validUserIds = userService
-                            .search(userSearchRequest)
-                            .stream()
-                            .map(User::getUuid)
-                            .collect(Collectors.toList());
-                } else if ("individual".equalsIgnoreCase(projectConfiguration.getEgovUserIdValidator())) {
-                    IndividualSearchRequest individualSearchRequest = IndividualSearchRequest.builder()
-                            .individual(IndividualSearch.builder()
-                                    // assuming this is "id" field of the individual payload
-                                    .id(userIds)
-                                    .build())
-                            .build();
-                    validUserIds = serviceRequestClient.fetchResult(
-                                    new StringBuilder(projectConfiguration.getIndividualServiceHost()
-                                            + projectConfiguration.getIndividualServiceSearchUrl()
-                                            + "?limit=" + projectConfiguration.getSearchApiLimit()
-                                            + "&offset=0&tenantId=" + tenantId),
-                                    individualSearchRequest,
-                                    IndividualBulkResponse.class).getIndividual().stream()
-                            .map(Individual::getId)
-                            .collect(Collectors.toList());
+                BatchLoader<?> userLoader = getUserLoader(request);
+                if (userLoader != null) {
+                    validUserIds = userLoader.loadMany(tenantId, userIds).keySet();
                 }
                 for (Map.Entry<String, ProjectStaff> entry : uMap.entrySet()) {
                     if (!validUserIds.contains(entry.getKey())) {
@@ -112,4 +88,19 @@ public class PsUserIdValidator implements Validator<ProjectStaffBulkRequest, Pro
         }
         return errorDetailsMap;
     }
+
+    private List<String> getUserIds(List<ProjectStaff> entities) {
+        return entities.stream()
+                .filter(notHavingErrors())
+                .map(ProjectStaff::getUserId).distinct().collect(Collectors.toList());
+    }
+
+    private BatchLoader<?> getUserLoader(ProjectStaffBulkRequest request) {
+        if ("egov-user".equalsIgnoreCase(projectConfiguration.getEgovUserIdValidator())) {
+            return relatedEntityLoaders.users();
+        } else if ("individual".equalsIgnoreCase(projectConfiguration.getEgovUserIdValidator())) {
+            return relatedEntityLoaders.individuals(request.getRequestInfo());
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -1,19 +1,14 @@
 package org.egov.project.validator.task;
 
 import lombok.extern.slf4j.Slf4j;
-import org.egov.common.contract.request.RequestInfo;
-import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.http.client.batch.BatchLoader;
 import org.egov.common.models.Error;
 import org.egov.common.models.product.ProductVariant;
-import org.egov.common.models.product.ProductVariantResponse;
-import org.egov.common.models.product.ProductVariantSearch;
-import org.egov.common.models.product.ProductVariantSearchRequest;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkRequest;
 import org.egov.common.validator.Validator;
-import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectRepository;
-import org.egov.tracer.model.CustomException;
+import org.egov.project.util.RelatedEntityLoaders;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -43,17 +38,18 @@ public class PtProductVariantIdValidator implements Validator<TaskBulkRequest, T
 
     private final ProjectRepository projectRepository;
 
-    private final ServiceRequestClient serviceRequestClient;
-
-    private final ProjectConfiguration projectConfiguration;
+    private final RelatedEntityLoaders relatedEntityLoaders;
 
     @Autowired
-    public PtProductVariantIdValidator(ProjectRepository projectRepository, ServiceRequestClient serviceRequestClient, ProjectConfiguration projectConfiguration) {
+    public PtProductVariantIdValidator(ProjectRepository projectRepository, RelatedEntityLoaders relatedEntityLoaders) {
         this.projectRepository = projectRepository;
-        this.serviceRequestClient = serviceRequestClient;
-        this.projectConfiguration = projectConfiguration;
+        this.relatedEntityLoaders = relatedEntityLoaders;
     }
 
+    @Override
+    public void prime(TaskBulkRequest request) {
+        register(relatedEntityLoaders.productVariants(request.getRequestInfo()), request.getTasks());
+    }
 
     @Override
     public Map<Task, List<Error>> validate(TaskBulkRequest request) {
@@ -62,14 +58,17 @@ public class PtProductVariantIdValidator implements Validator<TaskBulkRequest, T
         List<Task> entities = request.getTasks().stream()
                 .filter(notHavingErrors()).collect(Collectors.toList());
         if (!entities.isEmpty()) {
+            // all tasks of the request are looked up together, the first task fetches every product variant
+            BatchLoader<ProductVariant> productVariantLoader = relatedEntityLoaders
+                    .productVariants(request.getRequestInfo());
+            register(productVariantLoader, entities);
             for (Task task : entities) {
                 if(CollectionUtils.isEmpty(task.getResources()))
                     continue;
-                Set<String> productVariantIds = new HashSet<>(getIdList(task.getResources(),
-                        getIdMethod(task.getResources(), "productVariantId")));
+                Set<String> productVariantIds = getProductVariantIds(task);
                 try {
-                    List<ProductVariant> validProductVariants = checkIfProductVariantExist(productVariantIds,
-                            getTenantId(task.getResources()), request.getRequestInfo());
+                    Map<String, ProductVariant> validProductVariants = productVariantLoader
+                            .loadMany(getTenantId(task.getResources()), productVariantIds);
                     if (productVariantIds.size() != validProductVariants.size()) {
                         List<String> productVariantInRequest = new ArrayList<>();
                         productVariantInRequest.addAll(productVariantIds);
@@ -78,7 +77,7 @@ public class PtProductVariantIdValidator implements Validator<TaskBulkRequest, T
                             error = getErrorForNonExistentRelatedEntity(productVariantInRequest);
                         } else {
                             error = getErrorForNonExistentRelatedEntity(getDifference(productVariantInRequest,
-                                    getIdList(validProductVariants, getIdMethod(validProductVariants))));
+                                    new ArrayList<>(validProductVariants.keySet())));
                         }
                         populateErrorDetails(task, error, errorDetailsMap);
                     }
@@ -92,24 +91,14 @@ public class PtProductVariantIdValidator implements Validator<TaskBulkRequest, T
         return errorDetailsMap;
     }
 
-    private List<ProductVariant> checkIfProductVariantExist(Set<String> pvIds, String tenantId, RequestInfo requestInfo) {
+    private void register(BatchLoader<ProductVariant> productVariantLoader, List<Task> tasks) {
+        tasks.stream().filter(notHavingErrors())
+                .filter(task -> !CollectionUtils.isEmpty(task.getResources()))
+                .forEach(task -> productVariantLoader.register(getTenantId(task.getResources()),
+                        getProductVariantIds(task)));
+    }
 
-        List<String> productVariantIds = new ArrayList<>(pvIds);
-        ProductVariantSearch productVariantSearch = ProductVariantSearch.builder()
-                .id(productVariantIds).build();
-        ProductVariantSearchRequest request = ProductVariantSearchRequest.builder().productVariant(productVariantSearch)
-                .requestInfo(requestInfo).build();
-        StringBuilder url = new StringBuilder(projectConfiguration.getProductHost()
-                + projectConfiguration.getProductVariantSearchUrl()
-                + "?limit=" + productVariantIds.size() + "&offset=0&tenantId=" + tenantId);
-        ProductVariantResponse response;
-        try {
-            response = serviceRequestClient.fetchResult(url, request, ProductVariantResponse.class);
-        } catch (Exception e) {
-            throw new CustomException("PRODUCT_VARIANT",
-                    String.format("Something went wrong: %s", e.getMessage()));
-        }
-        return response.getProductVariant();
+    private Set<String> getProductVariantIds(Task task) {
+        return new HashSet<>(getIdList(task.getResources(), getIdMethod(task.getResources(), "productVariantId")));
     }
 }
-
@@ -113,6 +113,7 @@ public class LocationCaptureController {
             UserActionBulkResponse response = UserActionBulkResponse.builder()
                     .userActions(locationCaptureSearchResponse.getResponse())
                     .totalCount(locationCaptureSearchResponse.getTotalCount())
+                    .nextCursor(locationCaptureSearchResponse.getNextCursor())
                     .responseInfo(ResponseInfoFactory.createResponseInfo(locationCaptureSearchRequest.getRequestInfo(), true))
                     .build();
 
@@ -11,6 +11,7 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.egov.common.contract.response.ResponseInfo;
+import org.egov.common.models.core.ParentIdSearchRequest;
 import org.egov.common.models.core.ProjectSearchURLParams;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.core.URLParams;
@@ -150,6 +151,29 @@ public class ProjectApiController {
         return ResponseEntity.status(HttpStatus.OK).body(beneficiaryResponse);
     }
 
+    @RequestMapping(value = "/beneficiary/v1/bulk/_search", method = RequestMethod.POST)
+    public ResponseEntity<BeneficiaryBulkResponse> projectBeneficiaryV1BulkSearchPost(
+        @RequestParam(value = "tenantId") String tenantId,
+        @RequestParam(value = "lastChangedSince", required = false) Long lastChangedSince,
+        @RequestParam(value = "includeDeleted", required = false, defaultValue = "false") Boolean includeDeleted,
+        @ApiParam(value = "Client reference ids of the beneficiaries whose project beneficiaries should be returned.", required = true) @Valid @RequestBody ParentIdSearchRequest parentIdSearchRequest
+    ) {
+        SearchResponse<ProjectBeneficiary> searchResponse = projectBeneficiaryService.searchByBeneficiaryClientReferenceIds(
+                parentIdSearchRequest.getParentIdSearch(),
+                tenantId,
+                lastChangedSince,
+                includeDeleted
+        );
+        BeneficiaryBulkResponse beneficiaryResponse = BeneficiaryBulkResponse.builder()
+                .projectBeneficiaries(searchResponse.getResponse())
+                .totalCount(searchResponse.getTotalCount())
+                .responseInfo(ResponseInfoFactory
+                        .createResponseInfo(parentIdSearchRequest.getRequestInfo(), true))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(beneficiaryResponse);
+    }
+
     @RequestMapping(value = "/beneficiary/v1/_update", method = RequestMethod.POST)
     public ResponseEntity<BeneficiaryResponse> projectBeneficiaryV1UpdatePost(@ApiParam(value = "Project Beneficiary Registration.", required = true) @Valid @RequestBody BeneficiaryRequest beneficiaryRequest, @ApiParam(value = "Client can specify if the resource in request body needs to be sent back in the response. This is being used to limit amount of data that needs to flow back from the server to the client in low bandwidth scenarios. Server will always send the server generated id for validated requests.", defaultValue = "true") @Valid @RequestParam(value = "echoResource", required = false, defaultValue = "true") Boolean echoResource) {
 
@@ -412,11 +436,34 @@ public class ProjectApiController {
                 urlParams.getOffset(),
                 urlParams.getTenantId(),
                 urlParams.getLastChangedSince(),
-                urlParams.getIncludeDeleted()
+                urlParams.getIncludeDeleted(),
+                urlParams.getCursor()
+        );
+
+        TaskBulkResponse response = TaskBulkResponse.builder().responseInfo(ResponseInfoFactory
+                .createResponseInfo(taskSearchRequest.getRequestInfo(), true)).tasks(taskSearchResponse.getResponse()).totalCount(taskSearchResponse.getTotalCount())
+                .nextCursor(taskSearchResponse.getNextCursor()).build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @RequestMapping(value = "/task/v1/bulk/_search", method = RequestMethod.POST)
+    public ResponseEntity<TaskBulkResponse> projectTaskV1BulkSearchPost(
+        @RequestParam(value = "tenantId") String tenantId,
+        @RequestParam(value = "lastChangedSince", required = false) Long lastChangedSince,
+        @RequestParam(value = "includeDeleted", required = false, defaultValue = "false") Boolean includeDeleted,
+        @ApiParam(value = "Client reference ids of the project beneficiaries whose tasks should be returned.", required = true) @Valid @RequestBody ParentIdSearchRequest parentIdSearchRequest
+    ) {
+        SearchResponse<Task> taskSearchResponse = projectTaskService.searchByProjectBeneficiaryClientReferenceIds(
+                parentIdSearchRequest.getParentIdSearch(),
+                tenantId,
+                lastChangedSince,
+                includeDeleted
         );
 
         TaskBulkResponse response = TaskBulkResponse.builder().responseInfo(ResponseInfoFactory
-                .createResponseInfo(taskSearchRequest.getRequestInfo(), true)).tasks(taskSearchResponse.getResponse()).totalCount(taskSearchResponse.getTotalCount()).build();
+                .createResponseInfo(parentIdSearchRequest.getRequestInfo(), true)).tasks(taskSearchResponse.getResponse())
+                .totalCount(taskSearchResponse.getTotalCount()).build();
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
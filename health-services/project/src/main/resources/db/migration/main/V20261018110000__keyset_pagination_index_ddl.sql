@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_project_task_tenantid_lastmodifiedtime_id ON project_task(tenantId, lastModifiedTime, id);
+CREATE INDEX IF NOT EXISTS idx_user_location_tenantid_lastmodifiedtime_id ON user_location(tenantId, lastModifiedTime, id);
@@ -0,0 +1,5 @@
+-- Ids of the dot separated project hierarchy as a stored array, kept up to date by postgres on every insert and
+-- update, so that ancestor and descendant searches can use a GIN index instead of a LIKE with a leading wildcard
+ALTER TABLE project ADD COLUMN IF NOT EXISTS projectHierarchyIds TEXT[] GENERATED ALWAYS AS (string_to_array(projectHierarchy, '.')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_project_projecthierarchyids ON project USING GIN (projectHierarchyIds);
@@ -0,0 +1,160 @@
+package org.egov.project.repository;
+
+import org.apache.commons.lang3.StringUtils;
+import org.egov.common.models.project.Document;
+import org.egov.common.models.project.Project;
+import org.egov.common.models.project.Target;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures assembling a project search result with targets, documents, ancestors and descendants, for a campaign
+ * of district projects with 1000 to 5000 village sub-projects, with the grouped assembly of
+ * {@link ProjectRepository#buildProjectSearchResult} and with the per project scans it replaced.
+ * <p>
+ * The search returns every district, with the campaign as ancestor and the villages as descendants. Each project
+ * has two targets and a document, and every target row is fetched twice as a join would return it.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.egov.project.repository.ProjectSearchResultBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectSearchResultBenchmark {
+
+    @Param({"1000", "5000"})
+    private int villages;
+
+    @Param({"50"})
+    private int districts;
+
+    private ProjectRepository projectRepository;
+
+    private List<Project> projects;
+
+    private List<Project> ancestors;
+
+    private List<Project> descendants;
+
+    private List<Target> targets;
+
+    private List<Document> documents;
+
+    @Setup
+    public void setUp() {
+        projectRepository = new ProjectRepository(null, null, null, null, null, null, null, null, null, null, null,
+                null);
+        Project campaign = project("campaign", null, "campaign");
+        ancestors = Collections.singletonList(campaign);
+        projects = new ArrayList<>();
+        for (int i = 0; i < districts; i++) {
+            projects.add(project("district-" + i, campaign.getId(), "campaign.district-" + i));
+        }
+        descendants = new ArrayList<>();
+        for (int i = 0; i < villages; i++) {
+            int district = i % districts;
+            descendants.add(project("village-" + i, "district-" + district,
+                    "campaign.district-" + district + ".village-" + i));
+        }
+
+        targets = new ArrayList<>();
+        documents = new ArrayList<>();
+        List<Project> all = new ArrayList<>(ancestors);
+        all.addAll(projects);
+        all.addAll(descendants);
+        for (Project project : all) {
+            for (int t = 0; t < 2; t++) {
+                Target target = Target.builder().id(project.getId() + "-target-" + t).projectid(project.getId())
+                        .isDeleted(false).build();
+                targets.add(target);
+                targets.add(target);
+            }
+            documents.add(Document.builder().id(project.getId() + "-document").projectid(project.getId())
+                    .status("ACTIVE").build());
+        }
+    }
+
+    @Benchmark
+    public List<Project> groupedAssembly() {
+        return projectRepository.buildProjectSearchResult(projects, targets, documents, ancestors, descendants);
+    }
+
+    @Benchmark
+    public List<Project> perProjectScans() {
+        for (Project project : projects) {
+            addTargets(project);
+            addDocuments(project);
+            List<Project> projectAncestors = ancestors.stream()
+                    .filter(a -> project.getProjectHierarchy().contains(a.getId()) && !project.getId().equals(a.getId()))
+                    .collect(Collectors.toList());
+            projectAncestors.forEach(ancestor -> {
+                addTargets(ancestor);
+                addDocuments(ancestor);
+            });
+            project.setAncestors(projectAncestors);
+            List<Project> subProjects = descendants.stream()
+                    .filter(d -> StringUtils.isNotBlank(d.getParent()) && d.getProjectHierarchy().contains(project.getId())
+                            && !d.getId().equals(project.getId()))
+                    .collect(Collectors.toList());
+            subProjects.forEach(descendant -> {
+                addTargets(descendant);
+                addDocuments(descendant);
+            });
+            project.setDescendants(subProjects);
+        }
+        return projects;
+    }
+
+    // the scan done for every project, ancestor and descendant before targets were grouped by project
+    private void addTargets(Project project) {
+        project.setTargets(new ArrayList<>());
+        for (Target target : targets) {
+            if (target.getProjectid().equals(project.getId()) && !target.getIsDeleted()
+                    && project.getTargets().stream().noneMatch(t -> t.getId().equals(target.getId()))) {
+                project.getTargets().add(target);
+            }
+        }
+    }
+
+    // the scan done for every project, ancestor and descendant before documents were grouped by project
+    private void addDocuments(Project project) {
+        project.setDocuments(new ArrayList<>());
+        for (Document document : documents) {
+            if (document.getProjectid().equals(project.getId()) && !"INACTIVE".equals(document.getStatus())
+                    && project.getDocuments().stream().noneMatch(d -> d.getId().equals(document.getId()))) {
+                project.getDocuments().add(document);
+            }
+        }
+    }
+
+    private static Project project(String id, String parent, String projectHierarchy) {
+        return Project.builder().id(id).tenantId("default").parent(parent).projectHierarchy(projectHierarchy).build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProjectSearchResultBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
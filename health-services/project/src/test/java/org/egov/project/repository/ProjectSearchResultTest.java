@@ -0,0 +1,109 @@
+package org.egov.project.repository;
+
+import org.egov.common.models.project.Document;
+import org.egov.common.models.project.Project;
+import org.egov.common.models.project.Target;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectSearchResultTest {
+
+    private ProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() {
+        projectRepository = new ProjectRepository(null, null, null, null, null, null, null, null, null, null, null,
+                null);
+    }
+
+    @Test
+    @DisplayName("should set the ancestors of a project in the order of its project hierarchy")
+    void shouldSetAncestorsInHierarchyOrder() {
+        Project campaign = project("campaign", null, "campaign");
+        Project district = project("district", "campaign", "campaign.district");
+        Project otherCampaign = project("other-campaign", null, "other-campaign");
+        Project village = project("village", "district", "campaign.district.village");
+
+        List<Project> result = projectRepository.buildProjectSearchResult(Collections.singletonList(village),
+                Collections.emptyList(), Collections.emptyList(), Arrays.asList(district, otherCampaign, campaign),
+                Collections.emptyList());
+
+        assertEquals(Arrays.asList("campaign", "district"), ids(result.get(0).getAncestors()));
+    }
+
+    @Test
+    @DisplayName("should keep targets whose isDeleted is not set, drop deleted targets and keep each target once")
+    void shouldKeepTargetsWithoutIsDeleted() {
+        Project district = project("district", null, "district");
+        Target unset = Target.builder().id("unset").projectid("district").build();
+        Target active = Target.builder().id("active").projectid("district").isDeleted(false).build();
+        Target deleted = Target.builder().id("deleted").projectid("district").isDeleted(true).build();
+        Document document = Document.builder().id("document").projectid("district").status("ACTIVE").build();
+        Document inactive = Document.builder().id("inactive").projectid("district").status("INACTIVE").build();
+
+        List<Project> result = projectRepository.buildProjectSearchResult(Collections.singletonList(district),
+                Arrays.asList(unset, active, deleted, active), Arrays.asList(document, inactive, document), null, null);
+
+        assertEquals(Arrays.asList("unset", "active"),
+                result.get(0).getTargets().stream().map(Target::getId).collect(Collectors.toList()));
+        assertEquals(Collections.singletonList("document"),
+                result.get(0).getDocuments().stream().map(Document::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("should give ancestors and descendants without targets or documents empty lists")
+    void shouldGiveRelatedProjectsEmptyLists() {
+        Project campaign = project("campaign", null, "campaign");
+        Project district = project("district", "campaign", "campaign.district");
+        Project village = project("village", "district", "campaign.district.village");
+        Target target = Target.builder().id("target").projectid("district").build();
+
+        List<Project> result = projectRepository.buildProjectSearchResult(Collections.singletonList(district),
+                Collections.singletonList(target), Collections.emptyList(), Collections.singletonList(campaign),
+                Collections.singletonList(village));
+
+        Project found = result.get(0);
+        assertEquals(Collections.singletonList(target), found.getTargets());
+        assertSame(campaign, found.getAncestors().get(0));
+        assertTrue(campaign.getTargets().isEmpty());
+        assertTrue(campaign.getDocuments().isEmpty());
+        assertEquals(Collections.singletonList("village"), ids(found.getDescendants()));
+        assertTrue(village.getTargets().isEmpty());
+        assertTrue(village.getDocuments().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should leave the related fields of a project unset when nothing related was fetched")
+    void shouldLeaveProjectUnsetWithoutRelatedRows() {
+        Project campaign = project("campaign", null, "campaign");
+        Project rootDescendant = project("root", null, "campaign.root");
+
+        List<Project> result = projectRepository.buildProjectSearchResult(Collections.singletonList(campaign),
+                Collections.emptyList(), null, null, Collections.singletonList(rootDescendant));
+
+        Project found = result.get(0);
+        assertNull(found.getTargets());
+        assertNull(found.getDocuments());
+        assertNull(found.getAncestors());
+        assertNull(found.getDescendants());
+    }
+
+    private static List<String> ids(List<Project> projects) {
+        return projects.stream().map(Project::getId).collect(Collectors.toList());
+    }
+
+    private static Project project(String id, String parent, String projectHierarchy) {
+        return Project.builder().id(id).tenantId("default").parent(parent).projectHierarchy(projectHierarchy).build();
+    }
+}
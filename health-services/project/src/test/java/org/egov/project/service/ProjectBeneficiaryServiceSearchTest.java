@@ -2,6 +2,7 @@ package org.egov.project.service;
 
 import org.egov.common.data.query.exception.QueryBuilderException;
 import org.egov.common.helper.RequestInfoTestBuilder;
+import org.egov.common.models.core.ParentIdSearch;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.project.ProjectBeneficiary;
 import org.egov.project.helper.ProjectBeneficiaryTestBuilder;
@@ -17,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -27,6 +29,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -94,4 +97,19 @@ class ProjectBeneficiaryServiceSearchTest {
 
         assertEquals(1, projectBeneficiaries.size());
     }
+
+    @Test
+    @DisplayName("should find project beneficiaries of all parent ids in one repository call")
+    void shouldFindProjectBeneficiariesOfAllParentIdsInOneRepositoryCall() {
+        ParentIdSearch parentIdSearch = ParentIdSearch.builder()
+                .parentIds(Arrays.asList("some-parent-id", "other-parent-id")).projectId("some-project-id").build();
+        when(projectBeneficiaryRepository.findByBeneficiaryClientReferenceIds(eq(parentIdSearch.getParentIds()), eq("some-project-id"), eq("default"), eq(100L), eq(false)))
+                .thenReturn(Collections.singletonList(ProjectBeneficiary.builder().id("some-id").build()));
+
+        SearchResponse<ProjectBeneficiary> searchResponse = projectBeneficiaryService.searchByBeneficiaryClientReferenceIds(parentIdSearch, "default", 100L, false);
+
+        assertEquals(1, searchResponse.getResponse().size());
+        assertEquals(1L, searchResponse.getTotalCount());
+        verify(projectBeneficiaryRepository).findByBeneficiaryClientReferenceIds(parentIdSearch.getParentIds(), "some-project-id", "default", 100L, false);
+    }
 }
@@ -2,6 +2,7 @@ package org.egov.project.service;
 
 import org.egov.common.data.query.exception.QueryBuilderException;
 import org.egov.common.helper.RequestInfoTestBuilder;
+import org.egov.common.models.core.ParentIdSearch;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskSearch;
@@ -17,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -88,7 +90,7 @@ public class ProjectTaskServiceSearchTest {
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().id(Collections.singletonList("some-id")).clientReferenceId(Collections.singletonList("some-id")).build()).build();
         when(projectTaskRepository.find(any(TaskSearch.class), anyInt(),
-                anyInt(), anyString(), anyLong(), anyBoolean())).thenReturn(SearchResponse.<Task>builder().build());
+                anyInt(), anyString(), anyLong(), anyBoolean(), any())).thenReturn(SearchResponse.<Task>builder().build());
 
         projectTaskService.search(taskSearchRequest.getTask(), 10, 0,
                 "default", 0L, false);
@@ -104,21 +106,21 @@ public class ProjectTaskServiceSearchTest {
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().id(Collections.singletonList("some-id")).clientReferenceId(Collections.singletonList("some-id")).build()).build();
         when(projectTaskRepository.find(any(TaskSearch.class), anyInt(),
-                anyInt(), anyString(), anyLong(), anyBoolean())).thenReturn(SearchResponse.<Task>builder().build());
+                anyInt(), anyString(), anyLong(), anyBoolean(), any())).thenReturn(SearchResponse.<Task>builder().build());
 
         projectTaskService.search(taskSearchRequest.getTask(), 10, 0,
                 "default", 0L, false);
 
         verify(projectTaskRepository, times(1))
                 .find(any(TaskSearch.class), anyInt(),
-                        anyInt(), anyString(), anyLong(), anyBoolean());
+                        anyInt(), anyString(), anyLong(), anyBoolean(), any());
     }
 
     @Test
     @DisplayName("should not raise exception if no search results are found")
     void shouldNotRaiseExceptionIfNoProjectTaskFound() throws Exception {
         when(projectTaskRepository.find(any(TaskSearch.class), any(Integer.class),
-                any(Integer.class), any(String.class), eq(null), any(Boolean.class))).thenReturn(SearchResponse.<Task>builder().build());
+                any(Integer.class), any(String.class), eq(null), any(Boolean.class), eq(null))).thenReturn(SearchResponse.<Task>builder().build());
         TaskSearchRequest taskSearchRequest = TaskSearchRequest.builder()
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().id(Collections.singletonList("someid")).clientReferenceId(Collections.singletonList("some-id")).build()).build();
@@ -145,7 +147,7 @@ public class ProjectTaskServiceSearchTest {
     void shouldReturnProjectStaffIfSearchCriteriaIsMatched() throws Exception {
         projectTasks.add(TaskTestBuilder.builder().withTask().build());
         when(projectTaskRepository.find(any(TaskSearch.class), any(Integer.class),
-                any(Integer.class), any(String.class), eq(null), any(Boolean.class))).thenReturn(SearchResponse.<Task>builder().response(projectTasks).build());
+                any(Integer.class), any(String.class), eq(null), any(Boolean.class), eq(null))).thenReturn(SearchResponse.<Task>builder().response(projectTasks).build());
         TaskSearchRequest taskSearchRequest = TaskSearchRequest.builder()
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().id(Collections.singletonList("some-id")).projectId(Collections.singletonList("some-id")).build()).build();
@@ -170,4 +172,19 @@ public class ProjectTaskServiceSearchTest {
 
         assertEquals(1, projectTasks.size());
     }
+
+    @Test
+    @DisplayName("should find project tasks of all parent ids in one repository call")
+    void shouldFindProjectTasksOfAllParentIdsInOneRepositoryCall() {
+        ParentIdSearch parentIdSearch = ParentIdSearch.builder()
+                .parentIds(Arrays.asList("some-parent-id", "other-parent-id")).projectId("some-project-id").build();
+        when(projectTaskRepository.findByProjectBeneficiaryClientReferenceIds(eq(parentIdSearch.getParentIds()), eq("some-project-id"), eq("default"), eq(100L), eq(false)))
+                .thenReturn(Collections.singletonList(Task.builder().id("some-id").build()));
+
+        SearchResponse<Task> searchResponse = projectTaskService.searchByProjectBeneficiaryClientReferenceIds(parentIdSearch, "default", 100L, false);
+
+        assertEquals(1, searchResponse.getResponse().size());
+        assertEquals(1L, searchResponse.getTotalCount());
+        verify(projectTaskRepository).findByProjectBeneficiaryClientReferenceIds(parentIdSearch.getParentIds(), "some-project-id", "default", 100L, false);
+    }
 }
@@ -7,14 +7,15 @@ import org.egov.common.models.product.ProductVariantResponse;
 import org.egov.common.models.product.ProductVariantSearchRequest;
 import org.egov.common.models.project.ProjectResource;
 import org.egov.common.models.project.ProjectResourceBulkRequest;
+import org.egov.common.service.UserService;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.helper.ProjectResourceBulkRequestTestBuilder;
+import org.egov.project.util.RelatedEntityLoaders;
 import org.egov.project.validator.resource.PrProductVariantIdValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -31,7 +32,6 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class ProductVariantIdValidatorTest {
     
-    @InjectMocks
     PrProductVariantIdValidator productVariantIdValidator;
 
     @Mock
@@ -40,10 +40,16 @@ class ProductVariantIdValidatorTest {
     @Mock
     private ServiceRequestClient client;
 
+    @Mock
+    private UserService userService;
+
     @BeforeEach
     void setUp() {
+        productVariantIdValidator = new PrProductVariantIdValidator(null,
+                new RelatedEntityLoaders(client, projectConfiguration, userService));
         lenient().when(projectConfiguration.getProductHost()).thenReturn("http://localhost:8080/");
         lenient().when(projectConfiguration.getProductVariantSearchUrl()).thenReturn("/some-url");
+        lenient().when(projectConfiguration.getSearchApiLimit()).thenReturn("1000");
     }
 
     @Test
@@ -51,7 +57,7 @@ class ProductVariantIdValidatorTest {
     void shouldAddToErrorDetailsIfProjectVariantIdIsNull() throws Exception {
         ProjectResourceBulkRequest request = ProjectResourceBulkRequestTestBuilder.builder()
                 .withProjectResource().build();
-        when(client.fetchResult(any(StringBuilder.class),
+        lenient().when(client.fetchResult(any(StringBuilder.class),
                 any(ProductVariantSearchRequest.class),
                 eq(ProductVariantResponse.class))).thenReturn(emptyResponse());
 
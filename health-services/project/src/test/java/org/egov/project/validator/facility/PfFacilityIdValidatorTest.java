@@ -7,13 +7,14 @@ import org.egov.common.models.facility.Facility;
 import org.egov.common.models.facility.FacilityBulkResponse;
 import org.egov.common.models.project.ProjectFacility;
 import org.egov.common.models.project.ProjectFacilityBulkRequest;
+import org.egov.common.service.UserService;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.helper.ProjectFacilityBulkRequestTestBuilder;
+import org.egov.project.util.RelatedEntityLoaders;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -30,7 +31,6 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class PfFacilityIdValidatorTest {
 
-    @InjectMocks
     private PfFacilityIdValidator pfFacilityIdValidator;
 
     @Mock
@@ -39,8 +39,13 @@ class PfFacilityIdValidatorTest {
     @Mock
     private ProjectConfiguration projectConfiguration;
 
+    @Mock
+    private UserService userService;
+
     @BeforeEach
     void setUp() {
+        pfFacilityIdValidator = new PfFacilityIdValidator(
+                new RelatedEntityLoaders(serviceRequestClient, projectConfiguration, userService));
         when(projectConfiguration.getFacilityServiceHost())
                 .thenReturn("facility-host");
         when(projectConfiguration.getFacilityServiceSearchUrl())
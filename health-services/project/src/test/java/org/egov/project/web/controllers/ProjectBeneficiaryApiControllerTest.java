@@ -2,6 +2,8 @@ package org.egov.project.web.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.egov.common.helper.RequestInfoTestBuilder;
+import org.egov.common.models.core.ParentIdSearch;
+import org.egov.common.models.core.ParentIdSearchRequest;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.project.BeneficiaryBulkResponse;
 import org.egov.common.models.project.BeneficiaryRequest;
@@ -33,15 +35,21 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -270,4 +278,49 @@ public class ProjectBeneficiaryApiControllerTest {
         assertEquals(response.getErrors().size(), 1);
     }
 
+    @Test
+    @DisplayName("should return all project beneficiarys of the parent ids in one bulk search")
+    void shouldProjectBeneficiaryBulkSearchPassIfParentIdsArePresent() throws Exception {
+        ParentIdSearchRequest parentIdSearchRequest = ParentIdSearchRequest.builder()
+                .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
+                .parentIdSearch(ParentIdSearch.builder().parentIds(Collections.singletonList("some-parent-id")).build())
+                .build();
+        when(projectBeneficiaryService.searchByBeneficiaryClientReferenceIds(any(ParentIdSearch.class), eq("default"), isNull(), eq(false)))
+                .thenReturn(SearchResponse.<ProjectBeneficiary>builder().response(Collections.emptyList()).totalCount(0L).build());
+
+        mockMvc.perform(post("/beneficiary/v1/bulk/_search?tenantId=default").contentType(MediaType
+                        .APPLICATION_JSON).content(objectMapper.writeValueAsString(parentIdSearchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.TotalCount").value(0));
+
+        verify(projectBeneficiaryService).searchByBeneficiaryClientReferenceIds(any(ParentIdSearch.class), eq("default"), isNull(), eq(false));
+    }
+
+    @Test
+    @DisplayName("should fail project beneficiary bulk search if no parent ids are passed")
+    void shouldProjectBeneficiaryBulkSearchFailIfParentIdsAreEmpty() throws Exception {
+        ParentIdSearchRequest parentIdSearchRequest = ParentIdSearchRequest.builder()
+                .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
+                .parentIdSearch(ParentIdSearch.builder().parentIds(Collections.emptyList()).build())
+                .build();
+
+        mockMvc.perform(post("/beneficiary/v1/bulk/_search?tenantId=default").contentType(MediaType
+                        .APPLICATION_JSON).content(objectMapper.writeValueAsString(parentIdSearchRequest)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(projectBeneficiaryService);
+    }
+
+    @Test
+    @DisplayName("should fail project beneficiary bulk search if tenant id is missing")
+    void shouldProjectBeneficiaryBulkSearchFailIfTenantIdIsMissing() throws Exception {
+        ParentIdSearchRequest parentIdSearchRequest = ParentIdSearchRequest.builder()
+                .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
+                .parentIdSearch(ParentIdSearch.builder().parentIds(Collections.singletonList("some-parent-id")).build())
+                .build();
+
+        mockMvc.perform(post("/beneficiary/v1/bulk/_search").contentType(MediaType
+                        .APPLICATION_JSON).content(objectMapper.writeValueAsString(parentIdSearchRequest)))
+                .andExpect(status().isBadRequest());
+    }
 }
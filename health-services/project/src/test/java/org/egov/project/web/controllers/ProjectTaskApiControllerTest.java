@@ -2,6 +2,8 @@ package org.egov.project.web.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.egov.common.helper.RequestInfoTestBuilder;
+import org.egov.common.models.core.ParentIdSearch;
+import org.egov.common.models.core.ParentIdSearchRequest;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskRequest;
@@ -25,13 +27,20 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Collections;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ProjectApiController.class)
@@ -81,7 +90,7 @@ class ProjectTaskApiControllerTest {
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().build()).build();
         when(projectTaskService.search(any(TaskSearch.class), anyInt(),
-                anyInt(), anyString(), any(), any())).thenReturn(SearchResponse.<Task>builder().build());
+                anyInt(), anyString(), any(), any(), any())).thenReturn(SearchResponse.<Task>builder().build());
 
         mockMvc.perform(post("/task/v1/_search?limit=10&offset=0&tenantId=default").contentType(MediaType
                         .APPLICATION_JSON).content(objectMapper.writeValueAsString(taskSearchRequest)))
@@ -95,10 +104,56 @@ class ProjectTaskApiControllerTest {
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().build()).build();
         when(projectTaskService.search(any(TaskSearch.class), anyInt(),
-                anyInt(), anyString(), anyLong(), anyBoolean())).thenReturn(SearchResponse.<Task>builder().build());
+                anyInt(), anyString(), anyLong(), anyBoolean(), any())).thenReturn(SearchResponse.<Task>builder().build());
 
         mockMvc.perform(post("/task/v1/_search?limit=10&offset=0").contentType(MediaType
                         .APPLICATION_JSON).content(objectMapper.writeValueAsString(taskSearchRequest)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("should return all project tasks of the parent ids in one bulk search")
+    void shouldProjectTaskBulkSearchPassIfParentIdsArePresent() throws Exception {
+        ParentIdSearchRequest parentIdSearchRequest = ParentIdSearchRequest.builder()
+                .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
+                .parentIdSearch(ParentIdSearch.builder().parentIds(Collections.singletonList("some-parent-id")).build())
+                .build();
+        when(projectTaskService.searchByProjectBeneficiaryClientReferenceIds(any(ParentIdSearch.class), eq("default"), isNull(), eq(false)))
+                .thenReturn(SearchResponse.<Task>builder().response(Collections.emptyList()).totalCount(0L).build());
+
+        mockMvc.perform(post("/task/v1/bulk/_search?tenantId=default").contentType(MediaType
+                        .APPLICATION_JSON).content(objectMapper.writeValueAsString(parentIdSearchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.TotalCount").value(0));
+
+        verify(projectTaskService).searchByProjectBeneficiaryClientReferenceIds(any(ParentIdSearch.class), eq("default"), isNull(), eq(false));
+    }
+
+    @Test
+    @DisplayName("should fail project task bulk search if no parent ids are passed")
+    void shouldProjectTaskBulkSearchFailIfParentIdsAreEmpty() throws Exception {
+        ParentIdSearchRequest parentIdSearchRequest = ParentIdSearchRequest.builder()
+                .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
+                .parentIdSearch(ParentIdSearch.builder().parentIds(Collections.emptyList()).build())
+                .build();
+
+        mockMvc.perform(post("/task/v1/bulk/_search?tenantId=default").contentType(MediaType
+                        .APPLICATION_JSON).content(objectMapper.writeValueAsString(parentIdSearchRequest)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(projectTaskService);
+    }
+
+    @Test
+    @DisplayName("should fail project task bulk search if tenant id is missing")
+    void shouldProjectTaskBulkSearchFailIfTenantIdIsMissing() throws Exception {
+        ParentIdSearchRequest parentIdSearchRequest = ParentIdSearchRequest.builder()
+                .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
+                .parentIdSearch(ParentIdSearch.builder().parentIds(Collections.singletonList("some-parent-id")).build())
+                .build();
+
+        mockMvc.perform(post("/task/v1/bulk/_search").contentType(MediaType
+                        .APPLICATION_JSON).content(objectMapper.writeValueAsString(parentIdSearchRequest)))
+                .andExpect(status().isBadRequest());
+    }
 }
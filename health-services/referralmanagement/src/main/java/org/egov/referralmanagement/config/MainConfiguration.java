@@ -21,9 +21,11 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import jakarta.annotation.PostConstruct;
 import java.util.TimeZone;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Import({TracerConfiguration.class})
 @Configuration
@@ -36,6 +38,12 @@ public class MainConfiguration {
     @Value("${spring.redis.host}")
     private String redisHost;
 
+    @Value("${referralmanagement.downsync.executor.pool.size:16}")
+    private Integer downsyncExecutorPoolSize;
+
+    @Value("${referralmanagement.downsync.executor.queue.capacity:1000}")
+    private Integer downsyncExecutorQueueCapacity;
+
     @PostConstruct
     public void initialize() {
         TimeZone.setDefault(TimeZone.getTimeZone(timeZone));
@@ -89,4 +97,16 @@ public class MainConfiguration {
         redisTemplate.afterPropertiesSet();
         return redisTemplate;
     }
+
+    @Bean
+    @Qualifier("downsyncExecutor")
+    public ThreadPoolTaskExecutor downsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(downsyncExecutorPoolSize);
+        executor.setMaxPoolSize(downsyncExecutorPoolSize);
+        executor.setQueueCapacity(downsyncExecutorQueueCapacity);
+        executor.setThreadNamePrefix("downsync-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
 }
\ No newline at end of file
@@ -43,6 +43,12 @@ public class ReferralManagementConfiguration {
     @Value("${egov.search.project.beneficiary.url}")
     private String projectBeneficiarySearchUrl;
 
+    @Value("${egov.search.project.task.by.beneficiary.url}")
+    private String projectTaskSearchByBeneficiaryUrl;
+
+    @Value("${egov.search.project.beneficiary.by.beneficiary.url}")
+    private String projectBeneficiarySearchByBeneficiaryUrl;
+
     @Value("${referralmanagement.referral.kafka.create.topic}")
     private String createReferralTopic;
 
@@ -102,6 +108,9 @@ public class ReferralManagementConfiguration {
     
     @Value("${egov.search.household.member.url}")
     private String householdMemberSearchUrl;
+
+    @Value("${egov.search.household.member.by.household.url}")
+    private String householdMemberSearchByHouseholdUrl;
     
     @Value("${egov.individual.host}")
     private String individualHost;
@@ -115,4 +124,13 @@ public class ReferralManagementConfiguration {
     @Value("${egov.mdms.search.endpoint}")
     private String mdmsSearchUrl;
 
+    @Value("${referralmanagement.downsync.batch.size:500}")
+    private Integer downsyncBatchSize;
+
+    @Value("${referralmanagement.downsync.max.parallel.batches:4}")
+    private Integer downsyncMaxParallelBatches;
+
+    @Value("${search.api.limit:1000}")
+    private Integer searchApiLimit;
+
 }
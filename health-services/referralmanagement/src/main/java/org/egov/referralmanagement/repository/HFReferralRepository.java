@@ -24,7 +24,6 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ReflectionUtils;
 
-import static org.egov.common.utils.CommonUtils.constructTotalCountCTEAndReturnResult;
 import static org.egov.common.utils.CommonUtils.getIdMethod;
 
 /**
@@ -103,7 +102,7 @@ public class HFReferralRepository extends GenericRepository<HFReferral> {
         paramsMap.put("isDeleted", includeDeleted);
         paramsMap.put("lastModifiedTime", lastChangedSince);
 
-        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(query, paramsMap);
 
         query += " LIMIT :limit OFFSET :offset";
         paramsMap.put("limit", limit);
@@ -24,7 +24,6 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ReflectionUtils;
 
-import static org.egov.common.utils.CommonUtils.constructTotalCountCTEAndReturnResult;
 import static org.egov.common.utils.CommonUtils.getIdMethod;
 
 @Repository
@@ -69,7 +68,7 @@ public class ReferralRepository extends GenericRepository<Referral> {
         paramsMap.put("isDeleted", includeDeleted);
         paramsMap.put("lastModifiedTime", lastChangedSince);
 
-        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(query, paramsMap);
 
         query = query + "ORDER BY r.createdtime ASC LIMIT :limit OFFSET :offset";
         paramsMap.put("limit", limit);
@@ -1,6 +1,5 @@
 package org.egov.referralmanagement.repository;
 
-import static org.egov.common.utils.CommonUtils.constructTotalCountCTEAndReturnResult;
 import static org.egov.common.utils.CommonUtils.getIdList;
 import static org.egov.common.utils.CommonUtils.getIdMethod;
 
@@ -97,7 +96,7 @@ public class SideEffectRepository extends GenericRepository<SideEffect> {
         paramsMap.put("isDeleted", includeDeleted);
         paramsMap.put("lastModifiedTime", lastChangedSince);
 
-        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+        Long totalCount = countTotal(query, paramsMap);
 
         query = query + "ORDER BY ae.createdtime ASC LIMIT :limit OFFSET :offset";
         paramsMap.put("limit", limit);
@@ -107,6 +106,22 @@ public class SideEffectRepository extends GenericRepository<SideEffect> {
         return SearchResponse.<SideEffect>builder().response(sideEffectList).totalCount(totalCount).build();
     }
 
+    /**
+     * Finds all side effects of the given tasks in one pass.
+     *
+     * @param taskClientReferenceIds the client reference ids of the tasks
+     * @param tenantId               the tenant id
+     * @param lastChangedSince       the last changed since time
+     * @param includeDeleted         whether deleted side effects should be included
+     * @return the side effects ordered by id
+     */
+    public List<SideEffect> findByTaskClientReferenceIds(List<String> taskClientReferenceIds, String tenantId,
+                                                         Long lastChangedSince, Boolean includeDeleted) {
+        return findByParentIds("SELECT * FROM side_effect ae LEFT JOIN project_task pt ON ae.taskId = pt.id", "ae",
+                "taskClientReferenceId", taskClientReferenceIds, Collections.emptyMap(), tenantId,
+                lastChangedSince, includeDeleted);
+    }
+
     public List<SideEffect> findById(List<String> ids, String columnName, Boolean includeDeleted) {
         List<SideEffect> objFound = findInCache(ids);
         if (!includeDeleted) {
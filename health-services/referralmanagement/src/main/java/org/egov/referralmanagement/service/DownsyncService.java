@@ -2,22 +2,32 @@ package org.egov.referralmanagement.service;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.data.query.count.TotalCountContext;
 import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.models.core.ParentIdSearch;
+import org.egov.common.models.core.ParentIdSearchRequest;
+import org.egov.common.models.core.TotalCountMode;
 import org.egov.common.models.household.Household;
 import org.egov.common.models.household.HouseholdBulkResponse;
 import org.egov.common.models.household.HouseholdMember;
 import org.egov.common.models.household.HouseholdMemberBulkResponse;
-import org.egov.common.models.household.HouseholdMemberSearch;
-import org.egov.common.models.household.HouseholdMemberSearchRequest;
 import org.egov.common.models.household.HouseholdSearch;
 import org.egov.common.models.household.HouseholdSearchRequest;
 import org.egov.common.models.individual.Individual;
@@ -25,13 +35,9 @@ import org.egov.common.models.individual.IndividualBulkResponse;
 import org.egov.common.models.individual.IndividualSearch;
 import org.egov.common.models.individual.IndividualSearchRequest;
 import org.egov.common.models.project.BeneficiaryBulkResponse;
-import org.egov.common.models.project.BeneficiarySearchRequest;
 import org.egov.common.models.project.ProjectBeneficiary;
-import org.egov.common.models.project.ProjectBeneficiarySearch;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkResponse;
-import org.egov.common.models.project.TaskSearch;
-import org.egov.common.models.project.TaskSearchRequest;
 import org.egov.common.models.referralmanagement.Referral;
 import org.egov.common.models.referralmanagement.ReferralSearch;
 import org.egov.common.models.referralmanagement.ReferralSearchRequest;
@@ -39,11 +45,13 @@ import org.egov.common.models.referralmanagement.beneficiarydownsync.Downsync;
 import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncCriteria;
 import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncRequest;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffect;
-import org.egov.common.models.referralmanagement.sideeffect.SideEffectSearch;
-import org.egov.common.models.referralmanagement.sideeffect.SideEffectSearchRequest;
 import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.service.downsync.DownsyncCollector;
+import org.egov.referralmanagement.service.downsync.DownsyncSection;
+import org.egov.referralmanagement.service.downsync.DownsyncWriter;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
@@ -55,106 +63,139 @@ public class DownsyncService {
 
     private ReferralManagementConfiguration configs;
 
-    private NamedParameterJdbcTemplate jdbcTemplate;
-
     private SideEffectService sideEffectService;
 
     private ReferralManagementService referralService;
 
     private MasterDataService masterDataService;
 
+    private Executor downsyncExecutor;
+
+    private static final String STAGE_TIMER = "health.downsync.stage";
+
     @Autowired
     public DownsyncService( ServiceRequestClient serviceRequestClient,
                             ReferralManagementConfiguration referralManagementConfiguration,
-                            NamedParameterJdbcTemplate jdbcTemplate,
                             SideEffectService sideEffectService,
                             ReferralManagementService referralService,
-                            MasterDataService masterDataService ) {
+                            MasterDataService masterDataService,
+                            @Qualifier("downsyncExecutor") Executor downsyncExecutor ) {
 
         this.restClient = serviceRequestClient;
         this.configs = referralManagementConfiguration;
-        this.jdbcTemplate = jdbcTemplate;
         this.sideEffectService=sideEffectService;
         this.referralService=referralService;
         this.masterDataService=masterDataService;
+        this.downsyncExecutor=downsyncExecutor;
 
     }
 
     /**
+     * Builds the whole downsync in memory.
      *
      * @param downsyncRequest
      * @return Downsync
      */
     public Downsync prepareDownsyncData(DownsyncRequest downsyncRequest) {
 
-        Downsync downsync = new Downsync();
-        DownsyncCriteria downsyncCriteria = downsyncRequest.getDownsyncCriteria();
+        DownsyncCollector collector = new DownsyncCollector(downsyncRequest.getDownsyncCriteria());
+        writeDownsyncData(downsyncRequest, collector);
+        return collector.getDownsync();
+    }
 
-        List<String> householdIds = null;
-        Set<String> individualClientReferenceIds = null;
-        List<String> individualClientRefIds = null;
-        List<String> beneficiaryClientRefIds = null;
-        List<String> taskClientRefIds = null;
+    /**
+     * Runs the downsync as a pipeline of stages and hands every page to the writer as soon as it is fetched.
+     * <p>
+     * Members and individuals are fetched while beneficiaries of household projects are already being
+     * resolved, referrals are fetched alongside tasks and side effects are fetched per task batch as soon
+     * as that batch arrives. Id lists are split into batches of {@code referralmanagement.downsync.batch.size}
+     * with at most {@code referralmanagement.downsync.max.parallel.batches} batches of a stage in flight.
+     * Stages keep only the reference ids the next stages need, the records themselves are released once
+     * written, so a streaming writer keeps the heap bounded by the pages in flight. Child records are fetched
+     * through the bulk search by parent ids endpoints, so each record is read once and a stage only runs when
+     * the previous one found parents.
+     *
+     * @param downsyncRequest
+     * @param writer
+     */
+    public void writeDownsyncData(DownsyncRequest downsyncRequest, DownsyncWriter writer) {
 
+        DownsyncCriteria downsyncCriteria = downsyncRequest.getDownsyncCriteria();
 
-        downsync.setDownsyncCriteria(downsyncCriteria);
-        boolean isSyncTimeAvailable = null != downsyncCriteria.getLastSyncedTime();
+        Executor executor = withContext(downsyncExecutor);
+        long start = System.nanoTime();
 
         //Project project = getProjectType(downsyncRequest);
-        LinkedHashMap<String, Object> projectType = masterDataService.getProjectType(downsyncRequest);
+        CompletableFuture<LinkedHashMap<String, Object>> projectTypeFuture = CompletableFuture.supplyAsync(
+                () -> timed("projectType", () -> masterDataService.getProjectType(downsyncRequest)), executor);
 
         /* search household */
-        householdIds = searchHouseholds(downsyncRequest, downsync);
-
-        /* search household member using household ids */
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(householdIds)) {
-            individualClientReferenceIds = searchMembers(downsyncRequest, downsync, householdIds);
-        }
-
-        /* search individuals using individual ids */
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(individualClientReferenceIds) ) {
-            individualClientRefIds = searchIndividuals(downsyncRequest, downsync, individualClientReferenceIds);
+        List<Household> households = timed("households", () -> searchHouseholds(downsyncRequest, writer));
+        List<String> householdIds = households.stream().map(Household::getId).collect(Collectors.toList());
+        List<String> householdClientRefIds = households.stream().map(Household::getClientReferenceId)
+                .collect(Collectors.toList());
+
+        /* search household member using household ids, then individuals using individual ids */
+        CompletableFuture<List<String>> individualsFuture = CompletableFuture.completedFuture(Collections.emptyList());
+        if (!CollectionUtils.isEmpty(householdIds)) {
+            individualsFuture = timedAsync("members", () -> searchMembers(downsyncRequest, writer, householdIds, executor))
+                    .thenCompose(individualClientReferenceIds -> {
+                        if (CollectionUtils.isEmpty(individualClientReferenceIds))
+                            return CompletableFuture.completedFuture(Collections.<String>emptyList());
+                        return timedAsync("individuals", () -> searchIndividuals(downsyncRequest, writer,
+                                individualClientReferenceIds, executor));
+                    });
         }
 
         /* search beneficiary using individual ids OR household ids */
-
-        String beneficiaryType = (String) projectType.get("beneficiaryType");
-
-        beneficiaryClientRefIds = individualClientRefIds;
-
-        if("HOUSEHOLD".equalsIgnoreCase(beneficiaryType))
-            beneficiaryClientRefIds = downsync.getHouseholds().stream().map(Household::getClientReferenceId).collect(Collectors.toList());
-
-        //fetch beneficiary in the db
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
-            beneficiaryClientRefIds = searchBeneficiaries(downsyncRequest, downsync, beneficiaryClientRefIds);
-        }
-
-        /* search tasks using beneficiary uuids */
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
-
-            taskClientRefIds = searchTasks(downsyncRequest, downsync, beneficiaryClientRefIds, projectType);
-
-            /* ref search */
-            referralSearch(downsyncRequest, downsync, beneficiaryClientRefIds);
+        CompletableFuture<List<String>> individualClientRefIdsFuture = individualsFuture;
+        CompletableFuture<List<String>> beneficiariesFuture = projectTypeFuture.thenCompose(projectType -> {
+            String beneficiaryType = (String) projectType.get("beneficiaryType");
+            if ("HOUSEHOLD".equalsIgnoreCase(beneficiaryType))
+                return CompletableFuture.completedFuture(householdClientRefIds);
+            return individualClientRefIdsFuture;
+        }).thenCompose(beneficiaryClientRefIds -> {
+            //fetch beneficiary in the db
+            if (CollectionUtils.isEmpty(beneficiaryClientRefIds))
+                return CompletableFuture.completedFuture(Collections.<String>emptyList());
+            return timedAsync("beneficiaries", () -> searchBeneficiaries(downsyncRequest, writer,
+                    beneficiaryClientRefIds, executor));
+        });
+
+        /* search tasks and their side effects using beneficiary client reference ids, referrals alongside */
+        CompletableFuture<Void> tasksFuture = beneficiariesFuture.thenCompose(beneficiaryClientRefIds -> {
+            if (CollectionUtils.isEmpty(beneficiaryClientRefIds))
+                return CompletableFuture.<Void>completedFuture(null);
+            return timedAsync("tasks", () -> searchTasksWithSideEffects(downsyncRequest, writer,
+                    beneficiaryClientRefIds, executor));
+        });
+
+        CompletableFuture<Void> referralsFuture = beneficiariesFuture.thenCompose(beneficiaryClientRefIds -> {
+            if (CollectionUtils.isEmpty(beneficiaryClientRefIds))
+                return CompletableFuture.<Void>completedFuture(null);
+            return timedAsync("referrals", () -> referralSearch(downsyncRequest, writer, beneficiaryClientRefIds,
+                    executor));
+        });
+
+        try {
+            CompletableFuture.allOf(individualsFuture, tasksFuture, referralsFuture).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException)
+                throw (RuntimeException) exception.getCause();
+            throw exception;
+        } finally {
+            recordStage("total", System.nanoTime() - start);
         }
-
-
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(taskClientRefIds)) {
-            searchSideEffect(downsyncRequest, downsync, taskClientRefIds);
-        }
-
-        return downsync;
     }
 
 
     /**
      *
      * @param downsyncRequest
-     * @param downsync
-     * @return
+     * @param writer
+     * @return households
      */
-    private List<String> searchHouseholds(DownsyncRequest downsyncRequest, Downsync downsync) {
+    private List<Household> searchHouseholds(DownsyncRequest downsyncRequest, DownsyncWriter writer) {
 
         DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
         RequestInfo requestInfo = downsyncRequest.getRequestInfo();
@@ -163,6 +204,10 @@ public class DownsyncService {
                 .append(configs.getHouseholdSearchUrl());
         householdUrl = 	appendUrlParams(householdUrl, criteria, null, null, true);
 
+        /* keyset pagination, household search ignores offset when a cursor is passed */
+        if (null != criteria.getCursor())
+            householdUrl.append("&cursor=").append(criteria.getCursor());
+
         HouseholdSearch householdSearch = HouseholdSearch.builder()
                 .localityCode(criteria.getLocality())
                 .build();
@@ -174,281 +219,354 @@ public class DownsyncService {
 
         HouseholdBulkResponse res = restClient.fetchResult(householdUrl, searchRequest, HouseholdBulkResponse.class);
         List<Household> households = res.getHouseholds();
-        downsync.setHouseholds(households);
-        downsync.getDownsyncCriteria().setTotalCount(res.getTotalCount());
+        criteria.setTotalCount(res.getTotalCount());
+        criteria.setNextCursor(res.getNextCursor());
+        writer.writeCriteria(criteria);
+        writer.write(DownsyncSection.HOUSEHOLDS, households);
 
         if(CollectionUtils.isEmpty(households))
             return Collections.emptyList();
 
-        return households.stream().map(Household::getId).collect(Collectors.toList());
+        return households;
     }
 
     /**
      *
      * @param downsyncRequest
-     * @param downsync
+     * @param writer
      * @param individualClientRefIds
+     * @param executor
      * @return individual ClientReferenceIds
      */
-    private List<String> searchIndividuals(DownsyncRequest downsyncRequest, Downsync downsync,
-                                           Set<String> individualClientRefIds) {
+    private CompletableFuture<List<String>> searchIndividuals(DownsyncRequest downsyncRequest, DownsyncWriter writer,
+                                                              Set<String> individualClientRefIds, Executor executor) {
 
         DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
         RequestInfo requestInfo = downsyncRequest.getRequestInfo();
 
-        StringBuilder url = new StringBuilder(configs.getIndividualHost())
-                .append(configs.getIndividualSearchUrl());
+        return inBatches(new ArrayList<>(individualClientRefIds), executor, batch -> {
 
-        url = appendUrlParams(url, criteria, 0, individualClientRefIds.size(),true);
+            StringBuilder url = new StringBuilder(configs.getIndividualHost())
+                    .append(configs.getIndividualSearchUrl());
 
-        IndividualSearch individualSearch = IndividualSearch.builder()
-                .build();
+            url = appendUrlParams(url, criteria, 0, batch.size(), true);
+            skipTotalCount(url);
 
-        if(!CollectionUtils.isEmpty(individualClientRefIds))
-            individualSearch.setClientReferenceId(new ArrayList<>(individualClientRefIds));
+            IndividualSearch individualSearch = IndividualSearch.builder()
+                    .build();
 
-        IndividualSearchRequest searchRequest = IndividualSearchRequest.builder()
-                .individual(individualSearch)
-                .requestInfo(requestInfo)
-                .build();
+            if (!CollectionUtils.isEmpty(batch))
+                individualSearch.setClientReferenceId(batch);
 
-        List<Individual> individuals = restClient.fetchResult(url, searchRequest, IndividualBulkResponse.class).getIndividual();
-        downsync.setIndividuals(individuals);
+            IndividualSearchRequest searchRequest = IndividualSearchRequest.builder()
+                    .individual(individualSearch)
+                    .requestInfo(requestInfo)
+                    .build();
 
-        return individuals.stream().map(Individual::getClientReferenceId).collect(Collectors.toList());
+            List<Individual> individuals = restClient.fetchResult(url, searchRequest, IndividualBulkResponse.class).getIndividual();
+            return write(writer, DownsyncSection.INDIVIDUALS, individuals, Individual::getClientReferenceId);
+        });
     }
 
     /**
      *
      * @param downsyncRequest
+     * @param writer
      * @param householdIds
-     * @return
+     * @param executor
+     * @return individual ClientReferenceIds of the members
      */
-    private Set<String> searchMembers(DownsyncRequest downsyncRequest, Downsync downsync,
-                                      List<String> householdIds) {
-
-        Long lastChangedSince = downsyncRequest.getDownsyncCriteria().getLastSyncedTime();
-
-        List<String> memberids = getPrimaryIds(householdIds, "householdId","HOUSEHOLD_MEMBER",lastChangedSince);
-
-        if (CollectionUtils.isEmpty(memberids))
-            return Collections.emptySet();
-
-        StringBuilder memberUrl = new StringBuilder(configs.getHouseholdHost())
-                .append(configs.getHouseholdMemberSearchUrl());
-
-        appendUrlParams(memberUrl, downsyncRequest.getDownsyncCriteria(), 0, householdIds.size(), false);
+    private CompletableFuture<Set<String>> searchMembers(DownsyncRequest downsyncRequest, DownsyncWriter writer,
+                                                         List<String> householdIds, Executor executor) {
 
-        HouseholdMemberSearch memberSearch = HouseholdMemberSearch.builder()
-                .id(memberids)
-                .build();
+        return inBatches(householdIds, executor, householdIdBatch -> {
 
-        HouseholdMemberSearchRequest searchRequest = HouseholdMemberSearchRequest.builder()
-                .householdMemberSearch(memberSearch)
-                .requestInfo(downsyncRequest.getRequestInfo())
-                .build();
+            StringBuilder memberUrl = new StringBuilder(configs.getHouseholdHost())
+                    .append(configs.getHouseholdMemberSearchByHouseholdUrl());
+            appendBulkUrlParams(memberUrl, downsyncRequest.getDownsyncCriteria());
 
-        List<HouseholdMember> members = restClient.fetchResult(memberUrl, searchRequest, HouseholdMemberBulkResponse.class).getHouseholdMembers();
-        downsync.setHouseholdMembers(members);
+            ParentIdSearchRequest searchRequest = parentIdSearchRequest(downsyncRequest, householdIdBatch, null);
 
-        return members.stream().map(HouseholdMember::getIndividualClientReferenceId).collect(Collectors.toSet());
+            List<HouseholdMember> members = restClient.fetchResult(memberUrl, searchRequest, HouseholdMemberBulkResponse.class).getHouseholdMembers();
+            return write(writer, DownsyncSection.HOUSEHOLD_MEMBERS, members,
+                    HouseholdMember::getIndividualClientReferenceId);
+        }).thenApply(HashSet::new);
     }
 
     /**
      *
      * @param downsyncRequest
-     * @param downsync
+     * @param writer
      * @param beneficiaryClientRefIds
+     * @param executor
      * @return clientreferenceid of beneficiary object
      */
-    private List<String> searchBeneficiaries(DownsyncRequest downsyncRequest, Downsync downsync,
-                                             List<String> beneficiaryClientRefIds) {
+    private CompletableFuture<List<String>> searchBeneficiaries(DownsyncRequest downsyncRequest, DownsyncWriter writer,
+                                                                List<String> beneficiaryClientRefIds,
+                                                                Executor executor) {
 
         DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
-        RequestInfo requestInfo = downsyncRequest.getRequestInfo();
-        Long lastChangedSince =criteria.getLastSyncedTime();
-
-        List<String> beneficiaryIds = getPrimaryIds(
-                beneficiaryClientRefIds,
-                "beneficiaryclientreferenceid",
-                "PROJECT_BENEFICIARY",
-                lastChangedSince
-        );
-
-        if(CollectionUtils.isEmpty(beneficiaryIds))
-            return Collections.emptyList();
-
-        StringBuilder url = new StringBuilder(configs.getProjectHost())
-                .append(configs.getProjectBeneficiarySearchUrl());
-
-        url = appendUrlParams(url, criteria, 0, beneficiaryClientRefIds.size(),false);
 
-        ProjectBeneficiarySearch search = ProjectBeneficiarySearch.builder()
-                .id(beneficiaryIds)
-                .projectId(Collections.singletonList(downsyncRequest.getDownsyncCriteria().getProjectId()))
-                .build();
+        return inBatches(beneficiaryClientRefIds, executor, clientRefIdBatch -> {
 
-        BeneficiarySearchRequest searchRequest = BeneficiarySearchRequest.builder()
-                .projectBeneficiary(search)
-                .requestInfo(requestInfo)
-                .build();
+            StringBuilder url = new StringBuilder(configs.getProjectHost())
+                    .append(configs.getProjectBeneficiarySearchByBeneficiaryUrl());
+            appendBulkUrlParams(url, criteria);
 
-        List<ProjectBeneficiary> beneficiaries = restClient.fetchResult(url, searchRequest, BeneficiaryBulkResponse.class).getProjectBeneficiaries();
-        downsync.setProjectBeneficiaries(beneficiaries);
+            ParentIdSearchRequest searchRequest = parentIdSearchRequest(downsyncRequest, clientRefIdBatch,
+                    criteria.getProjectId());
 
-        return beneficiaries.stream().map(ProjectBeneficiary::getClientReferenceId).collect(Collectors.toList());
+            List<ProjectBeneficiary> beneficiaries = restClient.fetchResult(url, searchRequest, BeneficiaryBulkResponse.class).getProjectBeneficiaries();
+            return write(writer, DownsyncSection.PROJECT_BENEFICIARIES, beneficiaries,
+                    ProjectBeneficiary::getClientReferenceId);
+        });
     }
 
 
 
     /**
+     * Fetches tasks batch by batch and starts the side effect search of each batch as soon as its tasks arrive.
      *
      * @param downsyncRequest
-     * @param downsync
+     * @param writer
      * @param beneficiaryClientRefIds
-     * @param projectType
+     * @param executor
      * @return
      */
-    private List<String> searchTasks(DownsyncRequest downsyncRequest, Downsync downsync,
-                                     List<String> beneficiaryClientRefIds, LinkedHashMap<String, Object> projectType) {
+    private CompletableFuture<Void> searchTasksWithSideEffects(DownsyncRequest downsyncRequest, DownsyncWriter writer,
+                                                               List<String> beneficiaryClientRefIds,
+                                                               Executor executor) {
+
+        List<CompletableFuture<List<Void>>> sideEffectFutures = Collections.synchronizedList(new ArrayList<>());
+
+        return inBatches(beneficiaryClientRefIds, executor, beneficiaryClientRefIdBatch -> {
+            List<String> taskClientRefIds = searchTasks(downsyncRequest, writer, beneficiaryClientRefIdBatch);
+            if (!CollectionUtils.isEmpty(taskClientRefIds)) {
+                sideEffectFutures.add(CompletableFuture.supplyAsync(
+                        () -> timed("sideEffects", () -> searchSideEffect(downsyncRequest, writer, taskClientRefIds)),
+                        executor));
+            }
+            return taskClientRefIds;
+        }).thenCompose(taskClientRefIds -> flatten(sideEffectFutures).thenAccept(ignored -> { }));
+    }
 
-        DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
-        RequestInfo requestInfo = downsyncRequest.getRequestInfo();
-        List<String> taskIds = getPrimaryIds(beneficiaryClientRefIds, "projectBeneficiaryClientReferenceId", "PROJECT_TASK",
-                criteria.getLastSyncedTime());
+    /**
+     *
+     * @param downsyncRequest
+     * @param writer
+     * @param beneficiaryClientRefIds
+     * @return task ClientReferenceIds
+     */
+    private List<String> searchTasks(DownsyncRequest downsyncRequest, DownsyncWriter writer,
+                                     List<String> beneficiaryClientRefIds) {
 
-        if(CollectionUtils.isEmpty(taskIds))
-            return Collections.emptyList();
+        DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
 
         StringBuilder url = new StringBuilder(configs.getProjectHost())
-                 .append(configs.getProjectTaskSearchUrl());
-
-        url = appendUrlParams(url, criteria, 0, taskIds.size(), false);
-
-        TaskSearch search = TaskSearch.builder()
-                .id(taskIds)
-                .projectId(Collections.singletonList(downsyncRequest.getDownsyncCriteria().getProjectId()))
-                .build();
+                .append(configs.getProjectTaskSearchByBeneficiaryUrl());
+        appendBulkUrlParams(url, criteria);
 
-        TaskSearchRequest searchRequest = TaskSearchRequest.builder()
-                .task(search)
-                .requestInfo(requestInfo)
-                .build();
+        ParentIdSearchRequest searchRequest = parentIdSearchRequest(downsyncRequest, beneficiaryClientRefIds,
+                criteria.getProjectId());
 
         List<Task> tasks = restClient.fetchResult(url, searchRequest, TaskBulkResponse.class).getTasks();
-        downsync.setTasks(tasks);
-
-        return tasks.stream().map(Task::getClientReferenceId).collect(Collectors.toList());
+        return write(writer, DownsyncSection.TASKS, tasks, Task::getClientReferenceId);
     }
 
     /**
      *
      * @param downsyncRequest
-     * @param downsync
+     * @param writer
      * @param taskClientRefIds
+     * @return nothing, side effects are only written
      */
-    private void searchSideEffect(DownsyncRequest downsyncRequest, Downsync downsync,
-                                  List<String> taskClientRefIds) {
+    private List<Void> searchSideEffect(DownsyncRequest downsyncRequest, DownsyncWriter writer,
+                                        List<String> taskClientRefIds) {
 
         DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
-        RequestInfo requestInfo = downsyncRequest.getRequestInfo();
-
-        /* FIXME SHOULD BE REMOVED AND TASK SEARCH SHOULD BE enhanced with list of client-ref-beneficiary ids*/
-        List<String> SEIds = getPrimaryIds(taskClientRefIds, "taskClientReferenceId", "SIDE_EFFECT", criteria.getLastSyncedTime());
-
-        if(CollectionUtils.isEmpty(SEIds))
-            return;
-
-        SideEffectSearch search = SideEffectSearch.builder()
-                .id(SEIds)
-                .build();
-
-        SideEffectSearchRequest effectSearchRequest = SideEffectSearchRequest.builder()
-                .sideEffect(search)
-                .requestInfo(requestInfo)
-                .build();
 
-        List<SideEffect> effects = sideEffectService.search(
-            effectSearchRequest,
-            SEIds.size(),
-            0,
+        List<SideEffect> effects = sideEffectService.searchByTaskClientReferenceIds(
+            taskClientRefIds,
             criteria.getTenantId(),
             criteria.getLastSyncedTime(),
             criteria.getIncludeDeleted()
-        ).getResponse();
-
-        downsync.setSideEffects(effects);
+        );
+        writer.write(DownsyncSection.SIDE_EFFECTS, effects);
+        return Collections.emptyList();
     }
 
-    private void referralSearch(DownsyncRequest downsyncRequest, Downsync downsync,
-                                List<String> beneficiaryClientRefIds) {
+    private CompletableFuture<Void> referralSearch(DownsyncRequest downsyncRequest, DownsyncWriter writer,
+                                                   List<String> beneficiaryClientRefIds, Executor executor) {
 
         DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
         RequestInfo requestInfo = downsyncRequest.getRequestInfo();
-        Integer limit = beneficiaryClientRefIds.size();
 
-        ReferralSearch search = ReferralSearch.builder()
-                .build();
+        return inBatches(beneficiaryClientRefIds, executor, batch -> {
+
+            Integer limit = batch.size();
+
+            ReferralSearch search = ReferralSearch.builder()
+                    .build();
+
+            if (!CollectionUtils.isEmpty(batch)) {
+                search.setProjectBeneficiaryClientReferenceId(batch);
+                limit = null;
+            }
+
+            ReferralSearchRequest searchRequest = ReferralSearchRequest.builder()
+                    .referral(search)
+                    .requestInfo(requestInfo)
+                    .build();
+
+            List<Referral> referrals = referralService.search(
+                searchRequest,
+                limit,
+                0,
+                criteria.getTenantId(),
+                criteria.getLastSyncedTime(),
+                criteria.getIncludeDeleted()
+            ).getResponse();
+            writer.write(DownsyncSection.REFERRALS, referrals);
+            return Collections.<Void>emptyList();
+        }).thenAccept(ignored -> { });
+    }
 
-        if(!CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
-            search.setProjectBeneficiaryClientReferenceId(beneficiaryClientRefIds);
-            limit = null;
-        }
+    /**
+     * writes a page of records and keeps only the reference ids the following stages need
+     *
+     * @param writer
+     * @param section
+     * @param records
+     * @param idMapper
+     * @return
+     */
+    private static <T> List<String> write(DownsyncWriter writer, DownsyncSection section, List<T> records,
+                                          Function<T, String> idMapper) {
 
-        ReferralSearchRequest searchRequest = ReferralSearchRequest.builder()
-                .referral(search)
-                .requestInfo(requestInfo)
-                .build();
+        writer.write(section, records);
+        if (CollectionUtils.isEmpty(records))
+            return Collections.emptyList();
+        return records.stream().map(idMapper).collect(Collectors.toList());
+    }
 
-        List<Referral> referrals = referralService.search(
-            searchRequest,
-            limit,
-            0,
-            criteria.getTenantId(),
-            criteria.getLastSyncedTime(),
-            criteria.getIncludeDeleted()
-        ).getResponse();
+    /**
+     * Splits the ids into batches and fetches them on the executor with at most
+     * {@code referralmanagement.downsync.max.parallel.batches} batches in flight. Batch i starts only once
+     * batch i - maxParallelBatches has completed, so no thread ever blocks waiting for another batch.
+     * An empty id list is fetched as a single empty batch, which the stages treat as "no id filter".
+     *
+     * @param ids
+     * @param executor
+     * @param fetcher
+     * @return the results of all batches in batch order
+     */
+    private <R> CompletableFuture<List<R>> inBatches(List<String> ids, Executor executor,
+                                                     Function<List<String>, List<R>> fetcher) {
+
+        List<List<String>> batches = partition(ids);
+        int maxParallelBatches = Math.max(1, configs.getDownsyncMaxParallelBatches());
+        List<CompletableFuture<List<R>>> futures = new ArrayList<>(batches.size());
+
+        for (int i = 0; i < batches.size(); i++) {
+            List<String> batch = batches.get(i);
+            CompletableFuture<?> slot = i < maxParallelBatches
+                    ? CompletableFuture.completedFuture(null)
+                    : futures.get(i - maxParallelBatches);
+            futures.add(slot.thenApplyAsync(ignored -> fetcher.apply(batch), executor));
+        }
 
-        downsync.setReferrals(referrals);
+        return flatten(futures);
     }
 
+    private List<List<String>> partition(List<String> ids) {
 
-    /**
-     * common method to fetch Ids with list of relation Ids like id of member with householdIds
-     * @param idList
-     * @param idListFieldName
-     * @param tableName
-     * @param lastChangedSince
-     * @return
-     */
-    private List<String> getPrimaryIds(List<String> idList, String idListFieldName, String tableName, Long lastChangedSince) {
+        if (CollectionUtils.isEmpty(ids))
+            return Collections.singletonList(Collections.emptyList());
+
+        int batchSize = Math.max(1, configs.getDownsyncBatchSize());
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += batchSize)
+            batches.add(new ArrayList<>(ids.subList(i, Math.min(ids.size(), i + batchSize))));
+        return batches;
+    }
 
-        /**
-         * Adding lastShangedSince to id query to avoid load on API search for members
-         */
-        boolean isAndRequired = false;
-        Map<String, Object> paramMap = new HashMap<>();
-        StringBuilder memberIdsquery = new StringBuilder("SELECT id from %s WHERE ");
+    private static <R> CompletableFuture<List<R>> flatten(List<CompletableFuture<List<R>>> futures) {
 
+        List<CompletableFuture<List<R>>> snapshot = new ArrayList<>(futures);
+        return CompletableFuture.allOf(snapshot.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> snapshot.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .flatMap(List::stream)
+                        .collect(Collectors.toList()));
+    }
 
-        if (!CollectionUtils.isEmpty(idList)) {
+    private <T> T timed(String stage, Supplier<T> supplier) {
 
-            memberIdsquery.append("%s IN (:%s)");
-            paramMap.put(idListFieldName, idList);
-            isAndRequired = true;
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            recordStage(stage, System.nanoTime() - start);
         }
+    }
 
-        if (null != lastChangedSince) {
-            if(isAndRequired)
-                memberIdsquery.append(" AND ");
-            memberIdsquery.append(" lastModifiedTime >= (:lastChangedSince)");
-            paramMap.put("lastChangedSince", lastChangedSince);
-        }
+    private <T> CompletableFuture<T> timedAsync(String stage, Supplier<CompletableFuture<T>> supplier) {
+
+        long start = System.nanoTime();
+        return supplier.get().whenComplete((result, throwable) -> recordStage(stage, System.nanoTime() - start));
+    }
+
+    private void recordStage(String stage, long durationInNanos) {
+
+        Metrics.timer(STAGE_TIMER, "stage", stage).record(durationInNanos, TimeUnit.NANOSECONDS);
+        log.debug("downsync stage {} took {} ms", stage, TimeUnit.NANOSECONDS.toMillis(durationInNanos));
+    }
+
+    /**
+     * runs the tasks with the logging context and total count mode of the calling request so correlation ids reach
+     * downstream calls and local searches count the way the request asked
+     *
+     * @param executor
+     * @return
+     */
+    private static Executor withContext(Executor executor) {
+
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return TotalCountContext.propagating(command -> executor.execute(() -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (null != context)
+                MDC.setContextMap(context);
+            try {
+                command.run();
+            } finally {
+                if (null != previous)
+                    MDC.setContextMap(previous);
+                else
+                    MDC.clear();
+            }
+        }));
+    }
 
-        String finalQuery = String.format(memberIdsquery.toString(), tableName, idListFieldName, idListFieldName);
-        /* FIXME SHOULD BE REMOVED AND SEARCH SHOULD BE enhanced with list of household ids*/
-        List<String> memberids = jdbcTemplate.queryForList(finalQuery, paramMap, String.class);
-        return memberids;
+
+    /**
+     * builds the request of a bulk search by parent ids
+     *
+     * @param downsyncRequest
+     * @param parentIds
+     * @param projectId
+     * @return
+     */
+    private static ParentIdSearchRequest parentIdSearchRequest(DownsyncRequest downsyncRequest, List<String> parentIds,
+                                                               String projectId) {
+
+        return ParentIdSearchRequest.builder()
+                .parentIdSearch(ParentIdSearch.builder()
+                        .parentIds(parentIds)
+                        .projectId(projectId)
+                        .build())
+                .requestInfo(downsyncRequest.getRequestInfo())
+                .build();
     }
 
     /**
@@ -486,4 +604,34 @@ public class DownsyncService {
 
         return url;
     }
+
+    /**
+     * append url params of the bulk search by parent ids endpoints, which return every child in one page
+     *
+     * @param url
+     * @param criteria
+     * @return
+     */
+    private StringBuilder appendBulkUrlParams(StringBuilder url, DownsyncCriteria criteria) {
+
+        url.append("?tenantId=")
+                .append(criteria.getTenantId())
+                .append("&includeDeleted=")
+                .append(criteria.getIncludeDeleted());
+
+        if (null != criteria.getLastSyncedTime())
+            url.append("&lastChangedSince=").append(criteria.getLastSyncedTime());
+
+        return url;
+    }
+
+    /**
+     * searches driven by already resolved ids fetch everything in one page, so their total count is not needed
+     *
+     * @param url
+     * @return
+     */
+    private StringBuilder skipTotalCount(StringBuilder url) {
+        return url.append("&totalCountMode=").append(TotalCountMode.NONE);
+    }
 }
@@ -16,6 +16,7 @@ import org.egov.common.models.referralmanagement.hfreferral.HFReferralRequest;
 import org.egov.common.models.referralmanagement.hfreferral.HFReferralSearchRequest;
 import org.egov.common.service.IdGenService;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.referralmanagement.Constants;
 import org.egov.referralmanagement.config.ReferralManagementConfiguration;
@@ -30,6 +31,7 @@ import org.egov.referralmanagement.validator.hfreferral.HfrProjectIdValidator;
 import org.egov.referralmanagement.validator.hfreferral.HfrRowVersionValidator;
 import org.egov.referralmanagement.validator.hfreferral.HfrUniqueEntityValidator;
 import org.egov.tracer.model.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ReflectionUtils;
 
@@ -79,6 +81,9 @@ public class HFReferralService {
                     || validator.getClass().equals(HfrNonExistentEntityValidator.class)
                     || validator.getClass().equals(HfrRowVersionValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     /**
      * Constructor to initialize the service with required dependencies.
      *
@@ -254,7 +259,7 @@ public class HFReferralService {
         log.info("Validating request");
         Map<HFReferral, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 isApplicable, request,
-                Constants.SET_HF_REFERRALS);
+                Constants.SET_HF_REFERRALS, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             log.error("Validation error occurred. Error details: {}", errorDetailsMap.values());
             throw new CustomException(Constants.VALIDATION_ERROR, errorDetailsMap.values().toString());
@@ -18,6 +18,7 @@ import org.egov.common.models.referralmanagement.ReferralRequest;
 import org.egov.common.models.referralmanagement.ReferralSearchRequest;
 import org.egov.common.service.IdGenService;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.referralmanagement.Constants;
 import org.egov.referralmanagement.config.ReferralManagementConfiguration;
@@ -34,6 +35,7 @@ import org.egov.referralmanagement.validator.RmRowVersionValidator;
 import org.egov.referralmanagement.validator.RmSideEffectIdValidator;
 import org.egov.referralmanagement.validator.RmUniqueEntityValidator;
 import org.egov.tracer.model.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ReflectionUtils;
 
@@ -85,6 +87,9 @@ public class ReferralManagementService {
                 || validator.getClass().equals(RmRowVersionValidator.class);
 
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     public ReferralManagementService(IdGenService idGenService, ReferralRepository referralRepository, ReferralManagementConfiguration referralManagementConfiguration, ReferralManagementEnrichmentService referralManagementEnrichmentService, List<Validator<ReferralBulkRequest, Referral>> validators) {
         this.idGenService = idGenService;
         this.referralRepository = referralRepository;
@@ -235,7 +240,7 @@ public class ReferralManagementService {
         log.info("validating request");
         Map<Referral, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 isApplicable, request,
-                Constants.SET_REFERRALS);
+                Constants.SET_REFERRALS, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             log.error("validation error occurred. error details: {}", errorDetailsMap.values().toString());
             throw new CustomException(Constants.VALIDATION_ERROR, errorDetailsMap.values().toString());
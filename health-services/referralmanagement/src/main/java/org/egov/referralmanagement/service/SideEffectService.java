@@ -16,6 +16,7 @@ import org.egov.common.models.referralmanagement.sideeffect.SideEffectBulkReques
 import org.egov.common.models.referralmanagement.sideeffect.SideEffectRequest;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffectSearchRequest;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.referralmanagement.Constants;
 import org.egov.referralmanagement.config.ReferralManagementConfiguration;
@@ -77,6 +78,9 @@ public class SideEffectService {
                 || validator.getClass().equals(SeNonExistentEntityValidator.class)
                 || validator.getClass().equals(SeRowVersionValidator.class);
     
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     @Autowired
     public SideEffectService(
             SideEffectRepository sideEffectRepository,
@@ -217,6 +221,23 @@ public class SideEffectService {
                 limit, offset, tenantId, lastChangedSince, includeDeleted);
     }
 
+    /**
+     * searches all side effects of the given tasks in one pass
+     * @param taskClientReferenceIds
+     * @param tenantId
+     * @param lastChangedSince
+     * @param includeDeleted
+     * @return
+     */
+    public List<SideEffect> searchByTaskClientReferenceIds(List<String> taskClientReferenceIds,
+                                                           String tenantId,
+                                                           Long lastChangedSince,
+                                                           Boolean includeDeleted) {
+        log.info("received request to search side effects of {} tasks", taskClientReferenceIds.size());
+        return sideEffectRepository.findByTaskClientReferenceIds(taskClientReferenceIds, tenantId,
+                lastChangedSince, includeDeleted);
+    }
+
     /**
      * converting SideEffectRequest to SideEffectBulkRequest
      * @param sideEffectRequest
@@ -287,7 +308,7 @@ public class SideEffectService {
         log.info("validating request");
         Map<SideEffect, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
                 isApplicable, request,
-                Constants.SET_SIDE_EFFECTS);
+                Constants.SET_SIDE_EFFECTS, concurrentValidation);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
             log.error("validation error occurred. error details: {}", errorDetailsMap.values().toString());
             throw new CustomException(Constants.VALIDATION_ERROR, errorDetailsMap.values().toString());
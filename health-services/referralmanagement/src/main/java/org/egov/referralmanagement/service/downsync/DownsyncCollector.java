@@ -0,0 +1,72 @@
+package org.egov.referralmanagement.service.downsync;
+
+import org.egov.common.models.household.Household;
+import org.egov.common.models.household.HouseholdMember;
+import org.egov.common.models.individual.Individual;
+import org.egov.common.models.project.ProjectBeneficiary;
+import org.egov.common.models.project.Task;
+import org.egov.common.models.referralmanagement.Referral;
+import org.egov.common.models.referralmanagement.beneficiarydownsync.Downsync;
+import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncCriteria;
+import org.egov.common.models.referralmanagement.sideeffect.SideEffect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects every page into a single {@link Downsync}. A section stays null if its stage did not run.
+ */
+public class DownsyncCollector implements DownsyncWriter {
+
+    private final Downsync downsync = new Downsync();
+
+    public DownsyncCollector(DownsyncCriteria criteria) {
+        downsync.setDownsyncCriteria(criteria);
+    }
+
+    @Override
+    public synchronized void writeCriteria(DownsyncCriteria criteria) {
+        downsync.setDownsyncCriteria(criteria);
+    }
+
+    @Override
+    public synchronized void write(DownsyncSection section, List<?> records) {
+        switch (section) {
+            case HOUSEHOLDS:
+                downsync.setHouseholds(append(downsync.getHouseholds(), (List<Household>) records));
+                break;
+            case HOUSEHOLD_MEMBERS:
+                downsync.setHouseholdMembers(append(downsync.getHouseholdMembers(), (List<HouseholdMember>) records));
+                break;
+            case INDIVIDUALS:
+                downsync.setIndividuals(append(downsync.getIndividuals(), (List<Individual>) records));
+                break;
+            case PROJECT_BENEFICIARIES:
+                downsync.setProjectBeneficiaries(append(downsync.getProjectBeneficiaries(),
+                        (List<ProjectBeneficiary>) records));
+                break;
+            case TASKS:
+                downsync.setTasks(append(downsync.getTasks(), (List<Task>) records));
+                break;
+            case SIDE_EFFECTS:
+                downsync.setSideEffects(append(downsync.getSideEffects(), (List<SideEffect>) records));
+                break;
+            case REFERRALS:
+                downsync.setReferrals(append(downsync.getReferrals(), (List<Referral>) records));
+                break;
+            default:
+                break;
+        }
+    }
+
+    public synchronized Downsync getDownsync() {
+        return downsync;
+    }
+
+    private static <T> List<T> append(List<T> current, List<T> records) {
+        List<T> result = null == current ? new ArrayList<>() : current;
+        if (null != records)
+            result.addAll(records);
+        return result;
+    }
+}
@@ -0,0 +1,31 @@
+package org.egov.referralmanagement.service.downsync;
+
+/**
+ * The parts of a downsync, named as they appear in the downsync response.
+ */
+public enum DownsyncSection {
+
+    HOUSEHOLDS("Households"),
+
+    HOUSEHOLD_MEMBERS("HouseholdMembers"),
+
+    INDIVIDUALS("Individuals"),
+
+    PROJECT_BENEFICIARIES("ProjectBeneficiaries"),
+
+    TASKS("Tasks"),
+
+    SIDE_EFFECTS("SideEffects"),
+
+    REFERRALS("Referrals");
+
+    private final String name;
+
+    DownsyncSection(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,29 @@
+package org.egov.referralmanagement.service.downsync;
+
+import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncCriteria;
+
+import java.util.List;
+
+/**
+ * Receives the records of a downsync page by page as the pipeline fetches them.
+ * <p>
+ * Stages run concurrently, so implementations must accept calls from several threads and
+ * pages of different sections may arrive interleaved.
+ */
+public interface DownsyncWriter {
+
+    /**
+     * Called once the household search has filled in the total count and next cursor of the criteria.
+     *
+     * @param criteria The downsync criteria.
+     */
+    void writeCriteria(DownsyncCriteria criteria);
+
+    /**
+     * Called for every page fetched by a stage, including empty pages of stages that found nothing.
+     *
+     * @param section The section the records belong to.
+     * @param records The records of the page.
+     */
+    void write(DownsyncSection section, List<?> records);
+}
@@ -0,0 +1,83 @@
+package org.egov.referralmanagement.service.downsync;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncCriteria;
+import org.egov.tracer.model.CustomException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes a downsync as newline delimited JSON, one record per line, as soon as each page is fetched.
+ * <p>
+ * Every line is an object of the form {@code {"type": "<section>", "data": <record>}} where the type is
+ * the name the record has in the regular downsync response, e.g. {@code Households} or {@code Tasks},
+ * or one of {@code ResponseInfo}, {@code DownsyncCriteria} and {@code Error}. Lines of different sections
+ * may be interleaved. The stream is flushed after every page, so only the page being written is buffered.
+ */
+public class NdjsonDownsyncWriter implements DownsyncWriter, Closeable {
+
+    public static final String RESPONSE_INFO = "ResponseInfo";
+
+    public static final String DOWNSYNC_CRITERIA = "DownsyncCriteria";
+
+    public static final String ERROR = "Error";
+
+    private final JsonGenerator generator;
+
+    public NdjsonDownsyncWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeCriteria(DownsyncCriteria criteria) {
+        writeLine(DOWNSYNC_CRITERIA, criteria);
+    }
+
+    @Override
+    public synchronized void write(DownsyncSection section, List<?> records) {
+        if (null == records || records.isEmpty())
+            return;
+        try {
+            for (Object record : records)
+                writeRecord(section.getName(), record);
+            generator.flush();
+        } catch (IOException exception) {
+            throw new CustomException("DOWNSYNC_STREAM_ERROR", exception.getMessage());
+        }
+    }
+
+    /**
+     * Writes a line of a type that is not a downsync section.
+     *
+     * @param type The type of the line.
+     * @param data The data of the line.
+     */
+    public synchronized void writeLine(String type, Object data) {
+        try {
+            writeRecord(type, data);
+            generator.flush();
+        } catch (IOException exception) {
+            throw new CustomException("DOWNSYNC_STREAM_ERROR", exception.getMessage());
+        }
+    }
+
+    private void writeRecord(String type, Object data) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", type);
+        generator.writeFieldName("data");
+        generator.writeObject(data);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        generator.close();
+    }
+}
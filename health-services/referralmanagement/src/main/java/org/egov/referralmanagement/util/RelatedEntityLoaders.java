@@ -0,0 +1,116 @@
+package org.egov.referralmanagement.util;
+
+import java.util.List;
+
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.http.client.batch.BatchLoader;
+import org.egov.common.http.client.batch.RelatedEntityLoaderSupport;
+import org.egov.common.models.project.BeneficiaryBulkResponse;
+import org.egov.common.models.project.BeneficiarySearchRequest;
+import org.egov.common.models.project.ProjectBeneficiary;
+import org.egov.common.models.project.ProjectBeneficiarySearch;
+import org.egov.common.models.project.ProjectFacility;
+import org.egov.common.models.project.ProjectFacilityBulkResponse;
+import org.egov.common.models.project.ProjectFacilitySearch;
+import org.egov.common.models.project.ProjectFacilitySearchRequest;
+import org.egov.common.models.project.Task;
+import org.egov.common.models.project.TaskBulkResponse;
+import org.egov.common.models.project.TaskSearch;
+import org.egov.common.models.project.TaskSearchRequest;
+import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Request-scoped {@link BatchLoader}s for the project service entities the referral management validators look up.
+ * Lookups by id and by client reference id use separate loaders, an entity is found if either of them returns it.
+ */
+@Component
+public class RelatedEntityLoaders extends RelatedEntityLoaderSupport {
+
+    private static final String PROJECT_BENEFICIARIES = "project-beneficiaries";
+
+    private static final String PROJECT_BENEFICIARIES_BY_CLIENT_REFERENCE_ID = "project-beneficiaries-by-client-reference-id";
+
+    private static final String TASKS = "tasks";
+
+    private static final String TASKS_BY_CLIENT_REFERENCE_ID = "tasks-by-client-reference-id";
+
+    private static final String PROJECT_FACILITIES = "project-facilities";
+
+    private final ServiceRequestClient serviceRequestClient;
+
+    private final ReferralManagementConfiguration referralManagementConfiguration;
+
+    @Autowired
+    public RelatedEntityLoaders(ServiceRequestClient serviceRequestClient,
+                                ReferralManagementConfiguration referralManagementConfiguration) {
+        this.serviceRequestClient = serviceRequestClient;
+        this.referralManagementConfiguration = referralManagementConfiguration;
+    }
+
+    public BatchLoader<ProjectBeneficiary> projectBeneficiaries(RequestInfo requestInfo) {
+        return loader(PROJECT_BENEFICIARIES, (tenantId, ids) -> searchProjectBeneficiaries(tenantId,
+                ProjectBeneficiarySearch.builder().id(ids).build(), ids.size(), requestInfo),
+                ProjectBeneficiary::getId);
+    }
+
+    public BatchLoader<ProjectBeneficiary> projectBeneficiariesByClientReferenceId(RequestInfo requestInfo) {
+        return loader(PROJECT_BENEFICIARIES_BY_CLIENT_REFERENCE_ID, (tenantId, ids) -> searchProjectBeneficiaries(
+                tenantId, ProjectBeneficiarySearch.builder().clientReferenceId(ids).build(), ids.size(), requestInfo),
+                ProjectBeneficiary::getClientReferenceId);
+    }
+
+    public BatchLoader<Task> tasks(RequestInfo requestInfo) {
+        return loader(TASKS, (tenantId, ids) -> searchTasks(tenantId, TaskSearch.builder().id(ids).build(),
+                ids.size(), requestInfo), Task::getId);
+    }
+
+    public BatchLoader<Task> tasksByClientReferenceId(RequestInfo requestInfo) {
+        return loader(TASKS_BY_CLIENT_REFERENCE_ID, (tenantId, ids) -> searchTasks(tenantId,
+                TaskSearch.builder().clientReferenceId(ids).build(), ids.size(), requestInfo),
+                Task::getClientReferenceId);
+    }
+
+    public BatchLoader<ProjectFacility> projectFacilities(RequestInfo requestInfo) {
+        return loader(PROJECT_FACILITIES, (tenantId, ids) -> searchProjectFacilities(tenantId, ids, requestInfo),
+                ProjectFacility::getId);
+    }
+
+    private List<ProjectBeneficiary> searchProjectBeneficiaries(String tenantId, ProjectBeneficiarySearch search,
+                                                                int limit, RequestInfo requestInfo) {
+        return serviceRequestClient.fetchResult(
+                searchUrl(referralManagementConfiguration.getProjectHost(),
+                        referralManagementConfiguration.getProjectBeneficiarySearchUrl(), limit, tenantId),
+                BeneficiarySearchRequest.builder().requestInfo(requestInfo).projectBeneficiary(search).build(),
+                BeneficiaryBulkResponse.class
+        ).getProjectBeneficiaries();
+    }
+
+    private List<Task> searchTasks(String tenantId, TaskSearch search, int limit, RequestInfo requestInfo) {
+        return serviceRequestClient.fetchResult(
+                searchUrl(referralManagementConfiguration.getProjectHost(),
+                        referralManagementConfiguration.getProjectTaskSearchUrl(), limit, tenantId),
+                TaskSearchRequest.builder().requestInfo(requestInfo).task(search).build(),
+                TaskBulkResponse.class
+        ).getTasks();
+    }
+
+    private List<ProjectFacility> searchProjectFacilities(String tenantId, List<String> ids, RequestInfo requestInfo) {
+        return serviceRequestClient.fetchResult(
+                searchUrl(referralManagementConfiguration.getProjectHost(),
+                        referralManagementConfiguration.getProjectFacilitySearchUrl(), ids.size(), tenantId),
+                ProjectFacilitySearchRequest.builder()
+                        .requestInfo(requestInfo)
+                        .projectFacility(ProjectFacilitySearch.builder().id(ids).build())
+                        .build(),
+                ProjectFacilityBulkResponse.class
+        ).getProjectFacilities();
+    }
+
+    @Override
+    protected int getMaxBatchSize() {
+        return referralManagementConfiguration.getSearchApiLimit();
+    }
+}
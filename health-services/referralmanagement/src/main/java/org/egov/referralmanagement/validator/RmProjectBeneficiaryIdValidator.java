@@ -8,16 +8,13 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
-import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.http.client.batch.BatchLoader;
 import org.egov.common.models.Error;
-import org.egov.common.models.project.BeneficiaryBulkResponse;
-import org.egov.common.models.project.BeneficiarySearchRequest;
 import org.egov.common.models.project.ProjectBeneficiary;
-import org.egov.common.models.project.ProjectBeneficiarySearch;
 import org.egov.common.models.referralmanagement.Referral;
 import org.egov.common.models.referralmanagement.ReferralBulkRequest;
 import org.egov.common.validator.Validator;
-import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.util.RelatedEntityLoaders;
 import org.egov.tracer.model.CustomException;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -34,12 +31,24 @@ import static org.egov.common.utils.ValidatorUtils.getErrorForNonExistentEntity;
 @Order(value = 3)
 @Slf4j
 public class RmProjectBeneficiaryIdValidator implements Validator<ReferralBulkRequest, Referral> {
-    private final ServiceRequestClient serviceRequestClient;
-    private final ReferralManagementConfiguration referralManagementConfiguration;
+    private final RelatedEntityLoaders relatedEntityLoaders;
 
-    public RmProjectBeneficiaryIdValidator(ServiceRequestClient serviceRequestClient, ReferralManagementConfiguration referralManagementConfiguration) {
-        this.serviceRequestClient = serviceRequestClient;
-        this.referralManagementConfiguration = referralManagementConfiguration;
+    public RmProjectBeneficiaryIdValidator(RelatedEntityLoaders relatedEntityLoaders) {
+        this.relatedEntityLoaders = relatedEntityLoaders;
+    }
+
+    @Override
+    public void prime(ReferralBulkRequest request) {
+        BatchLoader<ProjectBeneficiary> projectBeneficiaryLoader = relatedEntityLoaders
+                .projectBeneficiaries(request.getRequestInfo());
+        BatchLoader<ProjectBeneficiary> projectBeneficiaryByClientReferenceIdLoader = relatedEntityLoaders
+                .projectBeneficiariesByClientReferenceId(request.getRequestInfo());
+        request.getReferrals().stream().collect(Collectors.groupingBy(Referral::getTenantId))
+                .forEach((tenantId, referralList) -> {
+                    projectBeneficiaryLoader.register(tenantId, getProjectBeneficiaryIds(referralList));
+                    projectBeneficiaryByClientReferenceIdLoader.register(tenantId,
+                            getProjectBeneficiaryClientReferenceIds(referralList));
+                });
     }
 
     @Override
@@ -54,37 +63,30 @@ public class RmProjectBeneficiaryIdValidator implements Validator<ReferralBulkRe
             List<ProjectBeneficiary> existingProjectBeneficiaries = getExistingProjectBeneficiaries(tenantId, referralList, request);
             /** Validate project beneficiaries and populate error map if invalid entities are found
              */
-            validateAndPopulateErrors(existingProjectBeneficiaries, entities, errorDetailsMap);
+            validateAndPopulateErrors(existingProjectBeneficiaries, referralList, errorDetailsMap);
         });
         return errorDetailsMap;
     }
-    private void addIgnoreNull(List<String> list, String item) {
-        if(Objects.nonNull(item)) list.add(item);
+
+    private List<String> getProjectBeneficiaryIds(List<Referral> referrals) {
+        return referrals.stream().map(Referral::getProjectBeneficiaryId).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> getProjectBeneficiaryClientReferenceIds(List<Referral> referrals) {
+        return referrals.stream().map(Referral::getProjectBeneficiaryClientReferenceId).filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     private List<ProjectBeneficiary> getExistingProjectBeneficiaries(String tenantId, List<Referral> referrals, ReferralBulkRequest request) {
-        List<ProjectBeneficiary> existingProjectBeneficiaries = null;
-        final List<String> projectBeneficiaryIdList = new ArrayList<>();
-        final List<String> projectBeneficiaryClientReferenceIdList = new ArrayList<>();
-        referrals.forEach(referral -> {
-            addIgnoreNull(projectBeneficiaryIdList, referral.getProjectBeneficiaryId());
-            addIgnoreNull(projectBeneficiaryClientReferenceIdList, referral.getProjectBeneficiaryClientReferenceId());
-        });
-        ProjectBeneficiarySearch projectBeneficiarySearch = ProjectBeneficiarySearch.builder()
-                .id(projectBeneficiaryIdList.isEmpty() ? null : projectBeneficiaryIdList)
-                .clientReferenceId(projectBeneficiaryClientReferenceIdList.isEmpty() ? null : projectBeneficiaryClientReferenceIdList)
-                .build();
+        List<ProjectBeneficiary> existingProjectBeneficiaries = new ArrayList<>();
         try {
-            // using project beneficiary search and fetching the valid ids.
-            BeneficiaryBulkResponse beneficiaryBulkResponse = serviceRequestClient.fetchResult(
-                    new StringBuilder(referralManagementConfiguration.getProjectHost()
-                            + referralManagementConfiguration.getProjectBeneficiarySearchUrl()
-                            +"?limit=" + referrals.size()
-                            + "&offset=0&tenantId=" + tenantId),
-                    BeneficiarySearchRequest.builder().requestInfo(request.getRequestInfo()).projectBeneficiary(projectBeneficiarySearch).build(),
-                    BeneficiaryBulkResponse.class
-            );
-            existingProjectBeneficiaries = beneficiaryBulkResponse.getProjectBeneficiaries();
+            // using the request scoped project beneficiary loaders and fetching the valid ids.
+            existingProjectBeneficiaries.addAll(relatedEntityLoaders.projectBeneficiaries(request.getRequestInfo())
+                    .loadMany(tenantId, getProjectBeneficiaryIds(referrals)).values());
+            existingProjectBeneficiaries.addAll(relatedEntityLoaders
+                    .projectBeneficiariesByClientReferenceId(request.getRequestInfo())
+                    .loadMany(tenantId, getProjectBeneficiaryClientReferenceIds(referrals)).values());
         } catch (Exception e) {
             throw new CustomException("Project Beneficiaries failed to fetch", "Exception : "+e.getMessage());
         }
@@ -8,16 +8,13 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
-import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.http.client.batch.BatchLoader;
 import org.egov.common.models.Error;
 import org.egov.common.models.project.ProjectFacility;
-import org.egov.common.models.project.ProjectFacilityBulkResponse;
-import org.egov.common.models.project.ProjectFacilitySearch;
-import org.egov.common.models.project.ProjectFacilitySearchRequest;
 import org.egov.common.models.referralmanagement.hfreferral.HFReferral;
 import org.egov.common.models.referralmanagement.hfreferral.HFReferralBulkRequest;
 import org.egov.common.validator.Validator;
-import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.util.RelatedEntityLoaders;
 import org.egov.tracer.model.CustomException;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -36,12 +33,23 @@ import static org.egov.common.utils.ValidatorUtils.getErrorForNonExistentEntity;
 @Slf4j
 public class HfrProjectFacilityIdValidator implements Validator<HFReferralBulkRequest, HFReferral> {
 
-    private final ServiceRequestClient serviceRequestClient;
-    private final ReferralManagementConfiguration referralManagementConfiguration;
+    private final RelatedEntityLoaders relatedEntityLoaders;
 
-    public HfrProjectFacilityIdValidator(ServiceRequestClient serviceRequestClient, ReferralManagementConfiguration referralManagementConfiguration) {
-        this.serviceRequestClient = serviceRequestClient;
-        this.referralManagementConfiguration = referralManagementConfiguration;
+    public HfrProjectFacilityIdValidator(RelatedEntityLoaders relatedEntityLoaders) {
+        this.relatedEntityLoaders = relatedEntityLoaders;
+    }
+
+    /**
+     * Queues the project facility IDs of the request so that they are fetched in one batch per tenant.
+     *
+     * @param request The HFReferralBulkRequest containing a list of HFReferral entities
+     */
+    @Override
+    public void prime(HFReferralBulkRequest request) {
+        BatchLoader<ProjectFacility> projectFacilityLoader = relatedEntityLoaders.projectFacilities(request.getRequestInfo());
+        request.getHfReferrals().stream().collect(Collectors.groupingBy(HFReferral::getTenantId))
+                .forEach((tenantId, hfReferralList) -> projectFacilityLoader.register(tenantId,
+                        getProjectFacilityIds(hfReferralList)));
     }
 
     /**
@@ -62,46 +70,28 @@ public class HfrProjectFacilityIdValidator implements Validator<HFReferralBulkRe
             // Get all the existing project facilities in the HFReferral list from Project Service
             List<ProjectFacility> existingProjectFacilities = getExistingProjects(tenantId, hfReferralList, request);
             // Validate project facilities and populate error map if invalid entities are found
-            validateAndPopulateErrors(existingProjectFacilities, entities, errorDetailsMap);
+            validateAndPopulateErrors(existingProjectFacilities, hfReferralList, errorDetailsMap);
         });
 
         return errorDetailsMap;
     }
 
-    // Helper method to add an item to a list if it is not null
-    private void addIgnoreNull(List<String> list, String item) {
-        if(Objects.nonNull(item)) list.add(item);
+    // Collects the non null project facility IDs of the HFReferrals
+    private List<String> getProjectFacilityIds(List<HFReferral> hfReferrals) {
+        return hfReferrals.stream().map(HFReferral::getProjectFacilityId).filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     // Fetches existing project facilities from Project Service based on their IDs
     private List<ProjectFacility> getExistingProjects(String tenantId, List<HFReferral> hfReferrals, HFReferralBulkRequest request) {
         List<ProjectFacility> existingProjectFacilities = new ArrayList<>();
-        final List<String> projectFacilityIdList = new ArrayList<>();
-
-        // Collecting project facility IDs from HFReferrals
-        hfReferrals.forEach(hfReferral -> {
-            addIgnoreNull(projectFacilityIdList, hfReferral.getProjectFacilityId());
-        });
+        final List<String> projectFacilityIdList = getProjectFacilityIds(hfReferrals);
 
         if(!projectFacilityIdList.isEmpty()) {
-            ProjectFacilitySearch projectFacilitySearch = ProjectFacilitySearch.builder()
-                    .id(!projectFacilityIdList.isEmpty()? projectFacilityIdList : null)
-                    .build();
-
             try {
-                // Using project facility search and fetching the valid IDs.
-                ProjectFacilityBulkResponse projectFacilityBulkResponse = serviceRequestClient.fetchResult(
-                        new StringBuilder(referralManagementConfiguration.getProjectHost()
-                                + referralManagementConfiguration.getProjectFacilitySearchUrl()
-                                +"?limit=" + hfReferrals.size()
-                                + "&offset=0&tenantId=" + tenantId),
-                        ProjectFacilitySearchRequest.builder()
-                                .requestInfo(request.getRequestInfo())
-                                .projectFacility(projectFacilitySearch)
-                                .build(),
-                        ProjectFacilityBulkResponse.class
-                );
-                existingProjectFacilities = projectFacilityBulkResponse.getProjectFacilities();
+                // Using the request scoped project facility loader and fetching the valid IDs.
+                existingProjectFacilities.addAll(relatedEntityLoaders.projectFacilities(request.getRequestInfo())
+                        .loadMany(tenantId, projectFacilityIdList).values());
             } catch (Exception e) {
                 throw new CustomException("Project Facilities failed to fetch", "Exception : "+e.getMessage());
             }
@@ -1,23 +1,20 @@
 package org.egov.referralmanagement.validator.sideeffect;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
-import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.http.client.batch.BatchLoader;
 import org.egov.common.models.Error;
-import org.egov.common.models.project.BeneficiaryBulkResponse;
-import org.egov.common.models.project.BeneficiarySearchRequest;
 import org.egov.common.models.project.ProjectBeneficiary;
-import org.egov.common.models.project.ProjectBeneficiarySearch;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffect;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffectBulkRequest;
 import org.egov.common.validator.Validator;
-import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.util.RelatedEntityLoaders;
 import org.egov.tracer.model.CustomException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
@@ -34,13 +31,30 @@ import static org.egov.common.utils.ValidatorUtils.getErrorForNonExistentEntity;
 @Order(value = 3)
 @Slf4j
 public class SeProjectBeneficiaryIdValidator implements Validator<SideEffectBulkRequest, SideEffect> {
-    private final ServiceRequestClient serviceRequestClient;
-    private final ReferralManagementConfiguration referralManagementConfiguration;
+    private final RelatedEntityLoaders relatedEntityLoaders;
 
     @Autowired
-    public SeProjectBeneficiaryIdValidator(ServiceRequestClient serviceRequestClient, ReferralManagementConfiguration referralManagementConfiguration) {
-        this.serviceRequestClient = serviceRequestClient;
-        this.referralManagementConfiguration = referralManagementConfiguration;
+    public SeProjectBeneficiaryIdValidator(RelatedEntityLoaders relatedEntityLoaders) {
+        this.relatedEntityLoaders = relatedEntityLoaders;
+    }
+
+    /**
+     * queues the project beneficiary ids and client reference ids of the request
+     *
+     * @param request
+     */
+    @Override
+    public void prime(SideEffectBulkRequest request) {
+        BatchLoader<ProjectBeneficiary> projectBeneficiaryLoader = relatedEntityLoaders
+                .projectBeneficiaries(request.getRequestInfo());
+        BatchLoader<ProjectBeneficiary> projectBeneficiaryByClientReferenceIdLoader = relatedEntityLoaders
+                .projectBeneficiariesByClientReferenceId(request.getRequestInfo());
+        request.getSideEffects().stream().collect(Collectors.groupingBy(SideEffect::getTenantId))
+                .forEach((tenantId, sideEffectList) -> {
+                    projectBeneficiaryLoader.register(tenantId, getProjectBeneficiaryIds(sideEffectList));
+                    projectBeneficiaryByClientReferenceIdLoader.register(tenantId,
+                            getProjectBeneficiaryClientReferenceIds(sideEffectList));
+                });
     }
 
     /**
@@ -54,44 +68,24 @@ public class SeProjectBeneficiaryIdValidator implements Validator<SideEffectBulk
         Map<SideEffect, List<Error>> errorDetailsMap = new HashMap<>();
         List<SideEffect> entities = request.getSideEffects();
         Map<String, List<SideEffect>> tenantIdSideEffectMap = entities.stream().collect(Collectors.groupingBy(SideEffect::getTenantId));
-        tenantIdSideEffectMap.forEach((tenantId, sideEffects) -> {
-            List<SideEffect> sideEffectList = tenantIdSideEffectMap.get(tenantId);
+        tenantIdSideEffectMap.forEach((tenantId, sideEffectList) -> {
             if (!sideEffectList.isEmpty()) {
-                List<ProjectBeneficiary> existingProjectBeneficiaries = null;
-                final List<String> projectBeneficiaryIdList = new ArrayList<>();
-                final List<String> projectBeneficiaryClientReferenceIdList = new ArrayList<>();
-                sideEffectList.forEach(sideEffect -> {
-                    addIgnoreNull(projectBeneficiaryIdList, sideEffect.getProjectBeneficiaryId());
-                    addIgnoreNull(projectBeneficiaryClientReferenceIdList, sideEffect.getProjectBeneficiaryClientReferenceId());
-                });
-                ProjectBeneficiarySearch projectBeneficiarySearch = ProjectBeneficiarySearch.builder()
-                        .id(projectBeneficiaryIdList.isEmpty() ? null : projectBeneficiaryIdList)
-                        .clientReferenceId(projectBeneficiaryClientReferenceIdList.isEmpty() ? null : projectBeneficiaryClientReferenceIdList)
-                        .build();
+                final Set<String> existingProjectBeneficiaryIds;
+                final Set<String> existingProjectBeneficiaryClientReferenceIds;
                 try {
-                    BeneficiaryBulkResponse beneficiaryBulkResponse = serviceRequestClient.fetchResult(
-                            new StringBuilder(referralManagementConfiguration.getProjectHost()
-                                    + referralManagementConfiguration.getProjectBeneficiarySearchUrl()
-                                    +"?limit=" + entities.size()
-                                    + "&offset=0&tenantId=" + tenantId),
-                            BeneficiarySearchRequest.builder().requestInfo(request.getRequestInfo()).projectBeneficiary(projectBeneficiarySearch).build(),
-                            BeneficiaryBulkResponse.class
-                    );
-                    existingProjectBeneficiaries = beneficiaryBulkResponse.getProjectBeneficiaries();
+                    existingProjectBeneficiaryIds = relatedEntityLoaders.projectBeneficiaries(request.getRequestInfo())
+                            .loadMany(tenantId, getProjectBeneficiaryIds(sideEffectList)).keySet();
+                    existingProjectBeneficiaryClientReferenceIds = relatedEntityLoaders
+                            .projectBeneficiariesByClientReferenceId(request.getRequestInfo())
+                            .loadMany(tenantId, getProjectBeneficiaryClientReferenceIds(sideEffectList)).keySet();
                 } catch (Exception e) {
                     throw new CustomException("Project Beneficiaries failed to fetch", "Exception : "+e.getMessage());
                 }
-                final List<String> existingProjectBeneficiaryIds = new ArrayList<>();
-                final List<String> existingProjectBeneficiaryClientReferenceIds = new ArrayList<>();
-                existingProjectBeneficiaries.forEach(projectBeneficiary -> {
-                    existingProjectBeneficiaryIds.add(projectBeneficiary.getId());
-                    existingProjectBeneficiaryClientReferenceIds.add(projectBeneficiary.getClientReferenceId());
-                });
                 /**
                  * for all the entities that do not have any error in previous validations
                  * checking whether the project beneficiary client reference id is not null and exist in the db
                  */
-                List<SideEffect> invalidEntities = entities.stream().filter(notHavingErrors()).filter(entity ->
+                List<SideEffect> invalidEntities = sideEffectList.stream().filter(notHavingErrors()).filter(entity ->
                         ( Objects.nonNull(entity.getProjectBeneficiaryClientReferenceId())
                                 && !existingProjectBeneficiaryClientReferenceIds.contains(entity.getProjectBeneficiaryClientReferenceId()) )
                         || ( Objects.nonNull(entity.getProjectBeneficiaryId())
@@ -105,7 +99,14 @@ public class SeProjectBeneficiaryIdValidator implements Validator<SideEffectBulk
         });
         return errorDetailsMap;
     }
-    private void addIgnoreNull(List<String> list, String item) {
-        if(Objects.nonNull(item)) list.add(item);
+
+    private List<String> getProjectBeneficiaryIds(List<SideEffect> sideEffectList) {
+        return sideEffectList.stream().map(SideEffect::getProjectBeneficiaryId).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> getProjectBeneficiaryClientReferenceIds(List<SideEffect> sideEffectList) {
+        return sideEffectList.stream().map(SideEffect::getProjectBeneficiaryClientReferenceId).filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 }
@@ -9,18 +9,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.http.client.batch.BatchLoader;
 import org.egov.common.models.Error;
 import org.egov.common.models.project.Task;
-import org.egov.common.models.project.TaskBulkResponse;
-import org.egov.common.models.project.TaskSearch;
-import org.egov.common.models.project.TaskSearchRequest;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffect;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffectBulkRequest;
 import org.egov.common.validator.Validator;
-import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.util.RelatedEntityLoaders;
 import org.egov.tracer.model.CustomException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
@@ -35,15 +33,29 @@ import lombok.extern.slf4j.Slf4j;
 @Order(value = 3)
 @Slf4j
 public class SeProjectTaskIdValidator implements Validator<SideEffectBulkRequest, SideEffect> {
-    private final ServiceRequestClient serviceRequestClient;
-    private final ReferralManagementConfiguration referralManagementConfiguration;
+    private final RelatedEntityLoaders relatedEntityLoaders;
 
     @Autowired
-    public SeProjectTaskIdValidator(ServiceRequestClient serviceRequestClient, ReferralManagementConfiguration referralManagementConfiguration) {
-        this.serviceRequestClient = serviceRequestClient;
-        this.referralManagementConfiguration = referralManagementConfiguration;
+    public SeProjectTaskIdValidator(RelatedEntityLoaders relatedEntityLoaders) {
+        this.relatedEntityLoaders = relatedEntityLoaders;
     }
 
+    /**
+     * queues the project task ids and client reference ids of the request so that
+     * they are fetched together with those of the other validators
+     *
+     * @param request of SideEffectBulkRequest
+     */
+    @Override
+    public void prime(SideEffectBulkRequest request) {
+        BatchLoader<Task> taskLoader = relatedEntityLoaders.tasks(request.getRequestInfo());
+        BatchLoader<Task> taskByClientReferenceIdLoader = relatedEntityLoaders.tasksByClientReferenceId(request.getRequestInfo());
+        request.getSideEffects().stream().collect(Collectors.groupingBy(SideEffect::getTenantId))
+                .forEach((tenantId, sideEffectList) -> {
+                    taskLoader.register(tenantId, getTaskIds(sideEffectList));
+                    taskByClientReferenceIdLoader.register(tenantId, getTaskClientReferenceIds(sideEffectList));
+                });
+    }
 
     /**
      * validating whether the project task id and client reference id exist or not in db
@@ -62,32 +74,17 @@ public class SeProjectTaskIdValidator implements Validator<SideEffectBulkRequest
         tenantIds.forEach(tenantId -> {
             List<SideEffect> sideEffectList = tenantIdSideEffectMap.get(tenantId);
             if (!sideEffectList.isEmpty()) {
-                List<Task> existingTasks = null;
-                final List<String> taskIdList = new ArrayList<>();
-                final List<String> taskClientReferenceIdList = new ArrayList<>();
-                sideEffectList.forEach(sideEffect -> {
-                    addIgnoreNull(taskIdList, sideEffect.getTaskId());
-                    addIgnoreNull(taskClientReferenceIdList, sideEffect.getTaskClientReferenceId());
-                });
-                TaskSearch taskSearch = TaskSearch.builder()
-                        .id(taskIdList.isEmpty() ? null : taskIdList)
-                        .clientReferenceId(taskClientReferenceIdList.isEmpty() ? null : taskClientReferenceIdList).build();
+                final Set<String> existingProjectTaskIds;
+                final Set<String> existingProjectReferenceTaskIds;
                 try {
-                    TaskBulkResponse taskBulkResponse = serviceRequestClient.fetchResult(
-                            new StringBuilder(referralManagementConfiguration.getProjectHost()
-                                    + referralManagementConfiguration.getProjectTaskSearchUrl()
-                                    +"?limit=" + entities.size()
-                                    + "&offset=0&tenantId=" + tenantId),
-                            TaskSearchRequest.builder().requestInfo(request.getRequestInfo()).task(taskSearch).build(),
-                            TaskBulkResponse.class
-                    );
-                    existingTasks = taskBulkResponse.getTasks();
+                    existingProjectTaskIds = relatedEntityLoaders.tasks(request.getRequestInfo())
+                            .loadMany(tenantId, getTaskIds(sideEffectList)).keySet();
+                    existingProjectReferenceTaskIds = relatedEntityLoaders.tasksByClientReferenceId(request.getRequestInfo())
+                            .loadMany(tenantId, getTaskClientReferenceIds(sideEffectList)).keySet();
                 } catch (Exception e) {
                     throw new CustomException("Project Task failed to fetch", "Exception : "+e.getMessage());
                 }
-                final List<String> existingProjectTaskIds = existingTasks.stream().map(Task::getId).collect(Collectors.toList());
-                final List<String> existingProjectReferenceTaskIds = existingTasks.stream().map(Task::getClientReferenceId).collect(Collectors.toList());
-                List<SideEffect> invalidEntities = entities.stream().filter(notHavingErrors()).filter(entity ->
+                List<SideEffect> invalidEntities = sideEffectList.stream().filter(notHavingErrors()).filter(entity ->
                         !existingProjectReferenceTaskIds.contains(entity.getTaskClientReferenceId())
                             && !existingProjectTaskIds.contains(entity.getTaskId())
                     ).collect(Collectors.toList());
@@ -102,7 +99,12 @@ public class SeProjectTaskIdValidator implements Validator<SideEffectBulkRequest
         return errorDetailsMap;
     }
 
-    private void addIgnoreNull(List<String> list, String item) {
-        if(Objects.nonNull(item)) list.add(item);
+    private List<String> getTaskIds(List<SideEffect> sideEffectList) {
+        return sideEffectList.stream().map(SideEffect::getTaskId).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    private List<String> getTaskClientReferenceIds(List<SideEffect> sideEffectList) {
+        return sideEffectList.stream().map(SideEffect::getTaskClientReferenceId).filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 }
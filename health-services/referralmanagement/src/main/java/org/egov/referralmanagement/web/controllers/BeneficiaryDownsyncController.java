@@ -4,26 +4,41 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.annotations.ApiParam;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.response.ResponseInfo;
 import org.egov.common.models.referralmanagement.beneficiarydownsync.Downsync;
 import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncRequest;
 import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncResponse;
 import org.egov.common.utils.ResponseInfoFactory;
 import org.egov.referralmanagement.service.DownsyncService;
+import org.egov.referralmanagement.service.downsync.NdjsonDownsyncWriter;
+import org.egov.tracer.model.CustomException;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @Controller
 @RequestMapping("/beneficiary-downsync")
 @Validated
 public class BeneficiaryDownsyncController {
+
+	private static final String GZIP = "gzip";
 	
 	private DownsyncService downsyncService;
 
@@ -51,4 +66,44 @@ public class BeneficiaryDownsyncController {
         
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
+
+	/**
+	 * Streams the downsync as newline delimited JSON while it is being fetched instead of building it in memory.
+	 * The response is gzip encoded when the client accepts gzip.
+	 */
+    @PostMapping(value = "/v1/_stream")
+    public ResponseEntity<StreamingResponseBody> streamBeneficaryData (@ApiParam(value = "Capture details of Side Effect", required = true) @Valid @RequestBody DownsyncRequest request,
+																	   @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		log.info("UserUUID: {}", request.getRequestInfo().getUserInfo().getUuid());
+		log.info("Downsync stream RequestBody: {}", mapper.valueToTree(request).toString());
+		boolean gzip = null != acceptEncoding && acceptEncoding.contains(GZIP);
+		ResponseInfo responseInfo = ResponseInfoFactory.createResponseInfo(request.getRequestInfo(), true);
+		Map<String, String> context = MDC.getCopyOfContextMap();
+
+		StreamingResponseBody body = outputStream -> {
+			if (null != context)
+				MDC.setContextMap(context);
+			OutputStream out = gzip ? new GZIPOutputStream(outputStream, true) : outputStream;
+			try (NdjsonDownsyncWriter writer = new NdjsonDownsyncWriter(out, mapper)) {
+				writer.writeLine(NdjsonDownsyncWriter.RESPONSE_INFO, responseInfo);
+				try {
+					downsyncService.writeDownsyncData(request, writer);
+				} catch (CustomException exception) {
+					log.error("error while streaming downsync", exception);
+					writer.writeLine(NdjsonDownsyncWriter.ERROR, Collections.singletonMap(exception.getCode(), exception.getMessage()));
+				} catch (RuntimeException exception) {
+					log.error("error while streaming downsync", exception);
+					writer.writeLine(NdjsonDownsyncWriter.ERROR, Collections.singletonMap("DOWNSYNC_ERROR", exception.getMessage()));
+				}
+			} finally {
+				MDC.clear();
+			}
+		};
+
+		ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.ACCEPTED)
+				.contentType(MediaType.APPLICATION_NDJSON);
+		if (gzip)
+			builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+		return builder.body(body);
+    }
 }
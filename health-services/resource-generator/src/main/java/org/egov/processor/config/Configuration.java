@@ -76,6 +76,21 @@ public class Configuration {
 	@Value("${integrate.with.admin.console}")
 	private boolean isIntegrateWithAdminConsole;
 
+	@Value("${excel.streaming.enabled:false}")
+	private boolean isExcelStreamingEnabled;
+
+	@Value("${excel.parallel.processing.enabled:false}")
+	private boolean isParallelProcessingEnabled;
+
+	@Value("${excel.parallel.processing.max.threads:8}")
+	private Integer parallelProcessingMaxThreads;
+
+	@Value("${excel.parallel.processing.queue.size:100}")
+	private Integer parallelProcessingQueueSize;
+
+	@Value("${excel.parallel.processing.rows.per.task:500}")
+	private Integer parallelProcessingRowsPerTask;
+
 	@Value("${egov.boundary.service.host}")
 	private String egovBoundaryServiceHost;
 
@@ -111,6 +126,18 @@ public class Configuration {
 	@Value("${resource.census.create.topic}")
 	private String resourceCensusCreateTopic;
 
+	@Value("${resource.microplan.bulk.create.topic}")
+	private String resourceMicroplanBulkCreateTopic;
+
+	@Value("${resource.census.bulk.create.topic}")
+	private String resourceCensusBulkCreateTopic;
+
+	@Value("${resource.bulk.create.enabled:false}")
+	private boolean isBulkCreateEnabled;
+
+	@Value("${resource.bulk.create.batch.size:100}")
+	private Integer bulkCreateBatchSize;
+
 	//Default
 	@Value("${default.offset.for.mdms.data}")
 	private Integer defaultOffsetForMdms;
@@ -67,12 +67,30 @@ public class ServiceConstants {
     public static final String NO_MDMS_DATA_FOUND_FOR_MIXED_STRATEGY_MASTER_CODE = "NO_MDMS_DATA_FOUND_FOR_MIXED_STRATEGY_MASTER";
     public static final String NO_MDMS_DATA_FOUND_FOR_MIXED_STRATEGY_MASTER_CODE_MESSAGE = "Master data not found for Mixed Strategy master";
 
+    public static final String EXCEL_STREAMING_ERROR_CODE = "EXCEL_STREAMING_ERROR";
+    public static final String EXCEL_STREAMING_ERROR_MESSAGE = "Error while streaming the rows of sheet - ";
+
+    public static final String GEOJSON_STREAMING_ERROR_CODE = "GEOJSON_STREAMING_ERROR";
+    public static final String GEOJSON_STREAMING_ERROR_MESSAGE = "Error while streaming the features of the file - ";
+
+    public static final String NO_FEATURES_FOUND_CODE = "No Features found in geojson";
+
+    public static final String PARALLEL_PROCESSING_ERROR_CODE = "PARALLEL_PROCESSING_ERROR";
+    public static final String PARALLEL_PROCESSING_ERROR_MESSAGE = "Error while processing rows in parallel";
+
+    public static final String INVALID_ROWS_MESSAGE = "Invalid data in rows: ";
+
+    public static final String FILESTORE_DOWNLOAD_ERROR_CODE = "FILESTORE_DOWNLOAD_ERROR";
+    public static final String FILESTORE_DOWNLOAD_ERROR_MESSAGE = "Error while downloading the file from file store - ";
+
     public static final String BOUNDARY_CODE = "HCM_ADMIN_CONSOLE_BOUNDARY_CODE";
     public static final String TOTAL_POPULATION = "HCM_ADMIN_CONSOLE_TOTAL_POPULATION";
 
     public static final String ERROR_PROCESSING_DATA_FROM_MDMS = "Exception occurred while processing data from mdms ";
     public static final String ERROR_WHILE_FETCHING_FROM_PLAN_SERVICE_FOR_LOCALITY = "Exception occurred while fetching plan configuration from plan service for Locality ";
     public static final String ERROR_WHILE_PUSHING_TO_PLAN_SERVICE_FOR_LOCALITY = "Exception occurred while fetching plan configuration from plan service for Locality ";
+    public static final String ERROR_WHILE_PUSHING_PLANS_IN_BULK = "Exception occurred while pushing plans in bulk to plan service, plans in batch: ";
+    public static final String ERROR_WHILE_PUSHING_CENSUS_IN_BULK = "Exception occurred while pushing census records in bulk to census service, records in batch: ";
     public static final String ERROR_WHILE_SEARCHING_CAMPAIGN = "Exception occurred while searching/updating campaign.";
     public static final String ERROR_WHILE_DATA_CREATE_CALL = "Exception occurred while creating data for campaign - ";
     public static final String ERROR_WHILE_CALLING_MICROPLAN_API =
@@ -104,6 +122,8 @@ public class ServiceConstants {
     public static final String BOUNDARY = "boundary";
     public static final String DOT_SEPARATOR = ".";
     public static final String MICROPLAN_PREFIX = "MP-";
+    public static final String FEATURES = "features";
+    public static final String GEOJSON_FILE_SUFFIX = ".geojson";
     public static final Double BRIGHTEN_FACTOR = 1.1;
     public static final String ACCESSIBILITY_DETAILS = "accessibilityDetails";
     public static final String SECURITY_DETAILS = "securityDetails";
@@ -13,6 +13,9 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Map;
 
 import static org.egov.processor.config.ServiceConstants.EXTERNAL_SERVICE_EXCEPTION;
@@ -64,6 +67,28 @@ public class ServiceRequestRepository {
         return response;
     }
 
+    /**
+     * Streams the body of a GET response into the target file without holding it in memory.
+     *
+     * @param uri    The uri to fetch.
+     * @param target The file to write the body to.
+     * @return The target file.
+     */
+    public File fetchFileWithGET(StringBuilder uri, File target) {
+        try {
+            return restTemplate.execute(uri.toString(), HttpMethod.GET, null, response -> {
+                Files.copy(response.getBody(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                return target;
+            });
+        } catch (HttpClientErrorException e) {
+        	log.error(SEARCHER_SERVICE_EXCEPTION, "Error occurred while fetching file: {}", e.getMessage());
+            throw new ServiceCallException(e.getResponseBodyAsString());
+        } catch (Exception e) {
+        	log.error(SEARCHER_SERVICE_EXCEPTION, "Error occurred while fetching file: {}", e.getMessage());
+            throw new ServiceCallException(e.getMessage());
+        }
+    }
+
     public ResponseEntity<String> sendHttpRequest(String url, HttpEntity<MultiValueMap<String, Object>> requestEntity) {
         return restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
     }
@@ -15,6 +15,7 @@ import org.egov.processor.util.*;
 import org.egov.processor.web.models.*;
 import org.egov.processor.web.models.boundary.BoundarySearchResponse;
 import org.egov.processor.web.models.boundary.EnrichedBoundary;
+import org.egov.processor.web.models.census.Census;
 import org.egov.processor.web.models.campaignManager.Boundary;
 import org.egov.processor.web.models.campaignManager.CampaignResources;
 import org.egov.processor.web.models.campaignManager.CampaignResponse;
@@ -35,6 +36,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.egov.processor.config.ServiceConstants.*;
@@ -43,6 +47,8 @@ import static org.egov.processor.config.ServiceConstants.*;
 @Service
 public class ExcelParser implements FileParser {
 
+	private static final int MAX_REPORTED_ROW_ERRORS = 50;
+
 	private ObjectMapper objectMapper;
 
 	private ParsingUtil parsingUtil;
@@ -75,9 +81,11 @@ public class ExcelParser implements FileParser {
 
 	private PlanFacilityUtil planFacilityUtil;
 
+	private ParallelRowProcessor parallelRowProcessor;
+
 	public ExcelParser(ObjectMapper objectMapper, ParsingUtil parsingUtil, FilestoreUtil filestoreUtil,
 					   CalculationUtil calculationUtil, PlanUtil planUtil, CampaignIntegrationUtil campaignIntegrationUtil,
-					   Configuration config, MdmsUtil mdmsUtil, BoundaryUtil boundaryUtil, LocaleUtil localeUtil, CensusUtil censusUtil, EnrichmentUtil enrichmentUtil, PlanConfigurationUtil planConfigurationUtil, OutputEstimationGenerationUtil outputEstimationGenerationUtil, MixedStrategyUtil mixedStrategyUtil, PlanFacilityUtil planFacilityUtil) {
+					   Configuration config, MdmsUtil mdmsUtil, BoundaryUtil boundaryUtil, LocaleUtil localeUtil, CensusUtil censusUtil, EnrichmentUtil enrichmentUtil, PlanConfigurationUtil planConfigurationUtil, OutputEstimationGenerationUtil outputEstimationGenerationUtil, MixedStrategyUtil mixedStrategyUtil, PlanFacilityUtil planFacilityUtil, ParallelRowProcessor parallelRowProcessor) {
 		this.objectMapper = objectMapper;
 		this.parsingUtil = parsingUtil;
 		this.filestoreUtil = filestoreUtil;
@@ -94,6 +102,7 @@ public class ExcelParser implements FileParser {
         this.outputEstimationGenerationUtil = outputEstimationGenerationUtil;
         this.mixedStrategyUtil = mixedStrategyUtil;
         this.planFacilityUtil = planFacilityUtil;
+        this.parallelRowProcessor = parallelRowProcessor;
     }
 
 	/**
@@ -110,14 +119,23 @@ public class ExcelParser implements FileParser {
 	public Object parseFileData(PlanConfigurationRequest planConfigurationRequest, String fileStoreId,
 								Object campaignResponse) {
 		PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
-		byte[] byteArray = filestoreUtil.getFile(planConfig.getTenantId(), fileStoreId);
-		File file = parsingUtil.convertByteArrayToFile(byteArray, ServiceConstants.FILE_EXTENSION);
-		if (file == null || !file.exists()) {
-			log.error("File not found: {} in tenant: {}", fileStoreId, planConfig.getTenantId());
-			throw new CustomException("FileNotFound",
-					"The file with ID " + fileStoreId + " was not found in the tenant " + planConfig.getTenantId());
+		File file = filestoreUtil.downloadFile(planConfig.getTenantId(), fileStoreId, ".xlsx");
+		try {
+			if (file == null || !file.exists()) {
+				log.error("File not found: {} in tenant: {}", fileStoreId, planConfig.getTenantId());
+				throw new CustomException("FileNotFound",
+						"The file with ID " + fileStoreId + " was not found in the tenant " + planConfig.getTenantId());
+			}
+			if (isStreamingApplicable(planConfig)) {
+				processExcelFileStreaming(planConfigurationRequest, file, fileStoreId, campaignResponse);
+			} else {
+				processExcelFile(planConfigurationRequest, file, fileStoreId, campaignResponse);
+			}
+		} finally {
+			if (file != null && file.exists() && !file.delete()) {
+				log.warn("Failed to delete temporary file: " + file.getPath());
+			}
 		}
-		processExcelFile(planConfigurationRequest, file, fileStoreId, campaignResponse);
 		return null;
 	}
 
@@ -154,6 +172,57 @@ public class ExcelParser implements FileParser {
 		}
 	}
 
+	/**
+	 * Checks whether the rows of the file can be streamed. Only census creation is streamed, as it reads the rows
+	 * without writing anything back into the workbook or uploading it.
+	 *
+	 * @param planConfig The plan configuration being processed.
+	 * @return true if streaming is enabled and the file is processed for census records.
+	 */
+	private boolean isStreamingApplicable(PlanConfiguration planConfig) {
+		return config.isExcelStreamingEnabled()
+				&& config.getPlanConfigTriggerCensusRecordsStatus().equals(planConfig.getStatus());
+	}
+
+	/**
+	 * Processes an Excel file for census records by streaming the rows of each sheet, so the heap used does not grow
+	 * with the number of rows.
+	 *
+	 * @param request          The plan configuration request.
+	 * @param file             The Excel file to be processed.
+	 * @param fileStoreId      The ID of the file in the file store.
+	 * @param campaignResponse The campaign response.
+	 */
+	private void processExcelFileStreaming(PlanConfigurationRequest request, File file, String fileStoreId,
+			Object campaignResponse) {
+		CampaignResponse campaign = campaignIntegrationUtil.parseCampaignResponse(campaignResponse);
+		LocaleResponse localeResponse = localeUtil.searchLocale(request);
+		Object mdmsData = mdmsUtil.fetchMdmsData(request.getRequestInfo(),
+				request.getPlanConfiguration().getTenantId());
+		planConfigurationUtil.orderPlanConfigurationOperations(request);
+		enrichmentUtil.enrichResourceMapping(request, localeResponse, campaign.getCampaign().get(0).getProjectType(), fileStoreId);
+		Map<String, Object> attributeNameVsDataTypeMap = prepareAttributeVsIndexMap(request,
+				fileStoreId, campaign, request.getPlanConfiguration(), mdmsData);
+		List<String> boundaryCodeList = getBoundaryCodeList(request, campaign);
+		Map<String, Object> mdmsDataForCommonConstants = mdmsUtil.fetchMdmsDataForCommonConstants(
+				request.getRequestInfo(),
+				request.getPlanConfiguration().getTenantId());
+
+		try (StreamingWorkbookReader workbookReader = new StreamingWorkbookReader(file)) {
+			workbookReader.forEachSheet(streamingSheet -> {
+				if (outputEstimationGenerationUtil.isSheetAllowedToProcess(streamingSheet.getSheetName(), localeResponse, mdmsDataForCommonConstants)
+						&& streamingSheet.readHeaderRow() != null) {
+					processRowsForCensusRecords(request, streamingSheet.getSheet(), streamingSheet,
+							fileStoreId, attributeNameVsDataTypeMap, boundaryCodeList, campaign.getCampaign().get(0).getHierarchyType());
+				}
+			});
+		} catch (IOException e) {
+			log.error("Error streaming Excel file: {}", e);
+			throw new CustomException(Integer.toString(HttpStatus.INTERNAL_SERVER_ERROR.value()),
+					"Error processing Excel file");
+		}
+	}
+
 	/**
 	 * Uploads a converted file and integrates campaign details if configured to do so.
 	 *
@@ -244,7 +313,7 @@ public class ExcelParser implements FileParser {
 					processRows(request, excelWorkbookSheet, dataFormatter, fileStoreId,
 							campaignBoundaryList, attributeNameVsDataTypeMap, boundaryCodeList, boundaryCodeToCensusAdditionalDetails);
 				} else if (request.getPlanConfiguration().getStatus().equals(config.getPlanConfigTriggerCensusRecordsStatus())) {
-					processRowsForCensusRecords(request, excelWorkbookSheet,
+					processRowsForCensusRecords(request, excelWorkbookSheet, excelWorkbookSheet,
 							fileStoreId, attributeNameVsDataTypeMap, boundaryCodeList, campaign.getCampaign().get(0).getHierarchyType());
 				} else if (request.getPlanConfiguration().getStatus().equals(config.getPlanConfigUpdatePlanEstimatesIntoOutputFileStatus())) {
 					enrichmentUtil.enrichsheetWithApprovedPlanEstimates(excelWorkbookSheet, request, fileStoreId, mappedValues);
@@ -328,7 +397,18 @@ public class ExcelParser implements FileParser {
 		performRowLevelCalculations(planConfigurationRequest, sheet, dataFormatter, fileStoreId, campaignBoundaryList, attributeNameVsDataTypeMap, boundaryCodeList, boundaryCodeToFixedPostMap, boundaryCodeToCensusAdditionalDetails);
 	}
 
-	private void processRowsForCensusRecords(PlanConfigurationRequest planConfigurationRequest, Sheet sheet, String fileStoreId, Map<String, Object> attributeNameVsDataTypeMap, List<String> boundaryCodeList, String hierarchyType) {
+	/**
+	 * Validates the rows of a sheet and creates a census record for each of them.
+	 *
+	 * @param planConfigurationRequest The plan configuration request.
+	 * @param sheet                    The sheet holding the header row.
+	 * @param rows                     The rows of the sheet, header row included.
+	 * @param fileStoreId              The ID of the file in the file store.
+	 * @param attributeNameVsDataTypeMap Mapping of attribute names to their data types.
+	 * @param boundaryCodeList         List of boundary codes.
+	 * @param hierarchyType            The boundary hierarchy of the campaign.
+	 */
+	private void processRowsForCensusRecords(PlanConfigurationRequest planConfigurationRequest, Sheet sheet, Iterable<Row> rows, String fileStoreId, Map<String, Object> attributeNameVsDataTypeMap, List<String> boundaryCodeList, String hierarchyType) {
 		PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
 
 		Map<String, String> mappedValues = planConfig.getResourceMapping().stream()
@@ -344,21 +424,36 @@ public class ExcelParser implements FileParser {
 		Integer indexOfBoundaryCode = parsingUtil.getIndexOfBoundaryCode(0,
 				parsingUtil.sortColumnByIndex(mapOfColumnNameAndIndex), mappedValues);
 		Row firstRow = null;
+		BatchPublisher<Census> censusPublisher = censusUtil.createPublisher(planConfigurationRequest);
+
+		if (isParallelProcessingApplicable(rows)) {
+			List<RowOutcome<Census>> rowOutcomes = readDataRows(sheet, indexOfBoundaryCode, attributeNameVsDataTypeMap,
+					mappedValues, mapOfColumnNameAndIndex, boundaryCodeList, (row, outcome) -> {});
+			List<RowOutcome<Census>> outcomes = parallelRowProcessor.process(rowOutcomes, outcome -> buildRecord(outcome,
+					() -> censusUtil.buildCensus(planConfigurationRequest, outcome.feature, mappedValues, hierarchyType)));
+			publishInRowOrder(planConfigurationRequest, outcomes, censusPublisher, outcome -> {});
+			return;
+		}
 
-		for (Row row : sheet) {
-			if (parsingUtil.isRowEmpty(row))
-				continue;
+		try {
+			for (Row row : rows) {
+				if (parsingUtil.isRowEmpty(row))
+					continue;
 
-			if (row.getRowNum() == 0) {
-				firstRow = row;
-				continue;
-			}
+				if (row.getRowNum() == 0) {
+					firstRow = row;
+					continue;
+				}
 
-			validateRows(indexOfBoundaryCode, row, firstRow, attributeNameVsDataTypeMap, mappedValues, mapOfColumnNameAndIndex,
-					planConfigurationRequest, boundaryCodeList, sheet);
-			JsonNode currentRow = createFeatureNodeFromRow(row, mapOfColumnNameAndIndex);
+				validateRows(indexOfBoundaryCode, row, firstRow, attributeNameVsDataTypeMap, mappedValues, mapOfColumnNameAndIndex,
+						planConfigurationRequest, boundaryCodeList, sheet);
+				JsonNode currentRow = createFeatureNodeFromRow(row, mapOfColumnNameAndIndex);
 
-			censusUtil.create(planConfigurationRequest, currentRow, mappedValues, hierarchyType);
+				censusPublisher.add(censusUtil.buildCensus(planConfigurationRequest, currentRow, mappedValues, hierarchyType));
+			}
+		} finally {
+			// Rows processed before a failing row are published, as they were when each row was pushed on its own
+			censusPublisher.flush();
 		}
 	}
 
@@ -421,6 +516,8 @@ public class ExcelParser implements FileParser {
 				.collect(Collectors.toMap(ResourceMapping::getMappedTo, ResourceMapping::getMappedFrom));
 		Map<String, BigDecimal> assumptionValueMap = calculationUtil
 				.convertAssumptionsToMap(planConfig.getAssumptions());
+		OperationPlan operationPlan = calculationUtil.compile(planConfig.getOperations(), mappedValues,
+				assumptionValueMap);
 		Map<String, Integer> mapOfColumnNameAndIndex = parsingUtil.getAttributeNameIndexFromExcel(sheet);
 
 		Integer indexOfBoundaryCode = parsingUtil.getIndexOfBoundaryCode(0,
@@ -429,27 +526,49 @@ public class ExcelParser implements FileParser {
 		List<MixedStrategyOperationLogic> mixedStrategyOperationLogicList = mixedStrategyUtil
 				.fetchMixedStrategyOperationLogicFromMDMS(planConfigurationRequest);
 
-		for (Row row : sheet) {
-			if(parsingUtil.isRowEmpty(row))
-				continue;
+		BatchPublisher<Plan> planPublisher = planUtil.createPublisher(planConfigurationRequest);
+
+		if (isParallelProcessingApplicable(sheet)) {
+			List<RowOutcome<Plan>> rowOutcomes = readDataRows(sheet, indexOfBoundaryCode, attributeNameVsDataTypeMap,
+					mappedValues, mapOfColumnNameAndIndex, boundaryCodeList,
+					(row, outcome) -> outcome.boundaryCode = row.getCell(indexOfBoundaryCode).getStringCellValue());
+			List<RowOutcome<Plan>> outcomes = parallelRowProcessor.process(rowOutcomes, outcome -> buildRecord(outcome, () -> {
+				Map<String, BigDecimal> resultMap = new HashMap<>();
+				outcome.results = operationPlan.evaluate(outcome.feature, resultMap);
+
+				mixedStrategyUtil.processResultMap(resultMap, planConfig.getOperations(), mixedStrategyUtil.getCategoriesNotAllowed(boundaryCodeToFixedPostMap.get(outcome.boundaryCode), planConfig, mixedStrategyOperationLogicList));
+				return planUtil.buildPlan(planConfigurationRequest, outcome.feature, resultMap, mappedValues, boundaryCodeToCensusAdditionalDetails);
+			}));
+			// The calculated values are written into the sheet on this thread, as the workbook is not thread safe
+			publishInRowOrder(planConfigurationRequest, outcomes, planPublisher,
+					outcome -> writeResultCells(sheet, outcome.row, operationPlan.getOperations(), outcome.results));
+			return;
+		}
 
-			if (row.getRowNum() == 0) {
-				firstRow = row;
-				continue;
-			}
+		try {
+			for (Row row : sheet) {
+				if(parsingUtil.isRowEmpty(row))
+					continue;
+
+				if (row.getRowNum() == 0) {
+					firstRow = row;
+					continue;
+				}
 
-			Map<String, BigDecimal> resultMap = new HashMap<>();
-			validateRows(indexOfBoundaryCode, row, firstRow, attributeNameVsDataTypeMap, mappedValues, mapOfColumnNameAndIndex,
-					planConfigurationRequest, boundaryCodeList, sheet);
-			JsonNode feature = createFeatureNodeFromRow(row, mapOfColumnNameAndIndex);
-			performCalculationsOnOperations(sheet, planConfig, row, resultMap, mappedValues,
-					assumptionValueMap, feature);
+				Map<String, BigDecimal> resultMap = new HashMap<>();
+				validateRows(indexOfBoundaryCode, row, firstRow, attributeNameVsDataTypeMap, mappedValues, mapOfColumnNameAndIndex,
+						planConfigurationRequest, boundaryCodeList, sheet);
+				JsonNode feature = createFeatureNodeFromRow(row, mapOfColumnNameAndIndex);
+				performCalculationsOnOperations(sheet, row, resultMap, operationPlan, feature);
 
-			// Get Boundary Code for the current row.
-			String boundaryCode = row.getCell(indexOfBoundaryCode).getStringCellValue();
-			mixedStrategyUtil.processResultMap(resultMap, planConfig.getOperations(), mixedStrategyUtil.getCategoriesNotAllowed(boundaryCodeToFixedPostMap.get(boundaryCode), planConfig, mixedStrategyOperationLogicList));
-			planUtil.create(planConfigurationRequest, feature, resultMap, mappedValues, boundaryCodeToCensusAdditionalDetails);
+				// Get Boundary Code for the current row.
+				String boundaryCode = row.getCell(indexOfBoundaryCode).getStringCellValue();
+				mixedStrategyUtil.processResultMap(resultMap, planConfig.getOperations(), mixedStrategyUtil.getCategoriesNotAllowed(boundaryCodeToFixedPostMap.get(boundaryCode), planConfig, mixedStrategyOperationLogicList));
+				planPublisher.add(planUtil.buildPlan(planConfigurationRequest, feature, resultMap, mappedValues, boundaryCodeToCensusAdditionalDetails));
 
+			}
+		} finally {
+			planPublisher.flush();
 		}
 	}
 
@@ -459,23 +578,32 @@ public class ExcelParser implements FileParser {
 	 * Calculates results based on plan configuration operations, updates result map, and sets cell values.
 	 *
 	 * @param sheet The sheet where calculations are performed.
-	 * @param planConfig The configuration details for the plan.
 	 * @param row The row in the sheet where calculations are applied.
 	 * @param resultMap The map to store calculation results.
-	 * @param mappedValues Mapping of values needed for calculations.
-	 * @param assumptionValueMap Map of assumption values used in calculations.
+	 * @param operationPlan The operations of the plan configuration, compiled once for the sheet.
 	 * @param feature JSON node containing additional features or data for calculations.
 	 */
-	private void performCalculationsOnOperations(Sheet sheet, PlanConfiguration planConfig, Row row,
-			Map<String, BigDecimal> resultMap, Map<String, String> mappedValues,
-			Map<String, BigDecimal> assumptionValueMap, JsonNode feature) {
+	private void performCalculationsOnOperations(Sheet sheet, Row row, Map<String, BigDecimal> resultMap,
+			OperationPlan operationPlan, JsonNode feature) {
+		BigDecimal[] results = operationPlan.evaluate(feature, resultMap);
+		writeResultCells(sheet, row, operationPlan.getOperations(), results);
+	}
+
+	/**
+	 * Writes the results of the operations for a row in new cells at the end of the row, adding the output names to
+	 * the header row while writing the first data row.
+	 *
+	 * @param sheet The sheet where calculations are performed.
+	 * @param row The row in the sheet where calculations are applied.
+	 * @param operations The operations of the plan configuration.
+	 * @param results The result of each operation, in the order of the operations.
+	 */
+	private void writeResultCells(Sheet sheet, Row row, List<Operation> operations, BigDecimal[] results) {
 		int columnIndex = row.getLastCellNum(); // Get the index of the last cell in the row
 
-		for (Operation operation : planConfig.getOperations()) {
-			BigDecimal result = calculationUtil.calculateResult(operation, feature, mappedValues,
-					assumptionValueMap, resultMap);
-			String output = operation.getOutput();
-			resultMap.put(output, result);
+		for (int i = 0; i < operations.size(); i++) {
+			BigDecimal result = results[i];
+			String output = operations.get(i).getOutput();
 
 			Cell cell = row.createCell(columnIndex++);
 			cell.setCellValue(result.doubleValue());
@@ -490,6 +618,121 @@ public class ExcelParser implements FileParser {
 		
 	}
 
+	/**
+	 * Checks whether rows can be processed in parallel. Only the rows of a sheet held in memory are, streamed rows
+	 * being read one after the other.
+	 *
+	 * @param rows The rows to process.
+	 * @return true if parallel processing is enabled and the rows are those of a sheet held in memory.
+	 */
+	private boolean isParallelProcessingApplicable(Iterable<Row> rows) {
+		return config.isParallelProcessingEnabled() && rows instanceof Sheet;
+	}
+
+	/**
+	 * Reads the non empty data rows of a sheet on the calling thread, as POI workbooks are not safe for concurrent
+	 * access. Each row is validated and its values are copied into a feature node, so that the records can then be
+	 * built off the calling thread without touching the workbook.
+	 *
+	 * @param sheet The sheet to read.
+	 * @param indexOfBoundaryCode The index of the boundary code column.
+	 * @param attributeNameVsDataTypeMap Mapping of attribute names to their data types.
+	 * @param mappedValues The mapped values of the file.
+	 * @param mapOfColumnNameAndIndex The mapping of column names to column indices.
+	 * @param boundaryCodeList List of boundary codes.
+	 * @param copyRow Copies any other value of a valid row needed to build its record.
+	 * @return The outcome of each data row, in the order of the sheet.
+	 */
+	private <T> List<RowOutcome<T>> readDataRows(Sheet sheet, Integer indexOfBoundaryCode, Map<String, Object> attributeNameVsDataTypeMap,
+			Map<String, String> mappedValues, Map<String, Integer> mapOfColumnNameAndIndex, List<String> boundaryCodeList,
+			BiConsumer<Row, RowOutcome<T>> copyRow) {
+		Row headerRow = sheet.getRow(0);
+		Set<String> boundaryCodes = new HashSet<>(boundaryCodeList);
+		List<RowOutcome<T>> outcomes = new ArrayList<>();
+		for (Row row : sheet) {
+			if (row.getRowNum() == 0 || parsingUtil.isRowEmpty(row))
+				continue;
+
+			RowOutcome<T> outcome = new RowOutcome<>(row);
+			try {
+				outcome.validationError = findRowValidationError(indexOfBoundaryCode, row, headerRow, attributeNameVsDataTypeMap,
+						mappedValues, mapOfColumnNameAndIndex, boundaryCodes, sheet);
+				if (outcome.validationError == null) {
+					outcome.feature = createFeatureNodeFromRow(row, mapOfColumnNameAndIndex);
+					copyRow.accept(row, outcome);
+				}
+			} catch (RuntimeException e) {
+				outcome.failure = e;
+			}
+			outcomes.add(outcome);
+		}
+		return outcomes;
+	}
+
+	/**
+	 * Builds the record of a row read without error, recording why it could not be built otherwise. It is called off
+	 * the calling thread, so the record is built from the values copied from the row only.
+	 *
+	 * @param outcome The outcome of the row.
+	 * @param recordBuilder Builds the record of the row.
+	 * @return The outcome of the row.
+	 */
+	private static <T> RowOutcome<T> buildRecord(RowOutcome<T> outcome, Supplier<T> recordBuilder) {
+		if (outcome.validationError == null && outcome.failure == null) {
+			try {
+				outcome.record = recordBuilder.get();
+			} catch (RuntimeException e) {
+				outcome.failure = e;
+			}
+		}
+		return outcome;
+	}
+
+	/**
+	 * Writes back and publishes the records of rows processed in parallel, in the order of the rows. As when the rows
+	 * are processed one after the other, the rows before the first failing row are published. If that row is invalid,
+	 * the validation errors of all the rows are reported together.
+	 *
+	 * @param planConfigurationRequest The plan configuration request.
+	 * @param outcomes The outcome of each row, in the order of the rows.
+	 * @param publisher The publisher of the records built from the rows.
+	 * @param writeBack Writes the outcome of a row into the sheet before its record is published.
+	 */
+	private <T> void publishInRowOrder(PlanConfigurationRequest planConfigurationRequest, List<RowOutcome<T>> outcomes,
+			BatchPublisher<T> publisher, Consumer<RowOutcome<T>> writeBack) {
+		RowOutcome<T> failedOutcome = null;
+		try {
+			for (RowOutcome<T> outcome : outcomes) {
+				if (outcome.validationError != null || outcome.failure != null) {
+					failedOutcome = outcome;
+					break;
+				}
+				writeBack.accept(outcome);
+				publisher.add(outcome.record);
+			}
+		} finally {
+			publisher.flush();
+		}
+
+		if (failedOutcome == null)
+			return;
+
+		if (failedOutcome.failure != null)
+			throw failedOutcome.failure;
+
+		List<String> validationErrors = outcomes.stream()
+				.map(outcome -> outcome.validationError)
+				.filter(Objects::nonNull)
+				.toList();
+		planConfigurationRequest.getPlanConfiguration().setStatus("INVALID_DATA");
+		planUtil.update(planConfigurationRequest);
+		String message = validationErrors.stream().limit(MAX_REPORTED_ROW_ERRORS).collect(Collectors.joining("; "));
+		if (validationErrors.size() > MAX_REPORTED_ROW_ERRORS)
+			message += "; and " + (validationErrors.size() - MAX_REPORTED_ROW_ERRORS) + " more";
+		throw new CustomException(Integer.toString(HttpStatus.INTERNAL_SERVER_ERROR.value()),
+				INVALID_ROWS_MESSAGE + validationErrors.size() + " - " + message);
+	}
+
 	/**
 	 * Uploads the converted XLS file to the file store.
 	 *
@@ -627,23 +870,36 @@ public class ExcelParser implements FileParser {
 			Map<String, String> mappedValues, Map<String, Integer> mapOfColumnNameAndIndex,
 			PlanConfigurationRequest planConfigurationRequest, List<String> boundaryCodeList, Sheet sheet) {
 
+		String validationError = findRowValidationError(indexOfBoundaryCode, row, columnHeaderRow, attributeNameVsDataTypeMap,
+				mappedValues, mapOfColumnNameAndIndex, boundaryCodeList, sheet);
+		if (validationError != null) {
+			planConfigurationRequest.getPlanConfiguration().setStatus("INVALID_DATA");
+			planUtil.update(planConfigurationRequest);
+			throw new CustomException(Integer.toString(HttpStatus.INTERNAL_SERVER_ERROR.value()), validationError);
+		}
+	}
+
+	/**
+	 * Validates the data in a row without updating the plan configuration, so that the errors of all the rows read
+	 * for parallel processing can be reported together.
+	 *
+	 * @return The validation error of the row, or null if the row is valid.
+	 */
+	private String findRowValidationError(Integer indexOfBoundaryCode, Row row, Row columnHeaderRow, Map<String, Object> attributeNameVsDataTypeMap,
+			Map<String, String> mappedValues, Map<String, Integer> mapOfColumnNameAndIndex, Collection<String> boundaryCodeList, Sheet sheet) {
+
 		try {
 			validateTillBoundaryCode(indexOfBoundaryCode, row, columnHeaderRow);
 			validateAttributes(attributeNameVsDataTypeMap, mappedValues, mapOfColumnNameAndIndex, row, columnHeaderRow, indexOfBoundaryCode,
 					boundaryCodeList);
 		} catch (JsonProcessingException e) {
 			log.info(ServiceConstants.INPUT_IS_NOT_VALID + (row.getRowNum() + 1) + " at sheet - " + sheet);
-			planConfigurationRequest.getPlanConfiguration().setStatus("INVALID_DATA");
-			planUtil.update(planConfigurationRequest);
-			throw new CustomException(Integer.toString(HttpStatus.INTERNAL_SERVER_ERROR.value()),
-					ServiceConstants.INPUT_IS_NOT_VALID + row.getRowNum() + " at sheet - " + sheet);
+			return ServiceConstants.INPUT_IS_NOT_VALID + row.getRowNum() + " at sheet - " + sheet;
 		} catch (CustomException customException) {
 			log.info(customException.toString()+ "at sheet - " + sheet.getSheetName());
-			planConfigurationRequest.getPlanConfiguration().setStatus("INVALID_DATA");
-			planUtil.update(planConfigurationRequest);
-			throw new CustomException(Integer.toString(HttpStatus.INTERNAL_SERVER_ERROR.value()),
-					customException.getMessage()+ "at sheet - " + sheet.getSheetName());
+			return customException.getMessage()+ "at sheet - " + sheet.getSheetName();
 		}
+		return null;
 	}
 
 	/**
@@ -662,7 +918,7 @@ public class ExcelParser implements FileParser {
 	 */
 	private void validateAttributes(Map<String, Object> attributeNameVsDataTypeMap, Map<String, String> mappedValues,
 			Map<String, Integer> mapOfColumnNameAndIndex, Row row, Row columnHeaderRow, Integer indexOfBoundaryCode,
-			List<String> boundaryCodeList) throws JsonMappingException, JsonProcessingException {
+			Collection<String> boundaryCodeList) throws JsonMappingException, JsonProcessingException {
 		for (int j = indexOfBoundaryCode; j < mapOfColumnNameAndIndex.size(); j++) {
 			Cell cell = row.getCell(j);
 			Cell columnName = columnHeaderRow.getCell(j);
@@ -801,5 +1057,29 @@ public class ExcelParser implements FileParser {
 		return boundaryList;
 	}
 
+	/**
+	 * The outcome of processing a row off the calling thread: the values copied from the row on the calling thread,
+	 * the record built from them and the results to write back, or why the row could not be processed. The row itself
+	 * is only used on the calling thread, to write the results back.
+	 */
+	private static final class RowOutcome<T> {
+
+		private final Row row;
 
-}
\ No newline at end of file
+		private JsonNode feature;
+
+		private String boundaryCode;
+
+		private T record;
+
+		private BigDecimal[] results;
+
+		private String validationError;
+
+		private RuntimeException failure;
+
+		private RowOutcome(Row row) {
+			this.row = row;
+		}
+	}
+}
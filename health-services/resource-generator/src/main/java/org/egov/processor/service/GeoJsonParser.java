@@ -1,18 +1,17 @@
 package org.egov.processor.service;
 
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import java.io.File;
 import java.math.BigDecimal;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.egov.processor.util.CalculationUtil;
+import org.egov.processor.util.FeatureCalculator;
+import org.egov.processor.util.FeatureStreamUtil;
 import org.egov.processor.util.FilestoreUtil;
 import org.egov.processor.util.ParsingUtil;
 import org.egov.processor.web.models.PlanConfiguration;
@@ -21,12 +20,14 @@ import org.egov.processor.web.models.ResourceMapping;
 
 import org.springframework.stereotype.Service;
 
+import static org.egov.processor.config.ServiceConstants.GEOJSON_FILE_SUFFIX;
+
 
 @Service
 @Slf4j
 public class GeoJsonParser implements FileParser {
 
-    private ObjectMapper objectMapper;
+    private FeatureStreamUtil featureStreamUtil;
 
     private ParsingUtil parsingUtil;
 
@@ -34,8 +35,8 @@ public class GeoJsonParser implements FileParser {
 
     private CalculationUtil calculationUtil;
 
-    public GeoJsonParser(ObjectMapper objectMapper, ParsingUtil parsingUtil, FilestoreUtil filestoreUtil, CalculationUtil calculationUtil) {
-        this.objectMapper = objectMapper;
+    public GeoJsonParser(FeatureStreamUtil featureStreamUtil, ParsingUtil parsingUtil, FilestoreUtil filestoreUtil, CalculationUtil calculationUtil) {
+        this.featureStreamUtil = featureStreamUtil;
         this.parsingUtil = parsingUtil;
         this.filestoreUtil = filestoreUtil;
         this.calculationUtil = calculationUtil;
@@ -43,9 +44,9 @@ public class GeoJsonParser implements FileParser {
 
     /**
      * Parses the file data based on the provided plan configuration and file store ID.
-     * Converts the byte array data to a GeoJSON string, then to a JSON node.
-     * Calculates resources based on the operations defined in the plan configuration.
-     * Writes the updated JSON node to a file and uploads it to the file store.
+     * Downloads the GeoJSON file and streams its features one at a time, validating the column names against the
+     * first feature and calculating resources based on the operations defined in the plan configuration.
+     * Each updated feature is written to a new file as it is calculated, and that file is uploaded to the file store.
      *
      * @param planConfigurationRequest  The plan configuration containing mapping and operation details.
      * @param fileStoreId The file store ID of the GeoJSON file to be parsed.
@@ -54,12 +55,6 @@ public class GeoJsonParser implements FileParser {
     @Override
     public Object parseFileData(PlanConfigurationRequest planConfigurationRequest, String fileStoreId, Object campaignResponse) {
     	PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
-        String geoJSON = parsingUtil.convertByteArrayToString(planConfig, fileStoreId);
-
-        JsonNode jsonNode = parsingUtil.parseJson(geoJSON, objectMapper);
-
-        List<String> columnNamesList = parsingUtil.fetchAttributeNamesFromJson(jsonNode);
-        parsingUtil.validateColumnNames(columnNamesList, planConfig, fileStoreId);
 
         Map<String, BigDecimal> resultMap = new HashMap<>();
         Map<String, String> mappedValues = planConfig.getResourceMapping().stream()
@@ -67,12 +62,35 @@ public class GeoJsonParser implements FileParser {
                 .collect(Collectors.toMap(ResourceMapping::getMappedTo, ResourceMapping::getMappedFrom));
         Map<String, BigDecimal> assumptionValueMap = calculationUtil.convertAssumptionsToMap(planConfig.getAssumptions());
 
-        calculationUtil.calculateResources(jsonNode, planConfigurationRequest, resultMap, mappedValues, assumptionValueMap);
-
-        File outputFile = parsingUtil.writeToFile(jsonNode, objectMapper);
-
-        return filestoreUtil.uploadFile(outputFile, planConfig.getTenantId());
+        File geoJsonFile = filestoreUtil.downloadFile(planConfig.getTenantId(), fileStoreId, GEOJSON_FILE_SUFFIX);
+        File outputFile;
+        AtomicBoolean columnsValidated = new AtomicBoolean(false);
+        FeatureCalculator featureCalculator = calculationUtil.createFeatureCalculator(planConfigurationRequest, resultMap, mappedValues, assumptionValueMap);
+        try {
+            outputFile = featureStreamUtil.transformGeoJson(geoJsonFile, feature -> {
+                if (columnsValidated.compareAndSet(false, true)) {
+                    parsingUtil.validateColumnNames(parsingUtil.fetchAttributeNamesFromFeature(feature), planConfig, fileStoreId);
+                }
+                featureCalculator.accept(feature);
+            });
+        } finally {
+            deleteTemporaryFile(geoJsonFile);
+        }
+
+        // The plans of the last batch are only published once the whole file is calculated
+        featureCalculator.flush();
+
+        try {
+            return filestoreUtil.uploadFile(outputFile, planConfig.getTenantId());
+        } finally {
+            deleteTemporaryFile(outputFile);
+        }
+    }
 
+    private void deleteTemporaryFile(File file) {
+        if (file != null && file.exists() && !file.delete()) {
+            log.warn("Failed to delete temporary file: {}", file.getPath());
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -1,7 +1,6 @@
 package org.egov.processor.service;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.HashMap;
@@ -10,6 +9,8 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.egov.processor.util.CalculationUtil;
+import org.egov.processor.util.FeatureCalculator;
+import org.egov.processor.util.FeatureStreamUtil;
 import org.egov.processor.util.FilestoreUtil;
 import org.egov.processor.util.ParsingUtil;
 import org.egov.processor.web.models.PlanConfiguration;
@@ -19,12 +20,10 @@ import org.egov.tracer.model.CustomException;
 import org.geotools.api.data.DataStore;
 import org.geotools.api.data.DataStoreFinder;
 import org.geotools.api.data.SimpleFeatureSource;
-import org.geotools.geojson.feature.FeatureJSON;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -37,33 +36,28 @@ public class ShapeFileParser implements FileParser {
 
     private CalculationUtil calculationUtil;
 
-    private ObjectMapper objectMapper;
+    private FeatureStreamUtil featureStreamUtil;
 
-    public ShapeFileParser(ParsingUtil parsingUtil, FilestoreUtil filestoreUtil, CalculationUtil calculationUtil, ObjectMapper objectMapper) {
+    public ShapeFileParser(ParsingUtil parsingUtil, FilestoreUtil filestoreUtil, CalculationUtil calculationUtil, FeatureStreamUtil featureStreamUtil) {
         this.parsingUtil = parsingUtil;
         this.filestoreUtil = filestoreUtil;
         this.calculationUtil = calculationUtil;
-        this.objectMapper = objectMapper;
+        this.featureStreamUtil = featureStreamUtil;
     }
 
     /**
      * Parses the file data based on the provided plan configuration and file store ID.
-     * Converts a Shapefile to GeoJSON format, calculates resources based on the operations
-     * defined in the plan configuration, and uploads the updated GeoJSON file to the file store.
+     * Reads the features of the Shapefile one at a time, calculates resources based on the operations
+     * defined in the plan configuration, writes each updated feature to a GeoJSON file as it is calculated,
+     * and uploads that file to the file store.
      *
      * @param planConfigurationRequest  The plan configuration containing mapping and operation details.
-     * @param fileStoreId The file store ID of the Shapefile to be converted and parsed.
+     * @param fileStoreId The file store ID of the Shapefile to be parsed.
      * @return The file store ID of the uploaded updated file, or null if an error occurred.
      */
     @Override
     public Object parseFileData(PlanConfigurationRequest planConfigurationRequest, String fileStoreId, Object campaignResponse) {
     	PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
-        File geojsonFile = convertShapefileToGeoJson(planConfig, fileStoreId);
-        String geoJSONString = parsingUtil.convertFileToJsonString(geojsonFile);
-        JsonNode jsonNode = parsingUtil.parseJson(geoJSONString, objectMapper);
-
-        List<String> columnNamesList = parsingUtil.fetchAttributeNamesFromJson(jsonNode);
-        parsingUtil.validateColumnNames(columnNamesList, planConfig, fileStoreId);
 
         Map<String, BigDecimal> resultMap = new HashMap<>();
         Map<String, String> mappedValues = planConfig.getResourceMapping().stream()
@@ -71,21 +65,31 @@ public class ShapeFileParser implements FileParser {
         		.collect(Collectors.toMap(ResourceMapping::getMappedTo, ResourceMapping::getMappedFrom));
         Map<String, BigDecimal> assumptionValueMap = calculationUtil.convertAssumptionsToMap(planConfig.getAssumptions());
 
-        calculationUtil.calculateResources(jsonNode, planConfigurationRequest, resultMap, mappedValues, assumptionValueMap);
-
-        File updatedGeojsonFile = parsingUtil.writeToFile(jsonNode, objectMapper);
+        File updatedGeojsonFile = convertShapefileToGeoJson(planConfigurationRequest, fileStoreId, resultMap, mappedValues, assumptionValueMap);
 
-        return filestoreUtil.uploadFile(updatedGeojsonFile, planConfig.getTenantId());
+        try {
+            return filestoreUtil.uploadFile(updatedGeojsonFile, planConfig.getTenantId());
+        } finally {
+            if (updatedGeojsonFile.exists() && !updatedGeojsonFile.delete()) {
+                log.warn("Failed to delete temporary file: {}", updatedGeojsonFile.getPath());
+            }
+        }
     }
 
     /**
-     * Converts a Shapefile to GeoJSON format and writes it to a GeoJSON file.
+     * Reads the features of a Shapefile one at a time, calculating the resources of each of them,
+     * and writes them to a GeoJSON file without converting the whole Shapefile to GeoJSON first.
      *
-     * @param planConfig  The plan configuration containing mapping details.
-     * @param fileStoreId The file store ID of the Shapefile to be converted.
-     * @return The GeoJSON file containing the converted data.
+     * @param planConfigurationRequest The plan configuration request.
+     * @param fileStoreId              The file store ID of the Shapefile to be converted.
+     * @param resultMap                The map to store the results.
+     * @param mappedValues             The mapped values for inputs.
+     * @param assumptionValueMap       The assumption values map.
+     * @return The GeoJSON file containing the calculated features.
      */
-    public File convertShapefileToGeoJson(PlanConfiguration planConfig, String fileStoreId) {
+    public File convertShapefileToGeoJson(PlanConfigurationRequest planConfigurationRequest, String fileStoreId, Map<String, BigDecimal> resultMap,
+                                          Map<String, String> mappedValues, Map<String, BigDecimal> assumptionValueMap) {
+        PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
         File shapefile = null;
         try {
             shapefile = parsingUtil.extractShapeFilesFromZip(planConfig, fileStoreId, "shapefile");
@@ -93,21 +97,28 @@ public class ShapeFileParser implements FileParser {
             log.error(exception.getMessage());
         }
 
-        File geojsonFile = new File("geojsonfile.geojson");
-
-        SimpleFeatureSource featureSource = null;
-        DataStore dataStore;
+        DataStore dataStore = getDataStore(shapefile);
+        FeatureCalculator featureCalculator = calculationUtil.createFeatureCalculator(planConfigurationRequest, resultMap, mappedValues, assumptionValueMap);
         try {
-            dataStore = getDataStore(shapefile);
             String typeName = dataStore.getTypeNames()[0];
-            featureSource = dataStore.getFeatureSource(typeName);
+            SimpleFeatureSource featureSource = dataStore.getFeatureSource(typeName);
+
+            List<String> columnNamesList = featureSource.getSchema().getAttributeDescriptors().stream()
+                    .filter(descriptor -> !(descriptor instanceof GeometryDescriptor))
+                    .map(AttributeDescriptor::getLocalName)
+                    .toList();
+            parsingUtil.validateColumnNames(columnNamesList, planConfig, fileStoreId);
 
-            writeFeaturesToGeoJson(featureSource, geojsonFile);
+            File outputFile = featureStreamUtil.writeFeatureCollection(featureSource.getFeatures(), featureCalculator);
+
+            // The plans of the last batch are only published once the whole file is calculated
+            featureCalculator.flush();
+            return outputFile;
         } catch (IOException e) {
             throw new CustomException("ERROR_IN_SHAPE_FILE_PARSER_WHILE_CONVERTING_SHAPE_FILE_TO_GEOJSON_IN_METHOD_CONVERTSHAPEFILETOGEOJSON",e.getMessage());
+        } finally {
+            dataStore.dispose();
         }
-
-        return geojsonFile;
     }
 
     /**
@@ -128,19 +139,4 @@ public class ShapeFileParser implements FileParser {
 
     }
 
-    /**
-     * Writes features from a SimpleFeatureSource to a GeoJSON file.
-     *
-     * @param featureSource The SimpleFeatureSource containing the features to write.
-     * @param geojsonFile   The GeoJSON file to write the features to.
-     * @throws IOException If an I/O error occurs.
-     */
-    private void writeFeaturesToGeoJson(SimpleFeatureSource featureSource, File geojsonFile)  {
-        try (FileOutputStream geojsonStream = new FileOutputStream(geojsonFile)) {
-            new FeatureJSON().writeFeatureCollection(featureSource.getFeatures(), geojsonStream);
-        } catch (IOException e) {
-            throw new CustomException("Failed to write feature to GeoJson",e.getMessage());
-        }
-    }
-
 }
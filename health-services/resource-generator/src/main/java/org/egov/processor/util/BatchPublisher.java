@@ -0,0 +1,53 @@
+package org.egov.processor.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Collects the records built while processing a file and hands them to a publisher in batches.
+ * <p>
+ * A batch is published as soon as it is full, so only one batch is held in memory at a time; {@link #flush()} must
+ * be called once the file is processed to publish the last, partial batch. An instance is meant to be used by the
+ * thread processing one file.
+ *
+ * @param <T> The type of the records published.
+ */
+public class BatchPublisher<T> {
+
+    private final int batchSize;
+
+    private final Consumer<List<T>> publisher;
+
+    private final List<T> pending;
+
+    public BatchPublisher(int batchSize, Consumer<List<T>> publisher) {
+        this.batchSize = Math.max(1, batchSize);
+        this.publisher = publisher;
+        this.pending = new ArrayList<>(this.batchSize);
+    }
+
+    /**
+     * Adds a record, publishing the batch if it is full.
+     *
+     * @param record The record to publish.
+     */
+    public void add(T record) {
+        pending.add(record);
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Publishes the records added since the last batch, if any.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<T> batch = new ArrayList<>(pending);
+        pending.clear();
+        publisher.accept(batch);
+    }
+}
@@ -1,25 +1,17 @@
 package org.egov.processor.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import org.egov.processor.config.ServiceConstants;
 import org.egov.processor.web.models.Assumption;
 import org.egov.processor.web.models.Operation;
 import org.egov.processor.web.models.PlanConfiguration;
 import org.egov.processor.web.models.PlanConfigurationRequest;
-import org.egov.tracer.model.CustomException;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ObjectUtils;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import static org.egov.processor.config.ServiceConstants.PROPERTIES;
-
 @Component
 public class CalculationUtil {
 	
@@ -40,15 +32,19 @@ public class CalculationUtil {
      * @return The calculated output.
      */
     public BigDecimal calculateOutputValue(BigDecimal input, Operation.OperatorEnum operator, BigDecimal assumptionValue) {
-        return switch (operator) {
-            case PLUS -> input.add(assumptionValue);
-            case MINUS -> input.subtract(assumptionValue);
-            case SLASH -> input.divide(assumptionValue,ServiceConstants.DEFAULT_SCALE,RoundingMode.DOWN).setScale(ServiceConstants.DEFAULT_SCALE);
-            case STAR -> input.multiply(assumptionValue);
-            case PERCENT -> input.remainder(assumptionValue);
-            case _U -> input.pow(assumptionValue.intValue());
-            default -> throw new CustomException("UNSUPPORTED_OPERATOR", "Unsupported operator: " + operator);
-        };
+        return OperationPlan.apply(input, operator, assumptionValue);
+    }
+
+    /**
+     * Compiles the operations of a plan configuration once, for evaluating them over all the rows of a file.
+     *
+     * @param operations         The operations of the plan configuration.
+     * @param mappedValues       The mapped values for inputs.
+     * @param assumptionValueMap The assumption values map.
+     * @return The compiled operations.
+     */
+    public OperationPlan compile(List<Operation> operations, Map<String, String> mappedValues, Map<String, BigDecimal> assumptionValueMap) {
+        return OperationPlan.compile(operations, mappedValues, assumptionValueMap);
     }
 
     /**
@@ -71,78 +67,26 @@ public class CalculationUtil {
      */
     public void calculateResources(JsonNode jsonNode, PlanConfigurationRequest planConfigurationRequest, Map<String, BigDecimal> resultMap,
                                 Map<String, String> mappedValues, Map<String, BigDecimal> assumptionValueMap) {
-    	PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
-        for (JsonNode feature : jsonNode.get("features")) {
-            for (Operation operation : planConfig.getOperations()) {
-                BigDecimal result = calculateResult(operation, feature, mappedValues, assumptionValueMap, resultMap);
-                String output = operation.getOutput();
-                resultMap.put(output, result);
-                ((ObjectNode) feature.get("properties")).put(output, result);
-            }
-            planUtil.create(planConfigurationRequest, feature, resultMap, mappedValues, new HashMap<>());
-            
-        }
+        FeatureCalculator featureCalculator = createFeatureCalculator(planConfigurationRequest, resultMap, mappedValues, assumptionValueMap);
+        jsonNode.get("features").forEach(featureCalculator);
+        featureCalculator.flush();
     }
 
     /**
-     * Retrieves the input value from the JSON node based on the input and input mapping.
+     * Creates a calculator for the features of a file read one at a time, compiling the operations of the plan
+     * configuration once for all of them.
      *
-     * @param resultMap             The map containing previous results.
-     * @param feature               The JSON node feature.
-     * @param assumptionValueMap    The assumptions and their value map from plan config.
-     * @param input                 The input key.
-     * @param columnName            The input from mapping.
-     * @return The input value.
+     * @param planConfigurationRequest The plan configuration request.
+     * @param resultMap                The map to store the results.
+     * @param mappedValues             The mapped values for inputs.
+     * @param assumptionValueMap       The assumption values map.
+     * @return The feature calculator, to be flushed once all the features are calculated.
      */
-    private BigDecimal getInputValueFromFeatureOrMap(JsonNode feature, Map<String, BigDecimal> resultMap, Map<String, BigDecimal> assumptionValueMap, String input, String columnName) {
-        // Try to fetch the value from resultMap, If not found in the resultMap, use the assumptionValueMap as a fallback
-        BigDecimal inputValue = resultMap.getOrDefault(input, assumptionValueMap.get(input));
-
-        // Try to fetch the value from the feature (if it exists)
-        if(ObjectUtils.isEmpty(inputValue)) {
-            if (feature.has(PROPERTIES) && feature.get(PROPERTIES).has(columnName)) {
-                try {
-                    String cellValue = String.valueOf(feature.get(PROPERTIES).get(columnName));
-                    BigDecimal value;
-                    if (cellValue.contains(ServiceConstants.SCIENTIFIC_NOTATION_INDICATOR)) {
-                        value = new BigDecimal(cellValue);
-                    } else {
-                        String cleanedValue = cellValue.replaceAll("[^\\d.\\-E]", "");
-                        value = new BigDecimal(cleanedValue);
-                    }
-                    return value;
-                } catch (NumberFormatException | NullPointerException e) {
-                    // Handle potential parsing issues
-                    throw new CustomException("INPUT_VALUE_NOT_FOUND", "Input value not found: " + input);                }
-            }
-        }
-
-        return inputValue;
-    }
-
-    /**
-     * Calculates a result based on the provided operation and inputs.
-     *
-     * @param operation The operation object containing details like input, operator, and assumption value.
-     * @param feature   The JSON node representing additional features or parameters for calculation.
-     * @param mappedValues A map containing mappings for input keys to their corresponding values.
-     * @param assumptionValueMap A map containing assumption values referenced by keys.
-     * @param resultMap A map to store and update the calculated results.
-     * @return The calculated result as a BigDecimal.
-     */
-    public BigDecimal calculateResult(Operation operation, JsonNode feature, Map<String, String> mappedValues, Map<String, BigDecimal> assumptionValueMap, Map<String, BigDecimal> resultMap) {
-        // Fetch the input value
-        String input = operation.getInput();
-        String inputFromMapping = mappedValues.get(input);
-        BigDecimal inputValue = getInputValueFromFeatureOrMap(feature, resultMap, assumptionValueMap, input, inputFromMapping);
-
-        // Fetch the assumption value with priority: feature -> resultMap -> assumptionValueMap
-        String assumptionKey = operation.getAssumptionValue();
-        String assumptionFromMapping = mappedValues.get(assumptionKey);
-        BigDecimal assumptionValue = getInputValueFromFeatureOrMap(feature, resultMap, assumptionValueMap, assumptionKey, assumptionFromMapping);
-
-        // Calculate and return the output
-        return calculateOutputValue(inputValue, operation.getOperator(), assumptionValue);
+    public FeatureCalculator createFeatureCalculator(PlanConfigurationRequest planConfigurationRequest, Map<String, BigDecimal> resultMap,
+                                                     Map<String, String> mappedValues, Map<String, BigDecimal> assumptionValueMap) {
+        PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
+        OperationPlan operationPlan = compile(planConfig.getOperations(), mappedValues, assumptionValueMap);
+        return new FeatureCalculator(planConfigurationRequest, planUtil, operationPlan, resultMap, mappedValues);
     }
 
 }
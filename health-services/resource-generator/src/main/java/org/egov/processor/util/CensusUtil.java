@@ -46,48 +46,74 @@ public class CensusUtil {
     }
 
     /**
-     * Creates and pushes a CensusRequest based on the provided plan configuration, feature JSON node, and mapped values.
+     * Returns a publisher for the census records created from the files of a plan configuration request. Records are
+     * pushed to the census service in bulk requests sharing the request info when bulk create is enabled, and one
+     * census request per record otherwise. The publisher must be flushed once all the records are added.
      *
-     * @param planConfigurationRequest The plan configuration request with the necessary details.
-     * @param feature                  The JSON node containing feature data for the census.
-     * @param mappedValues             A map of property names to their values from the feature node.
-     * @param heirarchyType            The type of hierarchy to be used in the census.
+     * @param planConfigurationRequest The plan configuration request.
+     * @return The publisher of the census records.
      */
-    public void create(PlanConfigurationRequest planConfigurationRequest, JsonNode feature, Map<String, String> mappedValues, String heirarchyType) {
-        CensusRequest censusRequest = buildCensusRequest(planConfigurationRequest, feature, mappedValues, heirarchyType);
+    public BatchPublisher<Census> createPublisher(PlanConfigurationRequest planConfigurationRequest) {
+        if (!config.isBulkCreateEnabled()) {
+            return new BatchPublisher<>(1, censusList -> censusList.forEach(census -> push(planConfigurationRequest, census)));
+        }
+        return new BatchPublisher<>(config.getBulkCreateBatchSize(), censusList -> push(planConfigurationRequest, censusList));
+    }
+
+    private void push(PlanConfigurationRequest planConfigurationRequest, Census census) {
+        try {
+            log.info("Census request - " + census);
+            producer.push(config.getResourceCensusCreateTopic(), CensusRequest.builder()
+                    .requestInfo(planConfigurationRequest.getRequestInfo())
+                    .census(census)
+                    .build());
+        } catch (Exception e) {
+            log.error(ERROR_WHILE_PUSHING_TO_PLAN_SERVICE_FOR_LOCALITY + census.getBoundaryCode(), e);
+        }
+    }
+
+    private void push(PlanConfigurationRequest planConfigurationRequest, List<Census> censusList) {
+        Census first = censusList.get(0);
         try {
-            log.info("Census request - " + censusRequest.getCensus());
-            producer.push(config.getResourceCensusCreateTopic(), censusRequest);
+            producer.push(config.getResourceCensusBulkCreateTopic(), BulkCensusCreateRequest.builder()
+                    .requestInfo(planConfigurationRequest.getRequestInfo())
+                    .tenantId(first.getTenantId())
+                    .hierarchyType(first.getHierarchyType())
+                    .source(first.getSource())
+                    .census(censusList.stream().map(census -> CensusCreateDTO.builder()
+                            .boundaryCode(census.getBoundaryCode())
+                            .totalPopulation(census.getTotalPopulation())
+                            .additionalFields(census.getAdditionalFields())
+                            .build()).toList())
+                    .build());
         } catch (Exception e) {
-            log.error(ERROR_WHILE_PUSHING_TO_PLAN_SERVICE_FOR_LOCALITY + censusRequest.getCensus().getBoundaryCode(), e);
+            log.error(ERROR_WHILE_PUSHING_CENSUS_IN_BULK + censusList.size(), e);
         }
     }
 
     /**
-     * Builds and returns a CensusRequest using the provided plan configuration, feature JSON node, and mapped values.
+     * Builds and returns a Census record using the provided plan configuration, feature JSON node, and mapped values.
      *
      * @param planConfigurationRequest The plan configuration request containing configuration details.
      * @param feature                  The feature JSON node containing property values.
      * @param mappedValues             The mapped values for extracting properties.
      * @param heirarchyType            The hierarchy type of the census.
-     * @return A constructed CensusRequest object with populated details.
+     * @return A constructed Census object with populated details.
      */
-    private CensusRequest buildCensusRequest(PlanConfigurationRequest planConfigurationRequest, JsonNode feature, Map<String, String> mappedValues, String heirarchyType) {
+    public Census buildCensus(PlanConfigurationRequest planConfigurationRequest, JsonNode feature, Map<String, String> mappedValues, String heirarchyType) {
 
         PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
-        return CensusRequest.builder()
-                .census(Census.builder()
-                        .tenantId(planConfig.getTenantId())
-                        .hierarchyType(heirarchyType)
-                        .boundaryCode((String) parsingUtil.extractMappedValueFromFeatureForAnInput(ServiceConstants.BOUNDARY_CODE, feature, mappedValues))
-                        .type(Census.TypeEnum.PEOPLE)
-                        .facilityAssigned(Boolean.FALSE)
-                        .partnerAssignmentValidationEnabled(Boolean.TRUE)
-                        .totalPopulation((BigDecimal) parsingUtil.extractMappedValueFromFeatureForAnInput(ServiceConstants.TOTAL_POPULATION, feature, mappedValues))
-                        .workflow(Workflow.builder().action(WORKFLOW_ACTION_INITIATE).build())
-                        .source(planConfig.getId())
-                        .additionalFields(enrichAdditionalField(feature, mappedValues)).build())
-                .requestInfo(planConfigurationRequest.getRequestInfo()).build();
+        return Census.builder()
+                .tenantId(planConfig.getTenantId())
+                .hierarchyType(heirarchyType)
+                .boundaryCode((String) parsingUtil.extractMappedValueFromFeatureForAnInput(ServiceConstants.BOUNDARY_CODE, feature, mappedValues))
+                .type(Census.TypeEnum.PEOPLE)
+                .facilityAssigned(Boolean.FALSE)
+                .partnerAssignmentValidationEnabled(Boolean.TRUE)
+                .totalPopulation((BigDecimal) parsingUtil.extractMappedValueFromFeatureForAnInput(ServiceConstants.TOTAL_POPULATION, feature, mappedValues))
+                .workflow(Workflow.builder().action(WORKFLOW_ACTION_INITIATE).build())
+                .source(planConfig.getId())
+                .additionalFields(enrichAdditionalField(feature, mappedValues)).build();
 
     }
 
@@ -0,0 +1,68 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.egov.processor.web.models.Operation;
+import org.egov.processor.web.models.Plan;
+import org.egov.processor.web.models.PlanConfigurationRequest;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.egov.processor.config.ServiceConstants.PROPERTIES;
+
+/**
+ * Calculates the resources of the features of a file one at a time, as they are read, and publishes a plan for each
+ * of them. The outputs of the operations are added to the properties of each feature, so that the feature can be
+ * written to the output file once calculated; {@link #flush()} publishes the plans of the last batch once every
+ * feature of the file is calculated, so a file failing part way does not publish them.
+ */
+public class FeatureCalculator implements Consumer<JsonNode> {
+
+    private final PlanConfigurationRequest planConfigurationRequest;
+
+    private final PlanUtil planUtil;
+
+    private final OperationPlan operationPlan;
+
+    private final Map<String, BigDecimal> resultMap;
+
+    private final Map<String, String> mappedValues;
+
+    private final BatchPublisher<Plan> planPublisher;
+
+    FeatureCalculator(PlanConfigurationRequest planConfigurationRequest, PlanUtil planUtil, OperationPlan operationPlan,
+                      Map<String, BigDecimal> resultMap, Map<String, String> mappedValues) {
+        this.planConfigurationRequest = planConfigurationRequest;
+        this.planUtil = planUtil;
+        this.operationPlan = operationPlan;
+        this.resultMap = resultMap;
+        this.mappedValues = mappedValues;
+        this.planPublisher = planUtil.createPublisher(planConfigurationRequest);
+    }
+
+    /**
+     * Calculates the resources of a feature and publishes its plan.
+     *
+     * @param feature The feature, with its attributes under properties.
+     */
+    @Override
+    public void accept(JsonNode feature) {
+        List<Operation> operations = operationPlan.getOperations();
+        BigDecimal[] results = operationPlan.evaluate(feature, resultMap);
+        for (int i = 0; i < operations.size(); i++) {
+            ((ObjectNode) feature.get(PROPERTIES)).put(operations.get(i).getOutput(), results[i]);
+        }
+        planPublisher.add(planUtil.buildPlan(planConfigurationRequest, feature, resultMap, mappedValues, new HashMap<>()));
+    }
+
+    /**
+     * Publishes the plans of the last batch, to be called once all the features of the file are calculated.
+     */
+    public void flush() {
+        planPublisher.flush();
+    }
+}
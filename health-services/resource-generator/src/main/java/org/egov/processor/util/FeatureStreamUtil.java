@@ -0,0 +1,216 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.tracer.model.CustomException;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.data.simple.SimpleFeatureCollection;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.geojson.geom.GeometryJSON;
+import org.locationtech.jts.geom.Geometry;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.egov.processor.config.ServiceConstants.*;
+
+/**
+ * Streams the features of a GeoJSON file or a shapefile one at a time into an output GeoJSON file.
+ * <p>
+ * Each feature is handed to a consumer as a node holding only its properties, which the consumer may update before
+ * the feature is written out. Geometries are never parsed: they are copied from the input to the output as they are
+ * read, so the heap used does not grow with the number of features or the size of their geometries.
+ */
+@Slf4j
+@Component
+public class FeatureStreamUtil {
+
+    private static final String TYPE = "type";
+
+    private static final String GEOMETRY = "geometry";
+
+    private static final String ID = "id";
+
+    private ObjectMapper objectMapper;
+
+    public FeatureStreamUtil(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams the features of a GeoJSON file into a new GeoJSON file, keeping every other field of the file and of
+     * its features as it is.
+     *
+     * @param geoJsonFile     The GeoJSON file to read.
+     * @param featureConsumer Consumes each feature, with its properties under properties, in file order.
+     * @return The GeoJSON file written, to be deleted by the caller.
+     */
+    public File transformGeoJson(File geoJsonFile, Consumer<JsonNode> featureConsumer) {
+        File outputFile = createOutputFile();
+        boolean completed = false;
+        try (JsonParser parser = objectMapper.getFactory().createParser(geoJsonFile);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputFile, JsonEncoding.UTF8)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new CustomException(NO_FEATURES_FOUND_CODE, " ");
+            }
+            boolean featuresFound = false;
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                generator.writeFieldName(fieldName);
+                if (FEATURES.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    featuresFound = true;
+                    transformFeatures(parser, generator, featureConsumer);
+                } else {
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+            generator.writeEndObject();
+            if (!featuresFound) {
+                throw new CustomException(NO_FEATURES_FOUND_CODE, " ");
+            }
+            completed = true;
+            return outputFile;
+        } catch (IOException e) {
+            log.error("Error streaming the features of {}", geoJsonFile.getName(), e);
+            throw new CustomException(GEOJSON_STREAMING_ERROR_CODE, GEOJSON_STREAMING_ERROR_MESSAGE + e.getMessage());
+        } finally {
+            if (!completed) {
+                deleteQuietly(outputFile);
+            }
+        }
+    }
+
+    /**
+     * Streams the features of a shapefile into a GeoJSON file, writing each geometry as it is read.
+     *
+     * @param features        The features of the shapefile.
+     * @param featureConsumer Consumes each feature, with its attributes under properties, in file order.
+     * @return The GeoJSON file written, to be deleted by the caller.
+     */
+    public File writeFeatureCollection(SimpleFeatureCollection features, Consumer<JsonNode> featureConsumer) {
+        File outputFile = createOutputFile();
+        GeometryJSON geometryJSON = new GeometryJSON();
+        boolean completed = false;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputFile, JsonEncoding.UTF8);
+             SimpleFeatureIterator iterator = features.features()) {
+            generator.writeStartObject();
+            generator.writeStringField(TYPE, "FeatureCollection");
+            generator.writeArrayFieldStart(FEATURES);
+            while (iterator.hasNext()) {
+                SimpleFeature feature = iterator.next();
+                ObjectNode featureNode = objectMapper.createObjectNode();
+                ObjectNode properties = featureNode.putObject(PROPERTIES);
+                List<AttributeDescriptor> descriptors = feature.getFeatureType().getAttributeDescriptors();
+                for (int i = 0; i < descriptors.size(); i++) {
+                    if (!(descriptors.get(i) instanceof GeometryDescriptor)) {
+                        properties.set(descriptors.get(i).getLocalName(), toJson(feature.getAttribute(i)));
+                    }
+                }
+                featureConsumer.accept(featureNode);
+
+                generator.writeStartObject();
+                generator.writeStringField(TYPE, "Feature");
+                generator.writeFieldName(GEOMETRY);
+                if (feature.getDefaultGeometry() instanceof Geometry geometry) {
+                    generator.writeRawValue(geometryJSON.toString(geometry));
+                } else {
+                    generator.writeNull();
+                }
+                generator.writeFieldName(PROPERTIES);
+                objectMapper.writeTree(generator, featureNode.get(PROPERTIES));
+                generator.writeStringField(ID, feature.getID());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            completed = true;
+            return outputFile;
+        } catch (IOException e) {
+            log.error("Error streaming the features of the shapefile", e);
+            throw new CustomException(GEOJSON_STREAMING_ERROR_CODE, GEOJSON_STREAMING_ERROR_MESSAGE + e.getMessage());
+        } finally {
+            if (!completed) {
+                deleteQuietly(outputFile);
+            }
+        }
+    }
+
+    // reads the properties of each feature as a tree and copies the other fields, geometry included, token by token
+    private void transformFeatures(JsonParser parser, JsonGenerator generator, Consumer<JsonNode> featureConsumer)
+            throws IOException {
+        generator.writeStartArray();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ObjectNode feature = objectMapper.createObjectNode();
+            feature.putObject(PROPERTIES);
+            boolean consumed = false;
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (PROPERTIES.equals(fieldName)) {
+                    JsonNode properties = objectMapper.readTree(parser);
+                    if (properties != null && properties.isObject()) {
+                        feature.set(PROPERTIES, properties);
+                    }
+                    featureConsumer.accept(feature);
+                    consumed = true;
+                    generator.writeFieldName(PROPERTIES);
+                    objectMapper.writeTree(generator, feature.get(PROPERTIES));
+                } else {
+                    generator.writeFieldName(fieldName);
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+            if (!consumed) {
+                featureConsumer.accept(feature);
+                generator.writeFieldName(PROPERTIES);
+                objectMapper.writeTree(generator, feature.get(PROPERTIES));
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private JsonNode toJson(Object value) {
+        if (value == null) {
+            return NullNode.getInstance();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof String) {
+            return objectMapper.valueToTree(value);
+        }
+        if (value instanceof Date date) {
+            return TextNode.valueOf(date.toInstant().toString());
+        }
+        return TextNode.valueOf(value.toString());
+    }
+
+    private File createOutputFile() {
+        try {
+            return File.createTempFile("processed", GEOJSON_FILE_SUFFIX);
+        } catch (IOException e) {
+            throw new CustomException("NOT_ABLE_TO_WRITE_TO_FILE", "Not able to write processed geojson to file");
+        }
+    }
+
+    private void deleteQuietly(File file) {
+        if (file.exists() && !file.delete()) {
+            log.warn("Failed to delete temporary file: {}", file.getPath());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.egov.processor.util;
 
 import static org.egov.processor.config.ServiceConstants.FILES;
+import static org.egov.processor.config.ServiceConstants.FILESTORE_DOWNLOAD_ERROR_CODE;
+import static org.egov.processor.config.ServiceConstants.FILESTORE_DOWNLOAD_ERROR_MESSAGE;
 import static org.egov.processor.config.ServiceConstants.FILESTORE_ID;
 import static org.egov.processor.config.ServiceConstants.FILESTORE_ID_REPLACER;
 import static org.egov.processor.config.ServiceConstants.MICROPLANNING_MODULE;
@@ -71,6 +73,31 @@ public class FilestoreUtil {
     }
 
 
+    /**
+     * Downloads a file from the file store service into a temporary file, streaming the response to disk.
+     * The caller is responsible for deleting the file.
+     *
+     * @param tenantId    The ID of the tenant.
+     * @param fileStoreId The ID of the file in the file store.
+     * @param suffix      The suffix of the temporary file.
+     * @return The downloaded file.
+     */
+    public File downloadFile(String tenantId, String fileStoreId, String suffix) {
+        String fileStoreServiceLink = getFileStoreServiceLink(tenantId, fileStoreId);
+        File file = null;
+        try {
+            file = File.createTempFile("input", suffix);
+            return serviceRequestRepository.fetchFileWithGET(new StringBuilder(fileStoreServiceLink), file);
+        } catch (Exception ex) {
+            log.error("File store download error for file {}", fileStoreId, ex);
+            if (file != null && !file.delete()) {
+                log.warn("Failed to delete temporary file: {}", file.getPath());
+            }
+            throw new CustomException(FILESTORE_DOWNLOAD_ERROR_CODE, FILESTORE_DOWNLOAD_ERROR_MESSAGE + fileStoreId);
+        }
+    }
+
+
     /**
      * Uploads a file to the file store service.
      *
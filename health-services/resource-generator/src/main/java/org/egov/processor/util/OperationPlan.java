@@ -0,0 +1,285 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.egov.processor.config.ServiceConstants;
+import org.egov.processor.web.models.Operation;
+import org.egov.tracer.model.CustomException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.egov.processor.config.ServiceConstants.PROPERTIES;
+
+/**
+ * The operations of a plan configuration compiled once for evaluating every row of a file.
+ * <p>
+ * Compiling resolves what used to be looked up for each operation of each row: the column an operand is read from,
+ * the assumption it falls back to and whether it can be the output of another operation. The operations are also
+ * ordered so that an output is computed before the operations reading it, keeping the configured order otherwise.
+ * An operation reads the output of the operation configured last before it, so an output configured more than once
+ * is read as it was at that point of the configured order.
+ * Evaluating a row then reads and parses each column it needs once, however many operations use it.
+ */
+public final class OperationPlan {
+
+    private static final Pattern NON_NUMERIC_CHARACTERS = Pattern.compile("[^\\d.\\-E]");
+
+    private final List<Operation> operations;
+
+    private final int[] evaluationOrder;
+
+    private final boolean reordered;
+
+    private final Operand[] inputs;
+
+    private final Operand[] assumptions;
+
+    private final String[] columns;
+
+    private OperationPlan(List<Operation> operations, int[] evaluationOrder, Operand[] inputs, Operand[] assumptions,
+                          String[] columns) {
+        this.operations = operations;
+        this.evaluationOrder = evaluationOrder;
+        this.inputs = inputs;
+        this.assumptions = assumptions;
+        this.columns = columns;
+        boolean outOfOrder = false;
+        for (int i = 0; i < evaluationOrder.length; i++) {
+            outOfOrder |= evaluationOrder[i] != i;
+        }
+        this.reordered = outOfOrder;
+    }
+
+    /**
+     * Compiles the operations of a plan configuration.
+     *
+     * @param operations         The operations in their configured order.
+     * @param mappedValues       The column each input key is mapped from.
+     * @param assumptionValueMap The assumption values keyed by assumption key.
+     * @return The compiled plan.
+     */
+    public static OperationPlan compile(List<Operation> operations, Map<String, String> mappedValues,
+                                        Map<String, BigDecimal> assumptionValueMap) {
+        Set<String> outputs = new HashSet<>();
+        operations.forEach(operation -> outputs.add(operation.getOutput()));
+
+        Map<String, Integer> columnSlots = new LinkedHashMap<>();
+        Operand[] inputs = new Operand[operations.size()];
+        Operand[] assumptions = new Operand[operations.size()];
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+            inputs[i] = operand(operation.getInput(), mappedValues, assumptionValueMap, outputs, columnSlots);
+            assumptions[i] = operand(operation.getAssumptionValue(), mappedValues, assumptionValueMap, outputs,
+                    columnSlots);
+        }
+        return new OperationPlan(List.copyOf(operations), evaluationOrder(operations), inputs, assumptions,
+                columnSlots.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * Calculates the output value based on the input value, operator, and assumption value.
+     *
+     * @param input           The input value.
+     * @param operator        The operator enum.
+     * @param assumptionValue The assumption value.
+     * @return The calculated output.
+     */
+    public static BigDecimal apply(BigDecimal input, Operation.OperatorEnum operator, BigDecimal assumptionValue) {
+        return switch (operator) {
+            case PLUS -> input.add(assumptionValue);
+            case MINUS -> input.subtract(assumptionValue);
+            case SLASH -> input.divide(assumptionValue, ServiceConstants.DEFAULT_SCALE, RoundingMode.DOWN).setScale(ServiceConstants.DEFAULT_SCALE);
+            case STAR -> input.multiply(assumptionValue);
+            case PERCENT -> input.remainder(assumptionValue);
+            case _U -> input.pow(assumptionValue.intValue());
+            default -> throw new CustomException("UNSUPPORTED_OPERATOR", "Unsupported operator: " + operator);
+        };
+    }
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Evaluates the operations for one row and adds their outputs to the result map.
+     * <p>
+     * An operand is taken from the result map if it is the output of an operation, then from the assumptions, then
+     * from the column it is mapped from.
+     *
+     * @param feature   The row, with its column values under properties.
+     * @param resultMap The map to store the results.
+     * @return The result of each operation, in the configured order of the operations.
+     */
+    public BigDecimal[] evaluate(JsonNode feature, Map<String, BigDecimal> resultMap) {
+        JsonNode properties = feature.get(PROPERTIES);
+        BigDecimal[] columnValues = new BigDecimal[columns.length];
+        BigDecimal[] results = new BigDecimal[operations.size()];
+        for (int index : evaluationOrder) {
+            Operation operation = operations.get(index);
+            BigDecimal inputValue = resolve(inputs[index], properties, resultMap, columnValues);
+            BigDecimal assumptionValue = resolve(assumptions[index], properties, resultMap, columnValues);
+            BigDecimal result = apply(inputValue, operation.getOperator(), assumptionValue);
+            results[index] = result;
+            resultMap.put(operation.getOutput(), result);
+        }
+        if (reordered) {
+            // an output configured more than once keeps the value of its last configured operation
+            for (int i = 0; i < results.length; i++) {
+                resultMap.put(operations.get(i).getOutput(), results[i]);
+            }
+        }
+        return results;
+    }
+
+    private BigDecimal resolve(Operand operand, JsonNode properties, Map<String, BigDecimal> resultMap,
+                               BigDecimal[] columnValues) {
+        BigDecimal value = operand.output ? resultMap.get(operand.key) : null;
+        if (value == null) {
+            value = operand.assumption;
+        }
+        if (value == null && operand.columnSlot >= 0 && properties != null) {
+            value = columnValues[operand.columnSlot];
+            if (value == null && properties.has(columns[operand.columnSlot])) {
+                value = parse(properties.get(columns[operand.columnSlot]), operand.key);
+                columnValues[operand.columnSlot] = value;
+            }
+        }
+        return value;
+    }
+
+    private static BigDecimal parse(JsonNode node, String key) {
+        try {
+            if (node.isBigDecimal() || node.isIntegralNumber() || node.isDouble()) {
+                return node.decimalValue();
+            }
+            String cellValue = String.valueOf(node);
+            if (cellValue.contains(ServiceConstants.SCIENTIFIC_NOTATION_INDICATOR)) {
+                return new BigDecimal(cellValue);
+            }
+            return new BigDecimal(NON_NUMERIC_CHARACTERS.matcher(cellValue).replaceAll(""));
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new CustomException("INPUT_VALUE_NOT_FOUND", "Input value not found: " + key);
+        }
+    }
+
+    private static Operand operand(String key, Map<String, String> mappedValues,
+                                   Map<String, BigDecimal> assumptionValueMap, Set<String> outputs,
+                                   Map<String, Integer> columnSlots) {
+        String column = mappedValues.get(key);
+        int columnSlot = -1;
+        if (column != null) {
+            columnSlot = columnSlots.computeIfAbsent(column, name -> columnSlots.size());
+        }
+        return new Operand(key, outputs.contains(key), assumptionValueMap.get(key), columnSlot);
+    }
+
+    // orders the operations so that each one comes after the operation whose output it reads, taking the lowest
+    // configured index first; operations in a cycle are taken in their configured order
+    private static int[] evaluationOrder(List<Operation> operations) {
+        int size = operations.size();
+        Map<String, List<Integer>> producers = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            producers.computeIfAbsent(operations.get(i).getOutput(), output -> new ArrayList<>()).add(i);
+        }
+
+        List<List<Integer>> readers = new ArrayList<>(size);
+        int[] pending = new int[size];
+        for (int i = 0; i < size; i++) {
+            readers.add(new ArrayList<>());
+        }
+        // an output configured more than once is computed in the configured order of its operations
+        for (List<Integer> sameOutput : producers.values()) {
+            for (int k = 1; k < sameOutput.size(); k++) {
+                addDependency(readers, pending, sameOutput.get(k - 1), sameOutput.get(k));
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            Operation operation = operations.get(i);
+            for (String key : new String[]{operation.getInput(), operation.getAssumptionValue()}) {
+                List<Integer> sameOutput = producers.getOrDefault(key, Collections.emptyList());
+                int read = producerRead(sameOutput, i);
+                if (read < 0) {
+                    continue;
+                }
+                addDependency(readers, pending, sameOutput.get(read), i);
+                // the operation configured next for the output must not overwrite it before it is read
+                if (read + 1 < sameOutput.size() && sameOutput.get(read + 1) != i) {
+                    addDependency(readers, pending, i, sameOutput.get(read + 1));
+                }
+            }
+        }
+
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < size; i++) {
+            if (pending[i] == 0) {
+                ready.add(i);
+            }
+        }
+        boolean[] ordered = new boolean[size];
+        int[] order = new int[size];
+        int next = 0;
+        for (int count = 0; count < size; count++) {
+            Integer index = ready.poll();
+            if (index == null) {
+                while (ordered[next]) {
+                    next++;
+                }
+                index = next;
+            }
+            ordered[index] = true;
+            order[count] = index;
+            for (int reader : readers.get(index)) {
+                if (--pending[reader] == 0 && !ordered[reader]) {
+                    ready.add(reader);
+                }
+            }
+        }
+        return order;
+    }
+
+    // the position among the operations of an output of the one an operation reads: the last one configured before
+    // it, or the first one when it is configured before all of them and does not compute the output itself
+    private static int producerRead(List<Integer> sameOutput, int index) {
+        int read = -1;
+        for (int k = 0; k < sameOutput.size() && sameOutput.get(k) < index; k++) {
+            read = k;
+        }
+        if (read < 0 && !sameOutput.isEmpty() && !sameOutput.contains(index)) {
+            read = 0;
+        }
+        return read;
+    }
+
+    private static void addDependency(List<List<Integer>> readers, int[] pending, int before, int after) {
+        readers.get(before).add(after);
+        pending[after]++;
+    }
+
+    private static final class Operand {
+
+        private final String key;
+
+        private final boolean output;
+
+        private final BigDecimal assumption;
+
+        private final int columnSlot;
+
+        private Operand(String key, boolean output, BigDecimal assumption, int columnSlot) {
+            this.key = key;
+            this.output = output;
+            this.assumption = assumption;
+            this.columnSlot = columnSlot;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.egov.processor.util;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.processor.config.Configuration;
+import org.egov.tracer.model.CustomException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.egov.processor.config.ServiceConstants.PARALLEL_PROCESSING_ERROR_CODE;
+import static org.egov.processor.config.ServiceConstants.PARALLEL_PROCESSING_ERROR_MESSAGE;
+
+/**
+ * Processes the rows of a sheet in row ranges on a bounded pool shared by the files being processed.
+ * <p>
+ * The results are returned in the order of the rows, so that they can be written back and published as they would
+ * be when processing the rows one after the other. When the pool is saturated the calling thread processes the range
+ * itself.
+ */
+@Component
+@Slf4j
+public class ParallelRowProcessor {
+
+    private final Configuration config;
+
+    private final ThreadPoolExecutor executor;
+
+    public ParallelRowProcessor(Configuration config) {
+        this.config = config;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(config.getParallelProcessingMaxThreads(),
+                config.getParallelProcessingMaxThreads(), 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getParallelProcessingQueueSize()), runnable -> {
+                    Thread thread = new Thread(runnable, "resource-rows-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Applies the row processor to each row, splitting the rows in ranges processed concurrently.
+     *
+     * @param rows         The rows to process, or the values copied from them.
+     * @param rowProcessor Processes one row off the calling thread. It must not access the workbook, which is not
+     *                     safe for concurrent access: the values it needs are to be copied from the rows beforehand.
+     * @return The result of each row, in the order of the rows.
+     */
+    public <R, T> List<T> process(List<R> rows, Function<R, T> rowProcessor) {
+        int rowsPerTask = Math.max(1, config.getParallelProcessingRowsPerTask());
+        List<Future<List<T>>> futures = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += rowsPerTask) {
+            List<R> range = rows.subList(from, Math.min(rows.size(), from + rowsPerTask));
+            futures.add(executor.submit(() -> {
+                List<T> rangeResults = new ArrayList<>(range.size());
+                range.forEach(row -> rangeResults.add(rowProcessor.apply(row)));
+                return rangeResults;
+            }));
+        }
+
+        List<T> results = new ArrayList<>(rows.size());
+        try {
+            for (Future<List<T>> future : futures) {
+                results.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new CustomException(PARALLEL_PROCESSING_ERROR_CODE, PARALLEL_PROCESSING_ERROR_MESSAGE);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            log.error(PARALLEL_PROCESSING_ERROR_MESSAGE, e.getCause());
+            throw new CustomException(PARALLEL_PROCESSING_ERROR_CODE, PARALLEL_PROCESSING_ERROR_MESSAGE);
+        }
+        return results;
+    }
+}
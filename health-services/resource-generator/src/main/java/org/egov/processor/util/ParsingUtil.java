@@ -14,10 +14,13 @@ import org.egov.tracer.model.CustomException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -43,15 +46,26 @@ public class ParsingUtil {
 
     public List<String> fetchAttributeNamesFromJson(JsonNode jsonNode)
     {
-        if(jsonNode.get("features") == null)
-            throw new CustomException("No Features found in geojson", " ");
-        List<String> columnNames = new ArrayList<>();       
-        JsonNode propertiesNode = jsonNode.get("features").get(0).get("properties");
+        if(jsonNode.get(FEATURES) == null)
+            throw new CustomException(NO_FEATURES_FOUND_CODE, " ");
+        return fetchAttributeNamesFromFeature(jsonNode.get(FEATURES).get(0));
+    }
+
+    /**
+     * Extracts the attribute names of a feature from its properties.
+     *
+     * @param feature The feature, with its attributes under properties.
+     * @return The attribute names of the feature.
+     */
+    public List<String> fetchAttributeNamesFromFeature(JsonNode feature)
+    {
+        List<String> columnNames = new ArrayList<>();
+        JsonNode propertiesNode = feature.get(PROPERTIES);
         Iterator<String> fieldNames = propertiesNode.fieldNames();
         while (fieldNames.hasNext()) {
             String columnName = fieldNames.next();
             columnNames.add(columnName);
-        }       
+        }
         return columnNames;
     }
 
@@ -237,9 +251,9 @@ public class ParsingUtil {
      */
     public File extractShapeFilesFromZip(PlanConfiguration planConfig, String fileStoreId, String fileName) throws IOException {
         File shpFile = null;
-        byte[] zipFileBytes = filestoreUtil.getFile(planConfig.getTenantId(), fileStoreId);
+        File zipFile = filestoreUtil.downloadFile(planConfig.getTenantId(), fileStoreId, ".zip");
 
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(zipFileBytes); ZipInputStream zis = new ZipInputStream(bais)) {
+        try (InputStream fis = new BufferedInputStream(new FileInputStream(zipFile)); ZipInputStream zis = new ZipInputStream(fis)) {
             ZipEntry entry;
             while ((entry = zis.getNextEntry()) != null) {
                 if (entry.getName().endsWith(".dbf")) {
@@ -263,6 +277,10 @@ public class ParsingUtil {
                     break; // Assuming there is only one .shp file in the zip
                 }
             }
+        } finally {
+            if (zipFile.exists() && !zipFile.delete()) {
+                log.warn("Failed to delete temporary file: {}", zipFile.getPath());
+            }
         }
         return shpFile;
     }
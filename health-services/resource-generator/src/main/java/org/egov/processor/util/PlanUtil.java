@@ -44,26 +44,53 @@ public class PlanUtil {
     }
 
 	/**
-	 * Creates a plan configuration request, builds a plan request from it, and pushes it to the messaging system for further processing.
-	 * 
+	 * Returns a publisher for the plans estimated from the files of a plan configuration request. Plans are pushed
+	 * to the plan service in bulk requests sharing the request info when bulk create is enabled, and one plan
+	 * request per plan otherwise. The publisher must be flushed once all the plans are added.
+	 *
 	 * @param planConfigurationRequest The plan configuration request.
-	 * @param feature The feature JSON node.
-	 * @param resultMap The result map.
-	 * @param mappedValues The mapped values.
-	 * @param boundaryCodeToCensusAdditionalDetails A Map of boundary code to censusAdditionalDetails for that boundary code.
+	 * @return The publisher of the plans.
 	 */
-	public void create(PlanConfigurationRequest planConfigurationRequest, JsonNode feature,
-			Map<String, BigDecimal> resultMap, Map<String, String> mappedValues, Map<String, Object> boundaryCodeToCensusAdditionalDetails) {
-		PlanRequest planRequest = buildPlanRequest(planConfigurationRequest, feature, resultMap, mappedValues, boundaryCodeToCensusAdditionalDetails);
+	public BatchPublisher<Plan> createPublisher(PlanConfigurationRequest planConfigurationRequest) {
+		if (!config.isBulkCreateEnabled()) {
+			return new BatchPublisher<>(1, plans -> plans.forEach(plan -> push(planConfigurationRequest, plan)));
+		}
+		return new BatchPublisher<>(config.getBulkCreateBatchSize(), plans -> push(planConfigurationRequest, plans));
+	}
+
+	private void push(PlanConfigurationRequest planConfigurationRequest, Plan plan) {
+		try {
+			producer.push(config.getResourceMicroplanCreateTopic(), PlanRequest.builder()
+					.requestInfo(planConfigurationRequest.getRequestInfo())
+					.plan(plan)
+					.build());
+		} catch (Exception e) {
+			log.error(ERROR_WHILE_FETCHING_FROM_PLAN_SERVICE_FOR_LOCALITY + plan.getLocality(), e);
+		}
+	}
+
+	private void push(PlanConfigurationRequest planConfigurationRequest, List<Plan> plans) {
+		PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
 		try {
-			producer.push(config.getResourceMicroplanCreateTopic(), planRequest);
+			producer.push(config.getResourceMicroplanBulkCreateTopic(), BulkPlanCreateRequest.builder()
+					.requestInfo(planConfigurationRequest.getRequestInfo())
+					.tenantId(planConfig.getTenantId())
+					.campaignId(planConfig.getCampaignId())
+					.planConfigurationId(planConfig.getId())
+					.plans(plans.stream().map(plan -> PlanCreateDTO.builder()
+							.locality(plan.getLocality())
+							.resources(plan.getResources().stream().collect(Collectors.toMap(Resource::getResourceType,
+									Resource::getEstimatedNumber, (first, second) -> second, LinkedHashMap::new)))
+							.additionalDetails(plan.getAdditionalDetails())
+							.build()).collect(Collectors.toList()))
+					.build());
 		} catch (Exception e) {
-			log.error(ERROR_WHILE_FETCHING_FROM_PLAN_SERVICE_FOR_LOCALITY + planRequest.getPlan().getLocality(), e); 
+			log.error(ERROR_WHILE_PUSHING_PLANS_IN_BULK + plans.size(), e);
 		}
 	}
 
 	/**
-	 * Builds a PlanRequest object using the provided plan configuration request, feature JSON node,
+	 * Builds a Plan object using the provided plan configuration request, feature JSON node,
 	 * result map, mapped values, and assumption value map.
 	 *
 	 * @param planConfigurationRequest The plan configuration request.
@@ -71,33 +98,30 @@ public class PlanUtil {
 	 * @param resultMap The result map.
 	 * @param mappedValues The mapped values.
 	 * @param boundaryCodeToCensusAdditionalDetails A Map of boundary code to censusAdditionalDetails for that boundary code.
-	 * @return The constructed PlanRequest object.
+	 * @return The constructed Plan object.
 	 */
-	private PlanRequest buildPlanRequest(PlanConfigurationRequest planConfigurationRequest, JsonNode feature,
+	public Plan buildPlan(PlanConfigurationRequest planConfigurationRequest, JsonNode feature,
 			Map<String, BigDecimal> resultMap, Map<String, String> mappedValues, Map<String, Object> boundaryCodeToCensusAdditionalDetails) {
 
 		PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
 		String boundaryCodeValue = getBoundaryCodeValue(ServiceConstants.BOUNDARY_CODE, feature, mappedValues);
 
-		return PlanRequest.builder()
-				.requestInfo(planConfigurationRequest.getRequestInfo())
-				.plan(Plan.builder()
-						.tenantId(planConfig.getTenantId())
-						.planConfigurationId(planConfig.getId())
-						.campaignId(planConfig.getCampaignId())
-						.locality(boundaryCodeValue)
-						.resources(resultMap.entrySet().stream().map(result -> {
-							Resource res = new Resource();
-							res.setResourceType(result.getKey());
-							res.setEstimatedNumber(result.getValue());
-							return res;
-						}).collect(Collectors.toList()))
-						.activities(new ArrayList())
-						.targets(new ArrayList())
-						.workflow(Workflow.builder().action(WORKFLOW_ACTION_INITIATE).build())
-						.isRequestFromResourceEstimationConsumer(true)
-						.additionalDetails(enrichAdditionalDetails(boundaryCodeToCensusAdditionalDetails, boundaryCodeValue))
-						.build())
+		return Plan.builder()
+				.tenantId(planConfig.getTenantId())
+				.planConfigurationId(planConfig.getId())
+				.campaignId(planConfig.getCampaignId())
+				.locality(boundaryCodeValue)
+				.resources(resultMap.entrySet().stream().map(result -> {
+					Resource res = new Resource();
+					res.setResourceType(result.getKey());
+					res.setEstimatedNumber(result.getValue());
+					return res;
+				}).collect(Collectors.toList()))
+				.activities(new ArrayList())
+				.targets(new ArrayList())
+				.workflow(Workflow.builder().action(WORKFLOW_ACTION_INITIATE).build())
+				.isRequestFromResourceEstimationConsumer(true)
+				.additionalDetails(enrichAdditionalDetails(boundaryCodeToCensusAdditionalDetails, boundaryCodeValue))
 				.build();
 	}
 
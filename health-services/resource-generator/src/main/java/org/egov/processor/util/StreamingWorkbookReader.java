@@ -0,0 +1,329 @@
+package org.egov.processor.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.egov.tracer.model.CustomException;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCell;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.STCellType;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import static org.egov.processor.config.ServiceConstants.EXCEL_STREAMING_ERROR_CODE;
+import static org.egov.processor.config.ServiceConstants.EXCEL_STREAMING_ERROR_MESSAGE;
+
+/**
+ * Reads the rows of an xlsx file one at a time from the sheet XML instead of loading the workbook.
+ * <p>
+ * Each row read is materialised in a scratch sheet carrying the name of the source sheet, so it can be handled with
+ * the usual {@link Row} and {@link org.apache.poi.ss.usermodel.Cell} API, and is dropped when the next row is read.
+ * Only the header row is kept, so the heap used for cells does not grow with the number of rows; the shared string
+ * table of the file is still held in memory. Cells keep their type, formula cells included, with their cached value.
+ */
+@Slf4j
+public class StreamingWorkbookReader implements Closeable {
+
+    private final OPCPackage opcPackage;
+
+    private final XSSFReader xssfReader;
+
+    private final ReadOnlySharedStringsTable sharedStrings;
+
+    private final StylesTable styles;
+
+    private final XSSFWorkbook scratchWorkbook = new XSSFWorkbook();
+
+    private final CellStyle dateStyle;
+
+    private final Map<Integer, Boolean> dateStyleIndexes = new HashMap<>();
+
+    public StreamingWorkbookReader(File file) throws IOException {
+        try {
+            this.opcPackage = OPCPackage.open(file, PackageAccess.READ);
+            this.xssfReader = new XSSFReader(opcPackage);
+            this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            this.styles = xssfReader.getStylesTable();
+        } catch (OpenXML4JException | SAXException e) {
+            throw new IOException("Cannot open the workbook for streaming", e);
+        }
+        this.dateStyle = scratchWorkbook.createCellStyle();
+        this.dateStyle.setDataFormat((short) 14);
+    }
+
+    /**
+     * Streams the sheets of the workbook in order.
+     *
+     * @param sheetConsumer Consumes a sheet, reading its rows before returning.
+     * @throws IOException If the sheets cannot be read.
+     */
+    public void forEachSheet(Consumer<StreamingSheet> sheetConsumer) throws IOException {
+        XSSFReader.SheetIterator sheets;
+        try {
+            sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+        } catch (OpenXML4JException e) {
+            throw new IOException("Cannot read the sheets of the workbook", e);
+        }
+        while (sheets.hasNext()) {
+            try (InputStream sheetData = sheets.next();
+                 StreamingSheet sheet = new StreamingSheet(sheets.getSheetName(), sheetData)) {
+                sheetConsumer.accept(sheet);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        scratchWorkbook.close();
+        opcPackage.revert();
+    }
+
+    private boolean isDateStyle(String styleIndex) {
+        if (styleIndex == null) {
+            return false;
+        }
+        return dateStyleIndexes.computeIfAbsent(Integer.parseInt(styleIndex), index -> {
+            XSSFCellStyle style = styles.getStyleAt(index);
+            return style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+        });
+    }
+
+    /**
+     * A sheet of the workbook whose rows are read while iterating, header row first.
+     */
+    public class StreamingSheet implements Iterable<Row>, Closeable {
+
+        private final XSSFSheet sheet;
+
+        private final XMLStreamReader reader;
+
+        private int nextRowNum = 0;
+
+        private boolean started = false;
+
+        private boolean exhausted = false;
+
+        private Row previousRow;
+
+        private Row pendingRow;
+
+        private StreamingSheet(String sheetName, InputStream sheetData) throws IOException {
+            this.sheet = scratchWorkbook.createSheet(sheetName);
+            try {
+                this.reader = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetData);
+            } catch (XMLStreamException e) {
+                throw new IOException("Cannot read sheet " + sheetName, e);
+            }
+        }
+
+        public String getSheetName() {
+            return sheet.getSheetName();
+        }
+
+        /**
+         * Returns the scratch sheet holding the header row and the row being read.
+         *
+         * @return The scratch sheet.
+         */
+        public Sheet getSheet() {
+            return sheet;
+        }
+
+        /**
+         * Reads the first row of the sheet so that the header row is available before iterating.
+         *
+         * @return The header row, or null if the first row of the sheet is not the header row.
+         */
+        public Row readHeaderRow() {
+            if (!started) {
+                pendingRow = readNextRow();
+            }
+            return sheet.getRow(0);
+        }
+
+        @Override
+        public Iterator<Row> iterator() {
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    if (pendingRow == null && !exhausted) {
+                        pendingRow = readNextRow();
+                    }
+                    return pendingRow != null;
+                }
+
+                @Override
+                public Row next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Row row = pendingRow;
+                    pendingRow = null;
+                    return row;
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                log.warn("Error closing sheet {}", sheet.getSheetName(), e);
+            }
+            scratchWorkbook.removeSheetAt(scratchWorkbook.getSheetIndex(sheet));
+        }
+
+        // drops the row read before, keeping the header row, and reads the next one
+        private Row readNextRow() {
+            started = true;
+            if (previousRow != null && previousRow.getRowNum() != 0) {
+                sheet.removeRow(previousRow);
+            }
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && "row".equals(reader.getLocalName())) {
+                        String rowReference = reader.getAttributeValue(null, "r");
+                        int rowNum = rowReference != null ? Integer.parseInt(rowReference) - 1 : nextRowNum;
+                        nextRowNum = rowNum + 1;
+                        XSSFRow row = sheet.createRow(rowNum);
+                        readCells(row);
+                        previousRow = row;
+                        return row;
+                    }
+                }
+            } catch (XMLStreamException e) {
+                log.error("Error reading sheet {} after row {}", sheet.getSheetName(), nextRowNum, e);
+                throw new CustomException(EXCEL_STREAMING_ERROR_CODE, EXCEL_STREAMING_ERROR_MESSAGE + sheet.getSheetName());
+            }
+            previousRow = null;
+            exhausted = true;
+            return null;
+        }
+
+        private void readCells(XSSFRow row) throws XMLStreamException {
+            int nextColumn = 0;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT && "row".equals(reader.getLocalName())) {
+                    return;
+                }
+                if (event == XMLStreamConstants.START_ELEMENT && "c".equals(reader.getLocalName())) {
+                    String cellReference = reader.getAttributeValue(null, "r");
+                    int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+                    nextColumn = column + 1;
+                    readCell(row.createCell(column), reader.getAttributeValue(null, "t"),
+                            reader.getAttributeValue(null, "s"));
+                }
+            }
+        }
+
+        private void readCell(XSSFCell cell, String type, String styleIndex) throws XMLStreamException {
+            String value = null;
+            String formula = null;
+            StringBuilder inlineText = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT && "c".equals(reader.getLocalName())) {
+                    break;
+                }
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "v":
+                            value = reader.getElementText();
+                            break;
+                        case "f":
+                            formula = reader.getElementText();
+                            break;
+                        case "t":
+                            inlineText = (inlineText == null ? new StringBuilder() : inlineText)
+                                    .append(reader.getElementText());
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+            setValue(cell, type, value, inlineText, styleIndex, formula != null);
+            if (formula != null) {
+                cell.getCTCell().addNewF().setStringValue(formula);
+            }
+        }
+
+        private void setValue(XSSFCell cell, String type, String value, StringBuilder inlineText, String styleIndex,
+                              boolean isFormula) {
+            if ("inlineStr".equals(type)) {
+                setString(cell, inlineText != null ? inlineText.toString() : "", isFormula);
+                return;
+            }
+            if (value == null) {
+                return;
+            }
+            switch (type == null ? "n" : type) {
+                case "s":
+                    setString(cell, sharedStrings.getItemAt(Integer.parseInt(value)).getString(), isFormula);
+                    break;
+                case "str":
+                case "d":
+                    setString(cell, value, isFormula);
+                    break;
+                case "b":
+                    cell.setCellValue("1".equals(value) || "true".equalsIgnoreCase(value));
+                    break;
+                case "e":
+                    try {
+                        cell.setCellErrorValue(FormulaError.forString(value));
+                    } catch (IllegalArgumentException e) {
+                        cell.setCellErrorValue(FormulaError.VALUE);
+                    }
+                    break;
+                default:
+                    cell.setCellValue(Double.parseDouble(value));
+                    if (isDateStyle(styleIndex)) {
+                        cell.setCellStyle(dateStyle);
+                    }
+                    break;
+            }
+        }
+
+        // strings are kept in the cell instead of the scratch shared string table, which would grow with every row
+        private void setString(XSSFCell cell, String text, boolean isFormula) {
+            CTCell ctCell = cell.getCTCell();
+            if (isFormula) {
+                ctCell.setT(STCellType.STR);
+                ctCell.setV(text);
+            } else {
+                ctCell.setT(STCellType.INLINE_STR);
+                ctCell.addNewIs().setT(text);
+            }
+        }
+    }
+}
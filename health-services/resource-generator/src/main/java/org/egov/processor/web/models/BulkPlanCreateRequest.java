@@ -0,0 +1,42 @@
+package org.egov.processor.web.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.egov.common.contract.request.RequestInfo;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * BulkPlanCreateRequest carries the plans estimated for the localities of a plan configuration, sending the fields
+ * shared by all of them once.
+ */
+@Validated
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkPlanCreateRequest {
+    @JsonProperty("RequestInfo")
+    @Valid
+    private RequestInfo requestInfo = null;
+
+    @JsonProperty("tenantId")
+    private String tenantId = null;
+
+    @JsonProperty("campaignId")
+    private String campaignId = null;
+
+    @JsonProperty("planConfigurationId")
+    private String planConfigurationId = null;
+
+    @JsonProperty("Plans")
+    @Valid
+    private List<PlanCreateDTO> plans = null;
+
+
+}
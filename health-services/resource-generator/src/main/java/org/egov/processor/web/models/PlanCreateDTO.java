@@ -0,0 +1,33 @@
+package org.egov.processor.web.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * PlanCreateDTO holds the fields of a plan of a bulk create request that differ from one locality to the other,
+ * with the estimated number of each resource keyed by resource type.
+ */
+@Validated
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PlanCreateDTO {
+    @JsonProperty("locality")
+    private String locality = null;
+
+    @JsonProperty("resources")
+    private Map<String, BigDecimal> resources = null;
+
+    @JsonProperty("additionalDetails")
+    private Object additionalDetails = null;
+
+
+}
@@ -0,0 +1,43 @@
+package org.egov.processor.web.models.census;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.egov.common.contract.request.RequestInfo;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * BulkCensusCreateRequest carries the census records created from the file of a plan configuration, sending the
+ * fields shared by all of them once.
+ */
+@Validated
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkCensusCreateRequest {
+
+    @JsonProperty("RequestInfo")
+    @Valid
+    private RequestInfo requestInfo = null;
+
+    @JsonProperty("tenantId")
+    private String tenantId = null;
+
+    @JsonProperty("hierarchyType")
+    private String hierarchyType = null;
+
+    @JsonProperty("source")
+    private String source = null;
+
+    @JsonProperty("Census")
+    @Valid
+    private List<CensusCreateDTO> census = null;
+
+
+}
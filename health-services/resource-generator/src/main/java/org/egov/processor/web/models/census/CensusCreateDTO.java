@@ -0,0 +1,36 @@
+package org.egov.processor.web.models.census;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * CensusCreateDTO holds the fields of a census record of a bulk create request that differ from one boundary to
+ * the other.
+ */
+@Validated
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CensusCreateDTO {
+
+    @JsonProperty("boundaryCode")
+    private String boundaryCode = null;
+
+    @JsonProperty("totalPopulation")
+    private BigDecimal totalPopulation = null;
+
+    @JsonProperty("additionalFields")
+    @Valid
+    private List<AdditionalField> additionalFields = null;
+
+
+}
@@ -0,0 +1,334 @@
+package org.egov.processor.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.egov.processor.config.Configuration;
+import org.egov.processor.kafka.Producer;
+import org.egov.processor.repository.ServiceRequestRepository;
+import org.egov.processor.util.BoundaryUtil;
+import org.egov.processor.util.CalculationUtil;
+import org.egov.processor.util.CampaignIntegrationUtil;
+import org.egov.processor.util.CensusUtil;
+import org.egov.processor.util.EnrichmentUtil;
+import org.egov.processor.util.FilestoreUtil;
+import org.egov.processor.util.LocaleUtil;
+import org.egov.processor.util.MdmsUtil;
+import org.egov.processor.util.MixedStrategyUtil;
+import org.egov.processor.util.OutputEstimationGenerationUtil;
+import org.egov.processor.util.ParallelRowProcessor;
+import org.egov.processor.util.ParsingUtil;
+import org.egov.processor.util.PlanConfigurationUtil;
+import org.egov.processor.util.PlanFacilityUtil;
+import org.egov.processor.util.PlanUtil;
+import org.egov.processor.web.models.Assumption;
+import org.egov.processor.web.models.Operation;
+import org.egov.processor.web.models.PlanConfiguration;
+import org.egov.processor.web.models.PlanConfigurationRequest;
+import org.egov.processor.web.models.ResourceMapping;
+import org.egov.processor.web.models.boundary.BoundarySearchResponse;
+import org.egov.processor.web.models.boundary.EnrichedBoundary;
+import org.egov.processor.web.models.boundary.HierarchyRelation;
+import org.egov.processor.web.models.campaignManager.Campaign;
+import org.egov.processor.web.models.campaignManager.CampaignResponse;
+import org.egov.processor.web.models.planFacility.PlanFacility;
+import org.egov.processor.web.models.planFacility.PlanFacilityResponse;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.egov.processor.config.ServiceConstants.ATTRIBUTE_IS_REQUIRED;
+import static org.egov.processor.config.ServiceConstants.BOUNDARY_CODE;
+import static org.egov.processor.config.ServiceConstants.FIXED_POST;
+import static org.egov.processor.config.ServiceConstants.TOTAL_POPULATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class ExcelParserParallelTest {
+
+    private static final String FILE_STORE_ID = "population-file";
+
+    private static final String CENSUS_STATUS = "CENSUS_DATA_APPROVAL_IN_PROGRESS";
+
+    private static final String ESTIMATES_STATUS = "RESOURCE_ESTIMATION_IN_PROGRESS";
+
+    // more rows than a task takes, with an empty row left out of both the sequential and the parallel processing
+    private static final List<String> BOUNDARY_CODES = Arrays.asList("B1", "B2", "B3", "B4", "B5", null, "B6", "B7",
+            "B8", "B9", "B10");
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private FilestoreUtil filestoreUtil;
+
+    @Mock
+    private CampaignIntegrationUtil campaignIntegrationUtil;
+
+    @Mock
+    private MdmsUtil mdmsUtil;
+
+    @Mock
+    private BoundaryUtil boundaryUtil;
+
+    @Mock
+    private LocaleUtil localeUtil;
+
+    @Mock
+    private EnrichmentUtil enrichmentUtil;
+
+    @Mock
+    private PlanConfigurationUtil planConfigurationUtil;
+
+    @Mock
+    private OutputEstimationGenerationUtil outputEstimationGenerationUtil;
+
+    @Mock
+    private MixedStrategyUtil mixedStrategyUtil;
+
+    @Mock
+    private PlanFacilityUtil planFacilityUtil;
+
+    @Mock
+    private Producer producer;
+
+    @Mock
+    private ServiceRequestRepository serviceRequestRepository;
+
+    private final List<List<Object>> published = new ArrayList<>();
+
+    private final List<String> uploaded = new ArrayList<>();
+
+    private Configuration config;
+
+    private ParallelRowProcessor parallelRowProcessor;
+
+    private ExcelParser excelParser;
+
+    @BeforeEach
+    void setUp() {
+        config = new Configuration();
+        config.setPlanConfigTriggerCensusRecordsStatus(CENSUS_STATUS);
+        config.setPlanConfigTriggerPlanEstimatesStatus(ESTIMATES_STATUS);
+        config.setPlanConfigUpdatePlanEstimatesIntoOutputFileStatus("RESOURCE_ESTIMATIONS_APPROVED");
+        config.setParallelProcessingMaxThreads(3);
+        config.setParallelProcessingQueueSize(10);
+        config.setParallelProcessingRowsPerTask(4);
+        config.setResourceCensusCreateTopic("resource-census-create-topic");
+        config.setResourceMicroplanCreateTopic("resource-microplan-create-topic");
+        config.setResourceUpdatePlanConfigConsumerTopic("resource-plan-config-update-topic");
+        config.setCensusAdditionalFieldOverrideKeys(Arrays.asList(BOUNDARY_CODE, TOTAL_POPULATION));
+        config.setCensusAdditionalPrefixAppendKeys(Collections.emptyList());
+        config.setCensusAdditionalFieldShowOnUIFalseKeys(Collections.emptyList());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ParsingUtil parsingUtil = new ParsingUtil(filestoreUtil, objectMapper);
+        PlanUtil planUtil = new PlanUtil(serviceRequestRepository, config, producer, objectMapper, parsingUtil);
+        CensusUtil censusUtil = new CensusUtil(serviceRequestRepository, config, producer, parsingUtil, objectMapper);
+        parallelRowProcessor = new ParallelRowProcessor(config);
+        excelParser = new ExcelParser(objectMapper, parsingUtil, filestoreUtil, new CalculationUtil(planUtil), planUtil,
+                campaignIntegrationUtil, config, mdmsUtil, boundaryUtil, localeUtil, censusUtil, enrichmentUtil,
+                planConfigurationUtil, outputEstimationGenerationUtil, mixedStrategyUtil, planFacilityUtil,
+                parallelRowProcessor);
+
+        lenient().when(filestoreUtil.downloadFile(anyString(), eq(FILE_STORE_ID), eq(".xlsx")))
+                .thenAnswer(invocation -> writeWorkbook());
+        lenient().when(filestoreUtil.uploadFile(any(), anyString())).thenAnswer(invocation -> {
+            uploaded.add(describe(invocation.getArgument(0)));
+            return "estimates-file";
+        });
+        lenient().doAnswer(invocation -> published.add(Arrays.asList(invocation.getArgument(0),
+                invocation.getArgument(1)))).when(producer).push(anyString(), any());
+        lenient().when(campaignIntegrationUtil.parseCampaignResponse(any())).thenReturn(CampaignResponse.builder()
+                .campaign(Collections.singletonList(Campaign.builder().hierarchyType("ADMIN").projectType("MR-DN")
+                        .build()))
+                .build());
+        lenient().when(mdmsUtil.fetchMdmsData(any(), anyString())).thenReturn("mdms");
+        lenient().when(mdmsUtil.filterMasterData(anyString(), anyString())).thenReturn(Map.of(
+                BOUNDARY_CODE, Map.of(ATTRIBUTE_IS_REQUIRED, true),
+                TOTAL_POPULATION, Map.of(ATTRIBUTE_IS_REQUIRED, true)));
+        lenient().when(outputEstimationGenerationUtil.isSheetAllowedToProcess(anyString(), any(), any()))
+                .thenReturn(true);
+        lenient().when(boundaryUtil.search(anyString(), anyString(), any())).thenReturn(boundaries());
+        lenient().when(planFacilityUtil.search(any())).thenReturn(facilities());
+        lenient().when(mixedStrategyUtil.getCategoriesNotAllowed(eq(true), any(), any()))
+                .thenReturn(Collections.singletonList("NETS"));
+        lenient().doCallRealMethod().when(mixedStrategyUtil).processResultMap(anyMap(), anyList(), anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelRowProcessor.shutdown();
+    }
+
+    @Test
+    @DisplayName("should publish the same census records in parallel as one row after the other")
+    void shouldPublishTheSameCensusInParallel() {
+        List<List<Object>> sequential = parse(CENSUS_STATUS, false);
+        List<List<Object>> parallel = parse(CENSUS_STATUS, true);
+
+        assertEquals(10, sequential.size());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("should publish the same plans and write back the same estimates in parallel as one row after the other")
+    void shouldPublishTheSamePlansInParallel() {
+        List<List<Object>> sequential = parse(ESTIMATES_STATUS, false);
+        List<String> sequentialUpload = new ArrayList<>(uploaded);
+        uploaded.clear();
+        List<List<Object>> parallel = parse(ESTIMATES_STATUS, true);
+
+        // ten plans, then the plan configuration update once the estimates file is uploaded
+        assertEquals(11, sequential.size());
+        assertEquals(sequential, parallel);
+        assertEquals(1, sequentialUpload.size());
+        assertEquals(sequentialUpload, uploaded);
+    }
+
+    @Test
+    @DisplayName("should publish the same records before an invalid row in parallel as one row after the other")
+    void shouldPublishTheSameRecordsBeforeAnInvalidRowInParallel() {
+        lenient().when(boundaryUtil.search(anyString(), anyString(), any())).thenReturn(boundaries("B1", "B2", "B3",
+                "B5", "B6", "B7", "B8", "B9", "B10"));
+        List<List<Object>> sequential = parseFailing(CENSUS_STATUS, false);
+        List<List<Object>> parallel = parseFailing(CENSUS_STATUS, true);
+
+        // the rows before B4 are published, then the plan configuration is marked invalid
+        assertEquals(4, sequential.size());
+        assertEquals(sequential, parallel);
+    }
+
+    private List<List<Object>> parse(String status, boolean parallel) {
+        published.clear();
+        config.setParallelProcessingEnabled(parallel);
+        excelParser.parseFileData(request(status), FILE_STORE_ID, new Object());
+        return new ArrayList<>(published);
+    }
+
+    private List<List<Object>> parseFailing(String status, boolean parallel) {
+        published.clear();
+        config.setParallelProcessingEnabled(parallel);
+        assertThrows(CustomException.class,
+                () -> excelParser.parseFileData(request(status), FILE_STORE_ID, new Object()));
+        return new ArrayList<>(published);
+    }
+
+    private static PlanConfigurationRequest request(String status) {
+        List<Operation> operations = Arrays.asList(
+                Operation.builder().input(TOTAL_POPULATION).operator(Operation.OperatorEnum.SLASH)
+                        .assumptionValue("householdSize").output("households").category("HOUSEHOLDS").active(true)
+                        .build(),
+                Operation.builder().input("households").operator(Operation.OperatorEnum.STAR)
+                        .assumptionValue("netsPerHousehold").output("nets").category("NETS").active(true).build());
+        return PlanConfigurationRequest.builder()
+                .planConfiguration(PlanConfiguration.builder()
+                        .id("plan-configuration")
+                        .tenantId("mz")
+                        .campaignId("campaign")
+                        .status(status)
+                        .files(Collections.singletonList(org.egov.processor.web.models.File.builder()
+                                .filestoreId(FILE_STORE_ID).templateIdentifier("Population").active(true).build()))
+                        .assumptions(Arrays.asList(
+                                Assumption.builder().key("householdSize").value(new BigDecimal("4.5")).build(),
+                                Assumption.builder().key("netsPerHousehold").value(new BigDecimal("1.8")).build()))
+                        .operations(operations)
+                        .resourceMapping(Arrays.asList(
+                                ResourceMapping.builder().filestoreId(FILE_STORE_ID).mappedFrom("Boundary Code")
+                                        .mappedTo(BOUNDARY_CODE).build(),
+                                ResourceMapping.builder().filestoreId(FILE_STORE_ID).mappedFrom("Population")
+                                        .mappedTo(TOTAL_POPULATION).build()))
+                        .build())
+                .build();
+    }
+
+    private static BoundarySearchResponse boundaries(String... codes) {
+        List<String> boundaryCodes = codes.length > 0 ? Arrays.asList(codes) : BOUNDARY_CODES;
+        List<EnrichedBoundary> children = boundaryCodes.stream()
+                .filter(code -> code != null)
+                .map(code -> EnrichedBoundary.builder().code(code).boundaryType("Village").build())
+                .collect(Collectors.toList());
+        return BoundarySearchResponse.builder().tenantBoundary(Collections.singletonList(HierarchyRelation.builder()
+                .boundary(Collections.singletonList(EnrichedBoundary.builder().code("ROOT").boundaryType("Country")
+                        .children(children).build()))
+                .build())).build();
+    }
+
+    // odd boundaries are served by a fixed post, whose nets are left out by the mixed strategy
+    private static PlanFacilityResponse facilities() {
+        return PlanFacilityResponse.builder().planFacility(Arrays.asList(
+                PlanFacility.builder().serviceBoundaries(Arrays.asList("B1", "B3", "B5", "B7", "B9"))
+                        .additionalDetails(Map.of(FIXED_POST, "yes")).build(),
+                PlanFacility.builder().serviceBoundaries(Arrays.asList("B2", "B4", "B6", "B8", "B10"))
+                        .additionalDetails(Map.of(FIXED_POST, "no")).build()))
+                .build();
+    }
+
+    private File writeWorkbook() throws IOException {
+        File file = File.createTempFile("population", ".xlsx", tempDir.toFile());
+        try (Workbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Population");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Boundary Code");
+            header.createCell(1).setCellValue("Population");
+            for (int i = 0; i < BOUNDARY_CODES.size(); i++) {
+                Row row = sheet.createRow(i + 1);
+                if (BOUNDARY_CODES.get(i) != null) {
+                    row.createCell(0).setCellValue(BOUNDARY_CODES.get(i));
+                    row.createCell(1).setCellValue(1000 + i * 137);
+                }
+            }
+            workbook.write(out);
+        }
+        return file;
+    }
+
+    // describes the cells of every row of the uploaded workbook, as the estimates are written back into it
+    private static String describe(File file) throws IOException {
+        try (Workbook workbook = WorkbookFactory.create(file)) {
+            List<String> rows = new ArrayList<>();
+            for (Sheet sheet : workbook) {
+                for (Row row : sheet) {
+                    List<String> cells = new ArrayList<>();
+                    for (Cell cell : row) {
+                        cells.add(cell.getColumnIndex() + "=" + cell);
+                    }
+                    rows.add(sheet.getSheetName() + ":" + row.getRowNum() + ":" + String.join(",", cells));
+                }
+            }
+            return String.join("\n", rows);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.egov.processor.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.egov.processor.util.CalculationUtil;
+import org.egov.processor.util.FeatureCalculator;
+import org.egov.processor.util.FeatureStreamUtil;
+import org.egov.processor.util.FilestoreUtil;
+import org.egov.processor.util.ParsingUtil;
+import org.egov.processor.web.models.PlanConfiguration;
+import org.egov.processor.web.models.PlanConfigurationRequest;
+import org.egov.processor.web.models.ResourceMapping;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.egov.processor.config.ServiceConstants.GEOJSON_FILE_SUFFIX;
+import static org.egov.processor.config.ServiceConstants.PROPERTIES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GeoJsonParserTest {
+
+    private static final String FILE_STORE_ID = "geojson-file";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private ParsingUtil parsingUtil;
+
+    @Mock
+    private FilestoreUtil filestoreUtil;
+
+    @Mock
+    private CalculationUtil calculationUtil;
+
+    @Mock
+    private FeatureCalculator featureCalculator;
+
+    private GeoJsonParser geoJsonParser;
+
+    private PlanConfigurationRequest planConfigurationRequest;
+
+    @BeforeEach
+    void setUp() {
+        geoJsonParser = new GeoJsonParser(new FeatureStreamUtil(new ObjectMapper()), parsingUtil, filestoreUtil,
+                calculationUtil);
+        PlanConfiguration planConfiguration = PlanConfiguration.builder()
+                .tenantId("pb")
+                .resourceMapping(Collections.singletonList(ResourceMapping.builder().filestoreId(FILE_STORE_ID)
+                        .mappedFrom("Population").mappedTo("population").build()))
+                .assumptions(Collections.emptyList())
+                .build();
+        planConfigurationRequest = PlanConfigurationRequest.builder().planConfiguration(planConfiguration).build();
+        lenient().when(calculationUtil.convertAssumptionsToMap(any())).thenReturn(Collections.emptyMap());
+        lenient().when(calculationUtil.createFeatureCalculator(eq(planConfigurationRequest), anyMap(), anyMap(),
+                anyMap())).thenReturn(featureCalculator);
+    }
+
+    @Test
+    @DisplayName("should publish the last plans once every feature is calculated and upload the output file")
+    void shouldFlushOnceTheFileIsCalculated() throws IOException {
+        File geoJsonFile = download("{\"type\":\"FeatureCollection\",\"features\":["
+                + "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{\"Population\":10}},"
+                + "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{\"Population\":20}}]}");
+        when(filestoreUtil.uploadFile(any(File.class), eq("pb"))).thenReturn("output-file");
+
+        Object result = geoJsonParser.parseFileData(planConfigurationRequest, FILE_STORE_ID, null);
+
+        assertEquals("output-file", result);
+        InOrder inOrder = inOrder(featureCalculator, filestoreUtil);
+        inOrder.verify(featureCalculator, times(2)).accept(any(JsonNode.class));
+        inOrder.verify(featureCalculator).flush();
+        inOrder.verify(filestoreUtil).uploadFile(any(File.class), eq("pb"));
+        verify(parsingUtil, times(1)).validateColumnNames(any(), eq(planConfigurationRequest.getPlanConfiguration()),
+                eq(FILE_STORE_ID));
+        assertFalse(geoJsonFile.exists());
+    }
+
+    @Test
+    @DisplayName("should not publish the last plans of a file failing part way")
+    void shouldNotFlushWhenTheFileFailsPartWay() throws IOException {
+        File geoJsonFile = download("{\"type\":\"FeatureCollection\",\"features\":["
+                + "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{\"Population\":10}},"
+                + "{\"type\":\"Feature\",\"geometry\":null,\"properties\":{\"Population\":\"unknown\"}}]}");
+        doAnswer(invocation -> {
+            JsonNode feature = invocation.getArgument(0);
+            if (!feature.get(PROPERTIES).get("Population").isNumber()) {
+                throw new CustomException("INPUT_VALUE_NOT_FOUND", "Input value not found");
+            }
+            return null;
+        }).when(featureCalculator).accept(any(JsonNode.class));
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> geoJsonParser.parseFileData(planConfigurationRequest, FILE_STORE_ID, null));
+
+        assertEquals("INPUT_VALUE_NOT_FOUND", exception.getCode());
+        verify(featureCalculator, times(2)).accept(any(JsonNode.class));
+        verify(featureCalculator, never()).flush();
+        verify(filestoreUtil, never()).uploadFile(any(), any());
+        assertFalse(geoJsonFile.exists());
+    }
+
+    private File download(String content) throws IOException {
+        File file = Files.createTempFile(tempDir, "download", GEOJSON_FILE_SUFFIX).toFile();
+        Files.writeString(file.toPath(), content);
+        when(filestoreUtil.downloadFile("pb", FILE_STORE_ID, GEOJSON_FILE_SUFFIX)).thenReturn(file);
+        return file;
+    }
+}
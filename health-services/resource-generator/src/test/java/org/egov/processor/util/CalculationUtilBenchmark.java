@@ -0,0 +1,141 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.egov.processor.web.models.Operation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.egov.processor.config.ServiceConstants.PROPERTIES;
+
+/**
+ * Measures evaluating the operations of a plan configuration over the rows of a file, 1M rows of 30 operations by
+ * default, with the compiled {@link OperationPlan} and with the per operation lookups it replaced.
+ * <p>
+ * Rows are drawn from a pool of distinct features so that the heap does not hold a million of them. A third of the
+ * operations read a column, the others read the output of an earlier operation, and all of them read an assumption.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.egov.processor.util.CalculationUtilBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalculationUtilBenchmark {
+
+    private static final int FEATURE_POOL_SIZE = 1024;
+
+    private static final Operation.OperatorEnum[] OPERATORS = {Operation.OperatorEnum.PLUS,
+            Operation.OperatorEnum.STAR, Operation.OperatorEnum.MINUS, Operation.OperatorEnum.SLASH};
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"30"})
+    private int operationCount;
+
+    private List<Operation> operations;
+
+    private Map<String, String> mappedValues;
+
+    private Map<String, BigDecimal> assumptionValueMap;
+
+    private JsonNode[] features;
+
+    @Setup
+    public void setUp() {
+        operations = new ArrayList<>();
+        mappedValues = new HashMap<>();
+        assumptionValueMap = new HashMap<>();
+        int columnCount = Math.max(1, operationCount / 3);
+        for (int i = 0; i < columnCount; i++) {
+            mappedValues.put("input" + i, "Column " + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            assumptionValueMap.put("assumption" + i, BigDecimal.valueOf(i + 2));
+        }
+        for (int i = 0; i < operationCount; i++) {
+            operations.add(Operation.builder()
+                    .input(i < columnCount ? "input" + i : "output" + (i - columnCount))
+                    .operator(OPERATORS[i % OPERATORS.length])
+                    .assumptionValue("assumption" + (i % 5))
+                    .output("output" + i)
+                    .build());
+        }
+
+        features = new JsonNode[FEATURE_POOL_SIZE];
+        for (int f = 0; f < FEATURE_POOL_SIZE; f++) {
+            ObjectNode feature = JsonNodeFactory.instance.objectNode();
+            ObjectNode properties = feature.putObject(PROPERTIES);
+            for (int i = 0; i < columnCount; i++) {
+                properties.put("Column " + i, BigDecimal.valueOf(1000 + f * 7L + i, 1));
+            }
+            features[f] = feature;
+        }
+    }
+
+    @Benchmark
+    public void compiledPlan(Blackhole blackhole) {
+        OperationPlan operationPlan = OperationPlan.compile(operations, mappedValues, assumptionValueMap);
+        for (int row = 0; row < rows; row++) {
+            Map<String, BigDecimal> resultMap = new HashMap<>();
+            blackhole.consume(operationPlan.evaluate(features[row % FEATURE_POOL_SIZE], resultMap));
+        }
+    }
+
+    @Benchmark
+    public void perOperationLookups(Blackhole blackhole) {
+        for (int row = 0; row < rows; row++) {
+            Map<String, BigDecimal> resultMap = new HashMap<>();
+            JsonNode feature = features[row % FEATURE_POOL_SIZE];
+            for (Operation operation : operations) {
+                BigDecimal input = lookup(feature, resultMap, operation.getInput());
+                BigDecimal assumption = lookup(feature, resultMap, operation.getAssumptionValue());
+                BigDecimal result = OperationPlan.apply(input, operation.getOperator(), assumption);
+                resultMap.put(operation.getOutput(), result);
+            }
+            blackhole.consume(resultMap);
+        }
+    }
+
+    // the lookup done for every operand of every row before the operations were compiled
+    private BigDecimal lookup(JsonNode feature, Map<String, BigDecimal> resultMap, String key) {
+        BigDecimal value = resultMap.getOrDefault(key, assumptionValueMap.get(key));
+        String columnName = mappedValues.get(key);
+        if (value == null && feature.has(PROPERTIES) && feature.get(PROPERTIES).has(columnName)) {
+            String cellValue = String.valueOf(feature.get(PROPERTIES).get(columnName));
+            return cellValue.contains("E") ? new BigDecimal(cellValue)
+                    : new BigDecimal(cellValue.replaceAll("[^\\d.\\-E]", ""));
+        }
+        return value;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CalculationUtilBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,143 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.egov.processor.config.ServiceConstants.GEOJSON_FILE_SUFFIX;
+import static org.egov.processor.config.ServiceConstants.NO_FEATURES_FOUND_CODE;
+import static org.egov.processor.config.ServiceConstants.PROPERTIES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeatureStreamUtilTest {
+
+    private static final String GEOMETRY = "{\"type\":\"Polygon\",\"coordinates\":[[[36.123456789012345,-12.5],"
+            + "[36.2,-12.5],[36.2,-12.25],[36.123456789012345,-12.5]]]}";
+
+    @TempDir
+    Path tempDir;
+
+    private ObjectMapper objectMapper;
+
+    private FeatureStreamUtil featureStreamUtil;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        featureStreamUtil = new FeatureStreamUtil(objectMapper);
+    }
+
+    @Test
+    @DisplayName("should copy the geometry and every other field as they are and write the updated properties")
+    void shouldCopyGeometryAndWriteUpdatedProperties() throws IOException {
+        File input = write("{\"type\":\"FeatureCollection\",\"crs\":{\"type\":\"name\",\"properties\":"
+                + "{\"name\":\"EPSG:4326\"}},\"features\":[{\"type\":\"Feature\",\"id\":\"ward-1\",\"geometry\":"
+                + GEOMETRY + ",\"properties\":{\"Code\":\"W1\",\"Population\":120}}],\"bbox\":[36.1,-12.5,36.2,-12.25]}");
+
+        File output = featureStreamUtil.transformGeoJson(input,
+                feature -> ((ObjectNode) feature.get(PROPERTIES)).put("nets", 60));
+
+        try {
+            JsonNode expected = objectMapper.readTree(input);
+            ((ObjectNode) expected.get("features").get(0).get(PROPERTIES)).put("nets", 60);
+            JsonNode written = objectMapper.readTree(output);
+            assertEquals(expected, written);
+            assertEquals(objectMapper.readTree(GEOMETRY), written.get("features").get(0).get("geometry"));
+        } finally {
+            Files.deleteIfExists(output.toPath());
+        }
+    }
+
+    @Test
+    @DisplayName("should hand a feature without properties to the consumer with empty properties")
+    void shouldConsumeFeatureWithoutProperties() throws IOException {
+        File input = write("{\"type\":\"FeatureCollection\",\"features\":[{\"type\":\"Feature\",\"geometry\":"
+                + GEOMETRY + "},{\"type\":\"Feature\",\"properties\":null,\"geometry\":null}]}");
+        List<String> consumed = new ArrayList<>();
+
+        File output = featureStreamUtil.transformGeoJson(input, feature -> {
+            consumed.add(feature.get(PROPERTIES).toString());
+            ((ObjectNode) feature.get(PROPERTIES)).put("index", consumed.size());
+        });
+
+        try {
+            assertEquals(Arrays.asList("{}", "{}"), consumed);
+            JsonNode features = objectMapper.readTree(output).get("features");
+            assertEquals(objectMapper.readTree(GEOMETRY), features.get(0).get("geometry"));
+            assertEquals(1, features.get(0).get(PROPERTIES).get("index").asInt());
+            assertTrue(features.get(1).get("geometry").isNull());
+            assertEquals(2, features.get(1).get(PROPERTIES).get("index").asInt());
+        } finally {
+            Files.deleteIfExists(output.toPath());
+        }
+    }
+
+    @Test
+    @DisplayName("should reject a file without a features array and leave no output file behind")
+    void shouldRejectFileWithoutFeatures() throws IOException {
+        Set<String> outputFiles = listOutputFiles();
+
+        for (String content : Arrays.asList("{\"type\":\"FeatureCollection\"}",
+                "{\"type\":\"FeatureCollection\",\"features\":{}}", "[]")) {
+            File input = write(content);
+
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> featureStreamUtil.transformGeoJson(input, feature -> { }));
+
+            assertEquals(NO_FEATURES_FOUND_CODE, exception.getCode());
+        }
+        assertEquals(outputFiles, listOutputFiles());
+    }
+
+    @Test
+    @DisplayName("should delete the output file when a feature fails part way through the file")
+    void shouldDeleteOutputFileOnFailure() throws IOException {
+        File input = write("{\"type\":\"FeatureCollection\",\"features\":[{\"type\":\"Feature\",\"geometry\":"
+                + GEOMETRY + ",\"properties\":{\"Code\":\"W1\"}},{\"type\":\"Feature\",\"geometry\":" + GEOMETRY
+                + ",\"properties\":{\"Code\":\"W2\"}}]}");
+        Set<String> outputFiles = listOutputFiles();
+        List<String> consumed = new ArrayList<>();
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> featureStreamUtil.transformGeoJson(input, feature -> {
+                    consumed.add(feature.get(PROPERTIES).get("Code").asText());
+                    if (consumed.size() == 2) {
+                        throw new CustomException("INPUT_VALUE_NOT_FOUND", "Input value not found");
+                    }
+                }));
+
+        assertEquals("INPUT_VALUE_NOT_FOUND", exception.getCode());
+        assertEquals(Arrays.asList("W1", "W2"), consumed);
+        assertEquals(outputFiles, listOutputFiles());
+    }
+
+    private File write(String content) throws IOException {
+        File file = Files.createTempFile(tempDir, "input", GEOJSON_FILE_SUFFIX).toFile();
+        Files.writeString(file.toPath(), content);
+        return file;
+    }
+
+    // the output files are created in the default temporary directory
+    private static Set<String> listOutputFiles() {
+        String[] names = new File(System.getProperty("java.io.tmpdir"))
+                .list((dir, name) -> name.startsWith("processed") && name.endsWith(GEOJSON_FILE_SUFFIX));
+        return names == null ? new HashSet<>() : new HashSet<>(Arrays.asList(names));
+    }
+}
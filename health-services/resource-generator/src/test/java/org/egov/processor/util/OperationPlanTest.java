@@ -0,0 +1,187 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.egov.processor.config.ServiceConstants;
+import org.egov.processor.web.models.Operation;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.egov.processor.config.ServiceConstants.PROPERTIES;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OperationPlanTest {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    @Test
+    @DisplayName("should compute an output before the operations reading it, whatever their configured order")
+    void shouldOrderDependentOperations() {
+        List<Operation> operations = Arrays.asList(
+                operation("subtotal", Operation.OperatorEnum.STAR, "rate", "total"),
+                operation("population", Operation.OperatorEnum.STAR, "factor", "subtotal"));
+        OperationPlan plan = OperationPlan.compile(operations, Map.of("population", "Population"),
+                Map.of("rate", new BigDecimal("2"), "factor", new BigDecimal("3")));
+        Map<String, BigDecimal> resultMap = new HashMap<>();
+
+        BigDecimal[] results = plan.evaluate(feature(Map.of("Population", NODES.numberNode(10))), resultMap);
+
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("60"), new BigDecimal("30")}, results);
+        assertEquals(new BigDecimal("60"), resultMap.get("total"));
+        assertEquals(new BigDecimal("30"), resultMap.get("subtotal"));
+    }
+
+    @Test
+    @DisplayName("should read an output configured twice as computed by the operation configured before the reader")
+    void shouldReadDuplicateOutputsInConfiguredOrder() {
+        List<Operation> operations = Arrays.asList(
+                operation("population", Operation.OperatorEnum.PLUS, "one", "households"),
+                operation("households", Operation.OperatorEnum.STAR, "two", "members"),
+                operation("population", Operation.OperatorEnum.PLUS, "hundred", "households"));
+        OperationPlan plan = OperationPlan.compile(operations, Map.of("population", "Population"),
+                Map.of("one", BigDecimal.ONE, "two", new BigDecimal("2"), "hundred", new BigDecimal("100")));
+        Map<String, BigDecimal> resultMap = new HashMap<>();
+
+        BigDecimal[] results = plan.evaluate(feature(Map.of("Population", NODES.numberNode(10))), resultMap);
+
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("11"), new BigDecimal("22"), new BigDecimal("110")},
+                results);
+        assertEquals(new BigDecimal("110"), resultMap.get("households"));
+        assertEquals(new BigDecimal("22"), resultMap.get("members"));
+    }
+
+    @Test
+    @DisplayName("should evaluate operations reading each other in their configured order")
+    void shouldFallBackToConfiguredOrderOnCycle() {
+        List<Operation> operations = Arrays.asList(
+                operation("second", Operation.OperatorEnum.PLUS, "one", "first"),
+                operation("first", Operation.OperatorEnum.PLUS, "one", "second"));
+        OperationPlan plan = OperationPlan.compile(operations, Map.of("first", "First", "second", "Second"),
+                Map.of("one", BigDecimal.ONE));
+        Map<String, BigDecimal> resultMap = new HashMap<>();
+
+        BigDecimal[] results = plan.evaluate(feature(Map.of("First", NODES.numberNode(5),
+                "Second", NODES.numberNode(7))), resultMap);
+
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("8"), new BigDecimal("9")}, results);
+    }
+
+    @Test
+    @DisplayName("should parse numeric and text cells and prefer assumptions over columns")
+    void shouldParseColumnsAndAssumptions() {
+        List<Operation> operations = Arrays.asList(
+                operation("integral", Operation.OperatorEnum.PLUS, "decimal", "sum"),
+                operation("text", Operation.OperatorEnum.MINUS, "negative", "difference"),
+                operation("scientific", Operation.OperatorEnum.SLASH, "rate", "ratio"));
+        Map<String, String> mappedValues = Map.of("integral", "Integral", "decimal", "Decimal", "text", "Text",
+                "negative", "Negative", "scientific", "Scientific", "rate", "Rate");
+        OperationPlan plan = OperationPlan.compile(operations, mappedValues, Map.of("rate", new BigDecimal("4")));
+        ObjectNode feature = feature(Map.of("Integral", NODES.numberNode(12), "Decimal", NODES.numberNode(0.5),
+                "Text", NODES.textNode("1,250"), "Negative", NODES.textNode("-3.5"),
+                "Scientific", NODES.numberNode(1.5E3), "Rate", NODES.numberNode(1000)));
+
+        BigDecimal[] results = plan.evaluate(feature, new HashMap<>());
+
+        assertEquals(0, new BigDecimal("12.5").compareTo(results[0]));
+        assertEquals(0, new BigDecimal("1253.5").compareTo(results[1]));
+        assertEquals(new BigDecimal("375.00"), results[2]);
+    }
+
+    @Test
+    @DisplayName("should fail with INPUT_VALUE_NOT_FOUND when a column is not a number")
+    void shouldRejectNonNumericColumn() {
+        OperationPlan plan = OperationPlan.compile(
+                List.of(operation("population", Operation.OperatorEnum.PLUS, "one", "total")),
+                Map.of("population", "Population"), Map.of("one", BigDecimal.ONE));
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> plan.evaluate(feature(Map.of("Population", NODES.textNode("unknown"))), new HashMap<>()));
+
+        assertEquals("INPUT_VALUE_NOT_FOUND", exception.getCode());
+    }
+
+    @Test
+    @DisplayName("should compute what the per operation calculation computed for every row")
+    void shouldMatchPerOperationCalculation() {
+        List<Operation> operations = Arrays.asList(
+                operation("population", Operation.OperatorEnum.SLASH, "householdSize", "households"),
+                operation("households", Operation.OperatorEnum.STAR, "netsPerHousehold", "nets"),
+                operation("nets", Operation.OperatorEnum.PLUS, "buffer", "netsWithBuffer"),
+                operation("netsWithBuffer", Operation.OperatorEnum.MINUS, "stock", "netsToProcure"),
+                operation("netsToProcure", Operation.OperatorEnum.PERCENT, "bundleSize", "looseNets"),
+                operation("growth", Operation.OperatorEnum._U, "years", "growthFactor"));
+        Map<String, String> mappedValues = Map.of("population", "Population", "stock", "Stock",
+                "growth", "Growth");
+        Map<String, BigDecimal> assumptions = Map.of("householdSize", new BigDecimal("4.5"),
+                "netsPerHousehold", new BigDecimal("1.8"), "buffer", new BigDecimal("10"),
+                "bundleSize", new BigDecimal("50"), "years", new BigDecimal("2"));
+        OperationPlan plan = OperationPlan.compile(operations, mappedValues, assumptions);
+        Map<String, BigDecimal> resultMap = new HashMap<>();
+        Map<String, BigDecimal> legacyResultMap = new HashMap<>();
+
+        for (int row = 0; row < 20; row++) {
+            ObjectNode feature = feature(Map.of("Population", NODES.numberNode(1000 + row * 137),
+                    "Stock", NODES.textNode(String.valueOf(row * 3)),
+                    "Growth", NODES.numberNode(1.0 + row / 100.0)));
+
+            BigDecimal[] results = plan.evaluate(feature, resultMap);
+
+            List<BigDecimal> legacyResults = new ArrayList<>();
+            for (Operation operation : operations) {
+                BigDecimal result = legacyCalculate(operation, feature, mappedValues, assumptions, legacyResultMap);
+                legacyResultMap.put(operation.getOutput(), result);
+                legacyResults.add(result);
+            }
+            assertEquals(legacyResults, Arrays.asList(results));
+            assertEquals(legacyResultMap, resultMap);
+        }
+    }
+
+    private static Operation operation(String input, Operation.OperatorEnum operator, String assumptionValue,
+                                       String output) {
+        return Operation.builder().input(input).operator(operator).assumptionValue(assumptionValue).output(output)
+                .build();
+    }
+
+    private static ObjectNode feature(Map<String, JsonNode> properties) {
+        ObjectNode feature = NODES.objectNode();
+        feature.putObject(PROPERTIES).setAll(properties);
+        return feature;
+    }
+
+    // the per operation calculation the compiled plan replaced, resolving each operand of each row from the maps
+    private static BigDecimal legacyCalculate(Operation operation, JsonNode feature, Map<String, String> mappedValues,
+                                              Map<String, BigDecimal> assumptionValueMap,
+                                              Map<String, BigDecimal> resultMap) {
+        BigDecimal inputValue = legacyValue(feature, resultMap, assumptionValueMap, operation.getInput(),
+                mappedValues.get(operation.getInput()));
+        BigDecimal assumptionValue = legacyValue(feature, resultMap, assumptionValueMap,
+                operation.getAssumptionValue(), mappedValues.get(operation.getAssumptionValue()));
+        return OperationPlan.apply(inputValue, operation.getOperator(), assumptionValue);
+    }
+
+    private static BigDecimal legacyValue(JsonNode feature, Map<String, BigDecimal> resultMap,
+                                          Map<String, BigDecimal> assumptionValueMap, String input,
+                                          String columnName) {
+        BigDecimal inputValue = resultMap.getOrDefault(input, assumptionValueMap.get(input));
+        if (inputValue == null && feature.has(PROPERTIES) && feature.get(PROPERTIES).has(columnName)) {
+            String cellValue = String.valueOf(feature.get(PROPERTIES).get(columnName));
+            if (cellValue.contains(ServiceConstants.SCIENTIFIC_NOTATION_INDICATOR)) {
+                return new BigDecimal(cellValue);
+            }
+            return new BigDecimal(cellValue.replaceAll("[^\\d.\\-E]", ""));
+        }
+        return inputValue;
+    }
+}
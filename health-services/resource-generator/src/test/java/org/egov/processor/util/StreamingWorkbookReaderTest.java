@@ -0,0 +1,199 @@
+package org.egov.processor.util;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class StreamingWorkbookReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should read shared strings, numbers, dates, booleans and formulas as the workbook does")
+    void shouldReadSharedStringCellsAsTheWorkbook() throws IOException {
+        File file = write(new XSSFWorkbook(), "shared.xlsx");
+
+        Map<String, List<String>> streamed = readStreaming(file);
+
+        assertEquals(readWorkbook(file), streamed);
+        assertEquals("2:STRING:Ward 1|NUMERIC:1250.5|NUMERIC:date:2024-03-15|BOOLEAN:true|FORMULA:B2*2=2501.0",
+                streamed.get("Boundaries").get(1));
+    }
+
+    @Test
+    @DisplayName("should read inline strings as the workbook does")
+    void shouldReadInlineStringCellsAsTheWorkbook() throws IOException {
+        // the streaming workbook writes its strings inline instead of in the shared string table
+        File file = write(new SXSSFWorkbook(), "inline.xlsx");
+
+        Map<String, List<String>> streamed = readStreaming(file);
+
+        assertEquals(readWorkbook(file), streamed);
+        assertEquals("1:STRING:Boundary|STRING:Population|STRING:Surveyed|STRING:Active|STRING:Target",
+                streamed.get("Boundaries").get(0));
+    }
+
+    @Test
+    @DisplayName("should keep blank cells, skip missing cells and keep the number of rows after missing rows")
+    void shouldReadBlankAndMissingCellsAndRowsAsTheWorkbook() throws IOException {
+        File file = write(new XSSFWorkbook(), "blank.xlsx");
+
+        Map<String, List<String>> streamed = readStreaming(file);
+
+        assertEquals(readWorkbook(file), streamed);
+        assertEquals("3:STRING:Ward 2|BLANK:|[3]NUMERIC:7.0", streamed.get("Boundaries").get(2));
+        assertEquals("6:STRING:Ward 3", streamed.get("Boundaries").get(3));
+        assertEquals(List.of("1:STRING:Code"), streamed.get("Readme"));
+    }
+
+    @Test
+    @DisplayName("should expose the header row before iterating and drop the rows already read")
+    void shouldKeepOnlyTheHeaderRow() throws IOException {
+        File file = write(new XSSFWorkbook(), "header.xlsx");
+
+        try (StreamingWorkbookReader reader = new StreamingWorkbookReader(file)) {
+            reader.forEachSheet(sheet -> {
+                if (!"Boundaries".equals(sheet.getSheetName())) {
+                    return;
+                }
+                Row header = sheet.readHeaderRow();
+                assertNotNull(header);
+                assertEquals("Boundary", header.getCell(0).getStringCellValue());
+                for (Row row : sheet) {
+                    assertNotNull(sheet.getSheet().getRow(0));
+                    assertEquals(row, sheet.getSheet().getRow(row.getRowNum()));
+                }
+                assertNull(sheet.getSheet().getRow(5));
+                assertEquals(1, sheet.getSheet().getPhysicalNumberOfRows());
+            });
+        }
+    }
+
+    private File write(Workbook workbook, String name) throws IOException {
+        File file = tempDir.resolve(name).toFile();
+        try (workbook; OutputStream out = new FileOutputStream(file)) {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+            CellStyle blankStyle = workbook.createCellStyle();
+            blankStyle.setWrapText(true);
+
+            Sheet boundaries = workbook.createSheet("Boundaries");
+            Row header = boundaries.createRow(0);
+            String[] columns = {"Boundary", "Population", "Surveyed", "Active", "Target"};
+            for (int i = 0; i < columns.length; i++) {
+                header.createCell(i).setCellValue(columns[i]);
+            }
+            Row values = boundaries.createRow(1);
+            values.createCell(0).setCellValue("Ward 1");
+            values.createCell(1).setCellValue(1250.5);
+            Cell date = values.createCell(2);
+            date.setCellValue(LocalDate.of(2024, 3, 15));
+            date.setCellStyle(dateStyle);
+            values.createCell(3).setCellValue(true);
+            values.createCell(4).setCellFormula("B2*2");
+            values.getCell(4).setCellValue(2501.0);
+            Row sparse = boundaries.createRow(2);
+            sparse.createCell(0).setCellValue("Ward 2");
+            sparse.createCell(1).setCellStyle(blankStyle);
+            sparse.createCell(3).setCellValue(7);
+            boundaries.createRow(5).createCell(0).setCellValue("Ward 3");
+
+            workbook.createSheet("Readme").createRow(0).createCell(0).setCellValue("Code");
+            workbook.write(out);
+            if (workbook instanceof SXSSFWorkbook) {
+                ((SXSSFWorkbook) workbook).dispose();
+            }
+        }
+        return file;
+    }
+
+    private static Map<String, List<String>> readWorkbook(File file) throws IOException {
+        Map<String, List<String>> sheets = new LinkedHashMap<>();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            for (Sheet sheet : workbook) {
+                List<String> rows = new ArrayList<>();
+                sheet.forEach(row -> rows.add(describe(row)));
+                sheets.put(sheet.getSheetName(), rows);
+            }
+        } catch (InvalidFormatException e) {
+            throw new IOException(e);
+        }
+        return sheets;
+    }
+
+    private static Map<String, List<String>> readStreaming(File file) throws IOException {
+        Map<String, List<String>> sheets = new LinkedHashMap<>();
+        try (StreamingWorkbookReader reader = new StreamingWorkbookReader(file)) {
+            reader.forEachSheet(sheet -> {
+                List<String> rows = new ArrayList<>();
+                sheet.forEach(row -> rows.add(describe(row)));
+                sheets.put(sheet.getSheetName(), rows);
+            });
+        }
+        assertFalse(sheets.isEmpty());
+        return sheets;
+    }
+
+    // describes a row by its number and the type and value of each cell, prefixing cells after a missing one with
+    // their column
+    private static String describe(Row row) {
+        StringBuilder description = new StringBuilder().append(row.getRowNum() + 1).append(':');
+        int expectedColumn = 0;
+        for (Cell cell : row) {
+            if (cell.getColumnIndex() != 0) {
+                description.append('|');
+            }
+            if (cell.getColumnIndex() != expectedColumn) {
+                description.append('[').append(cell.getColumnIndex()).append(']');
+            }
+            expectedColumn = cell.getColumnIndex() + 1;
+            description.append(cell.getCellType()).append(':').append(describeValue(cell, cell.getCellType()));
+        }
+        return description.toString();
+    }
+
+    private static String describeValue(Cell cell, CellType type) {
+        switch (type) {
+            case STRING:
+                return cell.getStringCellValue();
+            case BOOLEAN:
+                return String.valueOf(cell.getBooleanCellValue());
+            case FORMULA:
+                return cell.getCellFormula() + "=" + describeValue(cell, cell.getCachedFormulaResultType());
+            case NUMERIC:
+                if (DateUtil.isCellDateFormatted(cell)) {
+                    return "date:" + cell.getLocalDateTimeCellValue().toLocalDate();
+                }
+                return String.valueOf(cell.getNumericCellValue());
+            default:
+                return "";
+        }
+    }
+}
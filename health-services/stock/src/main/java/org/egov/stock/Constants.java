@@ -35,4 +35,6 @@ public class Constants {
     public static String GET_REQUEST_INFO = "getRequestInfo";
 
     public static String NO_PROJECT_FACILITY_MAPPING_EXISTS = "NO_PROJECT_FACILITY_MAPPING_EXISTS";
+
+    public static String CALCULATED_COUNT_MISMATCH = "CALCULATED_COUNT_MISMATCH";
 }
@@ -5,9 +5,11 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 @Import({ TracerConfiguration.class })
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class StockApplication {
     public static void main(String[] args) throws Exception {
         SpringApplication.run(StockApplication.class, args);
@@ -54,5 +54,23 @@ public class StockConfiguration {
 
     @Value("${egov.search.project.facility.url}")
     private String projectFacilityServiceSearchUrl;
+
+    @Value("${stock.project.facility.cache.ttl.ms:900000}")
+    private Long projectFacilityCacheTtlMs;
+
+    @Value("${stock.project.facility.cache.max.size:100000}")
+    private Integer projectFacilityCacheMaxSize;
+
+    @Value("${stock.project.facility.search.page.size:100}")
+    private Integer projectFacilitySearchPageSize;
+
+    @Value("${stock.balance.snapshot.enabled:false}")
+    private Boolean balanceSnapshotEnabled;
+
+    @Value("${stock.balance.snapshot.recompute.days:7}")
+    private Integer balanceSnapshotRecomputeDays;
+
+    @Value("${stock.balance.snapshot.late.margin.minutes:60}")
+    private Integer balanceSnapshotLateMarginMinutes;
     
 }
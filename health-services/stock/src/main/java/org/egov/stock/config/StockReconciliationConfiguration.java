@@ -42,4 +42,7 @@ public class StockReconciliationConfiguration {
 
     @Value("${stock.reconciliation.idgen.id.format}")
     private String stockReconciliationIdFormat;
+
+    @Value("${stock.reconciliation.calculated.count.validation.enabled:false}")
+    private Boolean calculatedCountValidationEnabled;
 }
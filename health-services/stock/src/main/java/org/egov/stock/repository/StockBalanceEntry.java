@@ -0,0 +1,33 @@
+package org.egov.stock.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What a version of a stock transaction counts towards the balance of a facility and product variant.
+ * <p>
+ * A transaction that does not count towards any balance, because it is deleted or not recorded by a warehouse, has no
+ * facility and a zero quantity. A row version of zero means no version of the transaction has been counted yet.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBalanceEntry {
+
+    private String stockId;
+
+    private String tenantId;
+
+    private String facilityId;
+
+    private String productVariantId;
+
+    private long quantity;
+
+    private int rowVersion;
+
+    private Long lastModifiedTime;
+}
@@ -0,0 +1,97 @@
+package org.egov.stock.repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.stock.repository.rowmapper.StockBalanceEntryRowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Stores what the latest counted version of each stock transaction counts towards the balances, so that a version is
+ * counted once however often it is applied, and an update or a delete takes out exactly what was counted before.
+ * <p>
+ * The entries are written in the transaction that adjusts the balances, which locks them first.
+ */
+@Repository
+@Slf4j
+public class StockBalanceEntryRepository {
+
+    private static final String INSERT_QUERY = "INSERT INTO stock_balance_entry (stockId, tenantId, productVariantId, quantity, rowVersion) "
+            + "VALUES (:stockId, :tenantId, :productVariantId, 0, 0) ON CONFLICT (stockId) DO NOTHING";
+
+    private static final String UPDATE_QUERY = "UPDATE stock_balance_entry SET tenantId = :tenantId, facilityId = :facilityId, "
+            + "productVariantId = :productVariantId, quantity = :quantity, rowVersion = :rowVersion, "
+            + "lastModifiedTime = :lastModifiedTime WHERE stockId = :stockId";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final StockBalanceEntryRowMapper rowMapper;
+
+    public StockBalanceEntryRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                       StockBalanceEntryRowMapper rowMapper) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * Locks the entries of transactions until the end of the current transaction, adding an entry with nothing
+     * counted for each transaction that has none yet. Entries are locked in the order of their stock ids so that
+     * concurrent batches do not deadlock.
+     *
+     * @param entries Entries of the transactions to lock, giving their stock ids, tenants and product variants.
+     * @return The locked entries by stock id.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<String, StockBalanceEntry> lock(List<StockBalanceEntry> entries) {
+        if (CollectionUtils.isEmpty(entries)) {
+            return Map.of();
+        }
+        SqlParameterSource[] batch = entries.stream()
+                .sorted(Comparator.comparing(StockBalanceEntry::getStockId))
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("stockId", entry.getStockId())
+                        .addValue("tenantId", entry.getTenantId())
+                        .addValue("productVariantId", entry.getProductVariantId()))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(INSERT_QUERY, batch);
+        List<String> stockIds = entries.stream().map(StockBalanceEntry::getStockId).distinct()
+                .collect(Collectors.toList());
+        return namedParameterJdbcTemplate.query("SELECT * FROM stock_balance_entry WHERE stockId IN (:stockIds) "
+                                + "ORDER BY stockId FOR UPDATE", Map.of("stockIds", stockIds), rowMapper).stream()
+                .collect(Collectors.toMap(StockBalanceEntry::getStockId, Function.identity()));
+    }
+
+    /**
+     * Overwrites locked entries.
+     *
+     * @param entries The entries to write.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void save(List<StockBalanceEntry> entries) {
+        if (CollectionUtils.isEmpty(entries)) {
+            return;
+        }
+        SqlParameterSource[] batch = entries.stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("stockId", entry.getStockId())
+                        .addValue("tenantId", entry.getTenantId())
+                        .addValue("facilityId", entry.getFacilityId())
+                        .addValue("productVariantId", entry.getProductVariantId())
+                        .addValue("quantity", entry.getQuantity())
+                        .addValue("rowVersion", entry.getRowVersion())
+                        .addValue("lastModifiedTime", entry.getLastModifiedTime()))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(UPDATE_QUERY, batch);
+        log.info("saved {} stock balance entries", batch.length);
+    }
+}
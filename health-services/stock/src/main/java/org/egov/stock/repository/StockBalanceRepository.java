@@ -0,0 +1,95 @@
+package org.egov.stock.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.models.stock.StockBalance;
+import org.egov.common.models.stock.StockBalanceSearch;
+import org.egov.stock.repository.rowmapper.StockBalanceRowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Reads and adjusts the on-hand balance of each product variant at each facility.
+ * <p>
+ * Unlike stock transactions the balances are written by the service itself rather than through the persister, as an
+ * adjustment has to be added to the current balance instead of overwriting it.
+ */
+@Repository
+@Slf4j
+public class StockBalanceRepository {
+
+    private static final String UPSERT_QUERY = "INSERT INTO stock_balance (tenantId, facilityId, productVariantId, balance, lastModifiedTime) "
+            + "VALUES (:tenantId, :facilityId, :productVariantId, :balance, :lastModifiedTime) "
+            + "ON CONFLICT (tenantId, facilityId, productVariantId) DO UPDATE "
+            + "SET balance = stock_balance.balance + EXCLUDED.balance, lastModifiedTime = EXCLUDED.lastModifiedTime";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final StockBalanceRowMapper rowMapper;
+
+    public StockBalanceRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                  StockBalanceRowMapper rowMapper) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * Adds each adjustment to the balance of its facility and product variant, starting the balance at the
+     * adjustment if there is none yet. The adjustments are applied in one transaction, in the order given, so callers
+     * should sort them to keep concurrent batches from locking the same balances in a different order.
+     *
+     * @param adjustments The quantities to add, negative for a decrease.
+     */
+    @Transactional
+    public void adjust(List<StockBalance> adjustments) {
+        if (CollectionUtils.isEmpty(adjustments)) {
+            return;
+        }
+        SqlParameterSource[] batch = adjustments.stream()
+                .map(adjustment -> new MapSqlParameterSource()
+                        .addValue("tenantId", adjustment.getTenantId())
+                        .addValue("facilityId", adjustment.getFacilityId())
+                        .addValue("productVariantId", adjustment.getProductVariantId())
+                        .addValue("balance", adjustment.getBalance())
+                        .addValue("lastModifiedTime", adjustment.getLastModifiedTime()))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(UPSERT_QUERY, batch);
+        log.info("adjusted {} stock balances", batch.length);
+    }
+
+    public List<StockBalance> find(StockBalanceSearch searchObject, Integer limit, Integer offset, String tenantId) {
+        Map<String, Object> paramsMap = new HashMap<>();
+        String query = "SELECT * FROM stock_balance" + buildWhereClause(searchObject, tenantId, paramsMap)
+                + " ORDER BY facilityId, productVariantId LIMIT :limit OFFSET :offset";
+        paramsMap.put("limit", limit);
+        paramsMap.put("offset", offset);
+        return namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
+    }
+
+    public Long count(StockBalanceSearch searchObject, String tenantId) {
+        Map<String, Object> paramsMap = new HashMap<>();
+        String query = "SELECT COUNT(*) FROM stock_balance" + buildWhereClause(searchObject, tenantId, paramsMap);
+        return namedParameterJdbcTemplate.queryForObject(query, paramsMap, Long.class);
+    }
+
+    private String buildWhereClause(StockBalanceSearch searchObject, String tenantId, Map<String, Object> paramsMap) {
+        StringBuilder whereClause = new StringBuilder(" WHERE tenantId = :tenantId");
+        paramsMap.put("tenantId", tenantId);
+        if (searchObject != null && !CollectionUtils.isEmpty(searchObject.getFacilityId())) {
+            whereClause.append(" AND facilityId IN (:facilityId)");
+            paramsMap.put("facilityId", searchObject.getFacilityId());
+        }
+        if (searchObject != null && !CollectionUtils.isEmpty(searchObject.getProductVariantId())) {
+            whereClause.append(" AND productVariantId IN (:productVariantId)");
+            paramsMap.put("productVariantId", searchObject.getProductVariantId());
+        }
+        return whereClause.toString();
+    }
+}
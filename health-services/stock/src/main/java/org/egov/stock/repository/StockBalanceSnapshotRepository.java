@@ -0,0 +1,207 @@
+package org.egov.stock.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.stock.StockBalance;
+import org.egov.common.models.stock.StockBalanceSearch;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Stores daily snapshots of the stock balances and answers balances at a point in time from the latest snapshot
+ * before it and the transactions since.
+ * <p>
+ * A snapshot holds the non-zero balance of each facility and product variant over the transactions that took effect
+ * up to its time, the effect time being the date of entry or, if missing, the time the transaction was created.
+ * Transactions count the same way as for the current balance: a warehouse gains what it records as received and
+ * loses what it records as dispatched.
+ */
+@Repository
+@Slf4j
+public class StockBalanceSnapshotRepository {
+
+    private static final String TRANSACTIONS = "SELECT tenantId, receiverId AS facilityId, productVariantId, quantity, "
+            + "COALESCE(dateOfEntry, createdTime) AS entryTime FROM stock "
+            + "WHERE isDeleted = false AND transactionType = 'RECEIVED' AND receiverType = 'WAREHOUSE' AND receiverId IS NOT NULL "
+            + "UNION ALL "
+            + "SELECT tenantId, senderId AS facilityId, productVariantId, -quantity, "
+            + "COALESCE(dateOfEntry, createdTime) AS entryTime FROM stock "
+            + "WHERE isDeleted = false AND transactionType = 'DISPATCHED' AND senderType = 'WAREHOUSE' AND senderId IS NOT NULL";
+
+    private static final String SNAPSHOT_QUERY = "INSERT INTO stock_balance_snapshot "
+            + "(snapshotTime, tenantId, facilityId, productVariantId, balance, createdTime) "
+            + "SELECT :snapshotTime, tenantId, facilityId, productVariantId, SUM(quantity), :createdTime FROM ("
+            + "SELECT tenantId, facilityId, productVariantId, balance AS quantity FROM stock_balance_snapshot "
+            + "WHERE snapshotTime = :previousSnapshotTime "
+            + "UNION ALL "
+            + "SELECT tenantId, facilityId, productVariantId, quantity FROM (" + TRANSACTIONS + ") transactions "
+            + "WHERE entryTime > :previousSnapshotTime AND entryTime <= :snapshotTime"
+            + ") balances GROUP BY tenantId, facilityId, productVariantId HAVING SUM(quantity) <> 0";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public StockBalanceSnapshotRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    /**
+     * Runs snapshots while holding a lock shared by the instances of the service, so that they do not build the same
+     * snapshots at once. The run is skipped if another instance holds the lock.
+     *
+     * @param run The snapshots to take.
+     * @return Whether the lock was acquired and the snapshots run.
+     */
+    public boolean runLocked(Runnable run) {
+        // a session lock held on its own connection for the whole run, which takes each snapshot in its own transaction
+        Boolean ran = namedParameterJdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection -> {
+            if (!advisoryLock(connection, "pg_try_advisory_lock")) {
+                return false;
+            }
+            try {
+                run.run();
+            } finally {
+                advisoryLock(connection, "pg_advisory_unlock");
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    /**
+     * Replaces the snapshot at a time by the previous snapshot plus the transactions that took effect in between.
+     *
+     * @param snapshotTime         The time of the snapshot.
+     * @param previousSnapshotTime The time of the snapshot it starts from, {@link Long#MIN_VALUE} for the first one.
+     * @param createdTime          The time the snapshot is taken.
+     */
+    @Transactional
+    public void snapshot(long snapshotTime, long previousSnapshotTime, long createdTime) {
+        Map<String, Object> paramsMap = new HashMap<>();
+        paramsMap.put("snapshotTime", snapshotTime);
+        paramsMap.put("previousSnapshotTime", previousSnapshotTime);
+        paramsMap.put("createdTime", createdTime);
+        namedParameterJdbcTemplate.update("DELETE FROM stock_balance_snapshot WHERE snapshotTime = :snapshotTime",
+                paramsMap);
+        int balances = namedParameterJdbcTemplate.update(SNAPSHOT_QUERY, paramsMap);
+        log.info("took stock balance snapshot at {} with {} balances", snapshotTime, balances);
+    }
+
+    /**
+     * Deletes the snapshots older than a time, left over when the earliest transactions were deleted.
+     */
+    public void deleteBefore(long snapshotTime) {
+        namedParameterJdbcTemplate.update("DELETE FROM stock_balance_snapshot WHERE snapshotTime < :snapshotTime",
+                Map.of("snapshotTime", snapshotTime));
+    }
+
+    public Long findLatestSnapshotTime() {
+        return namedParameterJdbcTemplate.queryForObject("SELECT MAX(snapshotTime) FROM stock_balance_snapshot",
+                Map.of(), Long.class);
+    }
+
+    /**
+     * Finds the latest modified time of the transactions, read before taking snapshots as the point up to which they
+     * cover the transactions.
+     */
+    public Long findLatestModifiedTime() {
+        return namedParameterJdbcTemplate.queryForObject("SELECT MAX(lastModifiedTime) FROM stock", Map.of(),
+                Long.class);
+    }
+
+    /**
+     * Finds the latest modified time of the transactions read by the previous snapshot runs.
+     */
+    public Long findLatestRunModifiedUpTo() {
+        return namedParameterJdbcTemplate.queryForObject("SELECT MAX(modifiedUpTo) FROM stock_balance_snapshot_run",
+                Map.of(), Long.class);
+    }
+
+    /**
+     * Records a snapshot run and the latest modified time of the transactions it read.
+     */
+    public void saveRun(long runTime, long modifiedUpTo) {
+        namedParameterJdbcTemplate.update("INSERT INTO stock_balance_snapshot_run (runTime, modifiedUpTo) "
+                        + "VALUES (:runTime, :modifiedUpTo) ON CONFLICT (runTime) DO NOTHING",
+                Map.of("runTime", runTime, "modifiedUpTo", modifiedUpTo));
+    }
+
+    /**
+     * Finds the earliest effect time of the transactions, only of those modified since a time if it is given.
+     */
+    public Long findEarliestEntryTime(Long modifiedSince) {
+        if (modifiedSince == null) {
+            return namedParameterJdbcTemplate.queryForObject(
+                    "SELECT MIN(COALESCE(dateOfEntry, createdTime)) FROM stock", Map.of(), Long.class);
+        }
+        return namedParameterJdbcTemplate.queryForObject(
+                "SELECT MIN(COALESCE(dateOfEntry, createdTime)) FROM stock WHERE lastModifiedTime > :modifiedSince",
+                Map.of("modifiedSince", modifiedSince), Long.class);
+    }
+
+    /**
+     * Finds the balances at a point in time from the latest snapshot at or before it, replaying only the transactions
+     * that took effect after the snapshot.
+     */
+    public SearchResponse<StockBalance> findAsOf(StockBalanceSearch searchObject, Long asOf, Integer limit,
+                                                 Integer offset, String tenantId) {
+        Map<String, Object> paramsMap = new HashMap<>();
+        paramsMap.put("tenantId", tenantId);
+        paramsMap.put("asOf", asOf);
+        Long snapshotTime = namedParameterJdbcTemplate.queryForObject(
+                "SELECT MAX(snapshotTime) FROM stock_balance_snapshot WHERE snapshotTime <= :asOf", paramsMap,
+                Long.class);
+        paramsMap.put("snapshotTime", snapshotTime == null ? Long.MIN_VALUE : snapshotTime);
+        paramsMap.put("limit", limit);
+        paramsMap.put("offset", offset);
+
+        StringBuilder query = new StringBuilder("SELECT tenantId, facilityId, productVariantId, SUM(quantity) AS balance, "
+                + "COUNT(*) OVER () AS totalCount FROM ("
+                + "SELECT tenantId, facilityId, productVariantId, balance AS quantity FROM stock_balance_snapshot "
+                + "WHERE snapshotTime = :snapshotTime AND tenantId = :tenantId "
+                + "UNION ALL "
+                + "SELECT tenantId, facilityId, productVariantId, quantity FROM (" + TRANSACTIONS + ") transactions "
+                + "WHERE entryTime > :snapshotTime AND entryTime <= :asOf AND tenantId = :tenantId"
+                + ") balances WHERE true");
+        if (searchObject != null && !CollectionUtils.isEmpty(searchObject.getFacilityId())) {
+            query.append(" AND facilityId IN (:facilityId)");
+            paramsMap.put("facilityId", searchObject.getFacilityId());
+        }
+        if (searchObject != null && !CollectionUtils.isEmpty(searchObject.getProductVariantId())) {
+            query.append(" AND productVariantId IN (:productVariantId)");
+            paramsMap.put("productVariantId", searchObject.getProductVariantId());
+        }
+        query.append(" GROUP BY tenantId, facilityId, productVariantId"
+                + " ORDER BY facilityId, productVariantId LIMIT :limit OFFSET :offset");
+
+        long[] totalCount = {0L};
+        List<StockBalance> balances = namedParameterJdbcTemplate.query(query.toString(), paramsMap, (resultSet, i) -> {
+            totalCount[0] = resultSet.getLong("totalCount");
+            return StockBalance.builder()
+                    .tenantId(resultSet.getString("tenantId"))
+                    .facilityId(resultSet.getString("facilityId"))
+                    .productVariantId(resultSet.getString("productVariantId"))
+                    .balance(resultSet.getLong("balance"))
+                    .build();
+        });
+        return SearchResponse.<StockBalance>builder().response(balances).totalCount(totalCount[0]).build();
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT " + function + "(hashtext('stock_balance_snapshot'))");
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.egov.stock.repository.rowmapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.egov.stock.repository.StockBalanceEntry;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StockBalanceEntryRowMapper implements RowMapper<StockBalanceEntry> {
+
+    @Override
+    public StockBalanceEntry mapRow(ResultSet resultSet, int i) throws SQLException {
+        Long lastModifiedTime = resultSet.getLong("lastModifiedTime");
+        if (resultSet.wasNull()) {
+            lastModifiedTime = null;
+        }
+        return StockBalanceEntry.builder()
+                .stockId(resultSet.getString("stockId"))
+                .tenantId(resultSet.getString("tenantId"))
+                .facilityId(resultSet.getString("facilityId"))
+                .productVariantId(resultSet.getString("productVariantId"))
+                .quantity(resultSet.getLong("quantity"))
+                .rowVersion(resultSet.getInt("rowVersion"))
+                .lastModifiedTime(lastModifiedTime)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package org.egov.stock.repository.rowmapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.egov.common.models.stock.StockBalance;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StockBalanceRowMapper implements RowMapper<StockBalance> {
+
+    @Override
+    public StockBalance mapRow(ResultSet resultSet, int i) throws SQLException {
+        Long lastModifiedTime = resultSet.getLong("lastModifiedTime");
+        if (resultSet.wasNull()) {
+            lastModifiedTime = null;
+        }
+        return StockBalance.builder()
+                .tenantId(resultSet.getString("tenantId"))
+                .facilityId(resultSet.getString("facilityId"))
+                .productVariantId(resultSet.getString("productVariantId"))
+                .balance(resultSet.getLong("balance"))
+                .lastModifiedTime(lastModifiedTime)
+                .build();
+    }
+}
@@ -1,9 +1,14 @@
 package org.egov.stock.service;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +20,7 @@ import org.egov.common.models.facility.Facility;
 import org.egov.common.models.facility.FacilityBulkResponse;
 import org.egov.common.models.facility.FacilitySearch;
 import org.egov.common.models.facility.FacilitySearchRequest;
+import org.egov.common.models.project.ProjectFacility;
 import org.egov.common.models.project.ProjectFacilityBulkResponse;
 import org.egov.common.models.project.ProjectFacilitySearch;
 import org.egov.common.models.project.ProjectFacilitySearchRequest;
@@ -23,14 +29,14 @@ import org.egov.common.models.stock.Stock;
 import org.egov.common.models.stock.StockReconciliation;
 import org.egov.common.models.stock.TransactionType;
 import org.egov.stock.config.StockConfiguration;
+import org.egov.stock.util.ProjectFacilityMappingCache;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ReflectionUtils;
 
-import static org.egov.common.utils.CommonUtils.getIdList;
 import static org.egov.common.utils.CommonUtils.getMethod;
 import static org.egov.common.utils.CommonUtils.populateErrorDetails;
 import static org.egov.common.utils.ValidatorUtils.getErrorForEntityWithNetworkError;
-import static org.egov.stock.Constants.GET_FACILITY_ID;
 import static org.egov.stock.Constants.GET_REFERENCE_ID;
 
 @Service
@@ -41,9 +47,13 @@ public class FacilityService {
 
     private final ServiceRequestClient serviceRequestClient;
 
-    public FacilityService(StockConfiguration stockConfiguration, ServiceRequestClient serviceRequestClient) {
+    private final ProjectFacilityMappingCache projectFacilityMappingCache;
+
+    public FacilityService(StockConfiguration stockConfiguration, ServiceRequestClient serviceRequestClient,
+                           ProjectFacilityMappingCache projectFacilityMappingCache) {
         this.stockConfiguration = stockConfiguration;
         this.serviceRequestClient = serviceRequestClient;
+        this.projectFacilityMappingCache = projectFacilityMappingCache;
     }
 
 	public <T> List<String> validateFacilityIds(List<String> entityIds,
@@ -79,72 +89,113 @@ public class FacilityService {
         }
     }
 
+    /**
+     * Finds which of the project facility pairs of the entities are mapped, grouped by project id.
+     * <p>
+     * Pairs mapped within the cache ttl are not looked up again; the others are searched once per project, for the
+     * facilities of that project only and a page at a time, and the mappings found are cached.
+     */
     public <T> Map<String, List<String>> validateProjectFacilityMappings(List<T> entities,
                                                 String tenantId,
                                                 Map<T, List<Error>> errorDetailsMap,
                                                 RequestInfo requestInfo) {
 
-        // Get a list of project reference IDs from the entities using reflection
-        List<String> projectIds = getIdList(entities, getMethod(GET_REFERENCE_ID, entities.get(0).getClass()));
-        List<String> facilityIds = null;
-
-        // Check the type of entities being processed (either StockReconciliation or Stock)
-		if (entities.get(0) instanceof StockReconciliation) {
-
-            // If the entity is StockReconciliation, extract facility IDs directly
-			facilityIds = getIdList(entities, getMethod(GET_FACILITY_ID, entities.get(0).getClass()));
-		} else if (entities.get(0) instanceof Stock) {
-
-            // If the entity is Stock, manually gather facility IDs based on sender/receiver type and transaction type
-			facilityIds = new ArrayList<>();
-			for (T entity : entities) {
-
-				Stock stock = (Stock) entity;
-
-         // Add the sender ID if the sender is a warehouse and the transaction type is DISPATCHED
-				if (SenderReceiverType.WAREHOUSE.equals(stock.getSenderType()) && TransactionType.DISPATCHED.equals(stock.getTransactionType())) {
-					facilityIds.add(stock.getSenderId());
-				}
+        // Collect the distinct facility ids to validate for each project reference id
+        Method referenceIdMethod = getMethod(GET_REFERENCE_ID, entities.get(0).getClass());
+        Map<String, Set<String>> facilityIdsByProjectId = new LinkedHashMap<>();
+        for (T entity : entities) {
+            String projectId = (String) ReflectionUtils.invokeMethod(referenceIdMethod, entity);
+            String facilityId = getFacilityIdToValidate(entity);
+            if (projectId != null && facilityId != null) {
+                facilityIdsByProjectId.computeIfAbsent(projectId, id -> new LinkedHashSet<>()).add(facilityId);
+            }
+        }
 
-        // Add the receiver ID if the receiver is a warehouse and the transaction type is RECEIVED
-        else if (SenderReceiverType.WAREHOUSE.equals(stock.getReceiverType()) && TransactionType.RECEIVED.equals(stock.getTransactionType())) {
-           facilityIds.add(stock.getReceiverId());
+        // Take the known mappings from the cache and keep the other pairs to look up
+        Map<String, List<String>> projectFacilityMappings = new HashMap<>();
+        Map<String, List<String>> facilityIdsToSearch = new LinkedHashMap<>();
+        facilityIdsByProjectId.forEach((projectId, facilityIds) -> facilityIds.forEach(facilityId -> {
+            if (projectFacilityMappingCache.isMapped(tenantId, projectId, facilityId)) {
+                projectFacilityMappings.computeIfAbsent(projectId, id -> new ArrayList<>()).add(facilityId);
+            } else {
+                facilityIdsToSearch.computeIfAbsent(projectId, id -> new ArrayList<>()).add(facilityId);
+            }
+        }));
+        if (facilityIdsToSearch.isEmpty()) {
+            return projectFacilityMappings;
         }
-			}
-		}
 
-        // Calculate the search limit based on the number of project and facility IDs
-        Integer searchLimit = projectIds.size() * facilityIds.size();
+        try {
+            for (Map.Entry<String, List<String>> entry : facilityIdsToSearch.entrySet()) {
+                searchProjectFacilities(entry.getKey(), entry.getValue(), tenantId, requestInfo)
+                        .forEach(projectFacility -> {
+                            projectFacilityMappingCache.put(tenantId, projectFacility.getProjectId(),
+                                    projectFacility.getFacilityId());
+                            projectFacilityMappings.computeIfAbsent(projectFacility.getProjectId(),
+                                    id -> new ArrayList<>()).add(projectFacility.getFacilityId());
+                        });
+            }
+            return projectFacilityMappings;
+        } catch (Exception e) {
+            // If an exception occurs, log the error and add network error details to each entity in the errorDetailsMap
+            log.error("error while fetching project facility list: {}", ExceptionUtils.getStackTrace(e));
+            entities.forEach(b -> {
+                Error error = getErrorForEntityWithNetworkError();
+                populateErrorDetails(b, error, errorDetailsMap);
+            });
+            return Collections.emptyMap();
+        }
+    }
 
-        // Build a request object to search for project-facility mappings
+    // Searches the mappings of the given facilities to a project, a page at a time
+    private List<ProjectFacility> searchProjectFacilities(String projectId, List<String> facilityIds, String tenantId,
+                                                          RequestInfo requestInfo) {
         ProjectFacilitySearchRequest projectFacilitySearchRequest = ProjectFacilitySearchRequest.builder()
-                .projectFacility(ProjectFacilitySearch.builder().projectId(projectIds).facilityId(facilityIds).build())
+                .projectFacility(ProjectFacilitySearch.builder()
+                        .projectId(Collections.singletonList(projectId))
+                        .facilityId(facilityIds)
+                        .build())
                 .requestInfo(requestInfo)
                 .build();
 
-        try {
-            // Call an external service to fetch project-facility mappings using the constructed request
+        int limit = stockConfiguration.getProjectFacilitySearchPageSize();
+        List<ProjectFacility> projectFacilities = new ArrayList<>();
+        List<ProjectFacility> page;
+        int offset = 0;
+        do {
             ProjectFacilityBulkResponse response = serviceRequestClient.fetchResult(
                     new StringBuilder(stockConfiguration.getProjectFacilityServiceHost()
                             + stockConfiguration.getProjectFacilityServiceSearchUrl()
-                            + "?limit=" + searchLimit
-                            + "&offset=0&tenantId=" + tenantId),
+                            + "?limit=" + limit
+                            + "&offset=" + offset
+                            + "&tenantId=" + tenantId),
                     projectFacilitySearchRequest,
                     ProjectFacilityBulkResponse.class);
+            page = response.getProjectFacilities() == null ? Collections.emptyList()
+                    : response.getProjectFacilities();
+            projectFacilities.addAll(page);
+            offset += limit;
+        } while (page.size() == limit);
+        return projectFacilities;
+    }
 
-            // Group the response by project ID and collect facility IDs associated with each project
-			return response.getProjectFacilities().stream()
-					.collect(Collectors.groupingBy(projectFacility -> projectFacility.getProjectId(),
-							Collectors.mapping(projectFacility -> projectFacility.getFacilityId(), Collectors.toList())));
-
-        } catch (Exception e) {
-            // If an exception occurs, log the error and add network error details to each entity in the errorDetailsMap
-            log.error("error while fetching project facility list: {}", ExceptionUtils.getStackTrace(e));
-            entities.forEach(b -> {
-                Error error = getErrorForEntityWithNetworkError();
-                populateErrorDetails(b, error, errorDetailsMap);
-            });
-            return Collections.emptyMap();
+    // The facility whose mapping to the project is validated: the facility reconciled, the warehouse dispatching a
+    // stock or the warehouse receiving it
+    private static String getFacilityIdToValidate(Object entity) {
+        if (entity instanceof StockReconciliation) {
+            return ((StockReconciliation) entity).getFacilityId();
+        }
+        if (entity instanceof Stock) {
+            Stock stock = (Stock) entity;
+            if (SenderReceiverType.WAREHOUSE.equals(stock.getSenderType())
+                    && TransactionType.DISPATCHED.equals(stock.getTransactionType())) {
+                return stock.getSenderId();
+            }
+            if (SenderReceiverType.WAREHOUSE.equals(stock.getReceiverType())
+                    && TransactionType.RECEIVED.equals(stock.getTransactionType())) {
+                return stock.getReceiverId();
+            }
         }
+        return null;
     }
 }
@@ -0,0 +1,199 @@
+package org.egov.stock.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.ds.Tuple;
+import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.stock.SenderReceiverType;
+import org.egov.common.models.stock.Stock;
+import org.egov.common.models.stock.StockBalance;
+import org.egov.common.models.stock.StockBalanceSearch;
+import org.egov.common.models.stock.StockBalanceSearchRequest;
+import org.egov.common.models.stock.TransactionType;
+import org.egov.stock.repository.StockBalanceEntry;
+import org.egov.stock.repository.StockBalanceEntryRepository;
+import org.egov.stock.repository.StockBalanceRepository;
+import org.egov.stock.repository.StockBalanceSnapshotRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.egov.stock.Constants.PIPE;
+
+/**
+ * Keeps the on-hand balance of each product variant at each facility in step with the stock transactions.
+ * <p>
+ * A transaction counts towards the balance of the facility recording it, the same way project facility mappings are
+ * validated: a warehouse gains the quantity it records as received and loses the quantity it records as dispatched.
+ * Transactions recorded by staff do not affect any balance.
+ * <p>
+ * What each version of a transaction counts is kept as its {@link StockBalanceEntry}, rather than read back from the
+ * stored transactions, which are persisted asynchronously and may not yet reflect the previous request.
+ */
+@Service
+@Slf4j
+public class StockBalanceService {
+
+    private final StockBalanceRepository stockBalanceRepository;
+
+    private final StockBalanceSnapshotRepository stockBalanceSnapshotRepository;
+
+    private final StockBalanceEntryRepository stockBalanceEntryRepository;
+
+    public StockBalanceService(StockBalanceRepository stockBalanceRepository,
+                               StockBalanceSnapshotRepository stockBalanceSnapshotRepository,
+                               StockBalanceEntryRepository stockBalanceEntryRepository) {
+        this.stockBalanceRepository = stockBalanceRepository;
+        this.stockBalanceSnapshotRepository = stockBalanceSnapshotRepository;
+        this.stockBalanceEntryRepository = stockBalanceEntryRepository;
+    }
+
+    /**
+     * Counts the versions of transactions recorded by a create, an update or a delete towards the balances, taking out
+     * what the version counted before them counted. The entries of the transactions and the balances are written in
+     * one transaction, and a version that is not newer than the one already counted is skipped, so applying the same
+     * versions again changes nothing.
+     *
+     * @param stocks The transactions as recorded, with their new row versions.
+     * @return The entries replaced and the entries recorded in their place, to {@link #revert(List)} them if the
+     * transactions are not saved.
+     */
+    @Transactional
+    public List<Tuple<StockBalanceEntry, StockBalanceEntry>> apply(List<Stock> stocks) {
+        if (stocks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long now = System.currentTimeMillis();
+        List<StockBalanceEntry> recorded = stocks.stream()
+                .map(stock -> toEntry(stock, now))
+                .sorted(Comparator.comparing(StockBalanceEntry::getStockId))
+                .collect(Collectors.toList());
+        Map<String, StockBalanceEntry> counted = stockBalanceEntryRepository.lock(recorded);
+
+        List<Tuple<StockBalanceEntry, StockBalanceEntry>> changes = new ArrayList<>();
+        // keyed and sorted by balance so that concurrent batches lock the balances in the same order
+        Map<String, StockBalance> adjustments = new TreeMap<>();
+        for (StockBalanceEntry entry : recorded) {
+            StockBalanceEntry previous = counted.get(entry.getStockId());
+            if (entry.getRowVersion() <= previous.getRowVersion()) {
+                log.info("skipping version {} of stock {}, version {} is already counted", entry.getRowVersion(),
+                        entry.getStockId(), previous.getRowVersion());
+                continue;
+            }
+            addAdjustment(adjustments, previous, -1, now);
+            addAdjustment(adjustments, entry, 1, now);
+            counted.put(entry.getStockId(), entry);
+            changes.add(new Tuple<>(previous, entry));
+        }
+        stockBalanceEntryRepository.save(changes.stream().map(Tuple::getY).collect(Collectors.toList()));
+        stockBalanceRepository.adjust(nonZero(adjustments));
+        return changes;
+    }
+
+    /**
+     * Undoes changes returned by {@link #apply(List)}, restoring the entries they replaced. A change is left as it is
+     * if a later version of its transaction has been counted since.
+     *
+     * @param changes The changes to undo.
+     */
+    @Transactional
+    public void revert(List<Tuple<StockBalanceEntry, StockBalanceEntry>> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<String, StockBalanceEntry> counted = stockBalanceEntryRepository.lock(changes.stream()
+                .map(Tuple::getY).collect(Collectors.toList()));
+
+        List<StockBalanceEntry> restored = new ArrayList<>();
+        Map<String, StockBalance> adjustments = new TreeMap<>();
+        for (Tuple<StockBalanceEntry, StockBalanceEntry> change : changes) {
+            StockBalanceEntry entry = change.getY();
+            StockBalanceEntry current = counted.get(entry.getStockId());
+            if (current.getRowVersion() != entry.getRowVersion()) {
+                log.info("not reverting version {} of stock {}, version {} is counted since", entry.getRowVersion(),
+                        entry.getStockId(), current.getRowVersion());
+                continue;
+            }
+            addAdjustment(adjustments, entry, -1, now);
+            addAdjustment(adjustments, change.getX(), 1, now);
+            restored.add(change.getX());
+        }
+        log.info("reverting {} stock balance entries", restored.size());
+        stockBalanceEntryRepository.save(restored);
+        stockBalanceRepository.adjust(nonZero(adjustments));
+    }
+
+    public SearchResponse<StockBalance> search(StockBalanceSearchRequest stockBalanceSearchRequest,
+                                               Integer limit,
+                                               Integer offset,
+                                               String tenantId) {
+        log.info("starting search method for stock balance");
+        StockBalanceSearch stockBalanceSearch = stockBalanceSearchRequest.getStockBalance();
+        if (stockBalanceSearch.getAsOf() != null) {
+            log.info("searching stock balance as of {}", stockBalanceSearch.getAsOf());
+            return stockBalanceSnapshotRepository.findAsOf(stockBalanceSearch, stockBalanceSearch.getAsOf(), limit,
+                    offset, tenantId);
+        }
+        List<StockBalance> balances = stockBalanceRepository.find(stockBalanceSearch, limit, offset, tenantId);
+        Long totalCount = balances.size() < limit && offset == 0 ? (long) balances.size()
+                : stockBalanceRepository.count(stockBalanceSearch, tenantId);
+        log.info("completed search method for stock balance");
+        return SearchResponse.<StockBalance>builder().response(balances).totalCount(totalCount).build();
+    }
+
+    // what a version of a transaction counts towards the balances, nothing once it is deleted
+    private static StockBalanceEntry toEntry(Stock stock, long now) {
+        StockBalanceEntry entry = StockBalanceEntry.builder()
+                .stockId(stock.getId())
+                .tenantId(stock.getTenantId())
+                .productVariantId(stock.getProductVariantId())
+                .rowVersion(stock.getRowVersion() == null ? 0 : stock.getRowVersion())
+                .lastModifiedTime(now)
+                .build();
+        if (Boolean.TRUE.equals(stock.getIsDeleted()) || stock.getQuantity() == null) {
+            return entry;
+        }
+        if (TransactionType.RECEIVED.equals(stock.getTransactionType())
+                && SenderReceiverType.WAREHOUSE.equals(stock.getReceiverType())) {
+            entry.setFacilityId(stock.getReceiverId());
+            entry.setQuantity(stock.getQuantity());
+        } else if (TransactionType.DISPATCHED.equals(stock.getTransactionType())
+                && SenderReceiverType.WAREHOUSE.equals(stock.getSenderType())) {
+            entry.setFacilityId(stock.getSenderId());
+            entry.setQuantity(-stock.getQuantity());
+        }
+        if (entry.getFacilityId() == null) {
+            entry.setQuantity(0);
+        }
+        return entry;
+    }
+
+    private static void addAdjustment(Map<String, StockBalance> adjustments, StockBalanceEntry entry, int sign,
+                                      long now) {
+        if (entry.getFacilityId() == null || entry.getQuantity() == 0) {
+            return;
+        }
+        String key = String.join(PIPE, entry.getTenantId(), entry.getFacilityId(), entry.getProductVariantId());
+        StockBalance adjustment = adjustments.computeIfAbsent(key, k -> StockBalance.builder()
+                .tenantId(entry.getTenantId())
+                .facilityId(entry.getFacilityId())
+                .productVariantId(entry.getProductVariantId())
+                .balance(0L)
+                .lastModifiedTime(now)
+                .build());
+        adjustment.setBalance(adjustment.getBalance() + sign * entry.getQuantity());
+    }
+
+    private static List<StockBalance> nonZero(Map<String, StockBalance> adjustments) {
+        return adjustments.values().stream()
+                .filter(adjustment -> adjustment.getBalance() != 0)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,107 @@
+package org.egov.stock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.egov.stock.config.StockConfiguration;
+import org.egov.stock.repository.StockBalanceSnapshotRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes a stock balance snapshot at the end of every day, so that a balance at a point in time only replays the
+ * transactions of the day it falls in.
+ * <p>
+ * Transactions are often synced days after they took effect, so besides the days since the last snapshot a run takes
+ * again the snapshots from the day of the earliest transaction modified since the previous run, and at least those of
+ * the last few days. Transactions modified since the previous run are those modified after the latest one it read,
+ * less a margin for transactions the persister stored late.
+ */
+@Service
+@Slf4j
+public class StockBalanceSnapshotService {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    private final StockBalanceSnapshotRepository stockBalanceSnapshotRepository;
+
+    private final StockConfiguration configuration;
+
+    public StockBalanceSnapshotService(StockBalanceSnapshotRepository stockBalanceSnapshotRepository,
+                                       StockConfiguration configuration) {
+        this.stockBalanceSnapshotRepository = stockBalanceSnapshotRepository;
+        this.configuration = configuration;
+    }
+
+    @Scheduled(cron = "${stock.balance.snapshot.cron:0 30 0 * * *}", zone = "UTC")
+    public void scheduledSnapshot() {
+        if (!Boolean.TRUE.equals(configuration.getBalanceSnapshotEnabled())) {
+            return;
+        }
+        try {
+            snapshot(System.currentTimeMillis());
+        } catch (Exception exception) {
+            log.error("error taking stock balance snapshots: {}", ExceptionUtils.getStackTrace(exception));
+        }
+    }
+
+    /**
+     * Takes the snapshots due at a time, one at the start of each day (UTC) that has begun. Nothing is taken if
+     * another instance of the service is taking snapshots.
+     *
+     * @param now The current time.
+     */
+    public void snapshot(long now) {
+        if (!stockBalanceSnapshotRepository.runLocked(() -> takeSnapshots(now))) {
+            log.info("skipping stock balance snapshots, another instance is taking them");
+        }
+    }
+
+    private void takeSnapshots(long now) {
+        // read first, so that transactions modified while the snapshots are taken are looked at by the next run
+        Long modifiedUpTo = stockBalanceSnapshotRepository.findLatestModifiedTime();
+        Long earliestEntryTime = stockBalanceSnapshotRepository.findEarliestEntryTime(null);
+        if (earliestEntryTime == null) {
+            return;
+        }
+        long firstSnapshotTime = startOfDay(earliestEntryTime) + DAY;
+        long lastSnapshotTime = startOfDay(now);
+        if (lastSnapshotTime < firstSnapshotTime) {
+            return;
+        }
+
+        long from = firstSnapshotTime;
+        Long latestSnapshotTime = stockBalanceSnapshotRepository.findLatestSnapshotTime();
+        if (latestSnapshotTime != null) {
+            from = Math.min(latestSnapshotTime + DAY,
+                    lastSnapshotTime - (configuration.getBalanceSnapshotRecomputeDays() - 1) * DAY);
+            Long previousModifiedUpTo = stockBalanceSnapshotRepository.findLatestRunModifiedUpTo();
+            if (previousModifiedUpTo != null) {
+                // the persister may store transactions modified before the previous run only after it
+                Long modifiedEntryTime = stockBalanceSnapshotRepository.findEarliestEntryTime(previousModifiedUpTo
+                        - TimeUnit.MINUTES.toMillis(configuration.getBalanceSnapshotLateMarginMinutes()));
+                if (modifiedEntryTime != null) {
+                    from = Math.min(from, startOfDay(modifiedEntryTime) + DAY);
+                }
+            }
+            from = Math.max(from, firstSnapshotTime);
+        }
+
+        stockBalanceSnapshotRepository.deleteBefore(firstSnapshotTime);
+        log.info("taking stock balance snapshots from {} to {}", from, lastSnapshotTime);
+        for (long snapshotTime = from; snapshotTime <= lastSnapshotTime; snapshotTime += DAY) {
+            // the first snapshot has none before it and takes every transaction up to its time, including those that
+            // took effect at the very start of the earliest day
+            long previousSnapshotTime = snapshotTime == firstSnapshotTime ? Long.MIN_VALUE : snapshotTime - DAY;
+            stockBalanceSnapshotRepository.snapshot(snapshotTime, previousSnapshotTime, now);
+        }
+        if (modifiedUpTo != null) {
+            stockBalanceSnapshotRepository.saveRun(now, modifiedUpTo);
+        }
+    }
+
+    private static long startOfDay(long time) {
+        return Math.floorDiv(time, DAY) * DAY;
+    }
+}
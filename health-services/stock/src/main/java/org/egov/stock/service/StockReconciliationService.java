@@ -15,10 +15,12 @@ import org.egov.common.models.stock.StockReconciliation;
 import org.egov.common.models.stock.StockReconciliationBulkRequest;
 import org.egov.common.models.stock.StockReconciliationRequest;
 import org.egov.common.models.stock.StockReconciliationSearchRequest;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.stock.config.StockReconciliationConfiguration;
 import org.egov.stock.repository.StockReconciliationRepository;
 import org.egov.stock.service.enrichment.StockReconciliationEnrichmentService;
+import org.egov.stock.validator.stockreconciliation.SrCalculatedCountValidator;
 import org.egov.stock.validator.stockreconciliation.SrExistentEntityValidator;
 import org.egov.stock.validator.stockreconciliation.SrFacilityIdValidator;
 import org.egov.stock.validator.stockreconciliation.SrIsDeletedValidator;
@@ -28,6 +30,7 @@ import org.egov.stock.validator.stockreconciliation.SrProductVariantIdValidator;
 import org.egov.stock.validator.stockreconciliation.SrReferenceIdValidator;
 import org.egov.stock.validator.stockreconciliation.SrRowVersionValidator;
 import org.egov.stock.validator.stockreconciliation.SrUniqueEntityValidator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ReflectionUtils;
 
@@ -61,7 +64,8 @@ public class StockReconciliationService {
             validator -> validator.getClass().equals(SrProductVariantIdValidator.class)
                     || validator.getClass().equals(SrExistentEntityValidator.class)
                     || validator.getClass().equals(SrFacilityIdValidator.class)
-                    || validator.getClass().equals(SrReferenceIdValidator.class);
+                    || validator.getClass().equals(SrReferenceIdValidator.class)
+                    || validator.getClass().equals(SrCalculatedCountValidator.class);
 
     private final Predicate<Validator<StockReconciliationBulkRequest, StockReconciliation>> isApplicableForUpdate =
             validator -> validator.getClass().equals(SrProductVariantIdValidator.class)
@@ -71,12 +75,16 @@ public class StockReconciliationService {
                     || validator.getClass().equals(SrRowVersionValidator.class)
                     || validator.getClass().equals(SrUniqueEntityValidator.class)
                     || validator.getClass().equals(SrFacilityIdValidator.class)
-                    || validator.getClass().equals(SrReferenceIdValidator.class);
+                    || validator.getClass().equals(SrReferenceIdValidator.class)
+                    || validator.getClass().equals(SrCalculatedCountValidator.class);
 
     private final Predicate<Validator<StockReconciliationBulkRequest, StockReconciliation>> isApplicableForDelete =
             validator -> validator.getClass().equals(SrNonExistentValidator.class)
                     || validator.getClass().equals(SrNullIdValidator.class);
 
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
     public StockReconciliationService(StockReconciliationRepository stockRepository, List<Validator<StockReconciliationBulkRequest, StockReconciliation>> validators, StockReconciliationConfiguration configuration, StockReconciliationEnrichmentService enrichmentService) {
         this.stockRepository = stockRepository;
         this.validators = validators;
@@ -98,7 +106,7 @@ public class StockReconciliationService {
 
         Tuple<List<StockReconciliation>, Map<StockReconciliation, ErrorDetails>> tuple = validate(validators,
                 isApplicableForCreate, request, SET_STOCK_RECONCILIATION, GET_STOCK_RECONCILIATION, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
 
         Map<StockReconciliation, ErrorDetails> errorDetailsMap = tuple.getY();
         List<StockReconciliation> validEntities = tuple.getX();
@@ -130,7 +138,7 @@ public class StockReconciliationService {
         log.info("starting update method for stock reconciliation");
         Tuple<List<StockReconciliation>, Map<StockReconciliation, ErrorDetails>> tuple = validate(validators,
                 isApplicableForUpdate, request, SET_STOCK_RECONCILIATION, GET_STOCK_RECONCILIATION, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
 
         Map<StockReconciliation, ErrorDetails> errorDetailsMap = tuple.getY();
         List<StockReconciliation> validEntities = tuple.getX();
@@ -163,7 +171,7 @@ public class StockReconciliationService {
         log.info("starting delete method for stock reconciliation");
         Tuple<List<StockReconciliation>, Map<StockReconciliation, ErrorDetails>> tuple = validate(validators,
                 isApplicableForDelete, request, SET_STOCK_RECONCILIATION, GET_STOCK_RECONCILIATION, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
 
         Map<StockReconciliation, ErrorDetails> errorDetailsMap = tuple.getY();
         List<StockReconciliation> validEntities = tuple.getX();
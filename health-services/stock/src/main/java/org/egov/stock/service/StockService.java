@@ -15,8 +15,10 @@ import org.egov.common.models.stock.Stock;
 import org.egov.common.models.stock.StockBulkRequest;
 import org.egov.common.models.stock.StockRequest;
 import org.egov.common.models.stock.StockSearchRequest;
+import org.egov.common.validator.ConcurrentValidation;
 import org.egov.common.validator.Validator;
 import org.egov.stock.config.StockConfiguration;
+import org.egov.stock.repository.StockBalanceEntry;
 import org.egov.stock.repository.StockRepository;
 import org.egov.stock.service.enrichment.StockEnrichmentService;
 import org.egov.stock.validator.stock.SExistentEntityValidator;
@@ -29,6 +31,7 @@ import org.egov.stock.validator.stock.SRowVersionValidator;
 import org.egov.stock.validator.stock.SSenderIdReceiverIdEqualsValidator;
 import org.egov.stock.validator.stock.SUniqueEntityValidator;
 import org.egov.stock.validator.stock.SStockTransferPartiesValidator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ReflectionUtils;
 
@@ -58,6 +61,8 @@ public class StockService {
 
     private final StockEnrichmentService enrichmentService;
 
+    private final StockBalanceService stockBalanceService;
+
     private final Predicate<Validator<StockBulkRequest, Stock>> isApplicableForCreate =
             validator -> validator.getClass().equals(SProductVariantIdValidator.class)
                     || validator.getClass().equals(SExistentEntityValidator.class)
@@ -81,11 +86,15 @@ public class StockService {
             || validator.getClass().equals(SNullIdValidator.class)
             || validator.getClass().equals(SRowVersionValidator.class);
 
-    public StockService(StockRepository stockRepository, List<Validator<StockBulkRequest, Stock>> validators, StockConfiguration configuration, StockEnrichmentService enrichmentService) {
+    @Autowired(required = false)
+    private ConcurrentValidation concurrentValidation;
+
+    public StockService(StockRepository stockRepository, List<Validator<StockBulkRequest, Stock>> validators, StockConfiguration configuration, StockEnrichmentService enrichmentService, StockBalanceService stockBalanceService) {
         this.stockRepository = stockRepository;
         this.validators = validators;
         this.configuration = configuration;
         this.enrichmentService = enrichmentService;
+        this.stockBalanceService = stockBalanceService;
     }
 
     public Stock create(StockRequest request) {
@@ -99,14 +108,15 @@ public class StockService {
         log.info("starting create method for stock");
         Tuple<List<Stock>, Map<Stock, ErrorDetails>> tuple = validate(validators,
                 isApplicableForCreate, request, SET_STOCK, GET_STOCK, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
         Map<Stock, ErrorDetails> errorDetailsMap = tuple.getY();
         List<Stock> validEntities = tuple.getX();
         try {
             if (!validEntities.isEmpty()) {
                 log.info("processing {} valid entities", validEntities.size());
                 enrichmentService.create(validEntities, request);
-                stockRepository.save(validEntities, configuration.getCreateStockTopic());
+                List<Tuple<StockBalanceEntry, StockBalanceEntry>> changes = stockBalanceService.apply(validEntities);
+                save(validEntities, configuration.getCreateStockTopic(), changes);
             }
         } catch (Exception exception) {
             log.error("error occurred: {}", ExceptionUtils.getStackTrace(exception));
@@ -129,14 +139,15 @@ public class StockService {
         log.info("starting update method for stock");
         Tuple<List<Stock>, Map<Stock, ErrorDetails>> tuple = validate(validators,
                 isApplicableForUpdate, request, SET_STOCK, GET_STOCK, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
         Map<Stock, ErrorDetails> errorDetailsMap = tuple.getY();
         List<Stock> validEntities = tuple.getX();
         try {
             if (!validEntities.isEmpty()) {
                 log.info("processing {} valid entities", validEntities.size());
                 enrichmentService.update(validEntities, request);
-                stockRepository.save(validEntities, configuration.getUpdateStockTopic());
+                List<Tuple<StockBalanceEntry, StockBalanceEntry>> changes = stockBalanceService.apply(validEntities);
+                save(validEntities, configuration.getUpdateStockTopic(), changes);
             }
         } catch (Exception exception) {
             log.error("error occurred: {}", ExceptionUtils.getStackTrace(exception));
@@ -159,14 +170,15 @@ public class StockService {
         log.info("starting delete method for stock");
         Tuple<List<Stock>, Map<Stock, ErrorDetails>> tuple = validate(validators,
                 isApplicableForDelete, request, SET_STOCK, GET_STOCK, VALIDATION_ERROR,
-                isBulk);
+                isBulk, concurrentValidation);
         Map<Stock, ErrorDetails> errorDetailsMap = tuple.getY();
         List<Stock> validEntities = tuple.getX();
         try {
             if (!validEntities.isEmpty()) {
                 log.info("processing {} valid entities", validEntities.size());
                 enrichmentService.delete(validEntities, request);
-                stockRepository.save(validEntities, configuration.getDeleteStockTopic());
+                List<Tuple<StockBalanceEntry, StockBalanceEntry>> changes = stockBalanceService.apply(validEntities);
+                save(validEntities, configuration.getDeleteStockTopic(), changes);
             }
         } catch (Exception exception) {
             log.error("error occurred: {}", ExceptionUtils.getStackTrace(exception));
@@ -202,4 +214,13 @@ public class StockService {
         return stockRepository.findWithCount(stockSearchRequest.getStock(),
                 limit, offset, tenantId, lastChangedSince, includeDeleted);
     }
+
+    private void save(List<Stock> entities, String topic, List<Tuple<StockBalanceEntry, StockBalanceEntry>> changes) {
+        try {
+            stockRepository.save(entities, topic);
+        } catch (RuntimeException exception) {
+            stockBalanceService.revert(changes);
+            throw exception;
+        }
+    }
 }
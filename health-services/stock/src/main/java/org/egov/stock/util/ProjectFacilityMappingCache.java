@@ -0,0 +1,78 @@
+package org.egov.stock.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.stock.config.StockConfiguration;
+import org.springframework.stereotype.Component;
+
+import static org.egov.stock.Constants.PIPE;
+
+/**
+ * In-process cache of the project facility mappings found by the project service, keyed by tenant, project and
+ * facility.
+ * <p>
+ * Only existing mappings are cached, so a facility mapped to a project after a failed validation is found on the next
+ * lookup. Entries expire {@code stock.project.facility.cache.ttl.ms} after they were loaded, a ttl of zero disabling
+ * the cache, and the expired entries are dropped whenever the cache grows past
+ * {@code stock.project.facility.cache.max.size}.
+ */
+@Slf4j
+@Component
+public class ProjectFacilityMappingCache {
+
+    private final Map<String, Long> loadedAt = new ConcurrentHashMap<>();
+
+    private final StockConfiguration stockConfiguration;
+
+    public ProjectFacilityMappingCache(StockConfiguration stockConfiguration) {
+        this.stockConfiguration = stockConfiguration;
+    }
+
+    /**
+     * Returns whether a facility is known to be mapped to a project.
+     *
+     * @param tenantId   The tenant of the mapping.
+     * @param projectId  The project id.
+     * @param facilityId The facility id.
+     * @return True if the mapping was found within the ttl, false if it has to be looked up.
+     */
+    public boolean isMapped(String tenantId, String projectId, String facilityId) {
+        Long loadedTime = loadedAt.get(cacheKey(tenantId, projectId, facilityId));
+        return loadedTime != null
+                && System.currentTimeMillis() - loadedTime <= stockConfiguration.getProjectFacilityCacheTtlMs();
+    }
+
+    /**
+     * Caches a mapping found by the project service.
+     *
+     * @param tenantId   The tenant of the mapping.
+     * @param projectId  The project id.
+     * @param facilityId The facility id.
+     */
+    public void put(String tenantId, String projectId, String facilityId) {
+        if (stockConfiguration.getProjectFacilityCacheTtlMs() <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (loadedAt.size() >= stockConfiguration.getProjectFacilityCacheMaxSize()) {
+            evict(now);
+        }
+        loadedAt.put(cacheKey(tenantId, projectId, facilityId), now);
+    }
+
+    // drops the expired mappings, or all of them if none has expired yet
+    private void evict(long now) {
+        long ttl = stockConfiguration.getProjectFacilityCacheTtlMs();
+        loadedAt.values().removeIf(loadedTime -> now - loadedTime > ttl);
+        if (loadedAt.size() >= stockConfiguration.getProjectFacilityCacheMaxSize()) {
+            log.info("project facility mapping cache is full, clearing {} mappings", loadedAt.size());
+            loadedAt.clear();
+        }
+    }
+
+    private static String cacheKey(String tenantId, String projectId, String facilityId) {
+        return String.join(PIPE, tenantId, projectId, facilityId);
+    }
+}
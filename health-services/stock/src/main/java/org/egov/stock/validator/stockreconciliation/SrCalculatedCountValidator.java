@@ -0,0 +1,91 @@
+package org.egov.stock.validator.stockreconciliation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.models.Error;
+import org.egov.common.models.stock.StockBalance;
+import org.egov.common.models.stock.StockBalanceSearch;
+import org.egov.common.models.stock.StockReconciliation;
+import org.egov.common.models.stock.StockReconciliationBulkRequest;
+import org.egov.common.validator.Validator;
+import org.egov.stock.config.StockReconciliationConfiguration;
+import org.egov.stock.repository.StockBalanceRepository;
+import org.egov.tracer.model.CustomException;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import static org.egov.common.utils.CommonUtils.notHavingErrors;
+import static org.egov.common.utils.CommonUtils.populateErrorDetails;
+import static org.egov.stock.Constants.CALCULATED_COUNT_MISMATCH;
+import static org.egov.stock.Constants.PIPE;
+
+/**
+ * Checks the calculated count of a reconciliation against the on-hand balance the service keeps for the facility and
+ * product variant. The balance is the current one, so the check is only enabled where reconciliations are recorded
+ * as they happen.
+ */
+@Component
+@Order(value = 9)
+@Slf4j
+public class SrCalculatedCountValidator implements Validator<StockReconciliationBulkRequest, StockReconciliation> {
+
+    private final StockBalanceRepository stockBalanceRepository;
+
+    private final StockReconciliationConfiguration configuration;
+
+    public SrCalculatedCountValidator(StockBalanceRepository stockBalanceRepository,
+                                      StockReconciliationConfiguration configuration) {
+        this.stockBalanceRepository = stockBalanceRepository;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public Map<StockReconciliation, List<Error>> validate(StockReconciliationBulkRequest request) {
+        Map<StockReconciliation, List<Error>> errorDetailsMap = new HashMap<>();
+        if (!Boolean.TRUE.equals(configuration.getCalculatedCountValidationEnabled())) {
+            return errorDetailsMap;
+        }
+        log.info("validating calculated count against stock balance");
+        List<StockReconciliation> validEntities = request.getStockReconciliation().stream()
+                .filter(notHavingErrors())
+                .filter(entity -> entity.getCalculatedCount() != null)
+                .collect(Collectors.toList());
+        if (validEntities.isEmpty()) {
+            return errorDetailsMap;
+        }
+
+        List<String> facilityIds = validEntities.stream().map(StockReconciliation::getFacilityId).distinct()
+                .collect(Collectors.toList());
+        List<String> productVariantIds = validEntities.stream().map(StockReconciliation::getProductVariantId)
+                .distinct().collect(Collectors.toList());
+        StockBalanceSearch stockBalanceSearch = StockBalanceSearch.builder()
+                .facilityId(facilityIds)
+                .productVariantId(productVariantIds)
+                .build();
+        Map<String, Long> balances = stockBalanceRepository.find(stockBalanceSearch,
+                        facilityIds.size() * productVariantIds.size(), 0, validEntities.get(0).getTenantId())
+                .stream()
+                .collect(Collectors.toMap(balance -> balance.getFacilityId() + PIPE + balance.getProductVariantId(),
+                        StockBalance::getBalance));
+
+        validEntities.forEach(entity -> {
+            Long balance = balances.getOrDefault(entity.getFacilityId() + PIPE + entity.getProductVariantId(), 0L);
+            if (!Objects.equals(balance, entity.getCalculatedCount().longValue())) {
+                String errorMessage = String.format("Calculated count %d does not match the stock balance %d",
+                        entity.getCalculatedCount(), balance);
+                Error error = Error.builder().errorMessage(errorMessage).errorCode(CALCULATED_COUNT_MISMATCH)
+                        .type(Error.ErrorType.NON_RECOVERABLE)
+                        .exception(new CustomException(CALCULATED_COUNT_MISMATCH, errorMessage)).build();
+                populateErrorDetails(entity, error, errorDetailsMap);
+            }
+        });
+
+        log.info("calculated count validation completed, total errors: {}", errorDetailsMap.size());
+        return errorDetailsMap;
+    }
+}
@@ -11,6 +11,9 @@ import org.egov.common.contract.response.ResponseInfo;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.core.URLParams;
 import org.egov.common.models.stock.Stock;
+import org.egov.common.models.stock.StockBalance;
+import org.egov.common.models.stock.StockBalanceBulkResponse;
+import org.egov.common.models.stock.StockBalanceSearchRequest;
 import org.egov.common.models.stock.StockBulkRequest;
 import org.egov.common.models.stock.StockBulkResponse;
 import org.egov.common.models.stock.StockRequest;
@@ -19,6 +22,7 @@ import org.egov.common.models.stock.StockSearchRequest;
 import org.egov.common.producer.Producer;
 import org.egov.common.utils.ResponseInfoFactory;
 import org.egov.stock.config.StockConfiguration;
+import org.egov.stock.service.StockBalanceService;
 import org.egov.stock.service.StockService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -45,13 +49,16 @@ public class StockApiController {
 
     private final StockConfiguration stockConfiguration;
 
+    private final StockBalanceService stockBalanceService;
+
     @Autowired
-    public StockApiController(ObjectMapper objectMapper, HttpServletRequest request, StockService stockService, Producer producer, StockConfiguration stockConfiguration) {
+    public StockApiController(ObjectMapper objectMapper, HttpServletRequest request, StockService stockService, Producer producer, StockConfiguration stockConfiguration, StockBalanceService stockBalanceService) {
         this.objectMapper = objectMapper;
         this.httpServletRequest = request;
         this.stockService = stockService;
         this.producer = producer;
         this.stockConfiguration = stockConfiguration;
+        this.stockBalanceService = stockBalanceService;
     }
 
     @RequestMapping(value = "/v1/_create", method = RequestMethod.POST)
@@ -95,6 +102,24 @@ public class StockApiController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @RequestMapping(value = "/v1/_balance", method = RequestMethod.POST)
+    public ResponseEntity<StockBalanceBulkResponse> stockV1BalancePost(
+            @Valid @ModelAttribute URLParams urlParams,
+            @ApiParam(value = "Search the on-hand balance of product variants at facilities.", required = true) @Valid @RequestBody StockBalanceSearchRequest stockBalanceSearchRequest
+    ) {
+
+        SearchResponse<StockBalance> searchResponse = stockBalanceService.search(
+                stockBalanceSearchRequest,
+                urlParams.getLimit(),
+                urlParams.getOffset(),
+                urlParams.getTenantId()
+        );
+        StockBalanceBulkResponse response = StockBalanceBulkResponse.builder().responseInfo(ResponseInfoFactory
+                .createResponseInfo(stockBalanceSearchRequest.getRequestInfo(), true)).stockBalance(searchResponse.getResponse()).totalCount(searchResponse.getTotalCount()).build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @RequestMapping(value = "/v1/_update", method = RequestMethod.POST)
     public ResponseEntity<StockResponse> stockV1UpdatePost(@ApiParam(value = "Capture details of stock transaction", required = true) @Valid @RequestBody StockRequest request) {
         Stock stock = stockService.update(request);
@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS STOCK_BALANCE
+(
+    tenantId         character varying(1000) NOT NULL,
+    facilityId       character varying(128)  NOT NULL,
+    productVariantId character varying(64)   NOT NULL,
+    balance          bigint                  NOT NULL DEFAULT 0,
+    lastModifiedTime bigint,
+    CONSTRAINT pk_stock_balance PRIMARY KEY (tenantId, facilityId, productVariantId)
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_balance_tenantId_productVariantId ON STOCK_BALANCE (tenantId, productVariantId);
+
+-- opening balances from the transactions recorded so far: a warehouse gains what it records as received and loses
+-- what it records as dispatched
+INSERT INTO STOCK_BALANCE (tenantId, facilityId, productVariantId, balance, lastModifiedTime)
+SELECT tenantId, facilityId, productVariantId, SUM(quantity), MAX(lastModifiedTime)
+FROM (
+    SELECT tenantId, receiverId AS facilityId, productVariantId, quantity, lastModifiedTime
+    FROM STOCK
+    WHERE isDeleted = false AND transactionType = 'RECEIVED' AND receiverType = 'WAREHOUSE' AND receiverId IS NOT NULL
+    UNION ALL
+    SELECT tenantId, senderId AS facilityId, productVariantId, -quantity, lastModifiedTime
+    FROM STOCK
+    WHERE isDeleted = false AND transactionType = 'DISPATCHED' AND senderType = 'WAREHOUSE' AND senderId IS NOT NULL
+) transactions
+GROUP BY tenantId, facilityId, productVariantId
+ON CONFLICT (tenantId, facilityId, productVariantId) DO NOTHING;
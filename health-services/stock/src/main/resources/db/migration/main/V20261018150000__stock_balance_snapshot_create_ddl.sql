@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS STOCK_BALANCE_SNAPSHOT
+(
+    snapshotTime     bigint                  NOT NULL,
+    tenantId         character varying(1000) NOT NULL,
+    facilityId       character varying(128)  NOT NULL,
+    productVariantId character varying(64)   NOT NULL,
+    balance          bigint                  NOT NULL,
+    createdTime      bigint                  NOT NULL,
+    CONSTRAINT pk_stock_balance_snapshot PRIMARY KEY (snapshotTime, tenantId, facilityId, productVariantId)
+);
+
+-- the latest transaction modified time read by each snapshot run, from which the next run looks for late transactions
+CREATE TABLE IF NOT EXISTS STOCK_BALANCE_SNAPSHOT_RUN
+(
+    runTime      bigint NOT NULL,
+    modifiedUpTo bigint NOT NULL,
+    CONSTRAINT pk_stock_balance_snapshot_run PRIMARY KEY (runTime)
+);
+
+-- the time a transaction took effect, used to replay the transactions between a snapshot and a point in time
+CREATE INDEX IF NOT EXISTS idx_stock_entryTime ON STOCK ((COALESCE(dateOfEntry, createdTime)));
+CREATE INDEX IF NOT EXISTS idx_stock_lastModifiedTime ON STOCK (lastModifiedTime);
@@ -0,0 +1,30 @@
+CREATE TABLE IF NOT EXISTS STOCK_BALANCE_ENTRY
+(
+    stockId          character varying(64)   NOT NULL,
+    tenantId         character varying(1000) NOT NULL,
+    facilityId       character varying(128),
+    productVariantId character varying(64),
+    quantity         bigint                  NOT NULL DEFAULT 0,
+    rowVersion       bigint                  NOT NULL DEFAULT 0,
+    lastModifiedTime bigint,
+    CONSTRAINT pk_stock_balance_entry PRIMARY KEY (stockId)
+);
+
+-- what each transaction recorded so far counts towards the opening balances, by the same rules as those balances
+INSERT INTO STOCK_BALANCE_ENTRY (stockId, tenantId, facilityId, productVariantId, quantity, rowVersion, lastModifiedTime)
+SELECT id, tenantId,
+       CASE
+           WHEN isDeleted = false AND transactionType = 'RECEIVED' AND receiverType = 'WAREHOUSE' THEN receiverId
+           WHEN isDeleted = false AND transactionType = 'DISPATCHED' AND senderType = 'WAREHOUSE' THEN senderId
+       END,
+       productVariantId,
+       CASE
+           WHEN isDeleted = false AND transactionType = 'RECEIVED' AND receiverType = 'WAREHOUSE'
+               AND receiverId IS NOT NULL THEN COALESCE(quantity, 0)
+           WHEN isDeleted = false AND transactionType = 'DISPATCHED' AND senderType = 'WAREHOUSE'
+               AND senderId IS NOT NULL THEN -COALESCE(quantity, 0)
+           ELSE 0
+       END,
+       COALESCE(rowVersion, 1), lastModifiedTime
+FROM STOCK
+ON CONFLICT (stockId) DO NOTHING;
@@ -0,0 +1,152 @@
+package org.egov.stock.service;
+
+import org.egov.common.helper.RequestInfoTestBuilder;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.models.Error;
+import org.egov.common.models.project.ProjectFacility;
+import org.egov.common.models.project.ProjectFacilityBulkResponse;
+import org.egov.common.models.project.ProjectFacilitySearchRequest;
+import org.egov.common.models.stock.Stock;
+import org.egov.stock.config.StockConfiguration;
+import org.egov.stock.helper.StockTestBuilder;
+import org.egov.stock.util.ProjectFacilityMappingCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FacilityServiceTest {
+
+    @Mock
+    private StockConfiguration stockConfiguration;
+
+    @Mock
+    private ServiceRequestClient serviceRequestClient;
+
+    private FacilityService facilityService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stockConfiguration.getProjectFacilityServiceHost()).thenReturn("http://localhost:8083");
+        lenient().when(stockConfiguration.getProjectFacilityServiceSearchUrl()).thenReturn("/project/facility/v1/_search");
+        lenient().when(stockConfiguration.getProjectFacilityCacheTtlMs()).thenReturn(900000L);
+        lenient().when(stockConfiguration.getProjectFacilityCacheMaxSize()).thenReturn(100);
+        lenient().when(stockConfiguration.getProjectFacilitySearchPageSize()).thenReturn(100);
+        facilityService = new FacilityService(stockConfiguration, serviceRequestClient,
+                new ProjectFacilityMappingCache(stockConfiguration));
+    }
+
+    @Test
+    @DisplayName("should search only the distinct facilities of each project and cache the mappings found")
+    void shouldSearchDistinctFacilitiesAndCacheMappings() {
+        List<Stock> stocks = Arrays.asList(stock("facility-1"), stock("facility-1"), stock("facility-2"));
+        ProjectFacilityBulkResponse response = ProjectFacilityBulkResponse.builder()
+                .projectFacilities(Arrays.asList(
+                        ProjectFacility.builder().projectId("reference-id").facilityId("facility-1").build(),
+                        ProjectFacility.builder().projectId("reference-id").facilityId("facility-2").build()))
+                .build();
+        ArgumentCaptor<ProjectFacilitySearchRequest> requestCaptor =
+                ArgumentCaptor.forClass(ProjectFacilitySearchRequest.class);
+        when(serviceRequestClient.fetchResult(any(StringBuilder.class), requestCaptor.capture(),
+                eq(ProjectFacilityBulkResponse.class))).thenReturn(response);
+
+        Map<String, List<String>> firstMappings = facilityService.validateProjectFacilityMappings(stocks, "default",
+                new HashMap<Stock, List<Error>>(), RequestInfoTestBuilder.builder().withCompleteRequestInfo().build());
+        Map<String, List<String>> secondMappings = facilityService.validateProjectFacilityMappings(stocks, "default",
+                new HashMap<Stock, List<Error>>(), RequestInfoTestBuilder.builder().withCompleteRequestInfo().build());
+
+        verify(serviceRequestClient, times(1)).fetchResult(any(StringBuilder.class), any(),
+                eq(ProjectFacilityBulkResponse.class));
+        assertEquals(Arrays.asList("facility-1", "facility-2"),
+                requestCaptor.getValue().getProjectFacility().getFacilityId());
+        assertEquals(Collections.singletonList("reference-id"),
+                requestCaptor.getValue().getProjectFacility().getProjectId());
+        assertEquals(Arrays.asList("facility-1", "facility-2"), firstMappings.get("reference-id"));
+        assertEquals(Arrays.asList("facility-1", "facility-2"), secondMappings.get("reference-id"));
+    }
+
+    @Test
+    @DisplayName("should search each project for its own facilities only")
+    void shouldSearchEachProjectForItsOwnFacilities() {
+        Stock otherProjectStock = stock("facility-2");
+        otherProjectStock.setReferenceId("other-reference-id");
+        List<Stock> stocks = Arrays.asList(stock("facility-1"), otherProjectStock);
+        ArgumentCaptor<ProjectFacilitySearchRequest> requestCaptor =
+                ArgumentCaptor.forClass(ProjectFacilitySearchRequest.class);
+        when(serviceRequestClient.fetchResult(any(StringBuilder.class), requestCaptor.capture(),
+                eq(ProjectFacilityBulkResponse.class)))
+                .thenReturn(ProjectFacilityBulkResponse.builder()
+                        .projectFacilities(Collections.singletonList(
+                                ProjectFacility.builder().projectId("reference-id").facilityId("facility-1").build()))
+                        .build())
+                .thenReturn(ProjectFacilityBulkResponse.builder()
+                        .projectFacilities(Collections.singletonList(ProjectFacility.builder()
+                                .projectId("other-reference-id").facilityId("facility-2").build()))
+                        .build());
+
+        Map<String, List<String>> mappings = facilityService.validateProjectFacilityMappings(stocks, "default",
+                new HashMap<Stock, List<Error>>(), RequestInfoTestBuilder.builder().withCompleteRequestInfo().build());
+
+        List<ProjectFacilitySearchRequest> requests = requestCaptor.getAllValues();
+        assertEquals(2, requests.size());
+        assertEquals(Collections.singletonList("reference-id"), requests.get(0).getProjectFacility().getProjectId());
+        assertEquals(Collections.singletonList("facility-1"), requests.get(0).getProjectFacility().getFacilityId());
+        assertEquals(Collections.singletonList("other-reference-id"),
+                requests.get(1).getProjectFacility().getProjectId());
+        assertEquals(Collections.singletonList("facility-2"), requests.get(1).getProjectFacility().getFacilityId());
+        assertEquals(Collections.singletonList("facility-1"), mappings.get("reference-id"));
+        assertEquals(Collections.singletonList("facility-2"), mappings.get("other-reference-id"));
+    }
+
+    @Test
+    @DisplayName("should search the mappings a page at a time until a page is not full")
+    void shouldSearchMappingsPageByPage() {
+        when(stockConfiguration.getProjectFacilitySearchPageSize()).thenReturn(2);
+        List<Stock> stocks = Arrays.asList(stock("facility-1"), stock("facility-2"), stock("facility-3"));
+        ArgumentCaptor<StringBuilder> urlCaptor = ArgumentCaptor.forClass(StringBuilder.class);
+        when(serviceRequestClient.fetchResult(urlCaptor.capture(), any(), eq(ProjectFacilityBulkResponse.class)))
+                .thenReturn(ProjectFacilityBulkResponse.builder()
+                        .projectFacilities(Arrays.asList(
+                                ProjectFacility.builder().projectId("reference-id").facilityId("facility-1").build(),
+                                ProjectFacility.builder().projectId("reference-id").facilityId("facility-2").build()))
+                        .build())
+                .thenReturn(ProjectFacilityBulkResponse.builder()
+                        .projectFacilities(Collections.singletonList(
+                                ProjectFacility.builder().projectId("reference-id").facilityId("facility-3").build()))
+                        .build());
+
+        Map<String, List<String>> mappings = facilityService.validateProjectFacilityMappings(stocks, "default",
+                new HashMap<Stock, List<Error>>(), RequestInfoTestBuilder.builder().withCompleteRequestInfo().build());
+
+        List<StringBuilder> urls = urlCaptor.getAllValues();
+        assertEquals(2, urls.size());
+        assertTrue(urls.get(0).toString().contains("?limit=2&offset=0&"));
+        assertTrue(urls.get(1).toString().contains("?limit=2&offset=2&"));
+        assertEquals(Arrays.asList("facility-1", "facility-2", "facility-3"), mappings.get("reference-id"));
+    }
+
+    private static Stock stock(String senderId) {
+        Stock stock = StockTestBuilder.builder().withStock().build();
+        stock.setSenderId(senderId);
+        return stock;
+    }
+}
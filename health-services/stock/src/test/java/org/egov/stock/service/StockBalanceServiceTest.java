@@ -0,0 +1,196 @@
+package org.egov.stock.service;
+
+import org.egov.common.ds.Tuple;
+import org.egov.common.models.stock.SenderReceiverType;
+import org.egov.common.models.stock.Stock;
+import org.egov.common.models.stock.StockBalance;
+import org.egov.common.models.stock.TransactionType;
+import org.egov.stock.helper.StockTestBuilder;
+import org.egov.stock.repository.StockBalanceEntry;
+import org.egov.stock.repository.StockBalanceEntryRepository;
+import org.egov.stock.repository.StockBalanceRepository;
+import org.egov.stock.repository.StockBalanceSnapshotRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockBalanceServiceTest {
+
+    @InjectMocks
+    private StockBalanceService stockBalanceService;
+
+    @Mock
+    private StockBalanceRepository stockBalanceRepository;
+
+    @Mock
+    private StockBalanceSnapshotRepository stockBalanceSnapshotRepository;
+
+    @Mock
+    private StockBalanceEntryRepository stockBalanceEntryRepository;
+
+    @Test
+    @DisplayName("should decrease the balance of the warehouse dispatching stock")
+    void shouldDecreaseBalanceOfDispatchingWarehouse() {
+        Stock stock = stock(5, 1);
+        counted(entry(null, 0, 0));
+
+        stockBalanceService.apply(Collections.singletonList(stock));
+
+        List<StockBalance> adjustments = adjustments();
+        assertEquals(1, adjustments.size());
+        assertEquals("sender-id", adjustments.get(0).getFacilityId());
+        assertEquals(-5L, adjustments.get(0).getBalance());
+    }
+
+    @Test
+    @DisplayName("should increase the balance of the warehouse receiving stock")
+    void shouldIncreaseBalanceOfReceivingWarehouse() {
+        Stock stock = stock(5, 1);
+        stock.setTransactionType(TransactionType.RECEIVED);
+        stock.setReceiverType(SenderReceiverType.WAREHOUSE);
+        counted(entry(null, 0, 0));
+
+        stockBalanceService.apply(Collections.singletonList(stock));
+
+        List<StockBalance> adjustments = adjustments();
+        assertEquals(1, adjustments.size());
+        assertEquals("receiver-id", adjustments.get(0).getFacilityId());
+        assertEquals(5L, adjustments.get(0).getBalance());
+    }
+
+    @Test
+    @DisplayName("should not change any balance for stock received by staff")
+    void shouldNotChangeBalanceForStockReceivedByStaff() {
+        Stock stock = stock(5, 1);
+        stock.setTransactionType(TransactionType.RECEIVED);
+        counted(entry(null, 0, 0));
+
+        List<Tuple<StockBalanceEntry, StockBalanceEntry>> changes =
+                stockBalanceService.apply(Collections.singletonList(stock));
+
+        assertEquals(1, changes.size());
+        assertNull(changes.get(0).getY().getFacilityId());
+        assertTrue(adjustments().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should adjust the balance by the difference to the counted version when the quantity is updated")
+    void shouldAdjustBalanceByDifferenceOnUpdate() {
+        counted(entry("sender-id", -5, 1));
+
+        stockBalanceService.apply(Collections.singletonList(stock(8, 2)));
+
+        List<StockBalance> adjustments = adjustments();
+        assertEquals(1, adjustments.size());
+        assertEquals(-3L, adjustments.get(0).getBalance());
+        assertEquals(-8L, savedEntries().get(0).getQuantity());
+        assertEquals(2, savedEntries().get(0).getRowVersion());
+    }
+
+    @Test
+    @DisplayName("should take the counted quantity out of the balance when the stock is deleted")
+    void shouldTakeCountedQuantityOutOnDelete() {
+        Stock deleted = Stock.builder().id("id").tenantId("default").rowVersion(2).isDeleted(Boolean.TRUE).build();
+        counted(entry("sender-id", -5, 1));
+
+        stockBalanceService.apply(Collections.singletonList(deleted));
+
+        List<StockBalance> adjustments = adjustments();
+        assertEquals(1, adjustments.size());
+        assertEquals("sender-id", adjustments.get(0).getFacilityId());
+        assertEquals("pv-id", adjustments.get(0).getProductVariantId());
+        assertEquals(5L, adjustments.get(0).getBalance());
+        assertEquals(0L, savedEntries().get(0).getQuantity());
+    }
+
+    @Test
+    @DisplayName("should skip a version of a stock that is already counted")
+    void shouldSkipVersionAlreadyCounted() {
+        counted(entry("sender-id", -8, 2));
+
+        List<Tuple<StockBalanceEntry, StockBalanceEntry>> changes =
+                stockBalanceService.apply(Collections.singletonList(stock(8, 2)));
+
+        assertTrue(changes.isEmpty());
+        assertTrue(savedEntries().isEmpty());
+        assertTrue(adjustments().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should restore the replaced entry and balance when reverting a change")
+    void shouldRestoreReplacedEntryOnRevert() {
+        StockBalanceEntry previous = entry("sender-id", -5, 1);
+        StockBalanceEntry recorded = entry("sender-id", -8, 2);
+        counted(recorded);
+
+        stockBalanceService.revert(Collections.singletonList(new Tuple<>(previous, recorded)));
+
+        assertSame(previous, savedEntries().get(0));
+        List<StockBalance> adjustments = adjustments();
+        assertEquals(1, adjustments.size());
+        assertEquals(3L, adjustments.get(0).getBalance());
+    }
+
+    @Test
+    @DisplayName("should not revert a change once a later version of the stock is counted")
+    void shouldNotRevertSupersededChange() {
+        StockBalanceEntry previous = entry("sender-id", -5, 1);
+        StockBalanceEntry recorded = entry("sender-id", -8, 2);
+        counted(entry("sender-id", -9, 3));
+
+        stockBalanceService.revert(Collections.singletonList(new Tuple<>(previous, recorded)));
+
+        assertTrue(savedEntries().isEmpty());
+        assertTrue(adjustments().isEmpty());
+    }
+
+    private void counted(StockBalanceEntry entry) {
+        Map<String, StockBalanceEntry> counted = new HashMap<>();
+        counted.put(entry.getStockId(), entry);
+        when(stockBalanceEntryRepository.lock(anyList())).thenReturn(counted);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<StockBalanceEntry> savedEntries() {
+        ArgumentCaptor<List<StockBalanceEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockBalanceEntryRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<StockBalance> adjustments() {
+        ArgumentCaptor<List<StockBalance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockBalanceRepository).adjust(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Stock stock(int quantity, int rowVersion) {
+        Stock stock = StockTestBuilder.builder().withStock().withId("id").build();
+        stock.setQuantity(quantity);
+        stock.setRowVersion(rowVersion);
+        return stock;
+    }
+
+    private static StockBalanceEntry entry(String facilityId, long quantity, int rowVersion) {
+        return StockBalanceEntry.builder().stockId("id").tenantId("default").facilityId(facilityId)
+                .productVariantId("pv-id").quantity(quantity).rowVersion(rowVersion).build();
+    }
+}
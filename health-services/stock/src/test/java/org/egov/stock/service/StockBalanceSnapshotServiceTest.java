@@ -0,0 +1,119 @@
+package org.egov.stock.service;
+
+import org.egov.stock.config.StockConfiguration;
+import org.egov.stock.repository.StockBalanceSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockBalanceSnapshotServiceTest {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    private static final long NOW = 100 * DAY + HOUR;
+
+    @InjectMocks
+    private StockBalanceSnapshotService stockBalanceSnapshotService;
+
+    @Mock
+    private StockBalanceSnapshotRepository stockBalanceSnapshotRepository;
+
+    @Mock
+    private StockConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(configuration.getBalanceSnapshotRecomputeDays()).thenReturn(2);
+        lenient().when(configuration.getBalanceSnapshotLateMarginMinutes()).thenReturn(60);
+        lenient().when(stockBalanceSnapshotRepository.runLocked(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return true;
+        });
+    }
+
+    @Test
+    @DisplayName("should take a snapshot for every day since the earliest transaction when there are none")
+    void shouldTakeSnapshotsSinceEarliestTransaction() {
+        when(stockBalanceSnapshotRepository.findEarliestEntryTime(null)).thenReturn(95 * DAY + 10);
+
+        stockBalanceSnapshotService.snapshot(NOW);
+
+        verify(stockBalanceSnapshotRepository, times(5)).snapshot(anyLong(), anyLong(), eq(NOW));
+        verify(stockBalanceSnapshotRepository).snapshot(96 * DAY, Long.MIN_VALUE, NOW);
+        verify(stockBalanceSnapshotRepository).snapshot(97 * DAY, 96 * DAY, NOW);
+        verify(stockBalanceSnapshotRepository).snapshot(100 * DAY, 99 * DAY, NOW);
+    }
+
+    @Test
+    @DisplayName("should take a transaction at midnight of the earliest day into the first snapshot")
+    void shouldTakeMidnightTransactionIntoFirstSnapshot() {
+        when(stockBalanceSnapshotRepository.findEarliestEntryTime(null)).thenReturn(99 * DAY);
+
+        stockBalanceSnapshotService.snapshot(NOW);
+
+        verify(stockBalanceSnapshotRepository, times(1)).snapshot(anyLong(), anyLong(), eq(NOW));
+        verify(stockBalanceSnapshotRepository).snapshot(100 * DAY, Long.MIN_VALUE, NOW);
+    }
+
+    @Test
+    @DisplayName("should take again the snapshots from the day of a late transaction")
+    void shouldTakeSnapshotsAgainFromLateTransaction() {
+        when(stockBalanceSnapshotRepository.findEarliestEntryTime(null)).thenReturn(10 * DAY);
+        when(stockBalanceSnapshotRepository.findLatestSnapshotTime()).thenReturn(100 * DAY);
+        when(stockBalanceSnapshotRepository.findLatestRunModifiedUpTo()).thenReturn(NOW - DAY);
+        when(stockBalanceSnapshotRepository.findEarliestEntryTime(NOW - DAY - HOUR)).thenReturn(90 * DAY + 10);
+
+        stockBalanceSnapshotService.snapshot(NOW);
+
+        verify(stockBalanceSnapshotRepository, times(10)).snapshot(anyLong(), anyLong(), eq(NOW));
+        verify(stockBalanceSnapshotRepository).snapshot(91 * DAY, 90 * DAY, NOW);
+        verify(stockBalanceSnapshotRepository, never()).snapshot(eq(90 * DAY), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("should record the latest modified time read before taking the snapshots")
+    void shouldRecordLatestModifiedTimeReadBeforeSnapshots() {
+        when(stockBalanceSnapshotRepository.findLatestModifiedTime()).thenReturn(NOW - HOUR);
+        when(stockBalanceSnapshotRepository.findEarliestEntryTime(null)).thenReturn(99 * DAY);
+
+        stockBalanceSnapshotService.snapshot(NOW);
+
+        InOrder inOrder = inOrder(stockBalanceSnapshotRepository);
+        inOrder.verify(stockBalanceSnapshotRepository).findLatestModifiedTime();
+        inOrder.verify(stockBalanceSnapshotRepository).snapshot(100 * DAY, Long.MIN_VALUE, NOW);
+        inOrder.verify(stockBalanceSnapshotRepository).saveRun(NOW, NOW - HOUR);
+    }
+
+    @Test
+    @DisplayName("should skip the run when another instance holds the snapshot lock")
+    void shouldSkipRunWhenLockIsHeld() {
+        doReturn(false).when(stockBalanceSnapshotRepository).runLocked(any());
+
+        stockBalanceSnapshotService.snapshot(NOW);
+
+        verify(stockBalanceSnapshotRepository, never()).findEarliestEntryTime(any());
+        verify(stockBalanceSnapshotRepository, never()).snapshot(anyLong(), anyLong(), anyLong());
+        verify(stockBalanceSnapshotRepository, never()).saveRun(anyLong(), anyLong());
+    }
+}
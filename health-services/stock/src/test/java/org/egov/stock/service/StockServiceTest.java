@@ -1,5 +1,6 @@
 package org.egov.stock.service;
 
+import org.egov.common.ds.Tuple;
 import org.egov.common.models.stock.Stock;
 import org.egov.common.models.stock.StockBulkRequest;
 import org.egov.common.models.stock.StockRequest;
@@ -7,6 +8,7 @@ import org.egov.common.validator.Validator;
 import org.egov.stock.config.StockConfiguration;
 import org.egov.stock.helper.StockBulkRequestTestBuilder;
 import org.egov.stock.helper.StockRequestTestBuilder;
+import org.egov.stock.repository.StockBalanceEntry;
 import org.egov.stock.repository.StockRepository;
 import org.egov.stock.service.enrichment.StockEnrichmentService;
 import org.egov.stock.validator.stock.SIsDeletedValidator;
@@ -15,10 +17,12 @@ import org.egov.stock.validator.stock.SNullIdValidator;
 import org.egov.stock.validator.stock.SProductVariantIdValidator;
 import org.egov.stock.validator.stock.SRowVersionValidator;
 import org.egov.stock.validator.stock.SUniqueEntityValidator;
+import org.egov.tracer.model.CustomException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -31,15 +35,20 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -76,6 +85,9 @@ class StockServiceTest {
     @Mock
     private StockConfiguration configuration;
 
+    @Mock
+    private StockBalanceService stockBalanceService;
+
     List<Validator<StockBulkRequest, Stock>> validators;
 
     @BeforeEach
@@ -198,4 +210,50 @@ class StockServiceTest {
         assertEquals(1, stock.size());
         verify(repository, times(1)).save(anyList(), eq("delete-stock-topic"));
     }
+
+    @Test
+    @DisplayName("should count the updated stock towards the balances once it is enriched with its new row version")
+    void shouldApplyUpdatedStockAfterEnrichment() {
+        StockBulkRequest stockBulkRequest = StockBulkRequestTestBuilder.builder().withStockId("id").withRequestInfo()
+                .build();
+
+        stockService.update(stockBulkRequest, false);
+
+        InOrder inOrder = inOrder(enrichmentService, stockBalanceService, repository);
+        inOrder.verify(enrichmentService).update(stockBulkRequest.getStock(), stockBulkRequest);
+        inOrder.verify(stockBalanceService).apply(stockBulkRequest.getStock());
+        inOrder.verify(repository).save(stockBulkRequest.getStock(), "update-stock-topic");
+        verify(repository, never()).findById(anyList(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("should count the deleted stock towards the balances once it is enriched as deleted")
+    void shouldApplyDeletedStockAfterEnrichment() {
+        StockBulkRequest stockBulkRequest = StockBulkRequestTestBuilder.builder().withStockId("id").withRequestInfo()
+                .build();
+
+        stockService.delete(stockBulkRequest, false);
+
+        InOrder inOrder = inOrder(enrichmentService, stockBalanceService, repository);
+        inOrder.verify(enrichmentService).delete(stockBulkRequest.getStock(), stockBulkRequest);
+        inOrder.verify(stockBalanceService).apply(stockBulkRequest.getStock());
+        inOrder.verify(repository).save(stockBulkRequest.getStock(), "delete-stock-topic");
+        verify(repository, never()).findById(anyList(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("should revert the balance changes of stock that could not be published")
+    void shouldRevertBalanceChangesWhenPublishFails() {
+        StockBulkRequest stockBulkRequest = StockBulkRequestTestBuilder.builder().withStockId("id").withRequestInfo()
+                .build();
+        List<Tuple<StockBalanceEntry, StockBalanceEntry>> changes = Collections.singletonList(new Tuple<>(
+                StockBalanceEntry.builder().stockId("id").rowVersion(1).build(),
+                StockBalanceEntry.builder().stockId("id").rowVersion(2).build()));
+        when(stockBalanceService.apply(anyList())).thenReturn(changes);
+        doThrow(new RuntimeException("kafka down")).when(repository).save(anyList(), anyString());
+
+        assertThrows(CustomException.class, () -> stockService.update(stockBulkRequest, false));
+
+        verify(stockBalanceService).revert(changes);
+    }
 }
@@ -10,6 +10,7 @@ import org.egov.stock.config.StockConfiguration;
 import org.egov.stock.helper.StockBulkRequestTestBuilder;
 import org.egov.stock.helper.StockRequestTestBuilder;
 import org.egov.stock.helper.StockTestBuilder;
+import org.egov.stock.service.StockBalanceService;
 import org.egov.stock.service.StockReconciliationService;
 import org.egov.stock.service.StockService;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +52,9 @@ class StockApiControllerTest {
     @MockBean
     private StockReconciliationService stockReconciliationService;
 
+    @MockBean
+    private StockBalanceService stockBalanceService;
+
     @MockBean
     private Producer producer;
 
@@ -0,0 +1,260 @@
+package org.egov.transformer.boundary;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.tracer.model.CustomException;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.models.boundary.BoundarySearchResponse;
+import org.egov.transformer.models.boundary.EnrichedBoundary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Tenant scoped, in-memory index of the boundary hierarchy used to label the transformed records.
+ * <p>
+ * The whole hierarchy of a tenant is loaded into a {@link BoundaryTree} on first use and reloaded once it is older
+ * than {@code transformer.boundary.index.refresh.interval.ms}. A code that is not in the index yet, for example a
+ * boundary created after the last load, is fetched with its parents and merged into the tree, so the index also
+ * fills incrementally when the full load is disabled or fails. A code the boundary service does not know is not
+ * searched again for {@code transformer.boundary.index.miss.ttl.ms}. Looking up the labels of a code walks from its
+ * node to the root, which is O(depth) instead of one boundary service call per record.
+ * <p>
+ * Loads are serialised per tenant only. While a stale index is reloaded, other threads keep using it instead of
+ * waiting for the reload.
+ */
+@Component
+@Slf4j
+public class BoundaryIndex {
+
+    private final TransformerProperties transformerProperties;
+
+    private final ServiceRequestClient serviceRequestClient;
+
+    private final Map<String, TenantBoundaries> tenantBoundaries = new ConcurrentHashMap<>();
+
+    private final Map<String, ReentrantLock> tenantLocks = new ConcurrentHashMap<>();
+
+    public BoundaryIndex(TransformerProperties transformerProperties, ServiceRequestClient serviceRequestClient) {
+        this.transformerProperties = transformerProperties;
+        this.serviceRequestClient = serviceRequestClient;
+    }
+
+    /**
+     * Returns the boundary type to boundary name map of the code and all its ancestors.
+     *
+     * @param code     The boundary code.
+     * @param tenantId The tenant of the boundary.
+     * @return The map of boundary type to the name part of the code, empty if the code is unknown.
+     */
+    public Map<String, String> getBoundaryCodeToNameMap(String code, String tenantId) {
+        BoundaryTree boundaryTree = getBoundaryTree(code, tenantId);
+        if (boundaryTree == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> boundaryCodeToNameMap = new HashMap<>();
+        boundaryTree.getParentNodes().forEach(node -> putName(boundaryCodeToNameMap, node));
+        putName(boundaryCodeToNameMap, boundaryTree.getBoundaryNode());
+        return boundaryCodeToNameMap;
+    }
+
+    /**
+     * Returns the node of the code, fetching it with its parents if it is not indexed yet.
+     *
+     * @param code     The boundary code.
+     * @param tenantId The tenant of the boundary.
+     * @return The node of the code or null if the boundary service does not know it.
+     */
+    public BoundaryTree getBoundaryTree(String code, String tenantId) {
+        if (code == null) {
+            return null;
+        }
+        TenantBoundaries boundaries = getTenantBoundaries(tenantId);
+        BoundaryTree boundaryTree = boundaries.get(code);
+        if (boundaryTree == null && !boundaries.isRecentMiss(code)) {
+            log.debug("boundary {} of tenant {} not indexed, fetching it with its parents", code, tenantId);
+            boundaries.merge(search(tenantId, "&includeParents=true&codes=" + code), tenantId);
+            boundaryTree = boundaries.get(code);
+            if (boundaryTree == null) {
+                boundaries.recordMiss(code, transformerProperties.getBoundaryIndexMissTtlMs());
+            }
+        }
+        return boundaryTree;
+    }
+
+    /**
+     * Drops the index of the tenant, it is reloaded on the next lookup.
+     *
+     * @param tenantId The tenant to evict.
+     */
+    public void evict(String tenantId) {
+        tenantBoundaries.remove(tenantId);
+    }
+
+    private TenantBoundaries getTenantBoundaries(String tenantId) {
+        long refreshIntervalMs = transformerProperties.getBoundaryIndexRefreshIntervalMs();
+        TenantBoundaries boundaries = tenantBoundaries.get(tenantId);
+        if (boundaries != null && !boundaries.isStale(refreshIntervalMs)) {
+            return boundaries;
+        }
+        ReentrantLock lock = tenantLocks.computeIfAbsent(tenantId, key -> new ReentrantLock());
+        // a stale index is still usable, so only wait for the load when there is nothing indexed yet
+        if (boundaries != null && !lock.tryLock()) {
+            return boundaries;
+        }
+        if (boundaries == null) {
+            lock.lock();
+        }
+        try {
+            boundaries = tenantBoundaries.get(tenantId);
+            if (boundaries == null || boundaries.isStale(refreshIntervalMs)) {
+                boundaries = load(tenantId, boundaries);
+                tenantBoundaries.put(tenantId, boundaries);
+            }
+            return boundaries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TenantBoundaries load(String tenantId, TenantBoundaries previous) {
+        if (Boolean.TRUE.equals(transformerProperties.getBoundaryIndexFullLoadEnabled())) {
+            try {
+                TenantBoundaries boundaries = new TenantBoundaries();
+                boundaries.merge(search(tenantId, "&includeChildren=true"), tenantId);
+                log.info("indexed {} boundaries of hierarchy {} for tenant {}", boundaries.size(),
+                        transformerProperties.getBoundaryHierarchyName(), tenantId);
+                return boundaries;
+            } catch (Exception exception) {
+                log.warn("could not load the boundary hierarchy of tenant {}, indexing boundaries on demand", tenantId,
+                        exception);
+            }
+        }
+        // keep what has been indexed so far and look for a full load again after the next interval
+        TenantBoundaries boundaries = previous != null ? previous : new TenantBoundaries();
+        boundaries.touch();
+        return boundaries;
+    }
+
+    private List<EnrichedBoundary> search(String tenantId, String queryParams) {
+        try {
+            log.debug("Fetching boundary relation details for tenantId: {}, params: {}", tenantId, queryParams);
+            BoundarySearchResponse boundarySearchResponse = serviceRequestClient.fetchResult(
+                    new StringBuilder(transformerProperties.getBoundaryServiceHost()
+                            + transformerProperties.getBoundaryRelationshipSearchUrl()
+                            + "?tenantId=" + tenantId
+                            + "&hierarchyType=" + transformerProperties.getBoundaryHierarchyName()
+                            + queryParams),
+                    RequestInfo.builder().build(),
+                    BoundarySearchResponse.class
+            );
+            if (boundarySearchResponse.getTenantBoundary() == null) {
+                return Collections.emptyList();
+            }
+            return boundarySearchResponse.getTenantBoundary().stream()
+                    .filter(hierarchyRelation -> !CollectionUtils.isEmpty(hierarchyRelation.getBoundary()))
+                    .flatMap(hierarchyRelation -> hierarchyRelation.getBoundary().stream())
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("Exception while searching boundaries for tenantId: {}", tenantId, e);
+            throw new CustomException("BOUNDARY_SERVICE_SEARCH_ERROR",
+                    "Error in while fetching boundaries from Boundary Service : " + e.getMessage());
+        }
+    }
+
+    private static void putName(Map<String, String> boundaryCodeToNameMap, BoundaryNode node) {
+        String code = node.getCode();
+        if (node.getBoundaryType() != null && code != null) {
+            boundaryCodeToNameMap.put(node.getBoundaryType(), code.substring(code.lastIndexOf('_') + 1));
+        }
+    }
+
+    /**
+     * The boundary trees of one tenant indexed by code.
+     */
+    private static class TenantBoundaries {
+
+        private final Map<String, BoundaryTree> boundaryTreesByCode = new ConcurrentHashMap<>();
+
+        private final Map<String, Long> missExpiryByCode = new ConcurrentHashMap<>();
+
+        private volatile long loadedAt = System.currentTimeMillis();
+
+        BoundaryTree get(String code) {
+            return boundaryTreesByCode.get(code);
+        }
+
+        int size() {
+            return boundaryTreesByCode.size();
+        }
+
+        boolean isStale(long refreshIntervalMs) {
+            return System.currentTimeMillis() - loadedAt > refreshIntervalMs;
+        }
+
+        void touch() {
+            loadedAt = System.currentTimeMillis();
+        }
+
+        boolean isRecentMiss(String code) {
+            Long expiresAt = missExpiryByCode.get(code);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt > System.currentTimeMillis()) {
+                return true;
+            }
+            missExpiryByCode.remove(code, expiresAt);
+            return false;
+        }
+
+        void recordMiss(String code, long missTtlMs) {
+            if (missTtlMs > 0) {
+                missExpiryByCode.put(code, System.currentTimeMillis() + missTtlMs);
+            }
+        }
+
+        // adds the boundaries not indexed yet under their parents, a node is published once it is linked
+        synchronized void merge(List<EnrichedBoundary> roots, String tenantId) {
+            Deque<Map.Entry<EnrichedBoundary, BoundaryTree>> stack = new ArrayDeque<>();
+            roots.forEach(root -> stack.push(new AbstractMap.SimpleEntry<>(root, null)));
+            while (!stack.isEmpty()) {
+                Map.Entry<EnrichedBoundary, BoundaryTree> entry = stack.pop();
+                EnrichedBoundary boundary = entry.getKey();
+                if (boundary == null || boundary.getCode() == null) {
+                    continue;
+                }
+                BoundaryTree boundaryTree = boundaryTreesByCode.get(boundary.getCode());
+                if (boundaryTree == null) {
+                    BoundaryTree parent = entry.getValue();
+                    boundaryTree = BoundaryTree.builder()
+                            .boundaryNode(BoundaryMapper.from(boundary, tenantId))
+                            .parent(parent)
+                            .boundaryTrees(new ArrayList<>())
+                            .build();
+                    if (parent != null) {
+                        parent.getBoundaryTrees().add(boundaryTree);
+                    }
+                    boundaryTreesByCode.put(boundary.getCode(), boundaryTree);
+                }
+                if (boundary.getChildren() != null) {
+                    for (EnrichedBoundary child : boundary.getChildren()) {
+                        stack.push(new AbstractMap.SimpleEntry<>(child, boundaryTree));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.egov.transformer.boundary;
 
 
 import org.egov.common.models.core.Boundary;
+import org.egov.transformer.models.boundary.EnrichedBoundary;
 
 public class BoundaryMapper {
 
@@ -14,4 +15,13 @@ public class BoundaryMapper {
                 .build();
     }
 
+    public static BoundaryNode from(EnrichedBoundary boundary, String tenantId) {
+        return BoundaryNode.builder()
+                .id(boundary.getId())
+                .code(boundary.getCode())
+                .tenantId(tenantId)
+                .boundaryType(boundary.getBoundaryType())
+                .build();
+    }
+
 }
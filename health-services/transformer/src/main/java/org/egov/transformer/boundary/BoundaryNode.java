@@ -14,5 +14,6 @@ public class BoundaryNode {
     private String id;
     private String tenantId;
     private String code;
+    private String boundaryType;
     private JsonNode geometry;
 }
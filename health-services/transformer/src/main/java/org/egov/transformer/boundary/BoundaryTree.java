@@ -3,7 +3,9 @@ package org.egov.transformer.boundary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -15,7 +17,11 @@ import java.util.List;
 @Builder
 public class BoundaryTree {
     private BoundaryNode boundaryNode;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private BoundaryTree parent;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<BoundaryTree> boundaryTrees;
 
     public List<BoundaryNode> getParentNodes() {
@@ -0,0 +1,263 @@
+package org.egov.transformer.cache;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, tenant scoped in-process cache for entities the transformer looks up in other services.
+ * <p>
+ * Entries are evicted in least recently used order once {@code maxSize} is reached and are treated as absent once
+ * {@code expireAfterWriteMs} has passed since they were written. An entry older than {@code refreshAfterWriteMs}
+ * is still returned, and reloaded in the background on a refresh thread shared by all the caches. Concurrent misses
+ * for the same key wait for a single load, and {@link #getAll} loads all the keys missing from the cache with one
+ * bulk call.
+ * <p>
+ * Lookups, evictions and the size are published as {@code transformer.cache.lookups},
+ * {@code transformer.cache.evictions} and {@code transformer.cache.size}, tagged with the cache name.
+ *
+ * @param <V> The type of the cached values.
+ */
+@Slf4j
+public class TenantScopedCache<V> {
+
+    private static final String KEY_SEPARATOR = "|";
+
+    // one daemon thread refreshes the entries of every cache, so caches never leave threads behind
+    private static final ExecutorService REFRESH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "transformer-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String name;
+
+    private final long expireAfterWriteMs;
+
+    private final long refreshAfterWriteMs;
+
+    private final Map<String, Entry<V>> entries;
+
+    private final Map<String, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    public TenantScopedCache(String name, int maxSize, long expireAfterWriteMs, long refreshAfterWriteMs) {
+        this.name = name;
+        this.expireAfterWriteMs = expireAfterWriteMs;
+        this.refreshAfterWriteMs = refreshAfterWriteMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                boolean evict = size() > maxSize;
+                if (evict) {
+                    countEviction("size");
+                }
+                return evict;
+            }
+        };
+        Metrics.gauge("transformer.cache.size", Tags.of("cache", name), this, TenantScopedCache::size);
+    }
+
+    /**
+     * Returns the value of the key, loading it on a miss. Null values are not cached.
+     *
+     * @param tenantId The tenant of the key.
+     * @param key      The key to look up.
+     * @param loader   Loads the value of a key, may return null.
+     * @return The value or null.
+     */
+    public V get(String tenantId, String key, Function<String, V> loader) {
+        String cacheKey = cacheKey(tenantId, key);
+        Entry<V> entry = getEntry(cacheKey);
+        if (entry != null) {
+            countLookup("hit", 1);
+            refreshIfDue(cacheKey, entry, () -> loader.apply(key));
+            return entry.value;
+        }
+        countLookup("miss", 1);
+        return load(cacheKey, () -> loader.apply(key));
+    }
+
+    /**
+     * Returns the values of the keys, loading all the missing ones with one call of the bulk loader.
+     *
+     * @param tenantId   The tenant of the keys.
+     * @param keys       The keys to look up.
+     * @param bulkLoader Loads the values of the keys it is given, keyed by key, keys it cannot find are left out.
+     * @return The values found, keyed by key.
+     */
+    public Map<String, V> getAll(String tenantId, Collection<String> keys, Function<List<String>, Map<String, V>> bulkLoader) {
+        Map<String, V> found = new HashMap<>();
+        Map<String, CompletableFuture<V>> pending = new HashMap<>();
+        Map<String, CompletableFuture<V>> claimed = new LinkedHashMap<>();
+        for (String key : new LinkedHashSet<>(keys)) {
+            if (key == null) {
+                continue;
+            }
+            String cacheKey = cacheKey(tenantId, key);
+            Entry<V> entry = getEntry(cacheKey);
+            if (entry != null) {
+                found.put(key, entry.value);
+                continue;
+            }
+            CompletableFuture<V> future = new CompletableFuture<>();
+            CompletableFuture<V> existing = loading.putIfAbsent(cacheKey, future);
+            if (existing != null) {
+                pending.put(key, existing);
+            } else {
+                claimed.put(key, future);
+            }
+        }
+        countLookup("hit", found.size());
+        countLookup("miss", pending.size() + claimed.size());
+
+        if (!claimed.isEmpty()) {
+            try {
+                Map<String, V> loaded = bulkLoader.apply(new ArrayList<>(claimed.keySet()));
+                claimed.forEach((key, future) -> {
+                    V value = loaded.get(key);
+                    if (value != null) {
+                        put(tenantId, key, value);
+                        found.put(key, value);
+                    }
+                    future.complete(value);
+                });
+            } catch (RuntimeException exception) {
+                claimed.values().forEach(future -> future.completeExceptionally(exception));
+                throw exception;
+            } finally {
+                claimed.forEach((key, future) -> loading.remove(cacheKey(tenantId, key), future));
+            }
+        }
+        pending.forEach((key, future) -> {
+            V value = join(future);
+            if (value != null) {
+                found.put(key, value);
+            }
+        });
+        return found;
+    }
+
+    public void put(String tenantId, String key, V value) {
+        if (key == null || value == null) {
+            return;
+        }
+        Entry<V> entry = new Entry<>(value, System.currentTimeMillis());
+        synchronized (entries) {
+            entries.put(cacheKey(tenantId, key), entry);
+        }
+    }
+
+    public void invalidate(String tenantId, String key) {
+        synchronized (entries) {
+            entries.remove(cacheKey(tenantId, key));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Entry<V> getEntry(String cacheKey) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(cacheKey);
+            if (entry != null && System.currentTimeMillis() - entry.writtenAt > expireAfterWriteMs) {
+                entries.remove(cacheKey);
+                countEviction("expired");
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    // loads the value once for all the threads missing the same key at the same time
+    private V load(String cacheKey, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = loading.putIfAbsent(cacheKey, future);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            V value = loader.get();
+            if (value != null) {
+                Entry<V> entry = new Entry<>(value, System.currentTimeMillis());
+                synchronized (entries) {
+                    entries.put(cacheKey, entry);
+                }
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            loading.remove(cacheKey, future);
+        }
+    }
+
+    private void refreshIfDue(String cacheKey, Entry<V> entry, Supplier<V> loader) {
+        if (System.currentTimeMillis() - entry.writtenAt <= refreshAfterWriteMs || loading.containsKey(cacheKey)) {
+            return;
+        }
+        REFRESH_EXECUTOR.execute(() -> {
+            try {
+                load(cacheKey, loader);
+            } catch (Exception exception) {
+                log.warn("could not refresh {} in the {} cache, keeping the cached value", cacheKey, name, exception);
+            }
+        });
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private void countLookup(String result, int count) {
+        if (count > 0) {
+            Metrics.counter("transformer.cache.lookups", "cache", name, "result", result).increment(count);
+        }
+    }
+
+    private void countEviction(String cause) {
+        Metrics.counter("transformer.cache.evictions", "cache", name, "cause", cause).increment();
+    }
+
+    private static String cacheKey(String tenantId, String key) {
+        return tenantId + KEY_SEPARATOR + key;
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private final long writtenAt;
+
+        private Entry(V value, long writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+}
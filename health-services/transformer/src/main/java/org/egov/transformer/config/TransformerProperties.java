@@ -86,4 +86,34 @@ public class TransformerProperties {
     @Value("${egov.boundary.hierarchy.name}")
     private String boundaryHierarchyName;
 
+    @Value("${transformer.boundary.index.full.load.enabled:true}")
+    private Boolean boundaryIndexFullLoadEnabled;
+
+    @Value("${transformer.boundary.index.refresh.interval.ms:3600000}")
+    private Long boundaryIndexRefreshIntervalMs;
+
+    @Value("${transformer.boundary.index.miss.ttl.ms:60000}")
+    private Long boundaryIndexMissTtlMs;
+
+    @Value("${transformer.cache.max.size:1000}")
+    private Integer cacheMaxSize;
+
+    @Value("${transformer.cache.expire.after.write.ms:3600000}")
+    private Long cacheExpireAfterWriteMs;
+
+    @Value("${transformer.cache.refresh.after.write.ms:600000}")
+    private Long cacheRefreshAfterWriteMs;
+
+    @Value("${transformer.producer.dead.letter.topic:transformer-dead-letter-topic}")
+    private String deadLetterTopic;
+
+    @Value("${transformer.consumer.batch.max.threads:4}")
+    private Integer batchMaxThreads;
+
+    @Value("${transformer.consumer.batch.queue.size:100}")
+    private Integer batchQueueSize;
+
+    @Value("${transformer.consumer.batch.push.chunk.size:100}")
+    private Integer batchPushChunkSize;
+
 }
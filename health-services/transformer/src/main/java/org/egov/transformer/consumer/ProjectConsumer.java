@@ -1,11 +1,13 @@
 package org.egov.transformer.consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.egov.common.models.project.Project;
 import org.egov.common.models.project.ProjectRequest;
 import org.egov.transformer.enums.Operation;
+import org.egov.transformer.handler.BatchTransformationPipeline;
 import org.egov.transformer.handler.TransformationHandler;
 import org.egov.transformer.service.ProjectService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +17,8 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Slf4j
 public class ProjectConsumer {
@@ -25,26 +29,37 @@ public class ProjectConsumer {
 
     private final ProjectService projectService;
 
+    private final BatchTransformationPipeline batchTransformationPipeline;
+
     @Autowired
     public ProjectConsumer(TransformationHandler<Project> transformationHandler,
-                           @Qualifier("objectMapper") ObjectMapper objectMapper, ProjectService projectService) {
+                           @Qualifier("objectMapper") ObjectMapper objectMapper, ProjectService projectService,
+                           BatchTransformationPipeline batchTransformationPipeline) {
         this.transformationHandler = transformationHandler;
         this.objectMapper = objectMapper;
         this.projectService = projectService;
+        this.batchTransformationPipeline = batchTransformationPipeline;
     }
 
     @KafkaListener(topics = { "${transformer.consumer.create.project.topic}",
-            "${transformer.consumer.update.project.topic}"})
+            "${transformer.consumer.update.project.topic}"},
+            autoStartup = "#{!${transformer.consumer.batch.enabled:false}}")
     public void consumeProjects(ConsumerRecord<String, Object> payload,
                                 @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
-        try {
-            ProjectRequest request = objectMapper
-                    .readValue((String) payload.value(),
-                            ProjectRequest.class);
-            projectService.updateProjectsInCache(request);
-            transformationHandler.handle(request.getProjects(), Operation.PROJECT);
-        } catch (Exception exception) {
-            log.error("error in project consumer", exception);
-        }
+        batchTransformationPipeline.process(payload, this::read, transformationHandler, Operation.PROJECT);
+    }
+
+    @KafkaListener(topics = { "${transformer.consumer.create.project.topic}",
+            "${transformer.consumer.update.project.topic}"},
+            batch = "true", autoStartup = "${transformer.consumer.batch.enabled:false}",
+            properties = {"max.poll.records=${transformer.consumer.batch.max.poll.records:500}"})
+    public void consumeProjectBatch(List<ConsumerRecord<String, Object>> payloads) {
+        batchTransformationPipeline.process(payloads, this::read, transformationHandler, Operation.PROJECT);
+    }
+
+    private List<Project> read(String value) throws JsonProcessingException {
+        ProjectRequest request = objectMapper.readValue(value, ProjectRequest.class);
+        projectService.updateProjectsInCache(request);
+        return request.getProjects();
     }
 }
@@ -1,10 +1,12 @@
 package org.egov.transformer.consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.egov.common.models.project.ProjectStaff;
 import org.egov.transformer.enums.Operation;
+import org.egov.transformer.handler.BatchTransformationPipeline;
 import org.egov.transformer.handler.TransformationHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -24,24 +26,34 @@ public class ProjectStaffConsumer {
 
     private final ObjectMapper objectMapper;
 
+    private final BatchTransformationPipeline batchTransformationPipeline;
+
     @Autowired
     public ProjectStaffConsumer(TransformationHandler<ProjectStaff> transformationHandler,
-                                @Qualifier("objectMapper") ObjectMapper objectMapper) {
+                                @Qualifier("objectMapper") ObjectMapper objectMapper,
+                                BatchTransformationPipeline batchTransformationPipeline) {
         this.transformationHandler = transformationHandler;
         this.objectMapper = objectMapper;
+        this.batchTransformationPipeline = batchTransformationPipeline;
     }
 
     @KafkaListener(topics = {"${transformer.consumer.bulk.create.project.staff.topic}",
-                    "${transformer.consumer.bulk.update.project.staff.topic}"})
+                    "${transformer.consumer.bulk.update.project.staff.topic}"},
+            autoStartup = "#{!${transformer.consumer.batch.enabled:false}}")
     public void consumeStaff(ConsumerRecord<String, Object> payload,
                            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
-        try {
-            List<ProjectStaff> payloadList = Arrays.asList(objectMapper
-                    .readValue((String) payload.value(),
-                            ProjectStaff[].class));
-            transformationHandler.handle(payloadList, Operation.PROJECT_STAFF);
-        } catch (Exception exception) {
-            log.error("error in project staff bulk consumer", exception);
-        }
+        batchTransformationPipeline.process(payload, this::read, transformationHandler, Operation.PROJECT_STAFF);
+    }
+
+    @KafkaListener(topics = {"${transformer.consumer.bulk.create.project.staff.topic}",
+                    "${transformer.consumer.bulk.update.project.staff.topic}"},
+            batch = "true", autoStartup = "${transformer.consumer.batch.enabled:false}",
+            properties = {"max.poll.records=${transformer.consumer.batch.max.poll.records:500}"})
+    public void consumeStaffs(List<ConsumerRecord<String, Object>> payloads) {
+        batchTransformationPipeline.process(payloads, this::read, transformationHandler, Operation.PROJECT_STAFF);
+    }
+
+    private List<ProjectStaff> read(String value) throws JsonProcessingException {
+        return Arrays.asList(objectMapper.readValue(value, ProjectStaff[].class));
     }
 }
@@ -1,10 +1,12 @@
 package org.egov.transformer.consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.egov.common.models.project.Task;
 import org.egov.transformer.enums.Operation;
+import org.egov.transformer.handler.BatchTransformationPipeline;
 import org.egov.transformer.handler.TransformationHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -24,24 +26,34 @@ public class ProjectTaskConsumer {
 
     private final ObjectMapper objectMapper;
 
+    private final BatchTransformationPipeline batchTransformationPipeline;
+
     @Autowired
     public ProjectTaskConsumer(TransformationHandler<Task> transformationHandler,
-                               @Qualifier("objectMapper") ObjectMapper objectMapper) {
+                               @Qualifier("objectMapper") ObjectMapper objectMapper,
+                               BatchTransformationPipeline batchTransformationPipeline) {
         this.transformationHandler = transformationHandler;
         this.objectMapper = objectMapper;
+        this.batchTransformationPipeline = batchTransformationPipeline;
     }
 
     @KafkaListener(topics = { "${transformer.consumer.bulk.create.project.task.topic}",
-            "${transformer.consumer.bulk.update.project.task.topic}"})
+            "${transformer.consumer.bulk.update.project.task.topic}"},
+            autoStartup = "#{!${transformer.consumer.batch.enabled:false}}")
     public void consumeTask(ConsumerRecord<String, Object> payload,
                            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
-        try {
-            List<Task> payloadList = Arrays.asList(objectMapper
-                    .readValue((String) payload.value(),
-                            Task[].class));
-            transformationHandler.handle(payloadList, Operation.TASK);
-        } catch (Exception exception) {
-            log.error("error in project task bulk consumer", exception);
-        }
+        batchTransformationPipeline.process(payload, this::read, transformationHandler, Operation.TASK);
+    }
+
+    @KafkaListener(topics = { "${transformer.consumer.bulk.create.project.task.topic}",
+            "${transformer.consumer.bulk.update.project.task.topic}"},
+            batch = "true", autoStartup = "${transformer.consumer.batch.enabled:false}",
+            properties = {"max.poll.records=${transformer.consumer.batch.max.poll.records:500}"})
+    public void consumeTasks(List<ConsumerRecord<String, Object>> payloads) {
+        batchTransformationPipeline.process(payloads, this::read, transformationHandler, Operation.TASK);
+    }
+
+    private List<Task> read(String value) throws JsonProcessingException {
+        return Arrays.asList(objectMapper.readValue(value, Task[].class));
     }
 }
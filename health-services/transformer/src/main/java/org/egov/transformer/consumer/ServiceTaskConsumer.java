@@ -1,9 +1,11 @@
 package org.egov.transformer.consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.egov.transformer.enums.Operation;
+import org.egov.transformer.handler.BatchTransformationPipeline;
 import org.egov.transformer.handler.TransformationHandler;
 import org.egov.transformer.models.upstream.Service;
 import org.egov.transformer.models.upstream.ServiceRequest;
@@ -14,9 +16,8 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -25,24 +26,33 @@ public class ServiceTaskConsumer {
 
     private final ObjectMapper objectMapper;
 
+    private final BatchTransformationPipeline batchTransformationPipeline;
+
     @Autowired
     public ServiceTaskConsumer(TransformationHandler<Service> transformationHandler,
-                                @Qualifier("objectMapper") ObjectMapper objectMapper) {
+                                @Qualifier("objectMapper") ObjectMapper objectMapper,
+                                BatchTransformationPipeline batchTransformationPipeline) {
         this.transformationHandler = transformationHandler;
         this.objectMapper = objectMapper;
+        this.batchTransformationPipeline = batchTransformationPipeline;
     }
 
-    @KafkaListener(topics = {"${transformer.consumer.create.service.topic}"})
+    @KafkaListener(topics = {"${transformer.consumer.create.service.topic}"},
+            autoStartup = "#{!${transformer.consumer.batch.enabled:false}}")
     public void consumeServiceTask(ConsumerRecord<String, Object> payload,
                              @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
-        try {
-            List<ServiceRequest> payloadList = Arrays.asList(objectMapper
-                    .readValue((String) payload.value(), ServiceRequest.class));
-            List<Service> collect = payloadList.stream().map(p -> p.getService()).collect(Collectors.toList());
-            transformationHandler.handle(collect, Operation.SERVICE);
-        } catch (Exception exception) {
-            log.error("error in service task consumer", exception);
-        }
+        batchTransformationPipeline.process(payload, this::read, transformationHandler, Operation.SERVICE);
+    }
+
+    @KafkaListener(topics = {"${transformer.consumer.create.service.topic}"},
+            batch = "true", autoStartup = "${transformer.consumer.batch.enabled:false}",
+            properties = {"max.poll.records=${transformer.consumer.batch.max.poll.records:500}"})
+    public void consumeServiceTasks(List<ConsumerRecord<String, Object>> payloads) {
+        batchTransformationPipeline.process(payloads, this::read, transformationHandler, Operation.SERVICE);
+    }
+
+    private List<Service> read(String value) throws JsonProcessingException {
+        return Collections.singletonList(objectMapper.readValue(value, ServiceRequest.class).getService());
     }
 
 }
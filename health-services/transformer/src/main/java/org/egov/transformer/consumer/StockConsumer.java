@@ -1,10 +1,12 @@
 package org.egov.transformer.consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.egov.common.models.stock.Stock;
 import org.egov.transformer.enums.Operation;
+import org.egov.transformer.handler.BatchTransformationPipeline;
 import org.egov.transformer.handler.TransformationHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -22,22 +24,32 @@ public class StockConsumer {
 
     private final TransformationHandler<Stock> transformationHandler;
 
-    public StockConsumer(ObjectMapper objectMapper, TransformationHandler<Stock> transformationHandler) {
+    private final BatchTransformationPipeline batchTransformationPipeline;
+
+    public StockConsumer(ObjectMapper objectMapper, TransformationHandler<Stock> transformationHandler,
+                         BatchTransformationPipeline batchTransformationPipeline) {
         this.objectMapper = objectMapper;
         this.transformationHandler = transformationHandler;
+        this.batchTransformationPipeline = batchTransformationPipeline;
     }
 
     @KafkaListener(topics = { "${transformer.consumer.bulk.create.stock.topic}",
-            "${transformer.consumer.bulk.update.stock.topic}"})
+            "${transformer.consumer.bulk.update.stock.topic}"},
+            autoStartup = "#{!${transformer.consumer.batch.enabled:false}}")
     public void consumeStock(ConsumerRecord<String, Object> payload,
                            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
-        try {
-            List<Stock> payloadList = Arrays.asList(objectMapper
-                    .readValue((String) payload.value(),
-                            Stock[].class));
-            transformationHandler.handle(payloadList, Operation.STOCK);
-        } catch (Exception exception) {
-            log.error("error in stock consumer bulk create", exception);
-        }
+        batchTransformationPipeline.process(payload, this::read, transformationHandler, Operation.STOCK);
+    }
+
+    @KafkaListener(topics = { "${transformer.consumer.bulk.create.stock.topic}",
+            "${transformer.consumer.bulk.update.stock.topic}"},
+            batch = "true", autoStartup = "${transformer.consumer.batch.enabled:false}",
+            properties = {"max.poll.records=${transformer.consumer.batch.max.poll.records:500}"})
+    public void consumeStocks(List<ConsumerRecord<String, Object>> payloads) {
+        batchTransformationPipeline.process(payloads, this::read, transformationHandler, Operation.STOCK);
+    }
+
+    private List<Stock> read(String value) throws JsonProcessingException {
+        return Arrays.asList(objectMapper.readValue(value, Stock[].class));
     }
 }
@@ -0,0 +1,196 @@
+package org.egov.transformer.handler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.egov.common.producer.Producer;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.enums.Operation;
+import org.egov.transformer.models.error.DeadLetterRecord;
+import org.egov.transformer.service.TransformationService;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transforms the records polled by a consumer as one batch.
+ * <p>
+ * The payloads of all the records are prefetched once, so the projects, boundaries and facilities they share are
+ * looked up once for the batch. Each record is then transformed on a bounded pool, and the index documents of every
+ * record that succeeded are published per topic in chunks of at most {@code transformer.consumer.batch.push.chunk.size}
+ * documents, so that no message grows with the size of the poll. A record that cannot be read, transformed or
+ * published is sent to the dead letter topic instead, without affecting the other records of the batch.
+ * <p>
+ * Consumers that are not batching hand over one record at a time, which is transformed and published on the consumer
+ * thread with the same dead letter handling.
+ */
+@Component
+@Slf4j
+public class BatchTransformationPipeline {
+
+    private final Producer producer;
+
+    private final TransformerProperties properties;
+
+    private final ThreadPoolExecutor executor;
+
+    public BatchTransformationPipeline(Producer producer, TransformerProperties properties) {
+        this.producer = producer;
+        this.properties = properties;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getBatchMaxThreads(), properties.getBatchMaxThreads(),
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getBatchQueueSize()), runnable -> {
+                    Thread thread = new Thread(runnable, "transformer-batch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Reads, transforms and publishes a single record on the calling thread, for consumers that are not batching.
+     *
+     * @param record    the consumed record
+     * @param reader    reads the payloads of the record
+     * @param handler   the handler of the payload type
+     * @param operation the operation the payloads are transformed for
+     */
+    public <T> void process(ConsumerRecord<String, Object> record, PayloadReader<T> reader,
+                            TransformationHandler<T> handler, Operation operation) {
+        try {
+            List<T> payloadList = reader.read((String) record.value());
+            List<TransformationService<T>> services = handler.getTransformationServices(operation);
+            prefetch(services, payloadList, operation);
+            publish(toIndex(services, payloadList));
+        } catch (Exception exception) {
+            deadLetter(record, operation, exception);
+        }
+    }
+
+    /**
+     * Reads, transforms and publishes the records of a poll.
+     *
+     * @param records   the consumed records
+     * @param reader    reads the payloads of a record
+     * @param handler   the handler of the payload type
+     * @param operation the operation the payloads are transformed for
+     */
+    public <T> void process(List<ConsumerRecord<String, Object>> records, PayloadReader<T> reader,
+                            TransformationHandler<T> handler, Operation operation) {
+        Map<ConsumerRecord<String, Object>, List<T>> payloadsByRecord = new LinkedHashMap<>();
+        List<T> allPayloads = new ArrayList<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            try {
+                List<T> payloadList = reader.read((String) record.value());
+                payloadsByRecord.put(record, payloadList);
+                allPayloads.addAll(payloadList);
+            } catch (Exception exception) {
+                deadLetter(record, operation, exception);
+            }
+        }
+        if (payloadsByRecord.isEmpty()) {
+            return;
+        }
+
+        List<TransformationService<T>> services = handler.getTransformationServices(operation);
+        prefetch(services, allPayloads, operation);
+
+        Map<ConsumerRecord<String, Object>, Future<Map<String, List<?>>>> futures = new LinkedHashMap<>();
+        payloadsByRecord.forEach((record, payloadList) -> futures.put(record,
+                executor.submit(() -> toIndex(services, payloadList))));
+
+        int published = 0;
+        for (Map.Entry<ConsumerRecord<String, Object>, Future<Map<String, List<?>>>> entry : futures.entrySet()) {
+            ConsumerRecord<String, Object> record = entry.getKey();
+            try {
+                publish(entry.getValue().get());
+                published++;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                deadLetter(record, operation, exception);
+            } catch (ExecutionException exception) {
+                deadLetter(record, operation, exception.getCause());
+            } catch (Exception exception) {
+                deadLetter(record, operation, exception);
+            }
+        }
+        log.info("transformed {} of {} {} records", published, records.size(), operation);
+    }
+
+    // a failed prefetch only costs the lookups it would have saved, the records look them up one by one
+    private static <T> void prefetch(List<TransformationService<T>> services, List<T> payloadList,
+                                     Operation operation) {
+        for (TransformationService<T> service : services) {
+            try {
+                service.prefetch(payloadList);
+            } catch (Exception exception) {
+                log.warn("could not prefetch the lookups of {} {} payloads", payloadList.size(), operation, exception);
+            }
+        }
+    }
+
+    // publishes the documents of one record, a failed push fails the record
+    private void publish(Map<String, List<?>> documentsByTopic) {
+        int chunkSize = Math.max(1, properties.getBatchPushChunkSize());
+        documentsByTopic.forEach((topic, documents) -> {
+            if (documents == null) {
+                return;
+            }
+            for (int from = 0; from < documents.size(); from += chunkSize) {
+                producer.push(topic, new ArrayList<>(documents.subList(from,
+                        Math.min(from + chunkSize, documents.size()))));
+            }
+        });
+    }
+
+    private static <T> Map<String, List<?>> toIndex(List<TransformationService<T>> services, List<T> payloadList) {
+        Map<String, List<?>> documentsByTopic = new LinkedHashMap<>();
+        for (TransformationService<T> service : services) {
+            documentsByTopic.put(service.getTopic(), service.toIndex(payloadList));
+        }
+        return documentsByTopic;
+    }
+
+    private void deadLetter(ConsumerRecord<String, Object> record, Operation operation, Throwable cause) {
+        log.error("error transforming {} record {}-{}@{}, sending it to the dead letter topic", operation,
+                record.topic(), record.partition(), record.offset(), cause);
+        try {
+            producer.push(properties.getDeadLetterTopic(), DeadLetterRecord.builder()
+                    .topic(record.topic())
+                    .partition(record.partition())
+                    .offset(record.offset())
+                    .key(record.key())
+                    .payload(record.value() != null ? record.value().toString() : null)
+                    .operation(operation.name())
+                    .errorMessage(cause.getMessage())
+                    .exceptionClass(cause.getClass().getName())
+                    .failedTime(System.currentTimeMillis())
+                    .build());
+        } catch (Exception exception) {
+            log.error("could not send {} record {}-{}@{} to the dead letter topic", operation, record.topic(),
+                    record.partition(), record.offset(), exception);
+        }
+    }
+
+    /**
+     * Reads the payloads carried by the value of a record.
+     */
+    @FunctionalInterface
+    public interface PayloadReader<T> {
+        List<T> read(String value) throws Exception;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -29,4 +30,9 @@ public class ProjectTransformationHandler implements TransformationHandler<Proje
                 .map(Map.Entry::getValue)
                 .flatMap(Collection::stream).forEach(es -> es.transform(payloadList));
     }
+
+    @Override
+    public List<TransformationService<Project>> getTransformationServices(Operation operation) {
+        return operationTransformationServiceMap.getOrDefault(operation, Collections.emptyList());
+    }
 }
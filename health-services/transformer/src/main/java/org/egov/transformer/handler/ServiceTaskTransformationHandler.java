@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -28,4 +29,9 @@ public class ServiceTaskTransformationHandler implements TransformationHandler<S
                 .map(Map.Entry::getValue)
                 .flatMap(Collection::stream).forEach(es -> es.transform(payloadList));
     }
+
+    @Override
+    public List<TransformationService<Service>> getTransformationServices(Operation operation) {
+        return operationTransformationServiceMap.getOrDefault(operation, Collections.emptyList());
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -32,4 +33,8 @@ public class StockTransformationHandler implements TransformationHandler<Stock>
                 .flatMap(Collection::stream).forEach(es -> es.transform(payloadList));
     }
 
+    @Override
+    public List<TransformationService<Stock>> getTransformationServices(Operation operation) {
+        return operationTransformationServiceMap.getOrDefault(operation, Collections.emptyList());
+    }
 }
@@ -1,10 +1,13 @@
 package org.egov.transformer.handler;
 
 import org.egov.transformer.enums.Operation;
+import org.egov.transformer.service.TransformationService;
 
 import java.util.List;
 
 public interface TransformationHandler<T> {
 
     void handle(List<T> payloadList, Operation operation);
+
+    List<TransformationService<T>> getTransformationServices(Operation operation);
 }
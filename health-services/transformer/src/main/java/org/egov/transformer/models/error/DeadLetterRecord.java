@@ -0,0 +1,38 @@
+package org.egov.transformer.models.error;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A consumed record the transformer could not transform, published as is on the dead letter topic so that it can
+ * be inspected and replayed on {@code topic}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DeadLetterRecord {
+    @JsonProperty("topic")
+    private String topic;
+    @JsonProperty("partition")
+    private Integer partition;
+    @JsonProperty("offset")
+    private Long offset;
+    @JsonProperty("key")
+    private String key;
+    @JsonProperty("payload")
+    private String payload;
+    @JsonProperty("operation")
+    private String operation;
+    @JsonProperty("errorMessage")
+    private String errorMessage;
+    @JsonProperty("exceptionClass")
+    private String exceptionClass;
+    @JsonProperty("failedTime")
+    private Long failedTime;
+}
@@ -1,21 +1,26 @@
 package org.egov.transformer.service;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.egov.common.contract.request.RequestInfo;
 import org.egov.common.contract.request.User;
 import org.egov.common.models.facility.Facility;
 import org.egov.common.models.facility.FacilitySearch;
 import org.egov.common.models.facility.FacilitySearchRequest;
+import org.egov.transformer.cache.TenantScopedCache;
 import org.egov.transformer.config.TransformerProperties;
 import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.tracer.model.CustomException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -26,7 +31,7 @@ public class FacilityService {
 
     private final ServiceRequestClient serviceRequestClient;
 
-    private static final Map<String, Facility> facilityMap = new ConcurrentHashMap<>();
+    private final TenantScopedCache<Facility> facilityCache;
 
     private final ObjectMapper objectMapper;
 
@@ -34,16 +39,35 @@ public class FacilityService {
         this.properties = stockConfiguration;
         this.serviceRequestClient = serviceRequestClient;
         this.objectMapper = objectMapper;
+        this.facilityCache = new TenantScopedCache<>("facility", stockConfiguration.getCacheMaxSize(),
+                stockConfiguration.getCacheExpireAfterWriteMs(), stockConfiguration.getCacheRefreshAfterWriteMs());
     }
 
     public void updateFacilitiesInCache(List<Facility> facilities) {
-        facilities.forEach(facility -> facilityMap.put(facility.getId(), facility));
+        facilities.forEach(facility -> facilityCache.put(facility.getTenantId(), facility.getId(), facility));
     }
 
     public Facility findFacilityById(String facilityId, String tenantId) {
+        return facilityCache.get(tenantId, facilityId, id -> searchFacilities(Collections.singletonList(id), tenantId)
+                .stream().findFirst().orElse(null));
+    }
+
+    /**
+     * Loads the facilities of a whole batch with one facility search for the ids that are not cached yet.
+     *
+     * @param facilityIds the facility ids of the batch
+     * @param tenantId    the tenant of the facilities
+     * @return the facilities found keyed by id
+     */
+    public Map<String, Facility> findFacilitiesByIds(Collection<String> facilityIds, String tenantId) {
+        return facilityCache.getAll(tenantId, facilityIds, ids -> searchFacilities(ids, tenantId).stream()
+                .collect(Collectors.toMap(Facility::getId, Function.identity(), (first, second) -> first)));
+    }
+
+    private List<Facility> searchFacilities(List<String> facilityIds, String tenantId) {
 
         FacilitySearchRequest facilitySearchRequest = FacilitySearchRequest.builder()
-                .facility(FacilitySearch.builder().id(Collections.singletonList(facilityId)).build())
+                .facility(FacilitySearch.builder().id(facilityIds).build())
                 .requestInfo(RequestInfo.builder().
                         userInfo(User.builder()
                                 .uuid("transformer-uuid")
@@ -55,16 +79,16 @@ public class FacilityService {
             JsonNode response = serviceRequestClient.fetchResult(
                     new StringBuilder(properties.getFacilityHost()
                             + properties.getFacilitySearchUrl()
-                            + "?limit=1"
+                            + "?limit=" + facilityIds.size()
                             + "&offset=0&tenantId=" + tenantId),
                     facilitySearchRequest,
                     JsonNode.class);
-            List<Facility> facilities = Arrays.asList(objectMapper.convertValue(response.get("Facilities"), Facility[].class));
-            updateFacilitiesInCache(facilities);
-            return facilities.isEmpty() ? null : facilities.get(0);
+            return Arrays.asList(objectMapper.convertValue(response.get("Facilities"), Facility[].class));
         } catch (Exception e) {
             log.error("error while fetching facility", e);
-            return null;
+            Metrics.counter("error.facility.search", "tenantId", String.valueOf(tenantId)).increment();
+            throw new CustomException("FACILITY_FETCH_ERROR",
+                    "error while fetching facility details for ids: " + facilityIds);
         }
     }
 }
@@ -1,12 +1,11 @@
 package org.egov.transformer.service;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -24,12 +23,11 @@ import org.egov.common.models.project.Project;
 import org.egov.common.models.project.ProjectRequest;
 import org.egov.common.models.project.ProjectResponse;
 import org.egov.tracer.model.CustomException;
+import org.egov.transformer.boundary.BoundaryIndex;
+import org.egov.transformer.cache.TenantScopedCache;
 import org.egov.transformer.config.TransformerProperties;
 import org.egov.common.http.client.ServiceRequestClient;
-import org.egov.transformer.models.boundary.BoundarySearchResponse;
-import org.egov.transformer.models.boundary.EnrichedBoundary;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
 
 import static org.egov.transformer.Constants.INTERNAL_SERVER_ERROR;
 import static org.egov.transformer.Constants.MDMS_RESPONSE;
@@ -47,48 +45,73 @@ public class ProjectService {
 
     private final MdmsService mdmsService;
 
-    private static final Map<String, Project> projectMap = new ConcurrentHashMap<>();
+    private final BoundaryIndex boundaryIndex;
+
+    private final TenantScopedCache<Project> projectCache;
+
+    private final TenantScopedCache<Project> projectByNameCache;
 
     public ProjectService(TransformerProperties transformerProperties,
                           ServiceRequestClient serviceRequestClient,
-                          ObjectMapper objectMapper, MdmsService mdmsService) {
+                          ObjectMapper objectMapper, MdmsService mdmsService, BoundaryIndex boundaryIndex) {
         this.transformerProperties = transformerProperties;
         this.serviceRequestClient = serviceRequestClient;
         this.objectMapper = objectMapper;
         this.mdmsService = mdmsService;
+        this.boundaryIndex = boundaryIndex;
+        this.projectCache = new TenantScopedCache<>("project", transformerProperties.getCacheMaxSize(),
+                transformerProperties.getCacheExpireAfterWriteMs(), transformerProperties.getCacheRefreshAfterWriteMs());
+        this.projectByNameCache = new TenantScopedCache<>("project-by-name", transformerProperties.getCacheMaxSize(),
+                transformerProperties.getCacheExpireAfterWriteMs(), transformerProperties.getCacheRefreshAfterWriteMs());
     }
 
 
     public void updateProjectsInCache(ProjectRequest projectRequest) {
-        projectRequest.getProjects().forEach(project -> projectMap.put(project.getId(), project));
+        projectRequest.getProjects().forEach(project -> {
+            projectCache.put(project.getTenantId(), project.getId(), project);
+            projectByNameCache.put(project.getTenantId(), project.getName(), project);
+        });
     }
 
     public Project getProject(String projectId, String tenantId) {
-        if (projectMap.containsKey(projectId)) {
-            log.info("getting project {} from cache", projectId);
-            return projectMap.get(projectId);
-        }
-        List<Project> projects = searchProject(projectId, tenantId);
-        Project project = null;
-        if (!projects.isEmpty()) {
-            project = projects.get(0);
-            projectMap.put(projectId, project);
+        return projectCache.get(tenantId, projectId, id -> {
+            List<Project> projects = searchProject(id, tenantId);
+            return projects.isEmpty() ? null : projects.get(0);
+        });
+    }
+
+    /**
+     * Loads the projects of a whole batch with one project search for the ids that are not cached yet.
+     *
+     * @param projectIds the project ids of the batch
+     * @param tenantId   the tenant of the projects
+     * @return the projects found keyed by id
+     */
+    public Map<String, Project> getProjects(Collection<String> projectIds, String tenantId) {
+        return projectCache.getAll(tenantId, projectIds, ids -> searchProjects(ids, tenantId).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity(), (first, second) -> first)));
+    }
+
+    /**
+     * Warms the cache with the projects of a batch, a failure is only logged as the projects are looked up again
+     * one by one while transforming.
+     *
+     * @param projectIds the project ids of the batch
+     * @param tenantId   the tenant of the projects
+     */
+    public void prefetchProjects(Collection<String> projectIds, String tenantId) {
+        try {
+            getProjects(projectIds, tenantId);
+        } catch (Exception exception) {
+            log.warn("could not prefetch projects {} of tenant {}", projectIds, tenantId, exception);
         }
-        return project;
     }
 
     public Project getProjectByName(String projectName, String tenantId) {
-        if (projectMap.containsKey(projectName)) {
-            log.info("getting project {} from cache", projectName);
-            return projectMap.get(projectName);
-        }
-        List<Project> projects = searchProjectByName(projectName, tenantId);
-        Project project = null;
-        if (!projects.isEmpty()) {
-            project = projects.get(0);
-            projectMap.put(projectName, project);
-        }
-        return project;
+        return projectByNameCache.get(tenantId, projectName, name -> {
+            List<Project> projects = searchProjectByName(name, tenantId);
+            return projects.isEmpty() ? null : projects.get(0);
+        });
     }
 
     public Map<String, String> getBoundaryCodeToNameMapByProjectId(String projectId, String tenantId) {
@@ -98,66 +121,9 @@ public class ProjectService {
     }
 
     public Map<String, String> getBoundaryCodeToNameMap(String locationCode, String tenantId) {
-        List<EnrichedBoundary> boundaries = new ArrayList<>();
-        try {
-            // Fetch boundary details from the service
-            log.debug("Fetching boundary relation details for tenantId: {}, boundary: {}", tenantId, locationCode);
-            BoundarySearchResponse boundarySearchResponse = serviceRequestClient.fetchResult(
-                    new StringBuilder(transformerProperties.getBoundaryServiceHost()
-                            + transformerProperties.getBoundaryRelationshipSearchUrl()
-                            +"?includeParents=true&tenantId=" + tenantId
-                            + "&hierarchyType=" + transformerProperties.getBoundaryHierarchyName()
-                            + "&codes=" + locationCode),
-                    RequestInfo.builder().build(),
-                    BoundarySearchResponse.class
-            );
-            log.debug("Boundary Relationship details fetched successfully for tenantId: {}", tenantId);
-
-            List<EnrichedBoundary> enrichedBoundaries = boundarySearchResponse.getTenantBoundary().stream()
-                    .filter(hierarchyRelation -> !CollectionUtils.isEmpty(hierarchyRelation.getBoundary()))
-                    .flatMap(hierarchyRelation -> hierarchyRelation.getBoundary().stream())
-                    .collect(Collectors.toList());
-
-            getAllBoundaryCodes(enrichedBoundaries, boundaries);
-
-        } catch (Exception e) {
-            log.error("Exception while searching boundaries for tenantId: {}", tenantId, e);
-            // Throw a custom exception if an error occurs during boundary search
-            throw new CustomException("BOUNDARY_SERVICE_SEARCH_ERROR","Error in while fetching boundaries from Boundary Service : " + e.getMessage());
-        }
-
-        return boundaries.stream()
-                .collect(Collectors.toMap(
-                        EnrichedBoundary::getBoundaryType,
-                        boundary -> boundary.getCode().substring(boundary.getCode().lastIndexOf('_') + 1)
-                ));
-    }
-
-    private void getAllBoundaryCodes(List<EnrichedBoundary> enrichedBoundaries, List<EnrichedBoundary> boundaries) {
-        if (enrichedBoundaries == null || enrichedBoundaries.isEmpty()) {
-            return;
-        }
-
-        for (EnrichedBoundary root : enrichedBoundaries) {
-            if (root != null) {
-                Deque<EnrichedBoundary> stack = new ArrayDeque<>();
-                stack.push(root);
-
-                while (!stack.isEmpty()) {
-                    EnrichedBoundary current = stack.pop();
-                    if (current != null) {
-                        boundaries.add(current);
-                        if (current.getChildren() != null) {
-                            stack.addAll(current.getChildren());
-                        }
-                    }
-                }
-            }
-        }
+        return boundaryIndex.getBoundaryCodeToNameMap(locationCode, tenantId);
     }
 
-
-
     private List<Project> searchProjectByName(String projectName, String tenantId) {
 
         ProjectRequest request = ProjectRequest.builder()
@@ -194,6 +160,10 @@ public class ProjectService {
     }
 
     private List<Project> searchProject(String projectId, String tenantId) {
+        return searchProjects(Collections.singletonList(projectId), tenantId);
+    }
+
+    private List<Project> searchProjects(List<String> projectIds, String tenantId) {
 
         ProjectRequest request = ProjectRequest.builder()
                 .requestInfo(RequestInfo.builder().
@@ -201,7 +171,9 @@ public class ProjectService {
                         .uuid("transformer-uuid")
                         .build())
                 .build())
-                .projects(Collections.singletonList(Project.builder().id(projectId).tenantId(tenantId).build()))
+                .projects(projectIds.stream()
+                        .map(projectId -> Project.builder().id(projectId).tenantId(tenantId).build())
+                        .collect(Collectors.toList()))
                 .build();
 
         ProjectResponse response;
@@ -209,7 +181,8 @@ public class ProjectService {
             StringBuilder uri = new StringBuilder();
             uri.append(transformerProperties.getProjectHost())
                     .append(transformerProperties.getProjectSearchUrl())
-                    .append("?limit=").append(transformerProperties.getSearchApiLimit())
+                    .append("?limit=").append(Math.max(projectIds.size(),
+                            Integer.parseInt(transformerProperties.getSearchApiLimit())))
                     .append("&offset=0")
                     .append("&tenantId=").append(tenantId);
             response = serviceRequestClient.fetchResult(uri,
@@ -218,7 +191,7 @@ public class ProjectService {
         } catch (Exception e) {
             log.error("error while fetching project list", e);
             throw new CustomException("PROJECT_FETCH_ERROR",
-                    "error while fetching project details for id: " + projectId);
+                    "error while fetching project details for ids: " + projectIds);
         }
         return response.getProject();
     }
@@ -34,6 +34,18 @@ public abstract class ProjectStaffTransformationService implements Transformatio
 
     @Override
     public void transform(List<ProjectStaff> payloadList) {
+        prefetch(payloadList);
+        producer.push(getTopic(),
+                toIndex(payloadList));
+    }
+
+    @Override
+    public void prefetch(List<ProjectStaff> payloadList) {
+        transformer.prefetch(payloadList);
+    }
+
+    @Override
+    public List<ProjectStaffIndexV1> toIndex(List<ProjectStaff> payloadList) {
         log.info("transforming for ids {}", payloadList.stream()
                 .map(ProjectStaff::getId).collect(Collectors.toList()));
         List<ProjectStaffIndexV1> transformedPayloadList = payloadList.stream()
@@ -41,10 +53,10 @@ public abstract class ProjectStaffTransformationService implements Transformatio
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
         log.info("transformation successful");
-        producer.push(getTopic(),
-                transformedPayloadList);
+        return transformedPayloadList;
     }
 
+    @Override
     public abstract String getTopic();
 
     @Override
@@ -64,6 +76,14 @@ public abstract class ProjectStaffTransformationService implements Transformatio
             this.properties = properties;
         }
 
+        @Override
+        public void prefetch(List<ProjectStaff> payloadList) {
+            payloadList.stream()
+                    .collect(Collectors.groupingBy(ProjectStaff::getTenantId,
+                            Collectors.mapping(ProjectStaff::getProjectId, Collectors.toSet())))
+                    .forEach((tenantId, projectIds) -> projectService.prefetchProjects(projectIds, tenantId));
+        }
+
         @Override
         public List<ProjectStaffIndexV1> transform(ProjectStaff projectStaff) {
             Map<String, String> boundaryLabelToNameMap = projectService
@@ -33,6 +33,18 @@ public abstract class ProjectTaskTransformationService implements Transformation
 
     @Override
     public void transform(List<Task> payloadList) {
+        prefetch(payloadList);
+        producer.push(getTopic(),
+                toIndex(payloadList));
+    }
+
+    @Override
+    public void prefetch(List<Task> payloadList) {
+        transformer.prefetch(payloadList);
+    }
+
+    @Override
+    public List<ProjectTaskIndexV1> toIndex(List<Task> payloadList) {
         log.info("transforming for ids {}", payloadList.stream()
                 .map(Task::getId).collect(Collectors.toList()));
         List<ProjectTaskIndexV1> transformedPayloadList = payloadList.stream()
@@ -40,10 +52,10 @@ public abstract class ProjectTaskTransformationService implements Transformation
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
         log.info("transformation successful");
-        producer.push(getTopic(),
-                transformedPayloadList);
+        return transformedPayloadList;
     }
 
+    @Override
     public abstract String getTopic();
 
     @Override
@@ -63,6 +75,14 @@ public abstract class ProjectTaskTransformationService implements Transformation
             this.properties = properties;
         }
 
+        @Override
+        public void prefetch(List<Task> payloadList) {
+            payloadList.stream()
+                    .collect(Collectors.groupingBy(Task::getTenantId,
+                            Collectors.mapping(Task::getProjectId, Collectors.toSet())))
+                    .forEach((tenantId, projectIds) -> projectService.prefetchProjects(projectIds, tenantId));
+        }
+
         @Override
         public List<ProjectTaskIndexV1> transform(Task task) {
             Map<String, String> boundaryLabelToNameMap = null;
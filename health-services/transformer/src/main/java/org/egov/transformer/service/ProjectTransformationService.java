@@ -35,6 +35,18 @@ public abstract class ProjectTransformationService implements TransformationServ
 
     @Override
     public void transform(List<Project> payloadList) {
+        prefetch(payloadList);
+        producer.push(getTopic(),
+                toIndex(payloadList));
+    }
+
+    @Override
+    public void prefetch(List<Project> payloadList) {
+        transformer.prefetch(payloadList);
+    }
+
+    @Override
+    public List<ProjectIndexV1> toIndex(List<Project> payloadList) {
         log.info("transforming for ids {}", payloadList.stream()
                 .map(Project::getId).collect(Collectors.toList()));
         List<ProjectIndexV1> transformedPayloadList = payloadList.stream()
@@ -42,10 +54,10 @@ public abstract class ProjectTransformationService implements TransformationServ
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
         log.info("transformation successful");
-        producer.push(getTopic(),
-                transformedPayloadList);
+        return transformedPayloadList;
     }
 
+    @Override
     public abstract String getTopic();
 
     @Override
@@ -36,6 +36,18 @@ public abstract class ServiceTaskTransformationService implements Transformation
 
     @Override
     public void transform(List<Service> payloadList) {
+        prefetch(payloadList);
+        producer.push(getTopic(),
+                toIndex(payloadList));
+    }
+
+    @Override
+    public void prefetch(List<Service> payloadList) {
+        transformer.prefetch(payloadList);
+    }
+
+    @Override
+    public List<ServiceIndexV1> toIndex(List<Service> payloadList) {
         log.info("transforming for ids {}", payloadList.stream()
                 .map(Service::getId).collect(Collectors.toList()));
         List<ServiceIndexV1> transformedPayloadList = payloadList.stream()
@@ -43,10 +55,10 @@ public abstract class ServiceTaskTransformationService implements Transformation
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
         log.info("transformation successful");
-        producer.push(getTopic(),
-                transformedPayloadList);
+        return transformedPayloadList;
     }
 
+    @Override
     public abstract String getTopic();
 
     @Override
@@ -38,6 +38,18 @@ public abstract class StockTransformationService implements TransformationServic
 
     @Override
     public void transform(List<Stock> payloadList) {
+        prefetch(payloadList);
+        producer.push(getTopic(),
+                toIndex(payloadList));
+    }
+
+    @Override
+    public void prefetch(List<Stock> payloadList) {
+        transformer.prefetch(payloadList);
+    }
+
+    @Override
+    public List<StockIndexV1> toIndex(List<Stock> payloadList) {
         log.info("transforming for ids {}", payloadList.stream()
                 .map(Stock::getId).collect(Collectors.toList()));
         List<StockIndexV1> transformedPayloadList = payloadList.stream()
@@ -45,8 +57,7 @@ public abstract class StockTransformationService implements TransformationServic
                 .flatMap(Collection::stream)
                 .collect(Collectors.toList());
         log.info("transformation successful");
-        producer.push(getTopic(),
-                transformedPayloadList);
+        return transformedPayloadList;
     }
 
     @Override
@@ -54,6 +65,7 @@ public abstract class StockTransformationService implements TransformationServic
         return Operation.STOCK;
     }
 
+    @Override
     public abstract String getTopic();
 
     @Component
@@ -73,6 +85,20 @@ public abstract class StockTransformationService implements TransformationServic
 
         }
 
+        @Override
+        public void prefetch(List<Stock> payloadList) {
+            payloadList.stream()
+                    .filter(stock -> SenderReceiverType.WAREHOUSE.equals(stock.getSenderType()))
+                    .collect(Collectors.groupingBy(Stock::getTenantId,
+                            Collectors.mapping(Stock::getSenderId, Collectors.toSet())))
+                    .forEach((tenantId, facilityIds) -> facilityService.findFacilitiesByIds(facilityIds, tenantId));
+            payloadList.stream()
+                    .filter(stock -> ReferenceIdType.PROJECT.equals(stock.getReferenceIdType()))
+                    .collect(Collectors.groupingBy(Stock::getTenantId,
+                            Collectors.mapping(Stock::getReferenceId, Collectors.toSet())))
+                    .forEach((tenantId, projectIds) -> projectService.prefetchProjects(projectIds, tenantId));
+        }
+
         @Override
         public List<StockIndexV1> transform(Stock stock) {
             Map<String, String> boundaryLabelToNameMap = null;
@@ -8,5 +8,23 @@ public interface TransformationService<T> {
 
     void transform(List<T> payloadList);
 
+    /**
+     * Loads the entities a batch of payloads refers to, so that they are fetched once for the whole batch.
+     *
+     * @param payloadList the payloads about to be transformed
+     */
+    default void prefetch(List<T> payloadList) {
+    }
+
+    /**
+     * Transforms the payloads into the index documents without publishing them.
+     *
+     * @param payloadList the payloads to transform
+     * @return the index documents to publish on {@link #getTopic()}
+     */
+    List<?> toIndex(List<T> payloadList);
+
+    String getTopic();
+
     Operation getOperation();
 }
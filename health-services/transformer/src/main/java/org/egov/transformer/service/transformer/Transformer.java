@@ -4,4 +4,12 @@ import java.util.List;
 
 public interface Transformer<T, R> {
     List<R> transform(T t);
-}
\ No newline at end of file
+
+    /**
+     * Loads the entities the records of a batch refer to before they are transformed one by one.
+     *
+     * @param payloadList the records of the batch
+     */
+    default void prefetch(List<T> payloadList) {
+    }
+}
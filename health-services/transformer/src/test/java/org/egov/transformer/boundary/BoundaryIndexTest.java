@@ -0,0 +1,160 @@
+package org.egov.transformer.boundary;
+
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.models.boundary.BoundarySearchResponse;
+import org.egov.transformer.models.boundary.EnrichedBoundary;
+import org.egov.transformer.models.boundary.HierarchyRelation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BoundaryIndexTest {
+
+    @Mock
+    private ServiceRequestClient serviceRequestClient;
+
+    private TransformerProperties transformerProperties;
+
+    private BoundaryIndex boundaryIndex;
+
+    @BeforeEach
+    void setUp() {
+        transformerProperties = TransformerProperties.builder()
+                .boundaryServiceHost("http://boundary")
+                .boundaryRelationshipSearchUrl("/relationships/_search")
+                .boundaryHierarchyName("ADMIN")
+                .boundaryIndexFullLoadEnabled(true)
+                .boundaryIndexRefreshIntervalMs(3600000L)
+                .boundaryIndexMissTtlMs(60000L)
+                .build();
+        boundaryIndex = new BoundaryIndex(transformerProperties, serviceRequestClient);
+    }
+
+    @Test
+    @DisplayName("should resolve the labels of a code from the hierarchy loaded once per tenant")
+    void shouldResolveLabelsFromTheLoadedHierarchy() {
+        when(serviceRequestClient.fetchResult(argThat(urlContaining("tenantId=pb&", "includeChildren=true")), any(),
+                eq(BoundarySearchResponse.class))).thenReturn(response(hierarchy()));
+
+        Map<String, String> labels = boundaryIndex.getBoundaryCodeToNameMap("ADMIN_PROVINCE_DISTRICT", "pb");
+        boundaryIndex.getBoundaryCodeToNameMap("ADMIN_PROVINCE", "pb");
+
+        assertEquals("PROVINCE", labels.get("Province"));
+        assertEquals("DISTRICT", labels.get("District"));
+        verify(serviceRequestClient, times(1)).fetchResult(any(), any(), eq(BoundarySearchResponse.class));
+    }
+
+    @Test
+    @DisplayName("should not search an unknown code again until its miss expires")
+    void shouldCacheUnknownCodesForTheMissTtl() {
+        when(serviceRequestClient.fetchResult(argThat(urlContaining("includeChildren=true")), any(),
+                eq(BoundarySearchResponse.class))).thenReturn(response(hierarchy()));
+        when(serviceRequestClient.fetchResult(argThat(urlContaining("codes=UNKNOWN")), any(),
+                eq(BoundarySearchResponse.class))).thenReturn(response(null));
+
+        assertNull(boundaryIndex.getBoundaryTree("UNKNOWN", "pb"));
+        assertNull(boundaryIndex.getBoundaryTree("UNKNOWN", "pb"));
+
+        verify(serviceRequestClient, times(1)).fetchResult(argThat(urlContaining("codes=UNKNOWN")), any(),
+                eq(BoundarySearchResponse.class));
+    }
+
+    @Test
+    @DisplayName("should search an unknown code again once its miss has expired")
+    void shouldSearchAgainAfterTheMissExpired() {
+        transformerProperties.setBoundaryIndexMissTtlMs(0L);
+        when(serviceRequestClient.fetchResult(argThat(urlContaining("includeChildren=true")), any(),
+                eq(BoundarySearchResponse.class))).thenReturn(response(hierarchy()));
+        when(serviceRequestClient.fetchResult(argThat(urlContaining("codes=UNKNOWN")), any(),
+                eq(BoundarySearchResponse.class))).thenReturn(response(null));
+
+        boundaryIndex.getBoundaryTree("UNKNOWN", "pb");
+        boundaryIndex.getBoundaryTree("UNKNOWN", "pb");
+
+        verify(serviceRequestClient, times(2)).fetchResult(argThat(urlContaining("codes=UNKNOWN")), any(),
+                eq(BoundarySearchResponse.class));
+    }
+
+    @Test
+    @DisplayName("should not make a tenant wait for the hierarchy load of another tenant")
+    void shouldLoadTenantsIndependently() throws Exception {
+        CountDownLatch slowLoadStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowLoad = new CountDownLatch(1);
+        when(serviceRequestClient.fetchResult(argThat(urlContaining("tenantId=slow&")), any(),
+                eq(BoundarySearchResponse.class))).thenAnswer(invocation -> {
+            slowLoadStarted.countDown();
+            assertTrue(releaseSlowLoad.await(5, TimeUnit.SECONDS));
+            return response(hierarchy());
+        });
+        when(serviceRequestClient.fetchResult(argThat(urlContaining("tenantId=fast&")), any(),
+                eq(BoundarySearchResponse.class))).thenReturn(response(hierarchy()));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<BoundaryTree> slow = CompletableFuture.supplyAsync(
+                    () -> boundaryIndex.getBoundaryTree("ADMIN_PROVINCE", "slow"), executorService);
+            assertTrue(slowLoadStarted.await(5, TimeUnit.SECONDS));
+
+            BoundaryTree fast = boundaryIndex.getBoundaryTree("ADMIN_PROVINCE", "fast");
+
+            assertEquals("ADMIN_PROVINCE", fast.getBoundaryNode().getCode());
+            releaseSlowLoad.countDown();
+            assertEquals("ADMIN_PROVINCE", slow.get(5, TimeUnit.SECONDS).getBoundaryNode().getCode());
+        } finally {
+            releaseSlowLoad.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ArgumentMatcher<StringBuilder> urlContaining(String... parts) {
+        return url -> {
+            if (url == null) {
+                return false;
+            }
+            for (String part : parts) {
+                if (!url.toString().contains(part)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static EnrichedBoundary hierarchy() {
+        EnrichedBoundary district = EnrichedBoundary.builder().code("ADMIN_PROVINCE_DISTRICT")
+                .boundaryType("District").build();
+        return EnrichedBoundary.builder().code("ADMIN_PROVINCE").boundaryType("Province")
+                .children(Collections.singletonList(district)).build();
+    }
+
+    private static BoundarySearchResponse response(EnrichedBoundary root) {
+        if (root == null) {
+            return BoundarySearchResponse.builder().tenantBoundary(Collections.emptyList()).build();
+        }
+        return BoundarySearchResponse.builder().tenantBoundary(Collections.singletonList(
+                HierarchyRelation.builder().boundary(Collections.singletonList(root)).build())).build();
+    }
+}
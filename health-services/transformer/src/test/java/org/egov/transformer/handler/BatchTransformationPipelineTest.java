@@ -0,0 +1,167 @@
+package org.egov.transformer.handler;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.egov.common.producer.Producer;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.enums.Operation;
+import org.egov.transformer.models.error.DeadLetterRecord;
+import org.egov.transformer.service.TransformationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchTransformationPipelineTest {
+
+    private static final String INDEX_TOPIC = "index-topic";
+
+    private static final String DEAD_LETTER_TOPIC = "dead-letter-topic";
+
+    @Mock
+    private Producer producer;
+
+    @Mock
+    private TransformationHandler<String> handler;
+
+    @Mock
+    private TransformationService<String> service;
+
+    private BatchTransformationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        TransformerProperties properties = TransformerProperties.builder()
+                .batchMaxThreads(2)
+                .batchQueueSize(10)
+                .batchPushChunkSize(2)
+                .deadLetterTopic(DEAD_LETTER_TOPIC)
+                .build();
+        pipeline = new BatchTransformationPipeline(producer, properties);
+        lenient().when(handler.getTransformationServices(Operation.TASK))
+                .thenReturn(Collections.singletonList(service));
+        lenient().when(service.getTopic()).thenReturn(INDEX_TOPIC);
+        lenient().when(service.toIndex(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("should publish the documents of each record in bounded chunks")
+    void shouldPublishDocumentsOfEachRecordInChunks() {
+        pipeline.process(Arrays.asList(record(0, "a,b,c"), record(1, "d")), BatchTransformationPipelineTest::read,
+                handler, Operation.TASK);
+
+        ArgumentCaptor<Object> documents = ArgumentCaptor.forClass(Object.class);
+        verify(producer, times(3)).push(eq(INDEX_TOPIC), documents.capture());
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("c"),
+                Collections.singletonList("d")), documents.getAllValues());
+        verify(producer, never()).push(eq(DEAD_LETTER_TOPIC), any());
+    }
+
+    @Test
+    @DisplayName("should dead letter a record that cannot be read and publish the others")
+    void shouldDeadLetterUnreadableRecord() {
+        pipeline.process(Arrays.asList(record(0, null), record(1, "d")), BatchTransformationPipelineTest::read,
+                handler, Operation.TASK);
+
+        verify(producer).push(INDEX_TOPIC, Collections.singletonList("d"));
+        verify(producer).push(eq(DEAD_LETTER_TOPIC), argThat(deadLetterOf(0L)));
+    }
+
+    @Test
+    @DisplayName("should dead letter a record whose transformation fails and publish the others")
+    void shouldDeadLetterRecordFailingTransformation() {
+        when(service.toIndex(Collections.singletonList("bad"))).thenThrow(new IllegalStateException("bad payload"));
+
+        pipeline.process(Arrays.asList(record(0, "bad"), record(1, "d")), BatchTransformationPipelineTest::read,
+                handler, Operation.TASK);
+
+        verify(producer).push(INDEX_TOPIC, Collections.singletonList("d"));
+        verify(producer).push(eq(DEAD_LETTER_TOPIC), argThat(deadLetterOf(0L)));
+    }
+
+    @Test
+    @DisplayName("should dead letter only the record whose documents could not be published")
+    void shouldDeadLetterRecordFailingToPublish() {
+        lenient().doThrow(new RuntimeException("record too large")).when(producer)
+                .push(INDEX_TOPIC, Collections.singletonList("c"));
+
+        pipeline.process(Arrays.asList(record(0, "c"), record(1, "d")), BatchTransformationPipelineTest::read,
+                handler, Operation.TASK);
+
+        verify(producer).push(INDEX_TOPIC, Collections.singletonList("d"));
+        verify(producer).push(eq(DEAD_LETTER_TOPIC), argThat(deadLetterOf(0L)));
+        verify(producer, never()).push(eq(DEAD_LETTER_TOPIC), argThat(deadLetterOf(1L)));
+    }
+
+    @Test
+    @DisplayName("should transform and publish a single record on the calling thread")
+    void shouldProcessSingleRecordOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        when(service.toIndex(anyList())).thenAnswer(invocation -> {
+            assertSame(caller, Thread.currentThread());
+            return invocation.getArgument(0);
+        });
+
+        pipeline.process(record(0, "a,b,c"), BatchTransformationPipelineTest::read, handler, Operation.TASK);
+
+        verify(service).prefetch(Arrays.asList("a", "b", "c"));
+        verify(producer).push(INDEX_TOPIC, Arrays.asList("a", "b"));
+        verify(producer).push(INDEX_TOPIC, Collections.singletonList("c"));
+        verify(producer, never()).push(eq(DEAD_LETTER_TOPIC), any());
+    }
+
+    @Test
+    @DisplayName("should dead letter a single record whose transformation fails")
+    void shouldDeadLetterSingleRecordFailingTransformation() {
+        when(service.toIndex(anyList())).thenThrow(new IllegalStateException("bad payload"));
+
+        pipeline.process(record(3, "bad"), BatchTransformationPipelineTest::read, handler, Operation.TASK);
+
+        verify(producer, never()).push(eq(INDEX_TOPIC), any());
+        verify(producer).push(eq(DEAD_LETTER_TOPIC), argThat(deadLetterOf(3L)));
+    }
+
+    private static ConsumerRecord<String, Object> record(long offset, String value) {
+        return new ConsumerRecord<>("task-topic", 0, offset, "key-" + offset, value);
+    }
+
+    private static List<String> read(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("empty record");
+        }
+        return Arrays.stream(value.split(",")).collect(Collectors.toList());
+    }
+
+    private static ArgumentMatcher<Object> deadLetterOf(long offset) {
+        return value -> value instanceof DeadLetterRecord
+                && Long.valueOf(offset).equals(((DeadLetterRecord) value).getOffset())
+                && "TASK".equals(((DeadLetterRecord) value).getOperation());
+    }
+}